@@ -32,4 +32,9 @@ rules:
 - apiGroups: ["authorization.k8s.io"]
   resources: ["selfsubjectaccessreviews", "localsubjectaccessreviews", "subjectaccessreviews", "selfsubjectrulesreviews"]
   verbs: ["create"]
+{{- if .watchClusterScoped }}
+- apiGroups: [""]
+  resources: ["pods", "services", "events"]
+  verbs: ["list", "watch"]
+{{- end }}
 {{- end }}
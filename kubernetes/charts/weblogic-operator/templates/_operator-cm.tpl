@@ -17,6 +17,9 @@ data:
   {{- if .dns1123Fields }}
   dns1123Fields: {{ .dns1123Fields | quote }}
   {{- end }}
+  {{- if .watchClusterScoped }}
+  watchClusterScoped: "true"
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
@@ -38,6 +38,18 @@ spec:
           value: {{ .javaLoggingLevel | quote }}
         - name: ISTIO_ENABLED
           value: {{ .istioEnabled | quote }}
+        {{- if .engineExecutor }}
+        - name: "ENGINE_EXECUTOR"
+          value: {{ .engineExecutor | quote }}
+        {{- end }}
+        {{- if .fiberBreadCrumbLimit }}
+        - name: "FIBER_BREAD_CRUMB_LIMIT"
+          value: {{ .fiberBreadCrumbLimit | quote }}
+        {{- end }}
+        {{- if .fiberTraceSampleInterval }}
+        - name: "FIBER_TRACE_SAMPLE_INTERVAL"
+          value: {{ .fiberTraceSampleInterval | quote }}
+        {{- end }}
         {{- if .remoteDebugNodePortEnabled }}
         - name: "REMOTE_DEBUG_PORT"
           value: {{ .internalDebugHttpPort | quote }}
@@ -40,5 +40,8 @@
 {{-   end -}}
 {{- end -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "mockWLS") -}}
+{{- $ignore := include "utils.verifyOptionalEnum" (list $scope "engineExecutor" (list "scheduled" "forkjoin" "virtual")) -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "fiberBreadCrumbLimit") -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "fiberTraceSampleInterval") -}}
 {{- $ignore:= include "utils.endValidation" $scope -}}
 {{- end -}}
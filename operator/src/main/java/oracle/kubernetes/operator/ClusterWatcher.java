@@ -0,0 +1,190 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Watches one type of resource in all namespaces with a single watch, and dispatches each event to
+ * the listener registered for the namespace of its object. Events in namespaces without a listener,
+ * which the operator does not manage, are discarded. The watch starts when the first namespace is
+ * added, from the resource version at which that namespace's resources were listed.
+ *
+ * <p>A namespace which is expected, because the operator has begun to list its resources, has its
+ * events held until its listener is added; those newer than its list are then replayed, so that
+ * none is lost between the list and the registration. A namespace which was listed before the
+ * point from which the watch started, or whose held events overflow, cannot be served without a
+ * gap, and must run a watch of its own.
+ *
+ * @param <T> The type of the object to be watched.
+ */
+public class ClusterWatcher<T> extends Watcher<T> implements WatchListener<T> {
+  static final int MAX_HELD_EVENTS = 10000;
+
+  private final WatchRuntime runtime;
+  private final WatchInitiator<T> initiator;
+  private final Function<T, V1ObjectMeta> metadataGetter;
+  private final Map<String, WatchListener<T>> listeners = new HashMap<>();
+  // Map from expected namespace to its held events, or null if they overflowed
+  private final Map<String, List<Watch.Response<T>>> heldEvents = new HashMap<>();
+  private boolean started;
+  private long startResourceVersion;
+
+  /**
+   * Creates a cluster watcher.
+   *
+   * @param runtime the runtime which runs the watch
+   * @param tuning watch tuning parameters
+   * @param isStopping stop signal
+   * @param initiator a function which opens a watch in all namespaces
+   * @param metadataGetter a function which returns the metadata of a watched object
+   */
+  public ClusterWatcher(
+      WatchRuntime runtime,
+      WatchTuning tuning,
+      AtomicBoolean isStopping,
+      WatchInitiator<T> initiator,
+      Function<T, V1ObjectMeta> metadataGetter) {
+    super("", tuning, isStopping);
+    setListener(this);
+    this.runtime = runtime;
+    this.initiator = initiator;
+    this.metadataGetter = metadataGetter;
+  }
+
+  /**
+   * Holds events in the specified namespace until a listener is added for it. Should be called
+   * before the namespace's resources are listed.
+   *
+   * @param namespace a namespace which is about to be managed
+   */
+  synchronized void expectNamespace(String namespace) {
+    if (!listeners.containsKey(namespace)) {
+      heldEvents.putIfAbsent(namespace, new ArrayList<>());
+    }
+  }
+
+  /**
+   * Dispatches events in the specified namespace to a listener, starting the watch if needed. Any
+   * held events newer than the namespace's list are first replayed to the listener.
+   *
+   * @param namespace the namespace whose events are wanted
+   * @param initialResourceVersion the resource version at which the namespace was last listed
+   * @param listener the listener for events in the namespace
+   * @return false if events in the namespace may have been missed, in which case no listener is
+   *     added and the caller must watch the namespace itself
+   */
+  synchronized boolean addNamespace(
+      String namespace, String initialResourceVersion, WatchListener<T> listener) {
+    boolean expected = heldEvents.containsKey(namespace);
+    List<Watch.Response<T>> held = heldEvents.remove(namespace);
+    long listedVersion = toLong(initialResourceVersion);
+    if (!started) {
+      started = true;
+      startResourceVersion = listedVersion;
+      setResourceVersion(initialResourceVersion);
+      start(runtime);
+    } else if (listedVersion < startResourceVersion || (expected && held == null)) {
+      return false;
+    }
+
+    Optional.ofNullable(held).orElse(Collections.emptyList()).stream()
+        .filter(item -> getResourceVersion(item) > listedVersion)
+        .forEach(listener::receivedResponse);
+    listeners.put(namespace, listener);
+    return true;
+  }
+
+  private long getResourceVersion(Watch.Response<T> item) {
+    return Optional.ofNullable(getMetadata(item.object))
+        .map(V1ObjectMeta::getResourceVersion)
+        .map(ClusterWatcher::toLong)
+        .orElse(0L);
+  }
+
+  private static long toLong(String resourceVersion) {
+    return !isNullOrEmpty(resourceVersion) ? Long.parseLong(resourceVersion) : 0;
+  }
+
+  /**
+   * Stops dispatching events in the specified namespace.
+   *
+   * @param namespace a namespace which is no longer managed
+   */
+  synchronized void removeNamespace(String namespace) {
+    listeners.remove(namespace);
+    heldEvents.remove(namespace);
+  }
+
+  synchronized int getNamespaceCount() {
+    return listeners.size();
+  }
+
+  WatchRuntime getRuntime() {
+    return runtime;
+  }
+
+  @Override
+  public WatchI<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return initiator.initiateWatch(watchBuilder);
+  }
+
+  @Override
+  V1ObjectMeta getMetadata(T object) {
+    return metadataGetter.apply(object);
+  }
+
+  @Override
+  public synchronized void receivedResponse(Watch.Response<T> item) {
+    Optional.ofNullable(getMetadata(item.object))
+        .map(V1ObjectMeta::getNamespace)
+        .ifPresent(namespace -> dispatch(namespace, item));
+  }
+
+  private void dispatch(String namespace, Watch.Response<T> item) {
+    WatchListener<T> listener = listeners.get(namespace);
+    if (listener != null) {
+      listener.receivedResponse(item);
+    } else if (heldEvents.get(namespace) != null) {
+      holdEvent(namespace, item);
+    }
+  }
+
+  private void holdEvent(String namespace, Watch.Response<T> item) {
+    List<Watch.Response<T>> held = heldEvents.get(namespace);
+    if (held.size() < MAX_HELD_EVENTS) {
+      held.add(item);
+    } else {
+      heldEvents.put(namespace, null);
+    }
+  }
+
+  /**
+   * A function which opens a watch, usually by calling one of the all-namespace methods of the
+   * watch builder.
+   *
+   * @param <T> The type of the object to be watched.
+   */
+  @FunctionalInterface
+  public interface WatchInitiator<T> {
+    WatchI<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException;
+  }
+}
@@ -3,11 +3,11 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1ConfigMap;
+import io.kubernetes.client.models.V1ObjectMeta;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
@@ -31,7 +31,7 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
   }
 
   public static ConfigMapWatcher create(
-      ThreadFactory factory,
+      WatchRuntime runtime,
       String ns,
       String initialResourceVersion,
       WatchTuning tuning,
@@ -39,7 +39,7 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
       AtomicBoolean isStopping) {
     ConfigMapWatcher watcher =
         new ConfigMapWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
-    watcher.start(factory);
+    watcher.start(runtime);
     return watcher;
   }
 
@@ -49,4 +49,9 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
         .withLabelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL)
         .createConfigMapWatch(ns);
   }
+
+  @Override
+  V1ObjectMeta getMetadata(V1ConfigMap object) {
+    return object.getMetadata();
+  }
 }
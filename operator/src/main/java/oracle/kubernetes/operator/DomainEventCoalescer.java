@@ -0,0 +1,212 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * Merges bursts of watch events for a domain into a single make-right request. The first request
+ * for a domain opens a debounce window; requests which arrive before the window closes are merged
+ * into the pending one, which runs when the window closes. A merged request rechecks the domain if
+ * any of its parts asked for a recheck, and uses the newest version of the domain seen.
+ *
+ * <p>Requests to delete a domain are never delayed or merged: each cancels any pending request for
+ * its domain and runs at once, so that a delete is never followed by an older request to bring the
+ * domain up. When the window is zero, every request runs at once.
+ */
+public class DomainEventCoalescer {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Scheduler scheduler;
+  private final LongSupplier windowMillis;
+  private final MakeRight makeRight;
+  private final Map<String, PendingRequest> pendingRequests = new HashMap<>();
+  private final AtomicLong eventsReceived = new AtomicLong();
+  private final AtomicLong requestsReceived = new AtomicLong();
+  private final AtomicLong reconcilesRun = new AtomicLong();
+
+  /**
+   * Creates a coalescer.
+   *
+   * @param scheduler the scheduler which closes debounce windows
+   * @param windowMillis a supplier of the debounce window length in milliseconds
+   * @param makeRight the function which starts a make-right for a domain
+   */
+  DomainEventCoalescer(Scheduler scheduler, LongSupplier windowMillis, MakeRight makeRight) {
+    this.scheduler = scheduler;
+    this.windowMillis = windowMillis;
+    this.makeRight = makeRight;
+  }
+
+  private static String getKey(DomainPresenceInfo info) {
+    return info.getNamespace() + "/" + info.getDomainUid();
+  }
+
+  /** Records the receipt of a watch event which may affect a domain. */
+  void recordEvent() {
+    eventsReceived.incrementAndGet();
+  }
+
+  /**
+   * Requests a make-right for a domain, to be run when the domain's debounce window closes.
+   *
+   * @param info the domain presence
+   * @param explicitRecheck if true, process the domain even if its spec is unchanged
+   * @param isDeleting if true, the domain is being deleted
+   * @param isWillInterrupt if true, the make-right may interrupt one already running
+   */
+  void submit(
+      DomainPresenceInfo info,
+      boolean explicitRecheck,
+      boolean isDeleting,
+      boolean isWillInterrupt) {
+    requestsReceived.incrementAndGet();
+    long window = windowMillis.getAsLong();
+    if (window <= 0) {
+      run(info, explicitRecheck, isDeleting, isWillInterrupt);
+    } else if (isDeleting) {
+      runDelete(info, explicitRecheck, isWillInterrupt);
+    } else {
+      addRequest(info, explicitRecheck, isWillInterrupt, window);
+    }
+  }
+
+  private synchronized void runDelete(
+      DomainPresenceInfo info, boolean explicitRecheck, boolean isWillInterrupt) {
+    PendingRequest pending = pendingRequests.remove(getKey(info));
+    if (pending != null) {
+      pending.future.cancel(false);
+    }
+    run(info, explicitRecheck, true, isWillInterrupt);
+  }
+
+  private synchronized void addRequest(
+      DomainPresenceInfo info, boolean explicitRecheck, boolean isWillInterrupt, long window) {
+    String key = getKey(info);
+    PendingRequest pending = pendingRequests.get(key);
+    if (pending != null) {
+      pending.merge(info, explicitRecheck, isWillInterrupt);
+    } else {
+      PendingRequest request = new PendingRequest(info, explicitRecheck, isWillInterrupt);
+      pendingRequests.put(key, request);
+      request.future =
+          scheduler.schedule(() -> runPending(key, request), window, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  // Runs a pending request unless it has since been cancelled by a delete
+  private synchronized void runPending(String key, PendingRequest request) {
+    try {
+      if (pendingRequests.remove(key, request)) {
+        run(request.info, request.explicitRecheck, false, request.isWillInterrupt);
+      }
+    } catch (Throwable t) {
+      LOGGER.severe(MessageKeys.EXCEPTION, t);
+    }
+  }
+
+  private void run(
+      DomainPresenceInfo info,
+      boolean explicitRecheck,
+      boolean isDeleting,
+      boolean isWillInterrupt) {
+    reconcilesRun.incrementAndGet();
+    makeRight.makeRightDomainPresence(info, explicitRecheck, isDeleting, isWillInterrupt);
+  }
+
+  /**
+   * Returns the number of watch events received which may affect domains.
+   *
+   * @return an event count
+   */
+  public long getEventsReceived() {
+    return eventsReceived.get();
+  }
+
+  /**
+   * Returns the number of make-right requests received, before merging.
+   *
+   * @return a request count
+   */
+  public long getRequestsReceived() {
+    return requestsReceived.get();
+  }
+
+  /**
+   * Returns the number of make-right requests actually run, after merging.
+   *
+   * @return a reconcile count
+   */
+  public long getReconcilesRun() {
+    return reconcilesRun.get();
+  }
+
+  /**
+   * Returns the number of domains with a make-right request waiting for its window to close.
+   *
+   * @return a request count
+   */
+  public synchronized int getPendingCount() {
+    return pendingRequests.size();
+  }
+
+  @FunctionalInterface
+  interface Scheduler {
+    ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit);
+  }
+
+  @FunctionalInterface
+  interface MakeRight {
+    void makeRightDomainPresence(
+        DomainPresenceInfo info,
+        boolean explicitRecheck,
+        boolean isDeleting,
+        boolean isWillInterrupt);
+  }
+
+  private static class PendingRequest {
+    private DomainPresenceInfo info;
+    private boolean explicitRecheck;
+    private boolean isWillInterrupt;
+    private ScheduledFuture<?> future;
+
+    PendingRequest(DomainPresenceInfo info, boolean explicitRecheck, boolean isWillInterrupt) {
+      this.info = info;
+      this.explicitRecheck = explicitRecheck;
+      this.isWillInterrupt = isWillInterrupt;
+    }
+
+    void merge(DomainPresenceInfo info, boolean explicitRecheck, boolean isWillInterrupt) {
+      if (!isOlderThanPending(info.getDomain())) {
+        this.info = info;
+      }
+      this.explicitRecheck |= explicitRecheck;
+      this.isWillInterrupt |= isWillInterrupt;
+    }
+
+    // Pod and service events carry the domain which was current when they arrived, which may
+    // predate a domain change already pending; keep the newer domain
+    private boolean isOlderThanPending(Domain domain) {
+      Domain pending = info.getDomain();
+      if (pending == null) {
+        return false;
+      } else if (domain == null) {
+        return true;
+      }
+      return KubernetesUtils.isFirstNewer(pending.getMetadata(), domain.getMetadata());
+    }
+  }
+}
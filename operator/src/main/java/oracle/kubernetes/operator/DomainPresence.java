@@ -20,4 +20,27 @@ public class DomainPresence {
         .map(parameters -> parameters.getMainTuning().domainPresenceFailureRetryMaxCount)
         .orElse(DEFAULT_RETRY_MAX_COUNT);
   }
+
+  /**
+   * Returns the maximum number of servers whose state one domain status pass reads at once.
+   *
+   * @return a fiber count, or zero for no limit
+   */
+  public static int getStatusReadMaxParallelism() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().statusReadMaxParallelism)
+        .orElse(0);
+  }
+
+  /**
+   * Returns the maximum number of servers which one step starting, stopping or restarting servers
+   * of a domain handles at once.
+   *
+   * @return a fiber count, or zero for no limit
+   */
+  public static int getFanOutMaxParallelism() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().fanOutMaxParallelism)
+        .orElse(0);
+  }
 }
@@ -67,4 +67,14 @@ public interface DomainProcessorDelegate {
    */
   ScheduledFuture<?> scheduleWithFixedDelay(
       Runnable command, long initialDelay, long delay, TimeUnit unit);
+
+  /**
+   * Schedules the specified command to run once after a delay.
+   *
+   * @param command the command to run
+   * @param delay the number of time units to wait before running the command
+   * @param unit the time unit for the delay
+   * @return a future which indicates completion of the command
+   */
+  ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit);
 }
@@ -4,13 +4,14 @@
 package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
@@ -31,12 +32,15 @@ import oracle.kubernetes.operator.TuningParameters.MainTuning;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.CrdHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainStatusPatch;
 import oracle.kubernetes.operator.helpers.DomainValidationStep;
+import oracle.kubernetes.operator.helpers.InformerCache;
 import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.RecipeHashCache;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -44,6 +48,8 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.HistogramFamily;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
@@ -53,6 +59,7 @@ import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberPriority;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -62,6 +69,7 @@ import oracle.kubernetes.weblogic.domain.model.AdminService;
 import oracle.kubernetes.weblogic.domain.model.Channel;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.helpers.LegalNames.toJobIntrospectorName;
 
@@ -71,15 +79,83 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
+  private static final HistogramFamily MAKE_RIGHT_DURATIONS =
+      MetricsRegistry.getInstance()
+          .histogram(
+              "weblogic_operator_make_right_duration_seconds",
+              "Time from the start to the end of each uncancelled make-right, by namespace",
+              "namespace");
+  private static final HistogramFamily STATUS_UPDATE_DURATIONS =
+      MetricsRegistry.getInstance()
+          .histogram(
+              "weblogic_operator_status_update_duration_seconds",
+              "Time from the start to the end of each uncancelled status update, by namespace",
+              "namespace");
   // Map from namespace to map of domainUID to Domain
   private static final Map<String, Map<String, DomainPresenceInfo>> DOMAINS =
         new ConcurrentHashMap<>();
-  private static final ConcurrentMap<String, ConcurrentMap<String, ScheduledFuture<?>>>
-        statusUpdaters = new ConcurrentHashMap<>();
   private DomainProcessorDelegate delegate;
+  private final DomainEventCoalescer eventCoalescer;
+  private final StatusPollScheduler statusPollScheduler;
 
+  /**
+   * Creates a domain processor.
+   *
+   * @param delegate the services used to process domains
+   */
   public DomainProcessorImpl(DomainProcessorDelegate delegate) {
     this.delegate = delegate;
+    this.eventCoalescer =
+        new DomainEventCoalescer(
+            delegate::schedule,
+            DomainProcessorImpl::getEventCoalescingMillis,
+            this::makeRightDomainPresence);
+    this.statusPollScheduler =
+        new StatusPollScheduler(
+            delegate::schedule,
+            DomainProcessorImpl::getStatusPollMinMillis,
+            DomainProcessorImpl::getStatusPollMaxMillis,
+            DomainProcessorImpl::getStatusMaxReadsPerSecond);
+  }
+
+  private static Optional<MainTuning> getMainTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getMainTuning);
+  }
+
+  private static long getEventCoalescingMillis() {
+    return getMainTuning().map(main -> main.eventCoalescingMillis).orElse(0L);
+  }
+
+  private static long getStatusPollMinMillis() {
+    long seconds = getMainTuning().map(main -> main.initialShortDelay).orElse(3L);
+    return TimeUnit.SECONDS.toMillis(seconds);
+  }
+
+  private static long getStatusPollMaxMillis() {
+    long seconds = getMainTuning().map(main -> main.eventualLongDelay).orElse(30L);
+    return TimeUnit.SECONDS.toMillis(seconds);
+  }
+
+  private static int getStatusMaxReadsPerSecond() {
+    return getMainTuning().map(main -> main.statusUpdateMaxReadsPerSecond).orElse(0);
+  }
+
+  /**
+   * Returns the coalescer which merges bursts of watch events into make-right requests.
+   *
+   * @return the event coalescer
+   */
+  public DomainEventCoalescer getEventCoalescer() {
+    return eventCoalescer;
+  }
+
+  /**
+   * Returns the scheduler which polls the status of each domain.
+   *
+   * @return the status poll scheduler
+   */
+  public StatusPollScheduler getStatusPollScheduler() {
+    return statusPollScheduler;
   }
 
   private static DomainPresenceInfo getExistingDomainPresenceInfo(String ns, String domainUid) {
@@ -99,23 +175,26 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
-  private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
-    if (existing != null) {
-      existing.cancel(false);
-    }
+  /**
+   * Returns a snapshot of the domains currently known to the operator in the specified namespace.
+   * The returned list is not affected by later changes to the operator's state.
+   *
+   * @param ns a namespace
+   * @return an unmodifiable list of domains
+   */
+  public static List<Domain> getDomains(String ns) {
+    return Optional.ofNullable(DOMAINS.get(ns))
+          .map(Map::values)
+          .map(DomainProcessorImpl::getDomains)
+          .orElse(Collections.emptyList());
   }
 
-  private static void unregisterStatusUpdater(String ns, String domainUid) {
-    ConcurrentMap<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
-    if (map != null) {
-      ScheduledFuture<?> existing = map.remove(domainUid);
-      if (existing != null) {
-        existing.cancel(true);
-      }
+  private static List<Domain> getDomains(Collection<DomainPresenceInfo> infos) {
+    List<Domain> domains = new ArrayList<>();
+    for (DomainPresenceInfo info : infos) {
+      Optional.ofNullable(info.getDomain()).ifPresent(domains::add);
     }
+    return Collections.unmodifiableList(domains);
   }
 
   private static void onEvent(V1Event event) {
@@ -126,11 +205,21 @@ public class DomainProcessorImpl implements DomainProcessor {
     String domainUid = domainAndServer[0];
     String serverName = domainAndServer[1];
     String status = getReadinessStatus(event);
-    if (status == null) return;
+    DateTime publishedTime = getEventTime(event);
+    if (status == null || publishedTime == null) return;
 
     Optional.ofNullable(DOMAINS.get(event.getMetadata().getNamespace()))
           .map(m -> m.get(domainUid))
-          .ifPresent(info -> info.updateLastKnownServerStatus(serverName, status));
+          .ifPresent(info -> info.updatePublishedServerStatus(serverName, status, publishedTime));
+  }
+
+  // The time at which the event last occurred, rather than when the operator was told of it
+  private static DateTime getEventTime(V1Event event) {
+    if (event.getLastTimestamp() != null) return event.getLastTimestamp();
+    if (event.getFirstTimestamp() != null) return event.getFirstTimestamp();
+    return Optional.ofNullable(event.getMetadata())
+          .map(V1ObjectMeta::getCreationTimestamp)
+          .orElse(null);
   }
 
   private static String getReadinessStatus(V1Event event) {
@@ -186,11 +275,62 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private FiberGate getMakeRightFiberGate(String ns) {
-    return makeRightFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
+    return makeRightFiberGates.computeIfAbsent(
+        ns, k -> delegate.createFiberGate().recordDurationsIn(MAKE_RIGHT_DURATIONS.get(k)));
   }
 
   private FiberGate getStatusFiberGate(String ns) {
-    return statusFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
+    return statusFiberGates.computeIfAbsent(
+        ns, k -> delegate.createFiberGate().recordDurationsIn(STATUS_UPDATE_DURATIONS.get(k)));
+  }
+
+  /**
+   * Registers the gauges of the fibers running in each namespace, and the counters of this
+   * processor's event coalescing and status polling, with the operator's metrics.
+   *
+   * @param registry the registry of the operator's metrics
+   */
+  public void registerMetrics(MetricsRegistry registry) {
+    registry.gauge(
+        "weblogic_operator_make_right_fibers",
+        "Number of domains with a make-right in progress, by namespace",
+        "namespace",
+        () -> getCurrentFiberCounts(makeRightFiberGates));
+    registry.gauge(
+        "weblogic_operator_status_update_fibers",
+        "Number of domains with a status update in progress, by namespace",
+        "namespace",
+        () -> getCurrentFiberCounts(statusFiberGates));
+    registry.counter(
+        "weblogic_operator_domain_events_received_total",
+        "Number of watch events received which may affect domains",
+        eventCoalescer::getEventsReceived);
+    registry.counter(
+        "weblogic_operator_make_right_requests_total",
+        "Number of make-right requests received, before merging",
+        eventCoalescer::getRequestsReceived);
+    registry.counter(
+        "weblogic_operator_make_rights_run_total",
+        "Number of make-right requests run, after merging",
+        eventCoalescer::getReconcilesRun);
+    registry.counter(
+        "weblogic_operator_status_polls_total",
+        "Number of domain status polls started",
+        statusPollScheduler::getPollsRun);
+    registry.counter(
+        "weblogic_operator_status_polls_deferred_total",
+        "Number of domain status polls put off to stay within the server status read budget",
+        statusPollScheduler::getPollsDeferred);
+    registry.gauge(
+        "weblogic_operator_status_polled_domains",
+        "Number of domains whose server status is polled",
+        statusPollScheduler::getDomainCount);
+  }
+
+  private static Map<String, Number> getCurrentFiberCounts(Map<String, FiberGate> gates) {
+    Map<String, Number> counts = new HashMap<>();
+    gates.forEach((ns, gate) -> counts.put(ns, gate.getCurrentFiberCount()));
+    return counts;
   }
 
   public void stopNamespace(String ns) {
@@ -211,6 +351,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   public void dispatchPodWatch(Watch.Response<V1Pod> item) {
     if (getPodLabel(item.object, LabelConstants.DOMAINUID_LABEL) == null) return;
+    eventCoalescer.recordEvent();
 
     if (getPodLabel(item.object, LabelConstants.SERVERNAME_LABEL) != null)
       processServerPodWatch(item.object, item.type);
@@ -219,10 +360,13 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private void processServerPodWatch(V1Pod pod, String watchType) {
+    InformerCache.onPodEvent(watchType, pod);
+
     String domainUid = getPodLabel(pod, LabelConstants.DOMAINUID_LABEL);
     DomainPresenceInfo info = getExistingDomainPresenceInfo(getNamespace(pod), domainUid);
     if (info == null) return;
 
+    statusPollScheduler.onActivity(info.getNamespace(), domainUid);
     String serverName = getPodLabel(pod, LabelConstants.SERVERNAME_LABEL);
     switch (watchType) {
       case "ADDED":
@@ -235,7 +379,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
         if (removed && info.isNotDeleting() && !info.isServerPodBeingDeleted(serverName)) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getNamespace(pod), serverName);
-          makeRightDomainPresence(info, true, false, true);
+          eventCoalescer.submit(info, true, false, true);
         }
         break;
 
@@ -283,11 +427,15 @@ public class DomainProcessorImpl implements DomainProcessor {
     V1Service service = item.object;
     String domainUid = ServiceHelper.getServiceDomainUid(service);
     if (domainUid == null) return;
+    eventCoalescer.recordEvent();
+
+    InformerCache.onServiceEvent(item.type, service);
 
     DomainPresenceInfo info =
         getExistingDomainPresenceInfo(service.getMetadata().getNamespace(), domainUid);
     if (info == null) return;
 
+    statusPollScheduler.onActivity(info.getNamespace(), domainUid);
     switch (item.type) {
       case "ADDED":
       case "MODIFIED":
@@ -295,7 +443,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         break;
       case "DELETED":
         boolean removed = ServiceHelper.deleteFromEvent(info, item.object);
-        if (removed && info.isNotDeleting()) makeRightDomainPresence(info, true, false, true);
+        if (removed && info.isNotDeleting()) eventCoalescer.submit(info, true, false, true);
         break;
       default:
     }
@@ -341,24 +489,26 @@ public class DomainProcessorImpl implements DomainProcessor {
   public void dispatchDomainWatch(Watch.Response<Domain> item) {
     Domain d;
     String domainUid;
+    eventCoalescer.recordEvent();
+    recordStatusActivity(item.object);
     switch (item.type) {
       case "ADDED":
         d = item.object;
         domainUid = d.getDomainUid();
         LOGGER.info(MessageKeys.WATCH_DOMAIN, domainUid);
-        makeRightDomainPresence(new DomainPresenceInfo(d), true, false, true);
+        eventCoalescer.submit(new DomainPresenceInfo(d), true, false, true);
         break;
       case "MODIFIED":
         d = item.object;
         domainUid = d.getDomainUid();
         LOGGER.info(MessageKeys.WATCH_DOMAIN, domainUid);
-        makeRightDomainPresence(new DomainPresenceInfo(d), false, false, true);
+        eventCoalescer.submit(new DomainPresenceInfo(d), false, false, true);
         break;
       case "DELETED":
         d = item.object;
         domainUid = d.getDomainUid();
         LOGGER.info(MessageKeys.WATCH_DOMAIN_DELETED, domainUid);
-        makeRightDomainPresence(new DomainPresenceInfo(d), true, true, true);
+        eventCoalescer.submit(new DomainPresenceInfo(d), true, true, true);
         break;
 
       case "ERROR":
@@ -366,58 +516,65 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  private void recordStatusActivity(Domain domain) {
+    if (domain != null && domain.getMetadata() != null) {
+      statusPollScheduler.onActivity(domain.getMetadata().getNamespace(), domain.getDomainUid());
+    }
+  }
+
   private void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
 
     MainTuning main = TuningParameters.getInstance().getMainTuning();
-    registerStatusUpdater(
-        info.getNamespace(),
-        info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-            () -> {
-              try {
-                Packet packet = new Packet();
-                packet
-                    .getComponents()
-                    .put(
-                        ProcessingConstants.DOMAIN_COMPONENT_NAME,
-                        Component.createFor(info, delegate.getVersion()));
-                packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
-                Step strategy =
-                    DomainStatusUpdater.createStatusStep(main.statusUpdateTimeoutSeconds, null);
-                FiberGate gate = getStatusFiberGate(info.getNamespace());
-
-                Fiber f =
-                    gate.startFiberIfNoCurrentFiber(
-                        info.getDomainUid(),
-                        strategy,
-                        packet,
-                        new CompletionCallback() {
-                          @Override
-                          public void onCompletion(Packet packet) {
-                            AtomicInteger serverHealthRead =
-                                packet.getValue(
-                                    ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-                            if (serverHealthRead == null || serverHealthRead.get() == 0) {
-                              loggingFilter.setFiltering(false).resetLogHistory();
-                            } else {
-                              loggingFilter.setFiltering(true);
-                            }
-                          }
-
-                          @Override
-                          public void onThrowable(Packet packet, Throwable throwable) {
-                            LOGGER.severe(MessageKeys.EXCEPTION, throwable);
-                            loggingFilter.setFiltering(true);
-                          }
-                        });
-              } catch (Throwable t) {
-                LOGGER.severe(MessageKeys.EXCEPTION, t);
-              }
-            },
-            main.initialShortDelay,
-            main.initialShortDelay,
-            TimeUnit.SECONDS));
+    statusPollScheduler.start(
+        info,
+        listener -> {
+          Packet packet = new Packet();
+          packet
+              .getComponents()
+              .put(
+                  ProcessingConstants.DOMAIN_COMPONENT_NAME,
+                  Component.createFor(info, delegate.getVersion()));
+          packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
+          Step strategy =
+              DomainStatusUpdater.createStatusStep(main.statusUpdateTimeoutSeconds, null);
+          FiberGate gate = getStatusFiberGate(info.getNamespace());
+
+          Fiber f =
+              gate.startFiberIfNoCurrentFiber(
+                  info.getDomainUid(),
+                  FiberPriority.BACKGROUND,
+                  strategy,
+                  packet,
+                  new CompletionCallback() {
+                    @Override
+                    public void onCompletion(Packet packet) {
+                      AtomicInteger serverHealthRead =
+                          packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+                      if (serverHealthRead == null || serverHealthRead.get() == 0) {
+                        loggingFilter.setFiltering(false).resetLogHistory();
+                      } else {
+                        loggingFilter.setFiltering(true);
+                      }
+                      listener.pollCompleted(getPolledStatus(packet));
+                    }
+
+                    @Override
+                    public void onThrowable(Packet packet, Throwable throwable) {
+                      LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+                      loggingFilter.setFiltering(true);
+                      listener.pollFailed();
+                    }
+                  });
+          return f != null;
+        });
+  }
+
+  // The server states and health read by a status poll, for comparison with the previous poll
+  private static Object getPolledStatus(Packet packet) {
+    return Arrays.asList(
+        packet.get(ProcessingConstants.SERVER_STATE_MAP),
+        packet.get(ProcessingConstants.SERVER_HEALTH_MAP));
   }
 
   public void makeRightDomainPresence(
@@ -435,6 +592,10 @@ public class DomainProcessorImpl implements DomainProcessor {
     String domainUid = info.getDomainUid();
 
     if (delegate.isNamespaceRunning(ns)) {
+      // A new domain or a change to the spec of a known one is a user request; run it ahead of
+      // rechecks prompted by pod and service events
+      FiberPriority priority =
+          domain != null && !isDeleting ? FiberPriority.INTERACTIVE : FiberPriority.RECONCILE;
       DomainPresenceInfo existing = getExistingDomainPresenceInfo(ns, domainUid);
       if (existing != null) {
         Domain current = existing.getDomain();
@@ -446,21 +607,39 @@ public class DomainProcessorImpl implements DomainProcessor {
             return;
           }
           // Has the spec actually changed? We will get watch events for status updates
-          if (!explicitRecheck && spec != null && spec.equals(current.getSpec())) {
-            // nothing in the spec has changed, but status likely did; update current
-            existing.setDomain(domain);
-            LOGGER.fine(MessageKeys.NOT_STARTING_DOMAINUID_THREAD, domainUid);
-            return;
+          if (spec != null && isSpecUnchanged(current, domain)) {
+            if (!explicitRecheck) {
+              // nothing in the spec has changed, but status likely did; update current
+              existing.setDomain(domain);
+              LOGGER.fine(MessageKeys.NOT_STARTING_DOMAINUID_THREAD, domainUid);
+              return;
+            }
+            priority = FiberPriority.RECONCILE;
           }
         }
       }
 
-      internalMakeRightDomainPresence(info, isDeleting, isWillInterrupt);
+      internalMakeRightDomainPresence(info, isDeleting, isWillInterrupt, priority);
+    }
+  }
+
+  // With the status subresource, status updates do not change the generation, so a matching
+  // generation means that the spec is unchanged and need not be compared field by field.
+  private boolean isSpecUnchanged(Domain current, Domain domain) {
+    Long currentGeneration = current.getMetadata().getGeneration();
+    if (CrdHelper.isStatusSubresourceEnabled()
+        && currentGeneration != null
+        && currentGeneration.equals(domain.getMetadata().getGeneration())) {
+      return true;
     }
+    return domain.getSpec().equals(current.getSpec());
   }
 
   private void internalMakeRightDomainPresence(
-      @Nullable DomainPresenceInfo info, boolean isDeleting, boolean isWillInterrupt) {
+      @Nullable DomainPresenceInfo info,
+      boolean isDeleting,
+      boolean isWillInterrupt,
+      FiberPriority priority) {
     if (info == null) return;
 
     String ns = info.getNamespace();
@@ -480,7 +659,8 @@ public class DomainProcessorImpl implements DomainProcessor {
           ns,
           new StepAndPacket(strategy, new Packet()),
           isDeleting,
-          isWillInterrupt);
+          isWillInterrupt,
+          priority);
     }
   }
 
@@ -499,7 +679,8 @@ public class DomainProcessorImpl implements DomainProcessor {
       String ns,
       Step.StepAndPacket plan,
       boolean isDeleting,
-      boolean isWillInterrupt) {
+      boolean isWillInterrupt,
+      FiberPriority priority) {
     FiberGate gate = getMakeRightFiberGate(ns);
     CompletionCallback cc =
         new CompletionCallback() {
@@ -560,9 +741,9 @@ public class DomainProcessorImpl implements DomainProcessor {
         };
 
     if (isWillInterrupt) {
-      gate.startFiber(domainUid, plan.step, plan.packet, cc);
+      gate.startFiber(domainUid, priority, plan.step, plan.packet, cc);
     } else {
-      gate.startFiberIfNoCurrentFiber(domainUid, plan.step, plan.packet, cc);
+      gate.startFiberIfNoCurrentFiber(domainUid, priority, plan.step, plan.packet, cc);
     }
   }
 
@@ -671,7 +852,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     public NextAction apply(Packet packet) {
       registerDomainPresenceInfo(info);
       Step strategy = getNext();
-      if (!info.isPopulated() && info.isNotDeleting()) {
+      if (!info.isPopulated() && info.isNotDeleting() && !InformerCache.populate(info)) {
         strategy = Step.chain(readExistingPods(info), readExistingServices(info), strategy);
       }
       return doNext(strategy, packet);
@@ -763,7 +944,8 @@ public class DomainProcessorImpl implements DomainProcessor {
     @Override
     public NextAction apply(Packet packet) {
       info.setDeleting(true);
-      unregisterStatusUpdater(ns, info.getDomainUid());
+      statusPollScheduler.stop(ns, info.getDomainUid());
+      RecipeHashCache.forgetDomain(ns, info.getDomainUid());
       PodAwaiterStepFactory pw = delegate.getPodAwaiterStepFactory(ns);
       packet
             .getComponents()
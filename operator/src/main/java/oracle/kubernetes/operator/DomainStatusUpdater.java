@@ -3,9 +3,11 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.ArrayList;
+import java.io.StringReader;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -15,12 +17,20 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
-
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+import io.kubernetes.client.JSON;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.models.V1ObjectMeta;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.helpers.DomainStatusPatch;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -63,6 +73,7 @@ public class DomainStatusUpdater {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String TRUE = "True";
   private static final String FALSE = "False";
+  private static final JSON JSON_CONVERTER = new JSON();
 
   private DomainStatusUpdater() {
   }
@@ -113,45 +124,106 @@ public class DomainStatusUpdater {
   }
 
   private static NextAction doDomainUpdate(
-      Domain dom, DomainPresenceInfo info, Packet packet, Step conflictStep, Step next) {
+      DomainConditionStepContext context,
+      DomainStatus originalStatus,
+      Packet packet,
+      Step conflictStep,
+      Step next) {
+    Domain dom = context.getDomain();
+    DomainPresenceInfo info = context.getInfo();
     V1ObjectMeta meta = dom.getMetadata();
     NextAction na = new NextAction();
 
-    // *NOTE* See the note in KubernetesVersion
-    // If we update the CrdHelper to include the status subresource, then this code
-    // needs to be modified to use replaceDomainStatusAsync.  Then, validate if onSuccess
-    // should update info.
+    // Only the changed parts of the status are sent; when the CRD defines the status subresource,
+    // the update does not touch the spec at all. See the note in KubernetesVersion
+    JsonArray patch =
+        createStatusPatch(context.hadStatus() ? originalStatus : null, dom.getStatus());
+    if (patch.isEmpty()) {
+      na.invoke(next, packet);
+      return na;
+    }
 
     na.invoke(
-        new CallBuilder()
-            .replaceDomainAsync(
-                meta.getName(),
-                meta.getNamespace(),
-                dom,
-                new DefaultResponseStep<Domain>(next) {
-                  @Override
-                  public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
-                    if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
-                      return doNext(packet); // Just ignore update
-                    }
-                    return super.onFailure(
-                        getRereadDomainConflictStep(info, meta, conflictStep),
-                        packet,
-                        callResponse);
-                  }
+        DomainStatusPatch.createStatusPatchStep(
+            meta.getName(),
+            meta.getNamespace(),
+            new V1Patch(guardWithResourceVersion(patch, meta.getResourceVersion()).toString()),
+            new DefaultResponseStep<Domain>(next) {
+              @Override
+              public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+                if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
+                  return doNext(packet); // Just ignore update
+                }
+                if (callResponse.getStatusCode() == CallBuilder.UNPROCESSABLE_ENTITY) {
+                  return doNext(
+                      getRereadStaleDomainStep(info, meta, callResponse, conflictStep, next),
+                      packet);
+                }
+                return super.onFailure(
+                    getRereadDomainConflictStep(info, meta, conflictStep),
+                    packet,
+                    callResponse);
+              }
 
-                  @Override
-                  public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
-                    // Update info only if using replaceDomain
-                    // Skip, if we switch to using replaceDomainStatus
-                    info.setDomain(callResponse.getResult());
-                    return doNext(packet);
-                  }
-                }),
+              @Override
+              public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+                info.setDomain(callResponse.getResult());
+                return doNext(packet);
+              }
+            }),
         packet);
     return na;
   }
 
+  /**
+   * Creates a JSON patch which changes the specified original status to the new one. Only the
+   * changed fields and list entries are included.
+   *
+   * @param originalStatus the status before the change, or null if the domain had no status
+   * @param newStatus the status after the change
+   * @return a list of JSON patch operations, whose paths all start with "/status"
+   */
+  static JsonArray createStatusPatch(DomainStatus originalStatus, DomainStatus newStatus) {
+    return Json.createDiff(toStatusObject(originalStatus), toStatusObject(newStatus))
+        .toJsonArray();
+  }
+
+  /**
+   * Returns a JSON patch which first tests that the domain still has the specified resource
+   * version, and then applies the specified operations. The operations use list indexes computed
+   * from the domain's status at that version, which would silently modify the wrong entries of a
+   * status that has since changed.
+   *
+   * @param patch the patch operations
+   * @param resourceVersion the resource version of the domain from which the patch was computed
+   * @return the guarded patch, or the original one if the resource version is not known
+   */
+  static JsonArray guardWithResourceVersion(JsonArray patch, String resourceVersion) {
+    if (resourceVersion == null) {
+      return patch;
+    }
+
+    JsonArrayBuilder builder = Json.createArrayBuilder();
+    builder.add(
+        Json.createObjectBuilder()
+            .add("op", "test")
+            .add("path", "/metadata/resourceVersion")
+            .add("value", resourceVersion));
+    patch.forEach(builder::add);
+    return builder.build();
+  }
+
+  private static JsonObject toStatusObject(DomainStatus status) {
+    if (status == null) {
+      return JsonValue.EMPTY_JSON_OBJECT;
+    }
+
+    String json = JSON_CONVERTER.serialize(status);
+    return Json.createObjectBuilder()
+        .add("status", Json.createReader(new StringReader(json)).readObject())
+        .build();
+  }
+
   private static Step getRereadDomainConflictStep(
       DomainPresenceInfo info, V1ObjectMeta meta, Step next) {
     return new CallBuilder()
@@ -167,6 +239,65 @@ public class DomainStatusUpdater {
             });
   }
 
+  private static Step getRereadStaleDomainStep(
+      DomainPresenceInfo info,
+      V1ObjectMeta meta,
+      CallResponse<Domain> patchFailure,
+      Step conflictStep,
+      Step next) {
+    return new CallBuilder()
+        .readDomainAsync(
+            meta.getName(),
+            meta.getNamespace(),
+            new StaleDomainResponseStep(
+                info, meta.getResourceVersion(), conflictStep, patchFailure, next));
+  }
+
+  /**
+   * Handles the domain reread after a status patch was rejected as unprocessable. If the domain has
+   * changed since the patch was computed, recomputes the status change from the current domain.
+   * Otherwise, the patch was rejected for some other reason, and would be rejected again.
+   */
+  private static class StaleDomainResponseStep extends DefaultResponseStep<Domain> {
+    private final DomainPresenceInfo info;
+    private final String patchedResourceVersion;
+    private final Step recomputeStep;
+    private final CallResponse<Domain> patchFailure;
+
+    StaleDomainResponseStep(
+        DomainPresenceInfo info,
+        String patchedResourceVersion,
+        Step recomputeStep,
+        CallResponse<Domain> patchFailure,
+        Step next) {
+      super(next);
+      this.info = info;
+      this.patchedResourceVersion = patchedResourceVersion;
+      this.recomputeStep = recomputeStep;
+      this.patchFailure = patchFailure;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      Domain domain = callResponse.getResult();
+      if (domain == null) {
+        return doNext(packet); // Just ignore update
+      }
+      if (Objects.equals(getResourceVersion(domain), patchedResourceVersion)) {
+        return doTerminate(patchFailure.getE(), packet);
+      }
+
+      info.setDomain(domain);
+      return doNext(recomputeStep, packet);
+    }
+
+    private String getResourceVersion(Domain domain) {
+      return Optional.ofNullable(domain.getMetadata())
+          .map(V1ObjectMeta::getResourceVersion)
+          .orElse(null);
+    }
+  }
+
   /**
    * Asynchronous step to set Domain condition to Failed.
    *
@@ -180,15 +311,25 @@ public class DomainStatusUpdater {
 
   static class DomainConditionStepContext {
     private final DomainPresenceInfo info;
+    private final boolean hadStatus;
 
     DomainConditionStepContext(Packet packet) {
       info = packet.getSpi(DomainPresenceInfo.class);
+      hadStatus =
+          Optional.ofNullable(info)
+              .map(DomainPresenceInfo::getDomain)
+              .map(Domain::getStatus)
+              .isPresent();
     }
 
     DomainPresenceInfo getInfo() {
       return info;
     }
 
+    boolean hadStatus() {
+      return hadStatus;
+    }
+
     DomainStatus getStatus() {
       return getDomain().getOrCreateStatus();
     }
@@ -229,14 +370,14 @@ public class DomainStatusUpdater {
 
       DomainStatus status = context.getStatus();
 
-      boolean isStatusModified =
+      Optional<DomainStatus> originalStatus =
           modifyDomainStatus(
               status,
               s -> {
                 if (context.getDomain() != null) {
                   if (context.getDomainConfig().isPresent()) {
-                    s.setServers(new ArrayList<>(context.getServerStatuses().values()));
-                    s.setClusters(new ArrayList<>(context.getClusterStatuses().values()));
+                    s.setServers(context.getSortedServerStatuses());
+                    s.setClusters(context.getSortedClusterStatuses());
                     s.setReplicas(context.getReplicaSetting());
                   }
 
@@ -258,14 +399,14 @@ public class DomainStatusUpdater {
                 }
               });
 
-      if (isStatusModified) {
+      if (originalStatus.isPresent()) {
         LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getInfo().getDomainUid(), status);
       }
       LOGGER.exiting();
 
-      return isStatusModified
+      return originalStatus.isPresent()
           ? doDomainUpdate(
-              context.getDomain(), context.getInfo(), packet, StatusUpdateStep.this, getNext())
+              context, originalStatus.get(), packet, StatusUpdateStep.this, getNext())
           : doNext(packet);
     }
 
@@ -324,6 +465,13 @@ public class DomainStatusUpdater {
         return Optional.ofNullable(getInfo().getServerPod(serverName)).filter(PodHelper::getReadyStatus).isPresent();
       }
 
+      // Sorting keeps list positions stable, so that status patches contain only changed entries.
+      private List<ServerStatus> getSortedServerStatuses() {
+        return getServerStatuses().values().stream()
+            .sorted(Comparator.comparing(ServerStatus::getServerName))
+            .collect(Collectors.toList());
+      }
+
       Map<String, ServerStatus> getServerStatuses() {
         return getServerNames().stream()
             .collect(Collectors.toMap(Function.identity(), this::createServerStatus));
@@ -367,6 +515,12 @@ public class DomainStatusUpdater {
             .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
       }
 
+      private List<ClusterStatus> getSortedClusterStatuses() {
+        return getClusterStatuses().values().stream()
+            .sorted(Comparator.comparing(ClusterStatus::getClusterName))
+            .collect(Collectors.toList());
+      }
+
       Map<String, ClusterStatus> getClusterStatuses() {
         return getClusterNames().stream()
             .collect(Collectors.toMap(Function.identity(), this::createClusterStatus));
@@ -443,7 +597,7 @@ public class DomainStatusUpdater {
       DomainConditionStepContext context = new DomainConditionStepContext(packet);
       DomainStatus status = context.getStatus();
 
-      boolean isStatusModified =
+      Optional<DomainStatus> originalStatus =
           modifyDomainStatus(
               status,
               s -> {
@@ -458,9 +612,9 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomain().getDomainUid(), status);
       LOGGER.exiting();
 
-      return isStatusModified
+      return originalStatus.isPresent()
           ? doDomainUpdate(
-              context.getDomain(), context.getInfo(), packet, ProgressingStep.this, getNext())
+              context, originalStatus.get(), packet, ProgressingStep.this, getNext())
           : doNext(packet);
     }
   }
@@ -478,7 +632,7 @@ public class DomainStatusUpdater {
       DomainConditionStepContext context = new DomainConditionStepContext(packet);
       DomainStatus status = context.getStatus();
 
-      boolean isStatusModified =
+      Optional<DomainStatus> originalStatus =
           modifyDomainStatus(
               status,
               s ->
@@ -488,9 +642,9 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomain().getDomainUid(), status);
       LOGGER.exiting();
 
-      return isStatusModified
+      return originalStatus.isPresent()
           ? doDomainUpdate(
-              context.getDomain(), context.getInfo(), packet, EndProgressingStep.this, getNext())
+              context, originalStatus.get(), packet, EndProgressingStep.this, getNext())
           : doNext(packet);
     }
   }
@@ -510,7 +664,7 @@ public class DomainStatusUpdater {
       DomainConditionStepContext context = new DomainConditionStepContext(packet);
       DomainStatus status = context.getStatus();
 
-      boolean isStatusModified =
+      Optional<DomainStatus> originalStatus =
           modifyDomainStatus(
               status,
               s -> {
@@ -521,18 +675,19 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomain().getDomainUid(), status);
       LOGGER.exiting();
 
-      return isStatusModified
+      return originalStatus.isPresent()
           ? doDomainUpdate(
-              context.getDomain(), context.getInfo(), packet, AvailableStep.this, getNext())
+              context, originalStatus.get(), packet, AvailableStep.this, getNext())
           : doNext(packet);
     }
   }
 
-  private static boolean modifyDomainStatus(DomainStatus domainStatus, Consumer<DomainStatus> statusUpdateConsumer) {
+  private static Optional<DomainStatus> modifyDomainStatus(
+      DomainStatus domainStatus, Consumer<DomainStatus> statusUpdateConsumer) {
     final DomainStatus currentStatus = new DomainStatus(domainStatus);
     synchronized (domainStatus) {
       statusUpdateConsumer.accept(domainStatus);
-      return !domainStatus.equals(currentStatus);
+      return domainStatus.equals(currentStatus) ? Optional.empty() : Optional.of(currentStatus);
     }
   }
 
@@ -551,7 +706,7 @@ public class DomainStatusUpdater {
       DomainConditionStepContext context = new DomainConditionStepContext(packet);
       final DomainStatus status = context.getStatus();
 
-      boolean isStatusModified =
+      Optional<DomainStatus> originalStatus =
           modifyDomainStatus(
               status,
               s -> {
@@ -569,9 +724,9 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomain().getDomainUid(), status);
       LOGGER.exiting();
 
-      return isStatusModified
+      return originalStatus.isPresent()
           ? doDomainUpdate(
-              context.getDomain(), context.getInfo(), packet, FailedStep.this, getNext())
+              context, originalStatus.get(), packet, FailedStep.this, getNext())
           : doNext(packet);
     }
   }
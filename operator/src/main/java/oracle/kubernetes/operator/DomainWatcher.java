@@ -3,15 +3,18 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.concurrent.ThreadFactory;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ObjectMeta;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 /**
  * This class handles Domain watching. It receives domain events and sends them into the operator
@@ -31,7 +34,7 @@ public class DomainWatcher extends Watcher<Domain> {
   }
 
   public static DomainWatcher create(
-      ThreadFactory factory,
+      WatchRuntime runtime,
       String ns,
       String initialResourceVersion,
       WatchTuning tuning,
@@ -39,12 +42,77 @@ public class DomainWatcher extends Watcher<Domain> {
       AtomicBoolean isStopping) {
     DomainWatcher watcher =
         new DomainWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
-    watcher.start(factory);
+    watcher.start(runtime);
     return watcher;
   }
 
+  /**
+   * Creates a domain watcher which receives its events from a watch of all namespaces.
+   *
+   * @param clusterWatcher the watcher of all namespaces
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param tuning watch tuning parameters
+   * @param listener callback
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static DomainWatcher create(
+      ClusterWatcher<Domain> clusterWatcher,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<Domain> listener,
+      AtomicBoolean isStopping) {
+    DomainWatcher watcher =
+        new DomainWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(clusterWatcher, ns);
+    return watcher;
+  }
+
+  /**
+   * Creates a watcher of domains in all namespaces.
+   *
+   * @param runtime the runtime which runs the watch
+   * @param tuning watch tuning parameters
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static ClusterWatcher<Domain> createClusterWatcher(
+      WatchRuntime runtime, WatchTuning tuning, AtomicBoolean isStopping) {
+    return new ClusterWatcher<>(
+        runtime,
+        tuning,
+        isStopping,
+        WatchBuilder::createDomainWatchForAllNamespaces,
+        Domain::getMetadata);
+  }
+
   @Override
   public WatchI<Domain> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder.createDomainWatch(ns);
   }
+
+  @Override
+  V1ObjectMeta getMetadata(Domain object) {
+    return object.getMetadata();
+  }
+
+  @Override
+  Optional<ObjectLister<Domain>> getObjectLister() {
+    return Optional.of(this::listDomains);
+  }
+
+  private ObjectList<Domain> listDomains() throws ApiException {
+    DomainList list = new CallBuilder().listDomain(ns);
+    return new ObjectList<>(list.getItems(), list.getMetadata().getResourceVersion());
+  }
+
+  @Override
+  Domain getLastKnownObject(String namespace, String name) {
+    return DomainProcessorImpl.getDomains(namespace).stream()
+        .filter(domain -> name.equals(domain.getMetadata().getName()))
+        .findFirst()
+        .orElse(null);
+  }
 }
@@ -3,11 +3,11 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1Event;
+import io.kubernetes.client.models.V1ObjectMeta;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
@@ -34,7 +34,7 @@ public class EventWatcher extends Watcher<V1Event> {
   }
 
   public static EventWatcher create(
-      ThreadFactory factory,
+      WatchRuntime runtime,
       String ns,
       String fieldSelector,
       String initialResourceVersion,
@@ -43,12 +43,63 @@ public class EventWatcher extends Watcher<V1Event> {
       AtomicBoolean isStopping) {
     EventWatcher watcher =
         new EventWatcher(ns, fieldSelector, initialResourceVersion, tuning, listener, isStopping);
-    watcher.start(factory);
+    watcher.start(runtime);
     return watcher;
   }
 
+  /**
+   * Creates an event watcher which receives its events from a watch of all namespaces.
+   *
+   * @param clusterWatcher the watcher of all namespaces
+   * @param ns namespace
+   * @param fieldSelector field selector
+   * @param initialResourceVersion initial resource version
+   * @param tuning watch tuning parameters
+   * @param listener callback
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static EventWatcher create(
+      ClusterWatcher<V1Event> clusterWatcher,
+      String ns,
+      String fieldSelector,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Event> listener,
+      AtomicBoolean isStopping) {
+    EventWatcher watcher =
+        new EventWatcher(ns, fieldSelector, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(clusterWatcher, ns);
+    return watcher;
+  }
+
+  /**
+   * Creates a watcher of events in all namespaces.
+   *
+   * @param runtime the runtime which runs the watch
+   * @param fieldSelector field selector
+   * @param tuning watch tuning parameters
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static ClusterWatcher<V1Event> createClusterWatcher(
+      WatchRuntime runtime, String fieldSelector, WatchTuning tuning, AtomicBoolean isStopping) {
+    return new ClusterWatcher<>(
+        runtime,
+        tuning,
+        isStopping,
+        watchBuilder ->
+            watchBuilder.withFieldSelector(fieldSelector).createEventWatchForAllNamespaces(),
+        V1Event::getMetadata);
+  }
+
   @Override
   public WatchI<V1Event> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder.withFieldSelector(fieldSelector).createEventWatch(ns);
   }
+
+  @Override
+  V1ObjectMeta getMetadata(V1Event object) {
+    return object.getMetadata();
+  }
 }
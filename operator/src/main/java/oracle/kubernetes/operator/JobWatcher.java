@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -87,7 +86,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
   /**
    * Creates a new JobWatcher and caches it by namespace.
    *
-   * @param factory thread factory
+   * @param runtime the runtime which runs the watches
    * @param ns Namespace
    * @param initialResourceVersion Initial resource version or empty string
    * @param tuning Tuning parameters for the watch, for example watch lifetime
@@ -95,21 +94,21 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
    * @return Job watcher for the namespace
    */
   public static JobWatcher create(
-      ThreadFactory factory,
+      WatchRuntime runtime,
       String ns,
       String initialResourceVersion,
       WatchTuning tuning,
       AtomicBoolean isStopping) {
     JobWatcher watcher = new JobWatcher(ns, initialResourceVersion, tuning, isStopping);
-    watcher.start(factory);
+    watcher.start(runtime);
     return watcher;
   }
 
   static void defineFactory(
-      ThreadFactory threadFactory,
+      WatchRuntime runtime,
       WatchTuning tuning,
       Function<String, AtomicBoolean> isNamespaceStopping) {
-    factory = new JobWatcherFactory(threadFactory, tuning, isNamespaceStopping);
+    factory = new JobWatcherFactory(runtime, tuning, isNamespaceStopping);
   }
 
   public static boolean isComplete(V1Job job) {
@@ -167,6 +166,11 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
         .createJobWatch(namespace);
   }
 
+  @Override
+  V1ObjectMeta getMetadata(V1Job object) {
+    return object.getMetadata();
+  }
+
   public void receivedResponse(Watch.Response<V1Job> item) {
     LOGGER.entering();
 
@@ -200,16 +204,16 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
   }
 
   static class JobWatcherFactory {
-    private ThreadFactory threadFactory;
+    private WatchRuntime runtime;
     private WatchTuning watchTuning;
 
     private Function<String, AtomicBoolean> isNamespaceStopping;
 
     JobWatcherFactory(
-        ThreadFactory threadFactory,
+        WatchRuntime runtime,
         WatchTuning watchTuning,
         Function<String, AtomicBoolean> isNamespaceStopping) {
-      this.threadFactory = threadFactory;
+      this.runtime = runtime;
       this.watchTuning = watchTuning;
       this.isNamespaceStopping = isNamespaceStopping;
     }
@@ -217,7 +221,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     JobWatcher createFor(Domain domain) {
       String namespace = getNamespace(domain);
       return create(
-          threadFactory,
+          runtime,
           namespace,
           domain.getMetadata().getResourceVersion(),
           watchTuning,
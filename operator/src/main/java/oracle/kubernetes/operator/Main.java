@@ -10,6 +10,7 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -29,12 +30,16 @@ import java.util.function.Function;
 
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.models.V1Event;
 import io.kubernetes.client.models.V1EventList;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodList;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1ServiceList;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestCoalescer;
+import oracle.kubernetes.operator.calls.RequestGovernor;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
 import oracle.kubernetes.operator.helpers.ClientPool;
@@ -42,13 +47,17 @@ import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.CrdHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
+import oracle.kubernetes.operator.helpers.InformerCache;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.HttpClientCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.rest.RestBackendImpl;
 import oracle.kubernetes.operator.rest.RestConfigImpl;
 import oracle.kubernetes.operator.rest.RestServer;
 import oracle.kubernetes.operator.steps.ConfigMapAfterStep;
@@ -56,9 +65,12 @@ import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.ExecutorStrategy;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberPriority;
+import oracle.kubernetes.operator.work.FiberTracer;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -77,8 +89,12 @@ public class Main {
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
   private static final ScheduledExecutorService wrappedExecutorService =
-      Engine.wrappedExecutorService("operator", container);
+      Engine.wrappedExecutorService(
+          "operator", container, ExecutorStrategy.fromName(System.getenv("ENGINE_EXECUTOR")));
   private static final TuningParameters tuningAndConfig;
+  private static final WatchRuntime watchRuntime;
+  private static final ClusterWatchers clusterWatchers;
+  private static final AtomicBoolean isClusterWatchStopping = new AtomicBoolean(false);
   private static final CallBuilderFactory callBuilderFactory = new CallBuilderFactory();
   private static final Map<String, AtomicBoolean> isNamespaceStarted = new ConcurrentHashMap<>();
   private static final Map<String, AtomicBoolean> isNamespaceStopping = new ConcurrentHashMap<>();
@@ -87,16 +103,17 @@ public class Main {
   private static final Map<String, EventWatcher> eventWatchers = new ConcurrentHashMap<>();
   private static final Map<String, ServiceWatcher> serviceWatchers = new ConcurrentHashMap<>();
   private static final Map<String, PodWatcher> podWatchers = new ConcurrentHashMap<>();
+  private static final Map<String, SecretWatcher> secretWatchers = new ConcurrentHashMap<>();
   private static Function<String,String> getHelmVariable = System::getenv;
   private static final String operatorNamespace = computeOperatorNamespace();
   private static final AtomicReference<DateTime> lastFullRecheck =
       new AtomicReference<>(DateTime.now());
   private static final DomainProcessorDelegateImpl delegate = new DomainProcessorDelegateImpl();
-  private static final DomainProcessor processor = new DomainProcessorImpl(delegate);
+  private static final DomainProcessorImpl processor = new DomainProcessorImpl(delegate);
   private static final String READINESS_PROBE_FAILURE_EVENT_FILTER =
       "reason=Unhealthy,type=Warning,involvedObject.fieldPath=spec.containers{weblogic-server}";
   private static final Semaphore shutdownSignal = new Semaphore(0);
-  private static Engine engine = new Engine(wrappedExecutorService);
+  private static Engine engine = createEngine();
   private static String principal;
   private static KubernetesVersion version = null;
 
@@ -118,6 +135,11 @@ public class Main {
   }
 
   static {
+    watchRuntime = createWatchRuntime(tuningAndConfig.getWatchTuning());
+    clusterWatchers =
+        tuningAndConfig.getWatchTuning().watchClusterScoped
+            ? new ClusterWatchers(tuningAndConfig.getWatchTuning())
+            : null;
     container
         .getComponents()
         .put(
@@ -129,9 +151,132 @@ public class Main {
                 tuningAndConfig,
                 ThreadFactory.class,
                 threadFactory,
+                WatchRuntime.class,
+                watchRuntime,
                 callBuilderFactory));
   }
 
+  private static Engine createEngine() {
+    Engine engine = new Engine(wrappedExecutorService);
+    getPositiveIntegerVariable("FIBER_BREAD_CRUMB_LIMIT").ifPresent(engine::setBreadCrumbLimit);
+    getPositiveIntegerVariable("FIBER_TRACE_SAMPLE_INTERVAL")
+        .ifPresent(interval -> engine.setTracer(new FiberTracer(interval)));
+    registerMetrics(engine);
+    return engine;
+  }
+
+  // The histograms register themselves; these are the gauges and counters read at each scrape
+  private static void registerMetrics(Engine engine) {
+    MetricsRegistry registry = MetricsRegistry.getInstance();
+    registry.gauge(
+        "weblogic_operator_fiber_queue_depth",
+        "Number of fibers ready to run but waiting for a thread, by fiber priority",
+        "priority",
+        () -> byPriority(engine::getQueueDepth));
+    registry.counter(
+        "weblogic_operator_fibers_dispatched_total",
+        "Number of fibers taken from the queue to run, by fiber priority",
+        "priority",
+        () -> byPriority(engine::getDispatchedCount));
+    registry.counter(
+        "weblogic_operator_fibers_promoted_total",
+        "Number of fibers run ahead of more urgent ones because they had waited too long",
+        engine::getPromotedCount);
+
+    RequestGovernor governor = RequestGovernor.getInstance();
+    registry.gauge(
+        "weblogic_operator_api_requests_in_flight",
+        "Number of calls to the Kubernetes API in progress",
+        governor::getInFlight);
+    registry.gauge(
+        "weblogic_operator_api_requests_waiting",
+        "Number of calls to the Kubernetes API waiting for another call to complete",
+        governor::getQueueLength);
+    registry.counter(
+        "weblogic_operator_api_requests_throttled_total",
+        "Number of times the Kubernetes API server asked the operator to slow down",
+        governor::getThrottledCount);
+    registry.counter(
+        "weblogic_operator_api_requests_delayed_total",
+        "Number of times a call to the Kubernetes API was told to wait for a rate limit or pause",
+        governor::getDelayedCount);
+    registry.counter(
+        "weblogic_operator_api_request_wait_seconds_total",
+        "Total time that calls to the Kubernetes API have waited before being sent",
+        () -> governor.getTotalWaitTime(TimeUnit.MILLISECONDS) / 1000.0);
+    registry.counter(
+        "weblogic_operator_api_reads_coalesced_total",
+        "Number of reads which shared the result of an identical read in progress",
+        RequestCoalescer.getInstance()::getCoalescedCount);
+
+    registry.gauge(
+        "weblogic_operator_watch_threads",
+        "Number of threads running watches",
+        watchRuntime::getThreadCount);
+    registry.gauge(
+        "weblogic_operator_watch_streams",
+        "Number of watch streams which have not stopped",
+        watchRuntime::getStreamCount);
+    registry.gauge(
+        "weblogic_operator_watch_streams_active",
+        "Number of watch streams with a watch open",
+        watchRuntime::getActiveStreamCount);
+    registry.gauge(
+        "weblogic_operator_watch_streams_waiting",
+        "Number of watch streams waiting for a thread",
+        watchRuntime::getWaitingStreamCount);
+    registry.counter(
+        "weblogic_operator_log_records_dropped_total",
+        "Number of log records dropped because the log buffer was full, by level",
+        "level",
+        LOGGER::getDroppedCounts);
+
+    processor.registerMetrics(registry);
+    RestBackendImpl.registerMetrics(registry);
+  }
+
+  private static Map<String, Number> byPriority(Function<FiberPriority, Number> value) {
+    Map<String, Number> values = new HashMap<>();
+    for (FiberPriority priority : FiberPriority.values()) {
+      values.put(priority.name(), value.apply(priority));
+    }
+    return values;
+  }
+
+  private static Optional<Integer> getPositiveIntegerVariable(String name) {
+    try {
+      return Optional.ofNullable(getHelmVariable.apply(name))
+          .map(Integer::valueOf)
+          .filter(value -> value > 0);
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static WatchRuntime createWatchRuntime(WatchTuning tuning) {
+    Optional<ThreadFactory> virtualThreadFactory =
+        tuning.watchVirtualThreads
+            ? ThreadFactorySingleton.getVirtualThreadFactory("watch-")
+            : Optional.empty();
+    return virtualThreadFactory
+        .map(
+            f ->
+                new WatchRuntime(
+                    new WrappedThreadFactory(f),
+                    wrappedExecutorService,
+                    WatchRuntime.UNLIMITED,
+                    tuning.watchContendedLifetime,
+                    true))
+        .orElseGet(
+            () ->
+                new WatchRuntime(
+                    threadFactory,
+                    wrappedExecutorService,
+                    tuning.watchMaxThreads,
+                    tuning.watchContendedLifetime,
+                    false));
+  }
+
   /**
    * Entry point.
    *
@@ -175,7 +320,7 @@ public class Main {
 
     LOGGER.info(MessageKeys.OP_CONFIG_NAMESPACE, operatorNamespace);
     JobWatcher.defineFactory(
-        threadFactory, tuningAndConfig.getWatchTuning(), Main::isNamespaceStopping);
+        watchRuntime, tuningAndConfig.getWatchTuning(), Main::isNamespaceStopping);
 
     Collection<String> targetNamespaces = getTargetNamespaces();
     LOGGER.info(MessageKeys.OP_CONFIG_TARGET_NAMESPACES, StringUtils.join(targetNamespaces, ", "));
@@ -227,7 +372,13 @@ public class Main {
       eventWatchers.remove(ns);
       podWatchers.remove(ns);
       serviceWatchers.remove(ns);
+      secretWatchers.remove(ns);
       JobWatcher.removeNamespace(ns);
+      if (clusterWatchers != null) {
+        clusterWatchers.removeNamespace(ns);
+      }
+      InformerCache.removeNamespace(ns);
+      HttpClientCache.removeNamespace(ns);
     }
   }
 
@@ -387,11 +538,22 @@ public class Main {
     }
 
     isNamespaceStopping.forEach((key, value) -> value.set(true));
+    isClusterWatchStopping.set(true);
   }
 
   private static EventWatcher createEventWatcher(String ns, String initialResourceVersion) {
+    if (clusterWatchers != null) {
+      return EventWatcher.create(
+          clusterWatchers.events,
+          ns,
+          READINESS_PROBE_FAILURE_EVENT_FILTER,
+          initialResourceVersion,
+          tuningAndConfig.getWatchTuning(),
+          processor::dispatchEventWatch,
+          isNamespaceStopping(ns));
+    }
     return EventWatcher.create(
-        threadFactory,
+        watchRuntime,
         ns,
         READINESS_PROBE_FAILURE_EVENT_FILTER,
         initialResourceVersion,
@@ -400,9 +562,30 @@ public class Main {
         isNamespaceStopping(ns));
   }
 
+  // Secrets are always watched in each namespace, so that the operator need not read the secrets
+  // of namespaces it does not manage.
+  private static SecretWatcher createSecretWatcher(String ns, String initialResourceVersion) {
+    return SecretWatcher.create(
+        watchRuntime,
+        ns,
+        initialResourceVersion,
+        tuningAndConfig.getWatchTuning(),
+        response -> HttpClientCache.onSecretEvent(response.type, response.object),
+        isNamespaceStopping(ns));
+  }
+
   private static PodWatcher createPodWatcher(String ns, String initialResourceVersion) {
+    if (clusterWatchers != null) {
+      return PodWatcher.create(
+          clusterWatchers.pods,
+          ns,
+          initialResourceVersion,
+          tuningAndConfig.getWatchTuning(),
+          processor::dispatchPodWatch,
+          isNamespaceStopping(ns));
+    }
     return PodWatcher.create(
-        threadFactory,
+        watchRuntime,
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
@@ -411,8 +594,17 @@ public class Main {
   }
 
   private static ServiceWatcher createServiceWatcher(String ns, String initialResourceVersion) {
+    if (clusterWatchers != null) {
+      return ServiceWatcher.create(
+          clusterWatchers.services,
+          ns,
+          initialResourceVersion,
+          tuningAndConfig.getWatchTuning(),
+          processor::dispatchServiceWatch,
+          isNamespaceStopping(ns));
+    }
     return ServiceWatcher.create(
-        threadFactory,
+        watchRuntime,
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
@@ -421,8 +613,17 @@ public class Main {
   }
 
   private static DomainWatcher createDomainWatcher(String ns, String initialResourceVersion) {
+    if (clusterWatchers != null) {
+      return DomainWatcher.create(
+          clusterWatchers.domains,
+          ns,
+          initialResourceVersion,
+          tuningAndConfig.getWatchTuning(),
+          processor::dispatchDomainWatch,
+          isNamespaceStopping(ns));
+    }
     return DomainWatcher.create(
-        threadFactory,
+        watchRuntime,
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
@@ -435,7 +636,15 @@ public class Main {
   }
 
   private static class WrappedThreadFactory implements ThreadFactory {
-    private final ThreadFactory delegate = ThreadFactorySingleton.getInstance();
+    private final ThreadFactory delegate;
+
+    WrappedThreadFactory() {
+      this(ThreadFactorySingleton.getInstance());
+    }
+
+    WrappedThreadFactory(ThreadFactory delegate) {
+      this.delegate = delegate;
+    }
 
     @Override
     public Thread newThread(@Nonnull Runnable r) {
@@ -447,6 +656,40 @@ public class Main {
     }
   }
 
+  /**
+   * The watchers which watch resources in all namespaces, used instead of a watch of each type of
+   * resource in each namespace when cluster-scoped watches are enabled.
+   */
+  private static class ClusterWatchers {
+    private final ClusterWatcher<Domain> domains;
+    private final ClusterWatcher<V1Event> events;
+    private final ClusterWatcher<V1Pod> pods;
+    private final ClusterWatcher<V1Service> services;
+
+    ClusterWatchers(WatchTuning tuning) {
+      domains = DomainWatcher.createClusterWatcher(watchRuntime, tuning, isClusterWatchStopping);
+      events =
+          EventWatcher.createClusterWatcher(
+              watchRuntime, READINESS_PROBE_FAILURE_EVENT_FILTER, tuning, isClusterWatchStopping);
+      pods = PodWatcher.createClusterWatcher(watchRuntime, tuning, isClusterWatchStopping);
+      services = ServiceWatcher.createClusterWatcher(watchRuntime, tuning, isClusterWatchStopping);
+    }
+
+    void expectNamespace(String ns) {
+      domains.expectNamespace(ns);
+      events.expectNamespace(ns);
+      pods.expectNamespace(ns);
+      services.expectNamespace(ns);
+    }
+
+    void removeNamespace(String ns) {
+      domains.removeNamespace(ns);
+      events.removeNamespace(ns);
+      pods.removeNamespace(ns);
+      services.removeNamespace(ns);
+    }
+  }
+
   private static class StartNamespacesStep extends Step {
     private final Collection<String> targetNamespaces;
 
@@ -492,6 +735,10 @@ public class Main {
           LOGGER.warning(MessageKeys.EXCEPTION, e);
         }
 
+        // hold events which arrive while the namespace's resources are listed
+        if (clusterWatchers != null) {
+          clusterWatchers.expectNamespace(ns);
+        }
         return doNext(packet);
       }
       return doEnd(packet);
@@ -560,8 +807,10 @@ public class Main {
           });
 
       if (!domainWatchers.containsKey(ns)) {
-        domainWatchers.put(
-            ns, createDomainWatcher(ns, getResourceVersion(callResponse.getResult())));
+        DomainList result = callResponse.getResult();
+        DomainWatcher watcher = createDomainWatcher(ns, getResourceVersion(result));
+        watcher.rememberObjects(result != null ? result.getItems() : null);
+        domainWatchers.put(ns, watcher);
       }
       return doNext(packet);
     }
@@ -592,6 +841,7 @@ public class Main {
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
 
+      InformerCache.replaceServices(ns, result != null ? result.getItems() : null);
       if (result != null) {
         for (V1Service service : result.getItems()) {
           String domainUid = ServiceHelper.getServiceDomainUid(service);
@@ -604,7 +854,9 @@ public class Main {
       }
 
       if (!serviceWatchers.containsKey(ns)) {
-        serviceWatchers.put(ns, createServiceWatcher(ns, getInitialResourceVersion(result)));
+        ServiceWatcher watcher = createServiceWatcher(ns, getInitialResourceVersion(result));
+        watcher.rememberObjects(result != null ? result.getItems() : null);
+        serviceWatchers.put(ns, watcher);
       }
       return doNext(packet);
     }
@@ -636,6 +888,11 @@ public class Main {
       if (!eventWatchers.containsKey(ns)) {
         eventWatchers.put(ns, createEventWatcher(ns, getInitialResourceVersion(result)));
       }
+      // secrets are not listed; they are only watched in order to invalidate cached credentials,
+      // so any recent resource version will do as a starting point
+      if (!secretWatchers.containsKey(ns)) {
+        secretWatchers.put(ns, createSecretWatcher(ns, getInitialResourceVersion(result)));
+      }
       return doNext(packet);
     }
 
@@ -665,6 +922,7 @@ public class Main {
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
 
+      InformerCache.replacePods(ns, result != null ? result.getItems() : null);
       if (result != null) {
         for (V1Pod pod : result.getItems()) {
           String domainUid = PodHelper.getPodDomainUid(pod);
@@ -678,7 +936,9 @@ public class Main {
       }
 
       if (!podWatchers.containsKey(ns)) {
-        podWatchers.put(ns, createPodWatcher(ns, getInitialResourceVersion(result)));
+        PodWatcher watcher = createPodWatcher(ns, getInitialResourceVersion(result));
+        watcher.rememberObjects(result != null ? result.getItems() : null);
+        podWatchers.put(ns, watcher);
       }
       return doNext(packet);
     }
@@ -745,5 +1005,10 @@ public class Main {
         Runnable command, long initialDelay, long delay, TimeUnit unit) {
       return Main.engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      return Main.engine.getExecutor().schedule(command, delay, unit);
+    }
   }
 }
@@ -9,7 +9,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
@@ -17,11 +16,13 @@ import javax.annotation.Nonnull;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodList;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.InformerCache;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -59,7 +60,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
   /**
    * Factory for PodWatcher.
    *
-   * @param factory thread factory
+   * @param runtime the runtime which runs the watches
    * @param ns Namespace
    * @param initialResourceVersion Initial resource version or empty string
    * @param tuning Watch tuning parameters
@@ -68,14 +69,14 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
    * @return Pod watcher for the namespace
    */
   public static PodWatcher create(
-      ThreadFactory factory,
+      WatchRuntime runtime,
       String ns,
       String initialResourceVersion,
       WatchTuning tuning,
       WatchListener<V1Pod> listener,
       AtomicBoolean isStopping) {
     PodWatcher watcher = new PodWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
-    watcher.start(factory);
+    watcher.start(runtime);
     return watcher;
   }
 
@@ -115,6 +116,52 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     }
   }
 
+  /**
+   * Creates a pod watcher which receives its events from a watch of all namespaces.
+   *
+   * @param clusterWatcher the watcher of all namespaces
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param tuning watch tuning parameters
+   * @param listener callback
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static PodWatcher create(
+      ClusterWatcher<V1Pod> clusterWatcher,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Pod> listener,
+      AtomicBoolean isStopping) {
+    PodWatcher watcher =
+        new PodWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(clusterWatcher, ns);
+    return watcher;
+  }
+
+  /**
+   * Creates a watcher of pods in all namespaces.
+   *
+   * @param runtime the runtime which runs the watch
+   * @param tuning watch tuning parameters
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static ClusterWatcher<V1Pod> createClusterWatcher(
+      WatchRuntime runtime, WatchTuning tuning, AtomicBoolean isStopping) {
+    return new ClusterWatcher<>(
+        runtime,
+        tuning,
+        isStopping,
+        watchBuilder ->
+            watchBuilder
+                .withLabelSelectors(
+                    LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+                .createPodWatchForAllNamespaces(),
+        V1Pod::getMetadata);
+  }
+
   @Override
   public WatchI<V1Pod> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder
@@ -122,6 +169,33 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
         .createPodWatch(namespace);
   }
 
+  @Override
+  V1ObjectMeta getMetadata(V1Pod object) {
+    return object.getMetadata();
+  }
+
+  @Override
+  Optional<ObjectLister<V1Pod>> getObjectLister() {
+    return Optional.of(this::listPods);
+  }
+
+  private ObjectList<V1Pod> listPods() throws ApiException {
+    V1PodList list =
+        new CallBuilder()
+            .withLabelSelectors(
+                LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+            .listPod(namespace);
+    return new ObjectList<>(list.getItems(), list.getMetadata().getResourceVersion());
+  }
+
+  // Pods which are not cached, such as introspector pods, are replayed by name only, so that
+  // callbacks waiting for their deletion still run.
+  @Override
+  V1Pod getLastKnownObject(String namespace, String name) {
+    return Optional.ofNullable(InformerCache.getPod(namespace, name))
+        .orElseGet(() -> new V1Pod().metadata(new V1ObjectMeta().namespace(namespace).name(name)));
+  }
+
   public void receivedResponse(Watch.Response<V1Pod> item) {
     LOGGER.entering();
 
@@ -0,0 +1,67 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Secret;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * This class handles Secret watching. It receives secret change events and sends them into the
+ * operator so that anything derived from the secrets, such as cached credentials, can be
+ * invalidated.
+ */
+public class SecretWatcher extends Watcher<V1Secret> {
+  private final String ns;
+
+  private SecretWatcher(
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Secret> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, tuning, isStopping, listener);
+    this.ns = ns;
+  }
+
+  /**
+   * Creates a secret watcher and starts it.
+   *
+   * @param runtime the runtime which runs the watches
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param tuning watch tuning parameters
+   * @param listener callback
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static SecretWatcher create(
+      WatchRuntime runtime,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Secret> listener,
+      AtomicBoolean isStopping) {
+    SecretWatcher watcher =
+        new SecretWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(runtime);
+    return watcher;
+  }
+
+  @Override
+  public WatchI<V1Secret> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder.createSecretWatch(ns);
+  }
+
+  @Override
+  V1ObjectMeta getMetadata(V1Secret object) {
+    return object.getMetadata();
+  }
+}
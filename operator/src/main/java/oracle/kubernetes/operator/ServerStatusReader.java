@@ -8,6 +8,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -19,7 +20,10 @@ import com.google.common.base.Charsets;
 import com.google.common.io.CharStreams;
 import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ContainerState;
+import io.kubernetes.client.models.V1ContainerStatus;
 import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.LastKnownStatus;
@@ -44,6 +48,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 /** Creates an asynchronous step to read the WebLogic server state from a particular pod. */
 public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_READINESS_PROBE_PERIOD = 5;
   private static KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
 
@@ -97,7 +102,8 @@ public class ServerStatusReader {
         return doNext(packet);
       } else {
         remainingServerHealthToRead.set(startDetails.size());
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(
+            getNext(), packet, startDetails, DomainPresence.getStatusReadMaxParallelism());
       }
     }
 
@@ -148,6 +154,12 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      String publishedState = getPublishedState();
+      if (publishedState != null) {
+        serverStateMap.put(serverName, chooseStateOrLastKnownServerStatus(lastKnownStatus, publishedState));
+        return doNext(packet);
+      }
+
       // Even though we don't need input data for this call, the API server is
       // returning 400 Bad Request any time we set these to false.  There is likely some bug in the
       // client
@@ -199,6 +211,53 @@ public class ServerStatusReader {
           });
     }
 
+    // Returns the server state if it can be determined without an exec into the pod; otherwise null.
+    // A server container that is not running cannot report a state, which is what readState.sh
+    // would conclude; otherwise, a recent state reported by the readiness probe is used.
+    private String getPublishedState() {
+      V1ContainerStatus containerStatus = getServerContainerStatus();
+      if (containerStatus != null && !isRunning(containerStatus)) {
+        return PodHelper.isDeleting(pod)
+            ? WebLogicConstants.SHUTDOWN_STATE
+            : WebLogicConstants.STARTING_STATE;
+      }
+
+      LastKnownStatus publishedStatus = info.getPublishedServerStatus(serverName);
+      if (publishedStatus != null && isFresh(publishedStatus)) {
+        return publishedStatus.getStatus();
+      }
+      return null;
+    }
+
+    private V1ContainerStatus getServerContainerStatus() {
+      return Optional.ofNullable(pod.getStatus())
+          .map(V1PodStatus::getContainerStatuses)
+          .flatMap(
+              statuses ->
+                  statuses.stream().filter(s -> CONTAINER_NAME.equals(s.getName())).findFirst())
+          .orElse(null);
+    }
+
+    private boolean isRunning(V1ContainerStatus containerStatus) {
+      return Optional.ofNullable(containerStatus.getState())
+          .map(V1ContainerState::getRunning)
+          .isPresent();
+    }
+
+    // A published state is trusted for two readiness probe periods from when the pod published it,
+    // after which a newer probe event would have been expected if the state had changed.
+    private boolean isFresh(LastKnownStatus publishedStatus) {
+      return publishedStatus.getTime() != null
+          && DateTime.now()
+              .isBefore(publishedStatus.getTime().plusSeconds(2 * getReadinessProbePeriod()));
+    }
+
+    private int getReadinessProbePeriod() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.getPodTuning().readinessProbePeriodSeconds)
+          .orElse(DEFAULT_READINESS_PROBE_PERIOD);
+    }
+
     private String chooseStateOrLastKnownServerStatus(
         LastKnownStatus lastKnownStatus, String state) {
       if (state != null) {
@@ -3,14 +3,18 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.concurrent.ThreadFactory;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServiceList;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.InformerCache;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 /**
@@ -31,7 +35,7 @@ public class ServiceWatcher extends Watcher<V1Service> {
   }
 
   public static ServiceWatcher create(
-      ThreadFactory factory,
+      WatchRuntime runtime,
       String ns,
       String initialResourceVersion,
       WatchTuning tuning,
@@ -39,14 +43,84 @@ public class ServiceWatcher extends Watcher<V1Service> {
       AtomicBoolean isStopping) {
     ServiceWatcher watcher =
         new ServiceWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
-    watcher.start(factory);
+    watcher.start(runtime);
     return watcher;
   }
 
+  /**
+   * Creates a service watcher which receives its events from a watch of all namespaces.
+   *
+   * @param clusterWatcher the watcher of all namespaces
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param tuning watch tuning parameters
+   * @param listener callback
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static ServiceWatcher create(
+      ClusterWatcher<V1Service> clusterWatcher,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Service> listener,
+      AtomicBoolean isStopping) {
+    ServiceWatcher watcher =
+        new ServiceWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(clusterWatcher, ns);
+    return watcher;
+  }
+
+  /**
+   * Creates a watcher of services in all namespaces.
+   *
+   * @param runtime the runtime which runs the watch
+   * @param tuning watch tuning parameters
+   * @param isStopping stop signal
+   * @return watcher
+   */
+  public static ClusterWatcher<V1Service> createClusterWatcher(
+      WatchRuntime runtime, WatchTuning tuning, AtomicBoolean isStopping) {
+    return new ClusterWatcher<>(
+        runtime,
+        tuning,
+        isStopping,
+        watchBuilder ->
+            watchBuilder
+                .withLabelSelectors(
+                    LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+                .createServiceWatchForAllNamespaces(),
+        V1Service::getMetadata);
+  }
+
   @Override
   public WatchI<V1Service> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
         .createServiceWatch(ns);
   }
+
+  @Override
+  V1ObjectMeta getMetadata(V1Service object) {
+    return object.getMetadata();
+  }
+
+  @Override
+  Optional<ObjectLister<V1Service>> getObjectLister() {
+    return Optional.of(this::listServices);
+  }
+
+  private ObjectList<V1Service> listServices() throws ApiException {
+    V1ServiceList list =
+        new CallBuilder()
+            .withLabelSelectors(
+                LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+            .listService(ns);
+    return new ObjectList<>(list.getItems(), list.getMetadata().getResourceVersion());
+  }
+
+  @Override
+  V1Service getLastKnownObject(String namespace, String name) {
+    return InformerCache.getService(namespace, name);
+  }
 }
@@ -0,0 +1,319 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.utils.TokenBucket;
+
+/**
+ * Schedules the periodic reading of server status for each domain. A domain is polled at the
+ * minimum interval at first; each poll which finds the same status as the one before doubles the
+ * interval, up to the maximum. Any pod, service or domain event for the domain, and any poll which
+ * finds a change or fails, returns it to the minimum interval.
+ *
+ * <p>Each poll reads the status of every server in its domain. An optional budget limits those
+ * reads per second across all domains; a poll which would exceed it reserves its reads from the
+ * budget and waits until they have accrued. Polls which fall due later wait behind that
+ * reservation, so that a domain with many servers is not starved by smaller ones.
+ */
+public class StatusPollScheduler {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final DomainEventCoalescer.Scheduler scheduler;
+  private final LongSupplier minIntervalMillis;
+  private final LongSupplier maxIntervalMillis;
+  private final IntSupplier maxReadsPerSecond;
+  private final Map<String, DomainPoller> domainPollers = new ConcurrentHashMap<>();
+  private final AtomicLong pollsRun = new AtomicLong();
+  private final AtomicLong pollsDeferred = new AtomicLong();
+  private int budgetRate;
+  private TokenBucket readBudget;
+
+  /**
+   * Creates a poll scheduler.
+   *
+   * @param scheduler the scheduler which runs polls when they are due
+   * @param minIntervalMillis a supplier of the shortest interval between polls of a domain
+   * @param maxIntervalMillis a supplier of the longest interval between polls of a domain
+   * @param maxReadsPerSecond a supplier of the budget of server status reads per second; zero if
+   *     reads are not limited
+   */
+  StatusPollScheduler(
+      DomainEventCoalescer.Scheduler scheduler,
+      LongSupplier minIntervalMillis,
+      LongSupplier maxIntervalMillis,
+      IntSupplier maxReadsPerSecond) {
+    this.scheduler = scheduler;
+    this.minIntervalMillis = minIntervalMillis;
+    this.maxIntervalMillis = maxIntervalMillis;
+    this.maxReadsPerSecond = maxReadsPerSecond;
+  }
+
+  private static String getKey(String ns, String domainUid) {
+    return ns + "/" + domainUid;
+  }
+
+  /**
+   * Starts polling the status of a domain, replacing any earlier polling of the same domain.
+   *
+   * @param info the domain presence
+   * @param poller the function which reads the status of the domain
+   */
+  void start(DomainPresenceInfo info, Poller poller) {
+    DomainPoller domainPoller = new DomainPoller(info, poller);
+    DomainPoller existing =
+        domainPollers.put(getKey(info.getNamespace(), info.getDomainUid()), domainPoller);
+    if (existing != null) {
+      existing.stop();
+    }
+    domainPoller.start();
+  }
+
+  /**
+   * Stops polling the status of a domain.
+   *
+   * @param ns the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  void stop(String ns, String domainUid) {
+    DomainPoller existing = domainPollers.remove(getKey(ns, domainUid));
+    if (existing != null) {
+      existing.stop();
+    }
+  }
+
+  /**
+   * Records activity which may change the status of a domain, returning its polling to the
+   * minimum interval.
+   *
+   * @param ns the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  void onActivity(String ns, String domainUid) {
+    DomainPoller domainPoller = domainPollers.get(getKey(ns, domainUid));
+    if (domainPoller != null) {
+      domainPoller.snapBack();
+    }
+  }
+
+  /**
+   * Returns the number of domain status polls started.
+   *
+   * @return a poll count
+   */
+  public long getPollsRun() {
+    return pollsRun.get();
+  }
+
+  /**
+   * Returns the number of times a due poll was put off to stay within the read budget.
+   *
+   * @return a deferral count
+   */
+  public long getPollsDeferred() {
+    return pollsDeferred.get();
+  }
+
+  /**
+   * Returns the number of domains whose status is being polled.
+   *
+   * @return a domain count
+   */
+  public int getDomainCount() {
+    return domainPollers.size();
+  }
+
+  // The budget is rebuilt whenever the tuning parameters change its rate
+  private synchronized TokenBucket getReadBudget() {
+    int rate = maxReadsPerSecond.getAsInt();
+    if (rate != budgetRate) {
+      budgetRate = rate;
+      readBudget = rate > 0 ? new TokenBucket(rate) : null;
+    }
+    return readBudget;
+  }
+
+  long getIntervalMillis(String ns, String domainUid) {
+    DomainPoller domainPoller = domainPollers.get(getKey(ns, domainUid));
+    return domainPoller != null ? domainPoller.getIntervalMillis() : 0;
+  }
+
+  @FunctionalInterface
+  interface Poller {
+    /**
+     * Starts reading the status of a domain.
+     *
+     * @param listener the listener to notify when the read completes
+     * @return true if a read was started, false if one was already in progress
+     */
+    boolean poll(PollListener listener);
+  }
+
+  interface PollListener {
+    /**
+     * Reports a completed read.
+     *
+     * @param status a value which is equal to that of an earlier read if the status is unchanged
+     */
+    void pollCompleted(Object status);
+
+    /** Reports a failed read. */
+    void pollFailed();
+  }
+
+  private class DomainPoller implements PollListener {
+    private final DomainPresenceInfo info;
+    private final Poller poller;
+    private long intervalMillis;
+    private Object lastStatus;
+    private boolean stopped;
+    private boolean polling;
+    private boolean activitySincePoll;
+    private boolean budgetReserved;
+    private Runnable pendingTimer;
+    private ScheduledFuture<?> future;
+
+    DomainPoller(DomainPresenceInfo info, Poller poller) {
+      this.info = info;
+      this.poller = poller;
+      this.intervalMillis = minIntervalMillis.getAsLong();
+    }
+
+    synchronized void start() {
+      scheduleNext(intervalMillis);
+    }
+
+    synchronized void stop() {
+      stopped = true;
+      cancelTimer();
+    }
+
+    synchronized long getIntervalMillis() {
+      return intervalMillis;
+    }
+
+    // Schedules a timer which is ignored if it has since been replaced or cancelled
+    private void scheduleNext(long delayMillis) {
+      if (stopped) {
+        return;
+      }
+
+      Runnable timer = new Runnable() {
+        @Override
+        public void run() {
+          onTimer(this);
+        }
+      };
+      pendingTimer = timer;
+      future = scheduler.schedule(timer, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelTimer() {
+      pendingTimer = null;
+      if (future != null) {
+        future.cancel(false);
+        future = null;
+      }
+    }
+
+    synchronized void snapBack() {
+      long minInterval = minIntervalMillis.getAsLong();
+      activitySincePoll = true;
+      if (intervalMillis > minInterval) {
+        intervalMillis = minInterval;
+        if (!polling && !budgetReserved) {
+          cancelTimer();
+          scheduleNext(intervalMillis);
+        }
+      }
+    }
+
+    private void onTimer(Runnable timer) {
+      try {
+        if (startPollIfDue(timer)) {
+          pollsRun.incrementAndGet();
+          if (!poller.poll(this)) {
+            skipPoll();
+          }
+        }
+      } catch (Throwable t) {
+        LOGGER.severe(MessageKeys.EXCEPTION, t);
+        pollFailed();
+      }
+    }
+
+    private synchronized boolean startPollIfDue(Runnable timer) {
+      if (stopped || timer != pendingTimer) {
+        return false;
+      }
+
+      pendingTimer = null;
+      future = null;
+      if (!budgetReserved && !acquireReadBudget()) {
+        return false;
+      }
+
+      budgetReserved = false;
+      polling = true;
+      activitySincePoll = false;
+      return true;
+    }
+
+    // Takes the reads for a poll from the budget. If they are not available, reserves them and
+    // schedules the poll for when they will have accrued.
+    private boolean acquireReadBudget() {
+      long cost = Math.max(1, info.getServerPods().count());
+      TokenBucket readBudget = getReadBudget();
+      if (readBudget == null || readBudget.tryAcquire(cost)) {
+        return true;
+      }
+
+      pollsDeferred.incrementAndGet();
+      budgetReserved = true;
+      scheduleNext(readBudget.reserve(cost, TimeUnit.MILLISECONDS));
+      return false;
+    }
+
+    @Override
+    public synchronized void pollCompleted(Object status) {
+      boolean changed = !Objects.equals(status, lastStatus);
+      lastStatus = status;
+      finishPoll(changed);
+    }
+
+    @Override
+    public synchronized void pollFailed() {
+      lastStatus = null;
+      finishPoll(true);
+    }
+
+    // An earlier read is still in progress; try again after the current interval
+    private synchronized void skipPoll() {
+      polling = false;
+      scheduleNext(intervalMillis);
+    }
+
+    private void finishPoll(boolean changed) {
+      polling = false;
+      if (changed || activitySincePoll) {
+        intervalMillis = minIntervalMillis.getAsLong();
+      } else {
+        intervalMillis = Math.min(2 * intervalMillis, maxIntervalMillis.getAsLong());
+      }
+      scheduleNext(intervalMillis);
+    }
+  }
+}
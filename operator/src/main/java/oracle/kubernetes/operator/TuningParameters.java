@@ -39,6 +39,12 @@ public interface TuningParameters extends Map<String, String> {
     public final int unchangedCountToDelayStatusRecheck;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final int restAccessDecisionCacheSeconds;
+    public final int restAccessDecisionCacheSize;
+    public final long eventCoalescingMillis;
+    public final int statusUpdateMaxReadsPerSecond;
+    public final int statusReadMaxParallelism;
+    public final int fanOutMaxParallelism;
 
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
@@ -48,7 +54,13 @@ public interface TuningParameters extends Map<String, String> {
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        int restAccessDecisionCacheSeconds,
+        int restAccessDecisionCacheSize,
+        long eventCoalescingMillis,
+        int statusUpdateMaxReadsPerSecond,
+        int statusReadMaxParallelism,
+        int fanOutMaxParallelism) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
@@ -57,6 +69,12 @@ public interface TuningParameters extends Map<String, String> {
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.restAccessDecisionCacheSeconds = restAccessDecisionCacheSeconds;
+      this.restAccessDecisionCacheSize = restAccessDecisionCacheSize;
+      this.eventCoalescingMillis = eventCoalescingMillis;
+      this.statusUpdateMaxReadsPerSecond = statusUpdateMaxReadsPerSecond;
+      this.statusReadMaxParallelism = statusReadMaxParallelism;
+      this.fanOutMaxParallelism = fanOutMaxParallelism;
     }
 
     @Override
@@ -70,6 +88,12 @@ public interface TuningParameters extends Map<String, String> {
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("restAccessDecisionCacheSeconds", restAccessDecisionCacheSeconds)
+          .append("restAccessDecisionCacheSize", restAccessDecisionCacheSize)
+          .append("eventCoalescingMillis", eventCoalescingMillis)
+          .append("statusUpdateMaxReadsPerSecond", statusUpdateMaxReadsPerSecond)
+          .append("statusReadMaxParallelism", statusReadMaxParallelism)
+          .append("fanOutMaxParallelism", fanOutMaxParallelism)
           .toString();
     }
 
@@ -84,6 +108,12 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(restAccessDecisionCacheSeconds)
+          .append(restAccessDecisionCacheSize)
+          .append(eventCoalescingMillis)
+          .append(statusUpdateMaxReadsPerSecond)
+          .append(statusReadMaxParallelism)
+          .append(fanOutMaxParallelism)
           .toHashCode();
     }
 
@@ -105,6 +135,12 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(restAccessDecisionCacheSeconds, mt.restAccessDecisionCacheSeconds)
+          .append(restAccessDecisionCacheSize, mt.restAccessDecisionCacheSize)
+          .append(eventCoalescingMillis, mt.eventCoalescingMillis)
+          .append(statusUpdateMaxReadsPerSecond, mt.statusUpdateMaxReadsPerSecond)
+          .append(statusReadMaxParallelism, mt.statusReadMaxParallelism)
+          .append(fanOutMaxParallelism, mt.fanOutMaxParallelism)
           .isEquals();
     }
   }
@@ -113,11 +149,38 @@ public interface TuningParameters extends Map<String, String> {
     public final int callRequestLimit;
     public final int callMaxRetryCount;
     public final int callTimeoutSeconds;
+    public final int callRateLimit;
+    public final int callRateBurst;
+    public final int callMaxInFlight;
+    public final String callRateBudgets;
 
-    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds) {
+    /**
+     * Creates call tuning, including the limits applied to calls across the operator.
+     *
+     * @param callRequestLimit the maximum number of items to return from a list call
+     * @param callMaxRetryCount the maximum number of times to retry a failed call
+     * @param callTimeoutSeconds the timeout for each call
+     * @param callRateLimit the maximum calls per second; zero for no limit
+     * @param callRateBurst the number of calls which may be made at once within the rate limit
+     * @param callMaxInFlight the maximum number of calls in progress at once; zero for no limit
+     * @param callRateBudgets comma-separated limits in calls per second for particular verbs,
+     *     resources or calls, such as "list=20,Pod=30,patchDomainStatus=5"
+     */
+    public CallBuilderTuning(
+        int callRequestLimit,
+        int callMaxRetryCount,
+        int callTimeoutSeconds,
+        int callRateLimit,
+        int callRateBurst,
+        int callMaxInFlight,
+        String callRateBudgets) {
       this.callRequestLimit = callRequestLimit;
       this.callMaxRetryCount = callMaxRetryCount;
       this.callTimeoutSeconds = callTimeoutSeconds;
+      this.callRateLimit = callRateLimit;
+      this.callRateBurst = callRateBurst;
+      this.callMaxInFlight = callMaxInFlight;
+      this.callRateBudgets = callRateBudgets;
     }
 
     @Override
@@ -126,6 +189,10 @@ public interface TuningParameters extends Map<String, String> {
           .append("callRequestLimit", callRequestLimit)
           .append("callMaxRetryCount", callMaxRetryCount)
           .append("callTimeoutSeconds", callTimeoutSeconds)
+          .append("callRateLimit", callRateLimit)
+          .append("callRateBurst", callRateBurst)
+          .append("callMaxInFlight", callMaxInFlight)
+          .append("callRateBudgets", callRateBudgets)
           .toString();
     }
 
@@ -135,6 +202,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit)
           .append(callMaxRetryCount)
           .append(callTimeoutSeconds)
+          .append(callRateLimit)
+          .append(callRateBurst)
+          .append(callMaxInFlight)
+          .append(callRateBudgets)
           .toHashCode();
     }
 
@@ -151,6 +222,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit, cbt.callRequestLimit)
           .append(callMaxRetryCount, cbt.callMaxRetryCount)
           .append(callTimeoutSeconds, cbt.callTimeoutSeconds)
+          .append(callRateLimit, cbt.callRateLimit)
+          .append(callRateBurst, cbt.callRateBurst)
+          .append(callMaxInFlight, cbt.callMaxInFlight)
+          .append(callRateBudgets, cbt.callRateBudgets)
           .isEquals();
     }
   }
@@ -158,10 +233,37 @@ public interface TuningParameters extends Map<String, String> {
   public static class WatchTuning {
     public final int watchLifetime;
     public final int watchMinimumDelay;
+    public final int watchMaxThreads;
+    public final int watchContendedLifetime;
+    public final boolean watchVirtualThreads;
+    public final boolean watchClusterScoped;
 
     public WatchTuning(int watchLifetime, int watchMinimumDelay) {
+      this(watchLifetime, watchMinimumDelay, 0, watchLifetime, false, false);
+    }
+
+    /**
+     * Create watch tuning.
+     * @param watchLifetime maximum duration of a watch, in seconds
+     * @param watchMinimumDelay minimum time between the starts of successive watches, in seconds
+     * @param watchMaxThreads maximum number of platform threads running watches, or 0 for no limit
+     * @param watchContendedLifetime maximum watch duration when watches wait for threads
+     * @param watchVirtualThreads true to run watches on virtual threads, where available
+     * @param watchClusterScoped true to watch each resource type in all namespaces at once
+     */
+    public WatchTuning(
+        int watchLifetime,
+        int watchMinimumDelay,
+        int watchMaxThreads,
+        int watchContendedLifetime,
+        boolean watchVirtualThreads,
+        boolean watchClusterScoped) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
+      this.watchMaxThreads = watchMaxThreads;
+      this.watchContendedLifetime = watchContendedLifetime;
+      this.watchVirtualThreads = watchVirtualThreads;
+      this.watchClusterScoped = watchClusterScoped;
     }
 
     @Override
@@ -169,12 +271,23 @@ public interface TuningParameters extends Map<String, String> {
       return new ToStringBuilder(this)
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
+          .append("watchMaxThreads", watchMaxThreads)
+          .append("watchContendedLifetime", watchContendedLifetime)
+          .append("watchVirtualThreads", watchVirtualThreads)
+          .append("watchClusterScoped", watchClusterScoped)
           .toString();
     }
 
     @Override
     public int hashCode() {
-      return new HashCodeBuilder().append(watchLifetime).append(watchMinimumDelay).toHashCode();
+      return new HashCodeBuilder()
+          .append(watchLifetime)
+          .append(watchMinimumDelay)
+          .append(watchMaxThreads)
+          .append(watchContendedLifetime)
+          .append(watchVirtualThreads)
+          .append(watchClusterScoped)
+          .toHashCode();
     }
 
     @Override
@@ -189,6 +302,10 @@ public interface TuningParameters extends Map<String, String> {
       return new EqualsBuilder()
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
+          .append(watchMaxThreads, wt.watchMaxThreads)
+          .append(watchContendedLifetime, wt.watchContendedLifetime)
+          .append(watchVirtualThreads, wt.watchVirtualThreads)
+          .append(watchClusterScoped, wt.watchClusterScoped)
           .isEquals();
     }
   }
@@ -55,18 +55,32 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
             readTuningParameter("statusUpdateInitialShortDelay", 3),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            (int) readTuningParameter("restAccessDecisionCacheSeconds", 30),
+            (int) readTuningParameter("restAccessDecisionCacheSize", 1000),
+            readTuningParameter("eventCoalescingMillis", 500),
+            (int) readTuningParameter("statusUpdateMaxReadsPerSecond", 100),
+            (int) readTuningParameter("statusReadMaxParallelism", 10),
+            (int) readTuningParameter("fanOutMaxParallelism", 20));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
             (int) readTuningParameter("callRequestLimit", 500),
             (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
+            (int) readTuningParameter("callTimeoutSeconds", 10),
+            (int) readTuningParameter("callRateLimit", 100),
+            (int) readTuningParameter("callRateBurst", 200),
+            (int) readTuningParameter("callMaxInFlight", 50),
+            readStringTuningParameter("callRateBudgets", ""));
 
     WatchTuning watch =
         new WatchTuning(
             (int) readTuningParameter("watchLifetime", 300),
-            (int) readTuningParameter("watchMinimumDelay", 5));
+            (int) readTuningParameter("watchMinimumDelay", 5),
+            (int) readTuningParameter("watchMaxThreads", 0),
+            (int) readTuningParameter("watchContendedLifetime", 30),
+            readBooleanTuningParameter("watchVirtualThreads", true),
+            readBooleanTuningParameter("watchClusterScoped", false));
 
     PodTuning pod =
         new PodTuning(
@@ -0,0 +1,212 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Runs the watches of many watchers on a shared set of threads, rather than dedicating a thread to
+ * each watcher. Each watcher is a stream which repeatedly opens a watch from the last resource
+ * version it has seen. A stream which is ready to watch waits in a first-in, first-out queue, and
+ * returns to the back of that queue after each watch, so that every stream gets its turn.
+ *
+ * <p>Threads are created as streams need them, up to the configured maximum, and end when no
+ * stream is waiting. When virtual threads are used, there is no maximum. When there are more
+ * streams than threads, each watch is limited to the contended lifetime, so that waiting streams
+ * are not held back for long; events which occur while a stream waits are delivered when it
+ * resumes.
+ *
+ * <p>A watch which fails with an unexpected exception does not end its stream or its thread; the
+ * failure is logged and the stream is retried after a delay.
+ */
+public class WatchRuntime {
+  static final int UNLIMITED = 0;
+  static final long FAILED_WATCH_DELAY_MILLIS = 1000;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final ThreadFactory threadFactory;
+  private final ScheduledExecutorService scheduler;
+  private final int maxThreads;
+  private final int contendedLifetime;
+  private final boolean virtualThreads;
+  private final Deque<Watcher<?>> readyStreams = new ArrayDeque<>();
+  private final AtomicInteger threadCount = new AtomicInteger();
+  private final AtomicInteger streamCount = new AtomicInteger();
+  private final AtomicInteger activeStreamCount = new AtomicInteger();
+
+  /**
+   * Creates a watch runtime.
+   *
+   * @param threadFactory the factory for the threads which run watches
+   * @param scheduler an executor used to delay streams whose watches end too quickly
+   * @param maxThreads the maximum number of threads, or zero for no maximum
+   * @param contendedLifetime the maximum watch lifetime in seconds when streams outnumber threads
+   * @param virtualThreads true if the thread factory creates virtual threads
+   */
+  WatchRuntime(
+      ThreadFactory threadFactory,
+      ScheduledExecutorService scheduler,
+      int maxThreads,
+      int contendedLifetime,
+      boolean virtualThreads) {
+    this.threadFactory = threadFactory;
+    this.scheduler = scheduler;
+    this.maxThreads = virtualThreads ? UNLIMITED : maxThreads;
+    this.contendedLifetime = contendedLifetime;
+    this.virtualThreads = virtualThreads;
+  }
+
+  /**
+   * Creates a watch runtime which gives each watcher its own thread, running until the watcher
+   * stops.
+   *
+   * @param threadFactory the factory for the watcher threads
+   * @return a watch runtime
+   */
+  public static WatchRuntime withDedicatedThreads(ThreadFactory threadFactory) {
+    return new DedicatedWatchRuntime(threadFactory);
+  }
+
+  void addStream(Watcher<?> watcher) {
+    streamCount.incrementAndGet();
+    makeReady(watcher);
+  }
+
+  private void makeReady(Watcher<?> watcher) {
+    synchronized (readyStreams) {
+      readyStreams.addLast(watcher);
+      if (!isAtThreadLimit()) {
+        threadCount.incrementAndGet();
+        threadFactory.newThread(this::runStreams).start();
+      }
+    }
+  }
+
+  private boolean isAtThreadLimit() {
+    return maxThreads != UNLIMITED && threadCount.get() >= maxThreads;
+  }
+
+  private void runStreams() {
+    Watcher<?> watcher = nextReadyStream();
+    while (watcher != null) {
+      watcher = runWatch(watcher);
+    }
+  }
+
+  // Returns the next stream to run, or null after releasing this thread if there is none
+  private Watcher<?> nextReadyStream() {
+    synchronized (readyStreams) {
+      Watcher<?> watcher = readyStreams.pollFirst();
+      if (watcher == null) {
+        threadCount.decrementAndGet();
+      }
+      return watcher;
+    }
+  }
+
+  // Runs a single watch for the specified stream, and returns the next stream to run on this thread
+  private Watcher<?> runWatch(Watcher<?> watcher) {
+    boolean keepWatching = true;
+    long delay = 0;
+    activeStreamCount.incrementAndGet();
+    try {
+      keepWatching = watcher.watchOnce(getLifetime(watcher));
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+      delay = FAILED_WATCH_DELAY_MILLIS;
+    } finally {
+      activeStreamCount.decrementAndGet();
+    }
+
+    delay = Math.max(delay, watcher.getRemainingDelay());
+    if (!keepWatching) {
+      streamCount.decrementAndGet();
+    } else if (delay > 0) {
+      scheduler.schedule(() -> makeReady(watcher), delay, TimeUnit.MILLISECONDS);
+    } else {
+      synchronized (readyStreams) {
+        readyStreams.addLast(watcher);
+      }
+    }
+    return nextReadyStream();
+  }
+
+  private int getLifetime(Watcher<?> watcher) {
+    if (maxThreads != UNLIMITED && streamCount.get() > maxThreads) {
+      return Math.min(watcher.getWatchLifetime(), contendedLifetime);
+    }
+    return watcher.getWatchLifetime();
+  }
+
+  /**
+   * Returns the number of threads currently running watches.
+   *
+   * @return a thread count
+   */
+  public int getThreadCount() {
+    return threadCount.get();
+  }
+
+  /**
+   * Returns the number of watch streams which have not yet stopped.
+   *
+   * @return a stream count
+   */
+  public int getStreamCount() {
+    return streamCount.get();
+  }
+
+  /**
+   * Returns the number of watch streams with a watch currently open.
+   *
+   * @return a stream count
+   */
+  public int getActiveStreamCount() {
+    return activeStreamCount.get();
+  }
+
+  /**
+   * Returns the number of watch streams waiting for a thread.
+   *
+   * @return a stream count
+   */
+  public int getWaitingStreamCount() {
+    synchronized (readyStreams) {
+      return readyStreams.size();
+    }
+  }
+
+  /**
+   * Returns true if watches run on virtual threads.
+   *
+   * @return true for virtual threads, false for platform threads
+   */
+  public boolean isUsingVirtualThreads() {
+    return virtualThreads;
+  }
+
+  private static class DedicatedWatchRuntime extends WatchRuntime {
+    private final ThreadFactory threadFactory;
+
+    DedicatedWatchRuntime(ThreadFactory threadFactory) {
+      super(threadFactory, null, UNLIMITED, 0, false);
+      this.threadFactory = threadFactory;
+    }
+
+    @Override
+    void addStream(Watcher<?> watcher) {
+      watcher.start(threadFactory);
+    }
+  }
+}
@@ -3,7 +3,14 @@
 
 package oracle.kubernetes.operator;
 
-import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -24,7 +31,8 @@ import static java.net.HttpURLConnection.HTTP_GONE;
 
 /**
  * This class handles the Watching interface and drives the watch support for a specific type of
- * object. It runs in a separate thread to drive watching asynchronously to the main thread.
+ * object. It runs either in a separate thread, or as a stream of a {@link WatchRuntime} which
+ * shares threads among many watchers, to drive watching asynchronously to the main thread.
  *
  * @param <T> The type of the object to be watched.
  */
@@ -34,12 +42,15 @@ abstract class Watcher<T> {
   private static final long IGNORED_RESOURCE_VERSION = 0;
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
+  // Map from namespace and name to resource version of the objects last seen, kept for relisting
+  private final Map<String, String> knownObjects = new ConcurrentHashMap<>();
   private final WatchTuning tuning;
   private Long resourceVersion;
   private AtomicBoolean stopping;
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
+  private Long expiredResourceVersion;
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -50,8 +61,7 @@ abstract class Watcher<T> {
    * @param stopping an atomic boolean to watch to determine when to stop the watcher
    */
   Watcher(String resourceVersion, WatchTuning tuning, AtomicBoolean stopping) {
-    this.resourceVersion =
-        !isNullOrEmpty(resourceVersion) ? Long.parseLong(resourceVersion) : 0;
+    setResourceVersion(resourceVersion);
     this.tuning = tuning;
     this.stopping = stopping;
   }
@@ -99,6 +109,41 @@ abstract class Watcher<T> {
     thread.start();
   }
 
+  /**
+   * Kick off the watcher processing on the threads of the specified watch runtime.
+   *
+   * @param runtime the runtime which will run this watcher's watches
+   */
+  void start(WatchRuntime runtime) {
+    runtime.addStream(this);
+  }
+
+  /**
+   * Receive this watcher's events from a watch of all namespaces, rather than by running watches of
+   * its own. If the watch of all namespaces may have missed events since this watcher's resource
+   * version, run watches of its own instead, on the same runtime.
+   *
+   * @param clusterWatcher the watcher of all namespaces
+   * @param namespace the namespace whose events this watcher receives
+   */
+  void start(ClusterWatcher<T> clusterWatcher, String namespace) {
+    if (!clusterWatcher.addNamespace(
+        namespace, resourceVersion.toString(), this::receiveFromCluster)) {
+      start(clusterWatcher.getRuntime());
+    }
+  }
+
+  private void receiveFromCluster(Watch.Response<T> item) {
+    if (!isStopping()) {
+      handleRegularUpdate(item);
+    }
+  }
+
+  void setResourceVersion(String resourceVersion) {
+    this.resourceVersion =
+        !isNullOrEmpty(resourceVersion) ? Long.parseLong(resourceVersion) : 0;
+  }
+
   private void doWatch() {
     setIsDraining(false);
 
@@ -106,11 +151,42 @@ abstract class Watcher<T> {
       if (isStopping()) {
         setIsDraining(true);
       } else {
-        watchForEvents();
+        waitForMinimumDelay();
+        watchForEvents(tuning.watchLifetime);
       }
     }
   }
 
+  /**
+   * Runs a single watch, resuming from the last resource version seen, until the server ends it.
+   *
+   * @param lifetimeSeconds the maximum duration of the watch
+   * @return true if this watcher should continue to watch
+   */
+  boolean watchOnce(int lifetimeSeconds) {
+    if (!isStopping()) {
+      watchForEvents(lifetimeSeconds);
+    }
+    return !isStopping();
+  }
+
+  /**
+   * Returns the time remaining before this watcher may start its next watch, so that watches which
+   * fail quickly are not retried in a tight loop.
+   *
+   * @return a delay in milliseconds, not positive if no wait is needed
+   */
+  long getRemainingDelay() {
+    if (lastInitialize == 0) {
+      return 0;
+    }
+    return (tuning.watchMinimumDelay * 1000) - (System.currentTimeMillis() - lastInitialize);
+  }
+
+  int getWatchLifetime() {
+    return tuning.watchLifetime;
+  }
+
   // Are we draining?
   private boolean isDraining() {
     return isDraining.get();
@@ -125,25 +201,26 @@ abstract class Watcher<T> {
     return stopping.get();
   }
 
-  private void watchForEvents() {
-    long now = System.currentTimeMillis();
-    long delay = (tuning.watchMinimumDelay * 1000) - (now - lastInitialize);
-    if (lastInitialize != 0 && delay > 0) {
+  private void waitForMinimumDelay() {
+    long delay = getRemainingDelay();
+    if (delay > 0) {
       try {
         Thread.sleep(delay);
       } catch (InterruptedException ex) {
         LOGGER.warning(MessageKeys.EXCEPTION, ex);
         Thread.currentThread().interrupt();
       }
-      lastInitialize = System.currentTimeMillis();
-    } else {
-      lastInitialize = now;
     }
+  }
+
+  private void watchForEvents(int lifetimeSeconds) {
+    lastInitialize = System.currentTimeMillis();
     try (WatchI<T> watch =
         initiateWatch(
             new WatchBuilder()
                 .withResourceVersion(resourceVersion.toString())
-                .withTimeoutSeconds(tuning.watchLifetime))) {
+                .withTimeoutSeconds(lifetimeSeconds)
+                .withAllowWatchBookmarks(true))) {
       while (hasNext(watch)) {
         Watch.Response<T> item = watch.next();
 
@@ -156,6 +233,8 @@ abstract class Watcher<T> {
 
         if (isError(item)) {
           handleErrorResponse(item);
+        } else if (isBookmark(item)) {
+          trackResourceVersion(item.type, item.object);
         } else {
           handleRegularUpdate(item);
         }
@@ -163,6 +242,10 @@ abstract class Watcher<T> {
     } catch (Throwable ex) {
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
     }
+
+    if (expiredResourceVersion != null) {
+      relist();
+    }
   }
 
   private boolean hasNext(WatchI<T> watch) {
@@ -183,18 +266,90 @@ abstract class Watcher<T> {
    */
   public abstract WatchI<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException;
 
+  /**
+   * Returns the metadata of a watched object.
+   *
+   * @param object a watched object
+   * @return the object's metadata
+   */
+  abstract V1ObjectMeta getMetadata(T object);
+
+  /**
+   * Returns the means to list the objects which this watcher watches, if it has one, so that when
+   * its resource version expires, it can replay the changes it missed rather than skipping them.
+   *
+   * @return a lister, or an empty optional if this watcher cannot relist
+   */
+  Optional<ObjectLister<T>> getObjectLister() {
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the last known state of a watched object, used to replay its deletion when it is found
+   * to be missing after a relist.
+   *
+   * @param namespace the namespace of the object
+   * @param name the name of the object
+   * @return the object, or null if its deletion should not be replayed
+   */
+  T getLastKnownObject(String namespace, String name) {
+    return null;
+  }
+
+  private boolean isRelistSupported() {
+    return getObjectLister().isPresent();
+  }
+
+  /**
+   * Records objects which were listed before this watcher started, so that if they are deleted
+   * while the resource version is expired, the deletions can be replayed.
+   *
+   * @param objects the listed objects
+   */
+  void rememberObjects(Collection<T> objects) {
+    if (isRelistSupported() && objects != null) {
+      objects.forEach(o -> knownObjects.putIfAbsent(getKey(getMetadata(o)), getVersion(o)));
+    }
+  }
+
+  private String getKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + "/" + metadata.getName();
+  }
+
+  private String getVersion(T object) {
+    return getMetadata(object).getResourceVersion();
+  }
+
   private boolean isError(Watch.Response<T> item) {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  private boolean isBookmark(Watch.Response<T> item) {
+    return item.type.equalsIgnoreCase("BOOKMARK");
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.fine(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.type, item.object);
+    rememberObject(item.type, item.object);
     if (listener != null) {
       listener.receivedResponse(item);
     }
   }
 
+  private void rememberObject(String type, T object) {
+    V1ObjectMeta metadata = isRelistSupported() ? getMetadata(object) : null;
+    if (metadata == null) {
+      return;
+    }
+
+    if (type.equalsIgnoreCase("DELETED")) {
+      knownObjects.remove(getKey(metadata));
+    } else {
+      knownObjects.put(getKey(metadata), getVersion(object));
+    }
+  }
+
   private void handleErrorResponse(Watch.Response<T> item) {
     V1Status status = item.status;
     if (status == null) {
@@ -202,11 +357,62 @@ abstract class Watcher<T> {
       // with similar fields, such as V1ConfigMap. In this case, the actual status is
       // not available to our layer, so respond defensively by resetting resource version.
       resourceVersion = 0L;
+    } else if (status.getCode() == HTTP_GONE && isRelistSupported()) {
+      expiredResourceVersion = computeNextResourceVersionFromMessage(status);
     } else if (status.getCode() == HTTP_GONE) {
       resourceVersion = computeNextResourceVersionFromMessage(status);
     }
   }
 
+  // Lists the watched objects after the resource version has expired, and replays the differences
+  // from the objects last seen, so that no change is lost. If the list fails, falls back to the
+  // resource version suggested by the server.
+  private void relist() {
+    try {
+      ObjectList<T> list = getObjectLister().get().listObjects();
+      replayChanges(list.items);
+      setResourceVersion(list.resourceVersion);
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+      resourceVersion = expiredResourceVersion;
+    } finally {
+      expiredResourceVersion = null;
+    }
+  }
+
+  private void replayChanges(List<T> items) {
+    Map<String, String> unseenObjects = new HashMap<>(knownObjects);
+    for (T item : items) {
+      V1ObjectMeta metadata = getMetadata(item);
+      String knownVersion = unseenObjects.remove(getKey(metadata));
+      if (knownVersion == null) {
+        replay("ADDED", item);
+      } else if (!Objects.equals(metadata.getResourceVersion(), knownVersion)) {
+        replay("MODIFIED", item);
+      }
+    }
+    unseenObjects.keySet().forEach(this::replayDeletion);
+  }
+
+  private void replayDeletion(String key) {
+    String[] namespaceAndName = key.split("/", 2);
+    T object = getLastKnownObject(namespaceAndName[0], namespaceAndName[1]);
+    if (object != null) {
+      replay("DELETED", object);
+    } else {
+      knownObjects.remove(key);
+    }
+  }
+
+  private void replay(String type, T object) {
+    Watch.Response<T> item = new Watch.Response<>(type, object);
+    LOGGER.fine(MessageKeys.WATCH_EVENT, item.type, item.object);
+    rememberObject(type, object);
+    if (listener != null) {
+      listener.receivedResponse(item);
+    }
+  }
+
   private long computeNextResourceVersionFromMessage(V1Status status) {
     String message = status.getMessage();
     if (message != null) {
@@ -226,17 +432,16 @@ abstract class Watcher<T> {
 
   /**
    * Track resourceVersion and keep highest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * extracted from the metadata of the object.
    *
    * @param type the type of operation
    * @param object the object that is returned
    */
-  private void trackResourceVersion(String type, Object object) {
+  private void trackResourceVersion(String type, T object) {
     updateResourceVersion(getNewResourceVersion(type, object));
   }
 
-  private long getNewResourceVersion(String type, Object object) {
+  private long getNewResourceVersion(String type, T object) {
     long newResourceVersion = getResourceVersionFromMetadata(object);
     if (type.equalsIgnoreCase("DELETED")) {
       return 1 + newResourceVersion;
@@ -245,13 +450,12 @@ abstract class Watcher<T> {
     }
   }
 
-  private long getResourceVersionFromMetadata(Object object) {
+  private long getResourceVersionFromMetadata(T object) {
+    V1ObjectMeta metadata = object != null ? getMetadata(object) : null;
+    String val = metadata != null ? metadata.getResourceVersion() : null;
     try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      V1ObjectMeta metadata = (V1ObjectMeta) getMetadata.invoke(object);
-      String val = metadata.getResourceVersion();
-      return !isNullOrEmpty(val) ? Long.parseLong(val) : 0;
-    } catch (Exception e) {
+      return !isNullOrEmpty(val) ? Long.parseLong(val) : IGNORED_RESOURCE_VERSION;
+    } catch (NumberFormatException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
       return IGNORED_RESOURCE_VERSION;
     }
@@ -264,4 +468,29 @@ abstract class Watcher<T> {
       resourceVersion = newResourceVersion;
     }
   }
+
+  /**
+   * The result of listing the objects which a watcher watches.
+   *
+   * @param <T> The type of the listed objects.
+   */
+  static class ObjectList<T> {
+    private final List<T> items;
+    private final String resourceVersion;
+
+    ObjectList(List<T> items, String resourceVersion) {
+      this.items = items != null ? items : Collections.emptyList();
+      this.resourceVersion = resourceVersion;
+    }
+  }
+
+  /**
+   * A function which lists the objects which a watcher watches.
+   *
+   * @param <T> The type of the listed objects.
+   */
+  @FunctionalInterface
+  interface ObjectLister<T> {
+    ObjectList<T> listObjects() throws ApiException;
+  }
 }
@@ -55,6 +55,15 @@ public interface CallParams {
    */
   String getResourceVersion();
 
+  /**
+   * On a watch call: when true, requests that the server periodically send bookmark events, which
+   * carry only the latest resource version, so that a watcher of rarely changing resources can
+   * resume from a recent version. Servers which do not support bookmarks ignore the request.
+   *
+   * @return the current setting. Defaults to null.
+   */
+  Boolean getAllowWatchBookmarks();
+
   /**
    * Returns a listener for responses received, to specify on calls.
    *
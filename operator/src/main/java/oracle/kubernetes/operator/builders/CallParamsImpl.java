@@ -17,6 +17,7 @@ class CallParamsImpl implements CallParams {
   private String labelSelector;
   private String pretty;
   private String resourceVersion;
+  private Boolean allowWatchBookmarks;
   private ProgressResponseBody.ProgressListener progressListener;
   private ProgressRequestBody.ProgressRequestListener progressRequestListener;
 
@@ -74,6 +75,15 @@ class CallParamsImpl implements CallParams {
     this.resourceVersion = resourceVersion;
   }
 
+  @Override
+  public Boolean getAllowWatchBookmarks() {
+    return allowWatchBookmarks;
+  }
+
+  void setAllowWatchBookmarks(Boolean allowWatchBookmarks) {
+    this.allowWatchBookmarks = allowWatchBookmarks;
+  }
+
   @Override
   public ProgressResponseBody.ProgressListener getProgressListener() {
     return progressListener;
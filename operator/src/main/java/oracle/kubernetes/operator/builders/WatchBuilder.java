@@ -3,12 +3,17 @@
 
 package oracle.kubernetes.operator.builders;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 import com.squareup.okhttp.Call;
+import com.squareup.okhttp.HttpUrl;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
 import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.apis.BatchV1Api;
@@ -17,6 +22,7 @@ import io.kubernetes.client.models.V1ConfigMap;
 import io.kubernetes.client.models.V1Event;
 import io.kubernetes.client.models.V1Job;
 import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Secret;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.ClientPool;
@@ -33,6 +39,8 @@ public class WatchBuilder {
 
   private static final int ADDITIONAL_TIMEOUT_FOR_SOCKET = 60;
 
+  private static final String ALLOW_WATCH_BOOKMARKS = "allowWatchBookmarks";
+
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
   private CallParamsImpl callParams = new CallParamsImpl();
@@ -137,6 +145,65 @@ public class WatchBuilder {
         new ListNamespacedConfigMapCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track changes to secrets in one namespace.
+   *
+   * @param namespace the namespace in which to track secrets
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Secret> createSecretWatch(String namespace) throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(),
+        callParams,
+        V1Secret.class,
+        new ListNamespacedSecretCall(namespace));
+  }
+
+  /**
+   * Creates a web hook object to track changes to services in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Service> createServiceWatchForAllNamespaces() throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(), callParams, V1Service.class, new ListAllServicesCall());
+  }
+
+  /**
+   * Creates a web hook object to track changes to pods in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Pod> createPodWatchForAllNamespaces() throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(), callParams, V1Pod.class, new ListAllPodsCall());
+  }
+
+  /**
+   * Creates a web hook object to track events in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Event> createEventWatchForAllNamespaces() throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(), callParams, V1Event.class, new ListAllEventsCall());
+  }
+
+  /**
+   * Creates a web hook object to track changes to weblogic domains in all namespaces.
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<Domain> createDomainWatchForAllNamespaces() throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(), callParams, Domain.class, new ListAllDomainsCall());
+  }
+
   private Integer getSocketTimeout(CallParams callParams) {
     return callParams.getTimeoutSeconds() + ADDITIONAL_TIMEOUT_FOR_SOCKET;
   }
@@ -179,6 +246,20 @@ public class WatchBuilder {
     return this;
   }
 
+  public WatchBuilder withAllowWatchBookmarks(Boolean allowWatchBookmarks) {
+    callParams.setAllowWatchBookmarks(allowWatchBookmarks);
+    return this;
+  }
+
+  // The generated API calls have no parameter for bookmarks, so the query parameter is added to
+  // the request. The interceptor is removed when the client is returned to the pool.
+  private static Response requestBookmarks(Interceptor.Chain chain) throws IOException {
+    Request request = chain.request();
+    HttpUrl url =
+        request.httpUrl().newBuilder().addQueryParameter(ALLOW_WATCH_BOOKMARKS, "true").build();
+    return chain.proceed(request.newBuilder().url(url).build());
+  }
+
   public interface WatchFactory {
     <T> WatchI<T> createWatch(
         Pool<ApiClient> pool,
@@ -197,6 +278,9 @@ public class WatchBuilder {
         BiFunction<ApiClient, CallParams, Call> function)
         throws ApiException {
       ApiClient client = pool.take();
+      if (Boolean.TRUE.equals(callParams.getAllowWatchBookmarks())) {
+        client.getHttpClient().networkInterceptors().add(WatchBuilder::requestBookmarks);
+      }
       try {
         return new WatchImpl<>(
             pool,
@@ -400,4 +484,136 @@ public class WatchBuilder {
       }
     }
   }
+
+  private class ListNamespacedSecretCall implements BiFunction<ApiClient, CallParams, Call> {
+    private String namespace;
+
+    ListNamespacedSecretCall(String namespace) {
+      this.namespace = namespace;
+    }
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      // Ensure that client doesn't time out before call or watch
+      client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
+
+      try {
+        return new CoreV1Api(client)
+            .listNamespacedSecretCall(
+                namespace,
+                callParams.getPretty(),
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private class ListAllServicesCall implements BiFunction<ApiClient, CallParams, Call> {
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      // Ensure that client doesn't time out before call or watch
+      client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
+
+      try {
+        return new CoreV1Api(client)
+            .listServiceForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private class ListAllPodsCall implements BiFunction<ApiClient, CallParams, Call> {
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      // Ensure that client doesn't time out before call or watch
+      client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
+
+      try {
+        return new CoreV1Api(client)
+            .listPodForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private class ListAllEventsCall implements BiFunction<ApiClient, CallParams, Call> {
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      // Ensure that client doesn't time out before call or watch
+      client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
+
+      try {
+        return new CoreV1Api(client)
+            .listEventForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private class ListAllDomainsCall implements BiFunction<ApiClient, CallParams, Call> {
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      // Ensure that client doesn't time out before call or watch
+      client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
+
+      try {
+        return new WeblogicApi(client)
+            .listDomainForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
 }
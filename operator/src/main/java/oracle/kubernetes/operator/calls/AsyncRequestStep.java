@@ -5,10 +5,12 @@ package oracle.kubernetes.operator.calls;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -22,7 +24,11 @@ import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.LatencyHistogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.HistogramFamily;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -41,6 +47,14 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   private static final int SCALE = 100;
   private static final int MAX = 10000;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final Set<String> READ_VERBS = Set.of("read", "list");
+  static final HistogramFamily REQUEST_DURATIONS =
+      MetricsRegistry.getInstance()
+          .histogram(
+              "weblogic_operator_api_request_duration_seconds",
+              "Time taken by each asynchronous call to the Kubernetes API, including any timeout,"
+                  + " by verb",
+              "verb");
 
   private final ClientPool helper;
   private final RequestParams requestParams;
@@ -149,121 +163,244 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         labelSelector,
         resourceVersion);
 
+    return doSuspend(fiber -> joinOrIssueRequest(fiber, packet, c, r));
+  }
+
+  // A read identical to one already in progress shares its result rather than issuing a new call
+  private void joinOrIssueRequest(Fiber fiber, Packet packet, String cont, RetryStrategy r) {
     AtomicBoolean didResume = new AtomicBoolean(false);
-    ApiClient client = helper.take();
-    return doSuspend(
-        (fiber) -> {
-          ApiCallback<T> callback =
-              new BaseApiCallback<>() {
-                @Override
-                public void onFailure(
-                    ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
-                  if (didResume.compareAndSet(false, true)) {
-                    if (statusCode != CallBuilder.NOT_FOUND) {
-                      LOGGER.info(
-                          MessageKeys.ASYNC_FAILURE,
-                          identityHash(),
-                          ae.getMessage(),
-                          statusCode,
-                          responseHeaders,
-                          requestParams.call,
-                          requestParams.namespace,
-                          requestParams.name,
-                          requestParams.body,
-                          fieldSelector,
-                          labelSelector,
-                          resourceVersion,
-                          ae.getResponseBody());
-                    }
-
-                    helper.recycle(client);
-                    packet
-                        .getComponents()
-                        .put(
-                            RESPONSE_COMPONENT_NAME,
-                            Component.createFor(
-                                RetryStrategy.class,
-                                r,
-                                CallResponse.createFailure(ae, statusCode).withResponseHeaders(responseHeaders)));
-                    fiber.resume(packet);
-                  }
-                }
+    ApiCallback<T> callback = createResponseCallback(fiber, packet, r, didResume);
+    String key = getCoalescingKey(cont);
+    ApiCallback<T> responseCallback =
+        key == null
+            ? callback
+            : RequestCoalescer.getInstance().joinOrStart(requestParams.namespace, key, callback);
+    if (responseCallback != null) {
+      issueWhenAdmitted(
+          fiber, () -> issueRequest(fiber, packet, cont, r, didResume, responseCallback));
+    }
+  }
 
-                @Override
-                public void onSuccess(
-                    T result, int statusCode, Map<String, List<String>> responseHeaders) {
-                  if (didResume.compareAndSet(false, true)) {
-                    LOGGER.fine(ASYNC_SUCCESS, identityHash(), requestParams.call, result, statusCode, responseHeaders);
-
-                    helper.recycle(client);
-                    packet
-                        .getComponents()
-                        .put(
-                            RESPONSE_COMPONENT_NAME,
-                            Component.createFor(
-                                CallResponse.createSuccess(result, statusCode).withResponseHeaders(responseHeaders)));
-                    fiber.resume(packet);
-                  }
-                }
-              };
-
-          try {
-            CancellableCall cc = factory.generate(requestParams, client, c, callback);
-
-            // timeout handling
-            fiber
-                .owner
-                .getExecutor()
-                .schedule(
-                    () -> {
-                      if (didResume.compareAndSet(false, true)) {
-                        try {
-                          cc.cancel();
-                        } finally {
-                          LOGGER.fine(
-                              MessageKeys.ASYNC_TIMEOUT,
-                              identityHash(),
-                              requestParams.call,
-                              requestParams.namespace,
-                              requestParams.name,
-                              requestParams.body,
-                              fieldSelector,
-                              labelSelector,
-                              resourceVersion);
-                          packet
-                              .getComponents()
-                              .put(
-                                  RESPONSE_COMPONENT_NAME,
-                                  Component.createFor(RetryStrategy.class, r));
-                          fiber.resume(packet);
-                        }
-                      }
-                    },
-                    timeoutSeconds,
-                    TimeUnit.SECONDS);
-          } catch (Throwable t) {
-            String responseBody = (t instanceof ApiException) ? ((ApiException) t).getResponseBody() : "";
-            LOGGER.warning(
+  // Only reads of a single object are shared; returns null for any other call
+  private String getCoalescingKey(String cont) {
+    if (!requestParams.call.startsWith("read")) {
+      return null;
+    }
+
+    return String.join(
+        "/",
+        requestParams.call,
+        String.valueOf(requestParams.namespace),
+        String.valueOf(requestParams.name),
+        String.valueOf(fieldSelector),
+        String.valueOf(labelSelector),
+        String.valueOf(resourceVersion),
+        cont);
+  }
+
+  // Issues the request once the request governor admits it, waiting as it directs
+  private void issueWhenAdmitted(Fiber fiber, Runnable issueRequest) {
+    Runnable retry = () -> issueWhenAdmitted(fiber, issueRequest);
+    long admission =
+        RequestGovernor.getInstance()
+            .tryAdmit(requestParams.call, () -> fiber.owner.getExecutor().execute(retry));
+    if (admission == RequestGovernor.ADMITTED) {
+      issueRequest.run();
+    } else if (admission != RequestGovernor.QUEUED) {
+      fiber.owner.getExecutor().schedule(retry, admission, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  // Creates the callback which passes the response to this fiber
+  private ApiCallback<T> createResponseCallback(
+      Fiber fiber, Packet packet, RetryStrategy r, AtomicBoolean didResume) {
+    return new BaseApiCallback<>() {
+      @Override
+      public void onFailure(
+          ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
+        if (didResume.compareAndSet(false, true)) {
+          if (statusCode != CallBuilder.NOT_FOUND) {
+            LOGGER.info(
                 MessageKeys.ASYNC_FAILURE,
-                t.getMessage(),
-                0,
-                null,
-                requestParams,
+                identityHash(),
+                ae.getMessage(),
+                statusCode,
+                responseHeaders,
+                requestParams.call,
                 requestParams.namespace,
                 requestParams.name,
                 requestParams.body,
                 fieldSelector,
                 labelSelector,
                 resourceVersion,
-                responseBody);
-            if (didResume.compareAndSet(false, true)) {
-              packet
-                  .getComponents()
-                  .put(RESPONSE_COMPONENT_NAME, Component.createFor(RetryStrategy.class, r));
-              fiber.resume(packet);
+                ae.getResponseBody());
+          }
+
+          packet
+              .getComponents()
+              .put(
+                  RESPONSE_COMPONENT_NAME,
+                  Component.createFor(
+                      RetryStrategy.class,
+                      r,
+                      CallResponse.createFailure(ae, statusCode)
+                          .withResponseHeaders(responseHeaders)));
+          fiber.resume(packet);
+        }
+      }
+
+      @Override
+      public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+        if (didResume.compareAndSet(false, true)) {
+          LOGGER.fine(
+              ASYNC_SUCCESS,
+              identityHash(),
+              requestParams.call,
+              result,
+              statusCode,
+              responseHeaders);
+
+          packet
+              .getComponents()
+              .put(
+                  RESPONSE_COMPONENT_NAME,
+                  Component.createFor(
+                      CallResponse.createSuccess(result, statusCode)
+                          .withResponseHeaders(responseHeaders)));
+          fiber.resume(packet);
+        }
+      }
+    };
+  }
+
+  private void issueRequest(
+      Fiber fiber,
+      Packet packet,
+      String c,
+      RetryStrategy r,
+      AtomicBoolean didResume,
+      ApiCallback<T> responseCallback) {
+    RequestGovernor governor = RequestGovernor.getInstance();
+    AtomicBoolean didComplete = new AtomicBoolean(false);
+    LatencyHistogram durations = REQUEST_DURATIONS.get(getVerb(requestParams.call));
+    long startNanos = System.nanoTime();
+    ApiClient client = helper.take();
+    ApiCallback<T> callback =
+        new BaseApiCallback<>() {
+          @Override
+          public void onFailure(
+              ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
+            if (didComplete.compareAndSet(false, true)) {
+              durations.record(System.nanoTime() - startNanos);
+              helper.recycle(client);
+              recordIfWrite();
+              governor.recordFailure(requestParams.call, statusCode, responseHeaders);
+              governor.release();
+              responseCallback.onFailure(ae, statusCode, responseHeaders);
+            }
+          }
+
+          @Override
+          public void onSuccess(
+              T result, int statusCode, Map<String, List<String>> responseHeaders) {
+            if (didComplete.compareAndSet(false, true)) {
+              durations.record(System.nanoTime() - startNanos);
+              helper.recycle(client);
+              recordIfWrite();
+              governor.release();
+              responseCallback.onSuccess(result, statusCode, responseHeaders);
             }
           }
-        });
+        };
+
+    try {
+      CancellableCall cc = factory.generate(requestParams, client, c, callback);
+
+      // timeout handling
+      fiber
+          .owner
+          .getExecutor()
+          .schedule(
+              () -> {
+                if (didComplete.compareAndSet(false, true)) {
+                  durations.record(System.nanoTime() - startNanos);
+                  try {
+                    cc.cancel();
+                  } finally {
+                    recordIfWrite();
+                    governor.release();
+                    LOGGER.fine(
+                        MessageKeys.ASYNC_TIMEOUT,
+                        identityHash(),
+                        requestParams.call,
+                        requestParams.namespace,
+                        requestParams.name,
+                        requestParams.body,
+                        fieldSelector,
+                        labelSelector,
+                        resourceVersion);
+                    resumeWithoutResponse(fiber, packet, r, didResume);
+                    abandonJoinedReads(responseCallback, new ApiException("Request timed out"));
+                  }
+                }
+              },
+              timeoutSeconds,
+              TimeUnit.SECONDS);
+    } catch (Throwable t) {
+      String responseBody =
+          (t instanceof ApiException) ? ((ApiException) t).getResponseBody() : "";
+      LOGGER.warning(
+          MessageKeys.ASYNC_FAILURE,
+          t.getMessage(),
+          0,
+          null,
+          requestParams,
+          requestParams.namespace,
+          requestParams.name,
+          requestParams.body,
+          fieldSelector,
+          labelSelector,
+          resourceVersion,
+          responseBody);
+      if (didComplete.compareAndSet(false, true)) {
+        governor.release();
+        resumeWithoutResponse(fiber, packet, r, didResume);
+        abandonJoinedReads(responseCallback, new ApiException(t));
+      }
+    }
+  }
+
+  // A write which completes, or whose outcome is unknown, ends the sharing of earlier reads
+  private void recordIfWrite() {
+    if (!READ_VERBS.contains(getVerb(requestParams.call))) {
+      RequestCoalescer.getInstance().recordWrite(requestParams.namespace);
+    }
+  }
+
+  // The verb of a call is the start of its name, before the kind of resource: "list" for "listPod"
+  static String getVerb(String call) {
+    for (int i = 0; i < call.length(); i++) {
+      if (Character.isUpperCase(call.charAt(i))) {
+        return call.substring(0, i);
+      }
+    }
+    return call;
+  }
+
+  // Resumes the fiber with no response, which its response step treats as a timeout
+  private void resumeWithoutResponse(
+      Fiber fiber, Packet packet, RetryStrategy r, AtomicBoolean didResume) {
+    if (didResume.compareAndSet(false, true)) {
+      packet
+          .getComponents()
+          .put(RESPONSE_COMPONENT_NAME, Component.createFor(RetryStrategy.class, r));
+      fiber.resume(packet);
+    }
+  }
+
+  // Any reads which joined this request fail with no status, so that they retry with new calls
+  private void abandonJoinedReads(ApiCallback<T> responseCallback, ApiException reason) {
+    responseCallback.onFailure(reason, 0, Collections.emptyMap());
   }
 
   // creates a unique ID that allows matching requests to responses
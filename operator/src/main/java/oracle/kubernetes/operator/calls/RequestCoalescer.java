@@ -0,0 +1,158 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.ApiCallback;
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.JSON;
+
+/**
+ * Shares identical reads which are in progress at the same time. The first reader issues the call;
+ * any others which ask for the same object before it completes join that call rather than issuing
+ * their own, and receive its result when it arrives.
+ *
+ * <p>The first reader receives the object returned by the call; each reader which joined it
+ * receives a copy, so that readers which modify what they read do not affect one another.
+ *
+ * <p>A read which joins another may be answered before the API server sees a write which completed
+ * after that other read started. To keep a reader from missing its own earlier writes, completed
+ * writes are recorded by namespace, and a reader joins only a read which started after the last
+ * write in its namespace completed; otherwise it starts a new read.
+ */
+public class RequestCoalescer {
+  private static final JSON JSON_CONVERTER = new JSON();
+  private static final RequestCoalescer INSTANCE = new RequestCoalescer(RequestCoalescer::copy);
+
+  private final UnaryOperator<Object> copier;
+  private final Map<String, Flight<?>> flights = new HashMap<>();
+  private final Map<String, Long> writeCounts = new HashMap<>();
+  private long coalescedCount;
+
+  RequestCoalescer(UnaryOperator<Object> copier) {
+    this.copier = copier;
+  }
+
+  public static RequestCoalescer getInstance() {
+    return INSTANCE;
+  }
+
+  private static Object copy(Object result) {
+    return JSON_CONVERTER.deserialize(JSON_CONVERTER.serialize(result), result.getClass());
+  }
+
+  /**
+   * Joins an identical read in progress, or starts a new one. A read in progress is joined only if
+   * no write in the namespace has completed since it started.
+   *
+   * @param namespace the namespace of the object read, or null if it is not namespaced
+   * @param key a key which is the same for identical reads
+   * @param callback the callback which is to receive the result of the read
+   * @param <T> the type of object read
+   * @return null if the read joined one in progress. Otherwise, the callback to pass to the new
+   *     call, which passes its result to the specified callback and to those of any reads which
+   *     join it
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <T> ApiCallback<T> joinOrStart(
+      String namespace, String key, ApiCallback<T> callback) {
+    long writeCount = getWriteCount(namespace);
+    Flight<T> flight = (Flight<T>) flights.get(key);
+    if (flight != null && flight.writeCount == writeCount) {
+      coalescedCount++;
+      flight.followers.add(callback);
+      return null;
+    }
+
+    flight = new Flight<>(key, writeCount, callback);
+    flights.put(key, flight);
+    return flight;
+  }
+
+  /**
+   * Records the completion of a write, so that reads which started before it are not joined.
+   *
+   * @param namespace the namespace of the object written, or null if it is not namespaced
+   */
+  public synchronized void recordWrite(String namespace) {
+    writeCounts.merge(String.valueOf(namespace), 1L, Long::sum);
+  }
+
+  private long getWriteCount(String namespace) {
+    return writeCounts.getOrDefault(String.valueOf(namespace), 0L);
+  }
+
+  /**
+   * Returns the number of reads which joined another read rather than issuing a call.
+   *
+   * @return a read count
+   */
+  public synchronized long getCoalescedCount() {
+    return coalescedCount;
+  }
+
+  synchronized int getFlightCount() {
+    return flights.size();
+  }
+
+  // Ends a read, so that later reads issue a new call; returns the readers which joined it
+  private synchronized <T> List<ApiCallback<T>> complete(Flight<T> flight) {
+    flights.remove(flight.key, flight);
+    return new ArrayList<>(flight.followers);
+  }
+
+  private class Flight<T> implements ApiCallback<T> {
+    private final String key;
+    private final long writeCount;
+    private final ApiCallback<T> leader;
+    private final List<ApiCallback<T>> followers = new ArrayList<>();
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    Flight(String key, long writeCount, ApiCallback<T> leader) {
+      this.key = key;
+      this.writeCount = writeCount;
+      this.leader = leader;
+    }
+
+    @Override
+    public void onFailure(
+        ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      if (completed.compareAndSet(false, true)) {
+        List<ApiCallback<T>> joined = complete(this);
+        leader.onFailure(e, statusCode, responseHeaders);
+        joined.forEach(callback -> callback.onFailure(e, statusCode, responseHeaders));
+      }
+    }
+
+    @Override
+    public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+      if (completed.compareAndSet(false, true)) {
+        List<ApiCallback<T>> joined = complete(this);
+        leader.onSuccess(result, statusCode, responseHeaders);
+        joined.forEach(callback -> callback.onSuccess(copyOf(result), statusCode, responseHeaders));
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T copyOf(T result) {
+      return result == null ? null : (T) copier.apply(result);
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+      // no-op
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+      // no-op
+    }
+  }
+}
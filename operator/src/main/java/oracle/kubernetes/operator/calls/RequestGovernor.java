@@ -0,0 +1,386 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.utils.TokenBucket;
+
+/**
+ * Limits the calls which the operator makes to the Kubernetes API server. A call is admitted only
+ * when the overall rate limit and every budget which applies to it have a token to spare, and when
+ * fewer than the maximum number of calls are in progress. A budget may apply to a verb, such as
+ * "list"; to a resource, such as "Pod"; or to a single call, such as "listPod".
+ *
+ * <p>When the API server rejects a call with status 429 or 503 and a Retry-After header, no calls
+ * are admitted until that time has passed. The limits are read from the call builder tuning
+ * parameters, and change when they do.
+ */
+public class RequestGovernor {
+  /** Returned by {@link #tryAdmit} when the call may proceed. */
+  public static final long ADMITTED = 0;
+  /** Returned by {@link #tryAdmit} when the call must wait for another call to complete. */
+  public static final long QUEUED = -1;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String RETRY_AFTER_HEADER = "Retry-After";
+  private static final long DEFAULT_RETRY_AFTER_SECONDS = 1;
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVICE_UNAVAILABLE = 503;
+
+  private static final RequestGovernor INSTANCE =
+      new RequestGovernor(RequestGovernor::getCallBuilderTuning, System::nanoTime);
+
+  private final Supplier<CallBuilderTuning> tuningSupplier;
+  private final LongSupplier nanoClock;
+  private final Queue<Waiter> waiters = new ArrayDeque<>();
+  private CallBuilderTuning tuning;
+  private TokenBucket rateLimit;
+  private Map<String, TokenBucket> budgets = Collections.emptyMap();
+  private int maxInFlight;
+  private int inFlight;
+  private long pausedUntil;
+  private long admittedCount;
+  private long delayedCount;
+  private long queuedCount;
+  private long throttledCount;
+  private long totalWaitNanos;
+
+  RequestGovernor(Supplier<CallBuilderTuning> tuningSupplier, LongSupplier nanoClock) {
+    this.tuningSupplier = tuningSupplier;
+    this.nanoClock = nanoClock;
+    this.pausedUntil = nanoClock.getAsLong();
+  }
+
+  public static RequestGovernor getInstance() {
+    return INSTANCE;
+  }
+
+  private static CallBuilderTuning getCallBuilderTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getCallBuilderTuning)
+        .orElse(null);
+  }
+
+  /**
+   * Attempts to admit a call. If the call must wait for another to complete, the specified
+   * listener is run once one does; the caller should then try again.
+   *
+   * @param call the name of the call, such as "listPod"
+   * @param onPermitAvailable the listener to run when a queued call may try again
+   * @return {@link #ADMITTED}, {@link #QUEUED}, or the time in nanoseconds to wait before trying
+   *     again
+   */
+  public synchronized long tryAdmit(String call, Runnable onPermitAvailable) {
+    updateLimits();
+    long now = nanoClock.getAsLong();
+    long delayNanos = Math.max(pausedUntil - now, getRateWaitNanos(call));
+    if (delayNanos > 0) {
+      delayedCount++;
+      totalWaitNanos += delayNanos;
+      return delayNanos;
+    } else if (maxInFlight > 0 && inFlight >= maxInFlight) {
+      queuedCount++;
+      waiters.add(new Waiter(onPermitAvailable, now));
+      return QUEUED;
+    }
+
+    getApplicableBuckets(call).forEach(bucket -> bucket.tryAcquire(1));
+    inFlight++;
+    admittedCount++;
+    return ADMITTED;
+  }
+
+  /**
+   * Waits until a call is admitted. Each call admitted must be followed by a call to {@link
+   * #release()}.
+   *
+   * @param call the name of the call, such as "listPod"
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public void admit(String call) throws InterruptedException {
+    while (true) {
+      CountDownLatch permitAvailable = new CountDownLatch(1);
+      Runnable listener = permitAvailable::countDown;
+      long result = tryAdmit(call, listener);
+      if (result == ADMITTED) {
+        return;
+      } else if (result != QUEUED) {
+        TimeUnit.NANOSECONDS.sleep(result);
+      } else {
+        try {
+          permitAvailable.await();
+        } catch (InterruptedException e) {
+          abandonWait(listener);
+          throw e;
+        }
+      }
+    }
+  }
+
+  // A waiter which gives up may already have been woken, in which case it passes the wake-up on
+  private void abandonWait(Runnable listener) {
+    boolean removed;
+    synchronized (this) {
+      removed = waiters.removeIf(waiter -> waiter.listener == listener);
+    }
+    if (!removed) {
+      wakeNextWaiter();
+    }
+  }
+
+  /** Records the completion of an admitted call, allowing a queued call to try again. */
+  public void release() {
+    synchronized (this) {
+      inFlight = Math.max(0, inFlight - 1);
+    }
+    wakeNextWaiter();
+  }
+
+  private void wakeNextWaiter() {
+    Waiter waiter;
+    synchronized (this) {
+      waiter = waiters.poll();
+      if (waiter != null) {
+        totalWaitNanos += nanoClock.getAsLong() - waiter.enqueueTime;
+      }
+    }
+    if (waiter != null) {
+      waiter.listener.run();
+    }
+  }
+
+  /**
+   * Records a failed call. If the API server asked the operator to slow down, pauses all calls
+   * for the time given in its Retry-After header.
+   *
+   * @param call the name of the call
+   * @param statusCode the HTTP status of the failure
+   * @param responseHeaders the headers of the failure response, or null
+   */
+  public void recordFailure(
+      String call, int statusCode, Map<String, List<String>> responseHeaders) {
+    if (statusCode != TOO_MANY_REQUESTS && statusCode != SERVICE_UNAVAILABLE) {
+      return;
+    }
+
+    long retryAfterSeconds = getRetryAfterSeconds(responseHeaders);
+    if (retryAfterSeconds > 0) {
+      LOGGER.info(MessageKeys.CALLS_THROTTLED, call, statusCode, retryAfterSeconds);
+      synchronized (this) {
+        throttledCount++;
+        long until = nanoClock.getAsLong() + TimeUnit.SECONDS.toNanos(retryAfterSeconds);
+        pausedUntil = Math.max(pausedUntil, until);
+      }
+    }
+  }
+
+  // Returns the delay requested by the Retry-After header, which may be given in seconds or as a
+  // date; a date is treated as a short delay. Returns zero if there is no such header.
+  private static long getRetryAfterSeconds(Map<String, List<String>> responseHeaders) {
+    if (responseHeaders == null) {
+      return 0;
+    }
+
+    for (Map.Entry<String, List<String>> entry : responseHeaders.entrySet()) {
+      if (RETRY_AFTER_HEADER.equalsIgnoreCase(entry.getKey())
+          && entry.getValue() != null
+          && !entry.getValue().isEmpty()) {
+        try {
+          return Math.max(0, Long.parseLong(entry.getValue().get(0).trim()));
+        } catch (NumberFormatException e) {
+          return DEFAULT_RETRY_AFTER_SECONDS;
+        }
+      }
+    }
+    return 0;
+  }
+
+  private long getRateWaitNanos(String call) {
+    long waitNanos = 0;
+    for (TokenBucket bucket : getApplicableBuckets(call)) {
+      waitNanos = Math.max(waitNanos, bucket.getWaitTime(1, TimeUnit.NANOSECONDS));
+    }
+    return waitNanos;
+  }
+
+  private List<TokenBucket> getApplicableBuckets(String call) {
+    List<TokenBucket> buckets = new ArrayList<>();
+    Optional.ofNullable(rateLimit).ifPresent(buckets::add);
+    if (!budgets.isEmpty()) {
+      for (String name : getBudgetNames(call)) {
+        Optional.ofNullable(budgets.get(name)).ifPresent(buckets::add);
+      }
+    }
+    return buckets;
+  }
+
+  // A call such as "listPod" is subject to the budgets for "listPod", "list" and "Pod"
+  private static List<String> getBudgetNames(String call) {
+    List<String> names = new ArrayList<>();
+    names.add(call);
+    int i = 0;
+    while (i < call.length() && Character.isLowerCase(call.charAt(i))) {
+      i++;
+    }
+    if (i > 0 && i < call.length()) {
+      names.add(call.substring(0, i));
+      names.add(call.substring(i));
+    }
+    return names;
+  }
+
+  private void updateLimits() {
+    CallBuilderTuning latest = tuningSupplier.get();
+    if (latest != tuning) {
+      if (!Objects.equals(latest, tuning)) {
+        configure(latest);
+      }
+      tuning = latest;
+    }
+  }
+
+  private void configure(CallBuilderTuning tuning) {
+    if (tuning == null) {
+      rateLimit = null;
+      budgets = Collections.emptyMap();
+      maxInFlight = 0;
+      return;
+    }
+
+    rateLimit =
+        tuning.callRateLimit > 0
+            ? new TokenBucket(
+                tuning.callRateLimit, Math.max(1, tuning.callRateBurst), nanoClock)
+            : null;
+    budgets = parseBudgets(tuning.callRateBudgets);
+    maxInFlight = tuning.callMaxInFlight;
+  }
+
+  private Map<String, TokenBucket> parseBudgets(String specification) {
+    Map<String, TokenBucket> result = new HashMap<>();
+    if (specification == null) {
+      return result;
+    }
+
+    for (String budget : specification.split(",")) {
+      if (budget.trim().isEmpty()) {
+        continue;
+      }
+
+      int rate = getBudgetRate(budget);
+      if (rate > 0) {
+        result.put(budget.split("=")[0].trim(), new TokenBucket(rate, rate, nanoClock));
+      } else {
+        LOGGER.warning(MessageKeys.INVALID_CALL_RATE_BUDGET, budget.trim());
+      }
+    }
+    return result;
+  }
+
+  // Returns the rate of a budget of the form name=callsPerSecond, or zero if it is not valid
+  private static int getBudgetRate(String budget) {
+    String[] parts = budget.split("=");
+    if (parts.length != 2 || parts[0].trim().isEmpty()) {
+      return 0;
+    }
+
+    try {
+      return Math.max(0, Integer.parseInt(parts[1].trim()));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Returns the number of admitted calls which have not yet completed.
+   *
+   * @return a call count
+   */
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  /**
+   * Returns the number of calls waiting for another call to complete.
+   *
+   * @return a call count
+   */
+  public synchronized int getQueueLength() {
+    return waiters.size();
+  }
+
+  /**
+   * Returns the number of calls admitted.
+   *
+   * @return a call count
+   */
+  public synchronized long getAdmittedCount() {
+    return admittedCount;
+  }
+
+  /**
+   * Returns the number of times a call was told to wait for a rate limit or a throttling pause.
+   *
+   * @return a delay count
+   */
+  public synchronized long getDelayedCount() {
+    return delayedCount;
+  }
+
+  /**
+   * Returns the number of times a call was queued behind the limit on calls in progress.
+   *
+   * @return a queue count
+   */
+  public synchronized long getQueuedCount() {
+    return queuedCount;
+  }
+
+  /**
+   * Returns the number of times the API server asked the operator to slow down.
+   *
+   * @return a throttle count
+   */
+  public synchronized long getThrottledCount() {
+    return throttledCount;
+  }
+
+  /**
+   * Returns the total time that calls have been told to wait, or have waited in the queue.
+   *
+   * @param unit the unit of the returned time
+   * @return the total wait time
+   */
+  public synchronized long getTotalWaitTime(TimeUnit unit) {
+    return unit.convert(totalWaitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static class Waiter {
+    private final Runnable listener;
+    private final long enqueueTime;
+
+    Waiter(Runnable listener, long enqueueTime) {
+      this.listener = listener;
+      this.enqueueTime = enqueueTime;
+    }
+  }
+}
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.helpers;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Pod;
@@ -13,12 +14,22 @@ import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.util.Yaml;
 import org.apache.commons.codec.digest.DigestUtils;
 
-/** Annotates pods, services with details about the Domain instance and checks these annotations. */
+/**
+ * Annotates pods, services with details about the Domain instance and checks these annotations.
+ *
+ * <p>Resources are annotated with a canonical structural hash of the recipe from which they were
+ * created. Resources created by earlier operator versions instead carry a hash of the recipe's YAML
+ * rendering; those are compared by recomputing that hash, so that they are not replaced merely
+ * because the hash algorithm changed.
+ */
 public class AnnotationHelper {
+  static final String HASH_ANNOTATION = "weblogic.modelHash";
   static final String SHA256_ANNOTATION = "weblogic.sha256";
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> HASH_FUNCTION = CanonicalHash::sha256Hex;
+  private static Function<Object, String> LEGACY_HASH_FUNCTION =
+      o -> DigestUtils.sha256Hex(Yaml.dump(o));
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -51,21 +62,57 @@ public class AnnotationHelper {
   }
 
   private static V1Pod addHash(V1Pod pod) {
-    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, HASH_FUNCTION.apply(pod));
+    pod.getMetadata().putAnnotationsItem(HASH_ANNOTATION, HASH_FUNCTION.apply(pod));
     return pod;
   }
 
   private static V1Service addHash(V1Service service) {
-    service.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, HASH_FUNCTION.apply(service));
+    service.getMetadata().putAnnotationsItem(HASH_ANNOTATION, HASH_FUNCTION.apply(service));
     return service;
   }
 
   static String getHash(V1Pod pod) {
-    return getAnnotation(pod.getMetadata(), AnnotationHelper::getSha256Annotation);
+    return getAnnotation(pod.getMetadata(), AnnotationHelper::getHashAnnotation);
   }
 
   static String getHash(V1Service service) {
-    return getAnnotation(service.getMetadata(), AnnotationHelper::getSha256Annotation);
+    return getAnnotation(service.getMetadata(), AnnotationHelper::getHashAnnotation);
+  }
+
+  /**
+   * Returns true if the current pod was created from a recipe with the specified hash.
+   *
+   * @param modelHash the hash of the recipe from which the pod would be created now
+   * @param current the existing pod
+   * @param recipe supplies the recipe, used only if the pod has a legacy hash
+   * @return true if the hashes match
+   */
+  static boolean hasMatchingHash(String modelHash, V1Pod current, Supplier<V1Pod> recipe) {
+    return hasMatchingHash(modelHash, current.getMetadata(), recipe);
+  }
+
+  /**
+   * Returns true if the current service was created from a recipe with the specified hash.
+   *
+   * @param modelHash the hash of the recipe from which the service would be created now
+   * @param current the existing service
+   * @param recipe supplies the recipe, used only if the service has a legacy hash
+   * @return true if the hashes match
+   */
+  static boolean hasMatchingHash(
+      String modelHash, V1Service current, Supplier<V1Service> recipe) {
+    return hasMatchingHash(modelHash, current.getMetadata(), recipe);
+  }
+
+  private static boolean hasMatchingHash(
+      String modelHash, V1ObjectMeta current, Supplier<?> recipe) {
+    String currentHash = getAnnotation(current, AnnotationHelper::getHashAnnotation);
+    if (!currentHash.isEmpty()) {
+      return currentHash.equals(modelHash);
+    }
+
+    String legacyHash = getAnnotation(current, AnnotationHelper::getSha256Annotation);
+    return !legacyHash.isEmpty() && legacyHash.equals(LEGACY_HASH_FUNCTION.apply(recipe.get()));
   }
 
   static String getDebugString(V1Pod pod) {
@@ -84,6 +131,10 @@ public class AnnotationHelper {
     return annotations.get(HASHED_STRING);
   }
 
+  private static String getHashAnnotation(Map<String, String> annotations) {
+    return annotations.get(HASH_ANNOTATION);
+  }
+
   private static String getSha256Annotation(Map<String, String> annotations) {
     return annotations.get(SHA256_ANNOTATION);
   }
@@ -44,6 +44,7 @@ import oracle.kubernetes.operator.calls.AsyncRequestStep;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
+import oracle.kubernetes.operator.calls.RequestGovernor;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
@@ -59,17 +60,32 @@ public class CallBuilder {
   /** HTTP status code for "Not Found". */
   public static final int NOT_FOUND = 404;
 
+  /** HTTP status code for "Unprocessable Entity", reported when a JSON patch test fails. */
+  public static final int UNPROCESSABLE_ENTITY = 422;
+
   private static final SynchronousCallDispatcher DEFAULT_DISPATCHER =
       new SynchronousCallDispatcher() {
         @Override
         public <T> T execute(
             SynchronousCallFactory<T> factory, RequestParams params, Pool<ApiClient> pool)
             throws ApiException {
+          RequestGovernor governor = RequestGovernor.getInstance();
+          try {
+            governor.admit(params.call);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(e);
+          }
+
           ApiClient client = pool.take();
           try {
             return factory.execute(client, params);
+          } catch (ApiException e) {
+            governor.recordFailure(params.call, e.getCode(), e.getResponseHeaders());
+            throw e;
           } finally {
             pool.recycle(client);
+            governor.release();
           }
         }
       };
@@ -97,6 +113,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1Patch) requestParams.body,
                   callback));
+  private final CallFactory<Domain> patchDomainStatus =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<Domain> replaceDomainStatus =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -341,6 +366,32 @@ public class CallBuilder {
                   resourceVersion,
                   timeoutSeconds,
                   watch);
+  private SynchronousCallFactory<V1PodList> listPodCall =
+      (client, requestParams) ->
+          new CoreV1Api(client)
+              .listNamespacedPod(
+                  requestParams.namespace,
+                  pretty,
+                  "",
+                  fieldSelector,
+                  labelSelector,
+                  limit,
+                  resourceVersion,
+                  timeoutSeconds,
+                  watch);
+  private SynchronousCallFactory<V1ServiceList> listServiceCall =
+      (client, requestParams) ->
+          new CoreV1Api(client)
+              .listNamespacedService(
+                  requestParams.namespace,
+                  pretty,
+                  "",
+                  fieldSelector,
+                  labelSelector,
+                  limit,
+                  resourceVersion,
+                  timeoutSeconds,
+                  watch);
   private SynchronousCallFactory<Domain> replaceDomainCall =
       (client, requestParams) ->
           new WeblogicApi(client)
@@ -350,12 +401,23 @@ public class CallBuilder {
                   (Domain) requestParams.body,
                   pretty,
                   null);
+  private SynchronousCallFactory<Domain> readDomainCall =
+      (client, requestParams) ->
+          new WeblogicApi(client)
+              .readNamespacedDomain(
+                  requestParams.name, requestParams.namespace, pretty, exact, export);
   private SynchronousCallFactory<Domain> patchDomainCall =
       (client, requestParams) ->
           new WeblogicApi(client)
               .patchNamespacedDomain(
                   requestParams.name, requestParams.namespace, requestParams.body, pretty, null);
 
+  private SynchronousCallFactory<Domain> patchDomainStatusCall =
+      (client, requestParams) ->
+          new WeblogicApi(client)
+              .patchNamespacedDomainStatus(
+                  requestParams.name, requestParams.namespace, requestParams.body, pretty, null);
+
   /* Config Maps */
   private SynchronousCallFactory<V1PersistentVolume> createPvCall =
       (client, requestParams) ->
@@ -514,12 +576,10 @@ public class CallBuilder {
    * @throws ApiException API Exception
    */
   public V1Namespace readNamespace(String name) throws ApiException {
-    ApiClient client = helper.take();
-    try {
-      return new CoreV1Api(client).readNamespace(name, pretty, exact, export);
-    } finally {
-      helper.recycle(client);
-    }
+    RequestParams requestParams = new RequestParams("readNamespace", null, name, null);
+    return executeSynchronousCall(
+        requestParams,
+        (client, params) -> new CoreV1Api(client).readNamespace(name, pretty, exact, export));
   }
 
   /**
@@ -530,12 +590,10 @@ public class CallBuilder {
    * @throws ApiException API Exception
    */
   public V1Namespace createNamespace(V1Namespace body) throws ApiException {
-    ApiClient client = helper.take();
-    try {
-      return new CoreV1Api(client).createNamespace(body, pretty, null, null);
-    } finally {
-      helper.recycle(client);
-    }
+    RequestParams requestParams = new RequestParams("createNamespace", null, null, body);
+    return executeSynchronousCall(
+        requestParams,
+        (client, params) -> new CoreV1Api(client).createNamespace(body, pretty, null, null));
   }
 
   /**
@@ -579,6 +637,19 @@ public class CallBuilder {
         responseStep, new RequestParams("listDomain", namespace, null, null), listDomain);
   }
 
+  /**
+   * Read domain.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @return Read domain
+   * @throws ApiException APIException
+   */
+  public Domain readDomain(String name, String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("readDomain", namespace, name, null);
+    return executeSynchronousCall(requestParams, readDomainCall);
+  }
+
   private com.squareup.okhttp.Call readDomainAsync(
       ApiClient client, String name, String namespace, ApiCallback<Domain> callback)
       throws ApiException {
@@ -676,6 +747,46 @@ public class CallBuilder {
         patchDomain);
   }
 
+  /**
+   * Patch domain status.
+   *
+   * @param uid the domain uid (unique within the k8s cluster)
+   * @param namespace the namespace containing the domain
+   * @param patchBody the patch to apply to the status subresource
+   * @return Updated domain
+   * @throws ApiException APIException
+   */
+  public Domain patchDomainStatus(String uid, String namespace, V1Patch patchBody)
+      throws ApiException {
+    RequestParams requestParams =
+        new RequestParams("patchDomainStatus", namespace, uid, patchBody);
+    return executeSynchronousCall(requestParams, patchDomainStatusCall);
+  }
+
+  private com.squareup.okhttp.Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<Domain> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .patchNamespacedDomainStatusAsync(name, namespace, patch, pretty, null, callback);
+  }
+
+  /**
+   * Asynchronous step for patching domain status.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchDomainStatus", namespace, name, patchBody),
+        patchDomainStatus);
+  }
+
   private com.squareup.okhttp.Call replaceDomainStatusAsync(
       ApiClient client, String name, String namespace, Domain body, ApiCallback<Domain> callback)
       throws ApiException {
@@ -881,6 +992,18 @@ public class CallBuilder {
         replaceConfigmap);
   }
 
+  /**
+   * List pods.
+   *
+   * @param namespace Namespace
+   * @return List of pods
+   * @throws ApiException API Exception
+   */
+  public V1PodList listPod(String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("listPod", namespace, null, null);
+    return executeSynchronousCall(requestParams, listPodCall);
+  }
+
   private com.squareup.okhttp.Call listPodAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1PodList> callback)
       throws ApiException {
@@ -1135,23 +1258,8 @@ public class CallBuilder {
    * @throws ApiException API Exception
    */
   public V1ServiceList listService(String namespace) throws ApiException {
-    String cont = "";
-    ApiClient client = helper.take();
-    try {
-      return new CoreV1Api(client)
-          .listNamespacedService(
-              namespace,
-              pretty,
-              cont,
-              fieldSelector,
-              labelSelector,
-              limit,
-              resourceVersion,
-              timeoutSeconds,
-              watch);
-    } finally {
-      helper.recycle(client);
-    }
+    RequestParams requestParams = new RequestParams("listService", namespace, null, null);
+    return executeSynchronousCall(requestParams, listServiceCall);
   }
 
   private com.squareup.okhttp.Call listServiceAsync(
@@ -1192,12 +1300,11 @@ public class CallBuilder {
    * @throws ApiException API Exception
    */
   public V1Service readService(String name, String namespace) throws ApiException {
-    ApiClient client = helper.take();
-    try {
-      return new CoreV1Api(client).readNamespacedService(name, namespace, pretty, exact, export);
-    } finally {
-      helper.recycle(client);
-    }
+    RequestParams requestParams = new RequestParams("readService", namespace, name, null);
+    return executeSynchronousCall(
+        requestParams,
+        (client, params) ->
+            new CoreV1Api(client).readNamespacedService(name, namespace, pretty, exact, export));
   }
 
   private com.squareup.okhttp.Call readServiceAsync(
@@ -1253,21 +1360,21 @@ public class CallBuilder {
    */
   public V1Status deleteService(String name, String namespace, V1DeleteOptions deleteOptions)
       throws ApiException {
-    ApiClient client = helper.take();
-    try {
-      return new CoreV1Api(client)
-          .deleteNamespacedService(
-              name,
-              namespace,
-              pretty,
-              deleteOptions,
-              null,
-              gracePeriodSeconds,
-              orphanDependents,
-              propagationPolicy);
-    } finally {
-      helper.recycle(client);
-    }
+    RequestParams requestParams =
+        new RequestParams("deleteService", namespace, name, deleteOptions);
+    return executeSynchronousCall(
+        requestParams,
+        (client, params) ->
+            new CoreV1Api(client)
+                .deleteNamespacedService(
+                    name,
+                    namespace,
+                    pretty,
+                    deleteOptions,
+                    null,
+                    gracePeriodSeconds,
+                    orphanDependents,
+                    propagationPolicy));
   }
 
   private com.squareup.okhttp.Call deleteServiceAsync(
@@ -1496,12 +1603,11 @@ public class CallBuilder {
    * @throws ApiException API Exception
    */
   public V1Secret readSecret(String name, String namespace) throws ApiException {
-    ApiClient client = helper.take();
-    try {
-      return new CoreV1Api(client).readNamespacedSecret(name, namespace, pretty, exact, export);
-    } finally {
-      helper.recycle(client);
-    }
+    RequestParams requestParams = new RequestParams("readSecret", namespace, name, null);
+    return executeSynchronousCall(
+        requestParams,
+        (client, params) ->
+            new CoreV1Api(client).readNamespacedSecret(name, namespace, pretty, exact, export));
   }
 
   /* Self Subject Rules Review */
@@ -1535,12 +1641,11 @@ public class CallBuilder {
    * @throws ApiException API Exception
    */
   public V1Secret createSecret(String namespace, V1Secret body) throws ApiException {
-    ApiClient client = helper.take();
-    try {
-      return new CoreV1Api(client).createNamespacedSecret(namespace, body, pretty, null, null);
-    } finally {
-      helper.recycle(client);
-    }
+    RequestParams requestParams = new RequestParams("createSecret", namespace, null, body);
+    return executeSynchronousCall(
+        requestParams,
+        (client, params) ->
+            new CoreV1Api(client).createNamespacedSecret(namespace, body, pretty, null, null));
   }
 
   /**
@@ -1554,21 +1659,21 @@ public class CallBuilder {
    */
   public V1Status deleteSecret(String name, String namespace, V1DeleteOptions deleteOptions)
       throws ApiException {
-    ApiClient client = helper.take();
-    try {
-      return new CoreV1Api(client)
-          .deleteNamespacedSecret(
-              name,
-              namespace,
-              pretty,
-              deleteOptions,
-              null,
-              gracePeriodSeconds,
-              orphanDependents,
-              propagationPolicy);
-    } finally {
-      helper.recycle(client);
-    }
+    RequestParams requestParams =
+        new RequestParams("deleteSecret", namespace, name, deleteOptions);
+    return executeSynchronousCall(
+        requestParams,
+        (client, params) ->
+            new CoreV1Api(client)
+                .deleteNamespacedSecret(
+                    name,
+                    namespace,
+                    pretty,
+                    deleteOptions,
+                    null,
+                    gracePeriodSeconds,
+                    orphanDependents,
+                    propagationPolicy));
   }
 
   /**
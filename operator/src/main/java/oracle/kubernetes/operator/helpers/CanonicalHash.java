@@ -0,0 +1,181 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Computes a SHA-256 hash of a Kubernetes model object by streaming its structure directly into the
+ * digest, rather than first rendering it as YAML. The encoding is canonical: fields are visited in
+ * name order, map entries in key order, and null fields are skipped, so two objects with the same
+ * content always produce the same hash regardless of how they were built.
+ */
+class CanonicalHash {
+  private static final String[] BEAN_PACKAGES = {"io.kubernetes.client.", "oracle.kubernetes."};
+
+  private static final byte NULL = 'n';
+  private static final byte STRING = 's';
+  private static final byte BOOLEAN = 'b';
+  private static final byte NUMBER = 'd';
+  private static final byte ENUM = 'e';
+  private static final byte MAP = 'm';
+  private static final byte LIST = 'l';
+  private static final byte OBJECT = 'o';
+  private static final byte END = ';';
+  private static final byte OTHER = 'x';
+
+  private static final ClassValue<Field[]> FIELDS =
+      new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+          return getHashedFields(type);
+        }
+      };
+
+  private final MessageDigest digest;
+  private final ByteBuffer intBuffer = ByteBuffer.allocate(Integer.BYTES);
+
+  private CanonicalHash(MessageDigest digest) {
+    this.digest = digest;
+  }
+
+  /**
+   * Returns the hash of the specified object, as a hex string.
+   *
+   * @param object a Kubernetes model object
+   * @return a 64-character hex string
+   */
+  static String sha256Hex(Object object) {
+    MessageDigest digest = DigestUtils.getSha256Digest();
+    new CanonicalHash(digest).addValue(object);
+    return Hex.encodeHexString(digest.digest());
+  }
+
+  private static Field[] getHashedFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (isHashed(field)) {
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }
+    }
+    fields.sort(Comparator.comparing(Field::getName));
+    return fields.toArray(new Field[0]);
+  }
+
+  private static boolean isHashed(Field field) {
+    int modifiers = field.getModifiers();
+    return !Modifier.isStatic(modifiers)
+        && !Modifier.isTransient(modifiers)
+        && !field.isSynthetic();
+  }
+
+  private static boolean isBean(Class<?> type) {
+    String name = type.getName();
+    for (String prefix : BEAN_PACKAGES) {
+      if (name.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void addValue(Object value) {
+    if (value == null) {
+      digest.update(NULL);
+    } else if (value instanceof String) {
+      addTagged(STRING, (String) value);
+    } else if (value instanceof Boolean) {
+      digest.update(BOOLEAN);
+      digest.update((byte) (((Boolean) value) ? 1 : 0));
+    } else if (value instanceof Number) {
+      addTagged(NUMBER, value.toString());
+    } else if (value instanceof Enum) {
+      addTagged(ENUM, ((Enum<?>) value).name());
+    } else if (value instanceof Map) {
+      addMap((Map<?, ?>) value);
+    } else if (value instanceof Collection) {
+      addCollection((Collection<?>) value);
+    } else if (isBean(value.getClass())) {
+      addBean(value);
+    } else {
+      addTagged(OTHER, value.toString());
+    }
+  }
+
+  private void addTagged(byte tag, String value) {
+    digest.update(tag);
+    addString(value);
+  }
+
+  private void addString(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    addInt(bytes.length);
+    digest.update(bytes);
+  }
+
+  private void addInt(int value) {
+    intBuffer.clear();
+    intBuffer.putInt(value);
+    digest.update(intBuffer.array());
+  }
+
+  private void addMap(Map<?, ?> map) {
+    digest.update(MAP);
+    addInt(map.size());
+    for (Map.Entry<String, ?> entry : sortByKey(map).entrySet()) {
+      addString(entry.getKey());
+      addValue(entry.getValue());
+    }
+  }
+
+  private Map<String, ?> sortByKey(Map<?, ?> map) {
+    Map<String, Object> sorted = new TreeMap<>();
+    map.forEach((k, v) -> sorted.put(String.valueOf(k), v));
+    return sorted;
+  }
+
+  private void addCollection(Collection<?> collection) {
+    digest.update(LIST);
+    addInt(collection.size());
+    for (Object element : collection) {
+      addValue(element);
+    }
+  }
+
+  private void addBean(Object bean) {
+    digest.update(OBJECT);
+    for (Field field : FIELDS.get(bean.getClass())) {
+      Object value = getFieldValue(field, bean);
+      if (value != null) {
+        addString(field.getName());
+        addValue(value);
+      }
+    }
+    digest.update(END);
+  }
+
+  private Object getFieldValue(Field field, Object bean) {
+    try {
+      return field.get(bean);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
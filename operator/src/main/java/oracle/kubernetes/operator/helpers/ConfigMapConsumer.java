@@ -73,6 +73,39 @@ public class ConfigMapConsumer implements Map<String, String> {
     return defaultValue;
   }
 
+  /**
+   * Reads a boolean tuning parameter. Any value other than "true" or "false", ignoring case, is
+   * treated as absent.
+   *
+   * @param parameter the name of the parameter
+   * @param defaultValue the value to use if the parameter is absent
+   * @return the parameter value
+   */
+  public boolean readBooleanTuningParameter(String parameter, boolean defaultValue) {
+    String val = get(parameter);
+    if (val != null) {
+      if ("true".equalsIgnoreCase(val.trim())) {
+        return true;
+      } else if ("false".equalsIgnoreCase(val.trim())) {
+        return false;
+      }
+    }
+
+    return defaultValue;
+  }
+
+  /**
+   * Reads a string tuning parameter, with surrounding white space removed.
+   *
+   * @param parameter the name of the parameter
+   * @param defaultValue the value to return if the parameter is absent
+   * @return the parameter value
+   */
+  public String readStringTuningParameter(String parameter, String defaultValue) {
+    String val = get(parameter);
+    return val != null ? val.trim() : defaultValue;
+  }
+
   @Override
   public int size() {
     String[] list = mountPointDir.list();
@@ -6,7 +6,10 @@ package oracle.kubernetes.operator.helpers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
@@ -40,9 +43,33 @@ public class CrdHelper {
 
   private static final CrdComparator COMPARATOR = new CrdComparatorImpl();
 
+  private static volatile boolean statusSubresourceEnabled;
+
   private CrdHelper() {
   }
 
+  /**
+   * Returns true if the domain CRD in effect defines a status subresource, so that domain status
+   * may be written through the "/status" endpoint without touching the rest of the domain.
+   *
+   * @return true if the status subresource is available
+   */
+  public static boolean isStatusSubresourceEnabled() {
+    return statusSubresourceEnabled;
+  }
+
+  private static void recordStatusSubresource(V1beta1CustomResourceDefinition crd) {
+    statusSubresourceEnabled = hasStatusSubresource(crd);
+  }
+
+  private static boolean hasStatusSubresource(V1beta1CustomResourceDefinition crd) {
+    return Optional.ofNullable(crd)
+        .map(V1beta1CustomResourceDefinition::getSpec)
+        .map(V1beta1CustomResourceDefinitionSpec::getSubresources)
+        .map(V1beta1CustomResourceSubresources::getStatus)
+        .isPresent();
+  }
+
   /**
    * Factory for {@link Step} that creates Domain CRD.
    *
@@ -123,16 +150,18 @@ public class CrdHelper {
               .names(getCrdNames())
               .validation(createSchemaValidation());
       if (version.isCrdSubresourcesSupported()) {
-        spec.setSubresources(
+        V1beta1CustomResourceSubresources subresources =
             new V1beta1CustomResourceSubresources()
                 .scale(
                     new V1beta1CustomResourceSubresourceScale()
                         .specReplicasPath(".spec.replicas")
-                        .statusReplicasPath(".status.replicas")));
-        // Remove status for now because seeing status not updated on some k8s environments
-        // Consider adding this only for K8s version 1.13+
+                        .statusReplicasPath(".status.replicas"));
+        // The status subresource does not reliably update status before K8s version 1.13.
         // See the note in KubernetesVersion
-        // .status(new HashMap<String, Object>()));
+        if (version.isCrdSubresourcesStatusPatternSupported()) {
+          subresources.setStatus(new HashMap<String, Object>());
+        }
+        spec.setSubresources(subresources);
       }
       return spec;
     }
@@ -224,19 +253,38 @@ public class CrdHelper {
       return found;
     }
 
+    // An existing CRD created before the status subresource was supported, or by an operator which
+    // did not define it, must gain it, or status updates through the subresource would fail.
+    private boolean lacksStatusSubresource(V1beta1CustomResourceDefinition existingCrd) {
+      return hasStatusSubresource(model) && !hasStatusSubresource(existingCrd);
+    }
+
     Step updateExistingCrd(Step next, V1beta1CustomResourceDefinition existingCrd) {
-      existingCrd
-          .getSpec()
-          .addVersionsItem(
-              new V1beta1CustomResourceDefinitionVersion()
-                  .name(KubernetesConstants.DOMAIN_VERSION)
-                  .served(true));
+      if (!existingCrdContainsVersion(existingCrd)) {
+        existingCrd
+            .getSpec()
+            .addVersionsItem(
+                new V1beta1CustomResourceDefinitionVersion()
+                    .name(KubernetesConstants.DOMAIN_VERSION)
+                    .served(true));
+      }
+      if (lacksStatusSubresource(existingCrd)) {
+        addStatusSubresource(existingCrd.getSpec());
+      }
 
       return new CallBuilder()
           .replaceCustomResourceDefinitionAsync(
               existingCrd.getMetadata().getName(), existingCrd, createReplaceResponseStep(next));
     }
 
+    private void addStatusSubresource(V1beta1CustomResourceDefinitionSpec spec) {
+      if (spec.getSubresources() == null) {
+        spec.setSubresources(model.getSpec().getSubresources());
+      } else {
+        spec.getSubresources().setStatus(model.getSpec().getSubresources().getStatus());
+      }
+    }
+
     Step updateCrd(Step next, V1beta1CustomResourceDefinition existingCrd) {
       model.getMetadata().setResourceVersion(existingCrd.getMetadata().getResourceVersion());
 
@@ -279,9 +327,11 @@ public class CrdHelper {
           return doNext(createCrd(getNext()), packet);
         } else if (isOutdatedCrd(existingCrd)) {
           return doNext(updateCrd(getNext(), existingCrd), packet);
-        } else if (!existingCrdContainsVersion(existingCrd)) {
+        } else if (!existingCrdContainsVersion(existingCrd)
+            || lacksStatusSubresource(existingCrd)) {
           return doNext(updateExistingCrd(getNext(), existingCrd), packet);
         } else {
+          recordStatusSubresource(existingCrd);
           return doNext(packet);
         }
       }
@@ -302,6 +352,7 @@ public class CrdHelper {
       public NextAction onSuccess(
           Packet packet, CallResponse<V1beta1CustomResourceDefinition> callResponse) {
         LOGGER.info(MessageKeys.CREATING_CRD, callResponse);
+        recordStatusSubresource(callResponse.getResult());
         return doNext(packet);
       }
     }
@@ -321,6 +372,7 @@ public class CrdHelper {
       public NextAction onSuccess(
           Packet packet, CallResponse<V1beta1CustomResourceDefinition> callResponse) {
         LOGGER.info(MessageKeys.CREATING_CRD, callResponse);
+        recordStatusSubresource(callResponse.getResult());
         return doNext(packet);
       }
     }
@@ -341,7 +393,7 @@ public class CrdHelper {
 
       return getSchemaValidation(actual) == null
           || !getSchemaValidation(expected).equals(getSchemaValidation(actual))
-          || !getSchemaSubresources(expected).equals(getSchemaSubresources(actual));
+          || !Objects.equals(getSchemaSubresources(expected), getSchemaSubresources(actual));
     }
 
     // true, if version is later than base
@@ -27,6 +27,7 @@ import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.joda.time.DateTime;
 
 /**
  * Operator's mapping between custom resource Domain and runtime details about that domain,
@@ -213,8 +214,10 @@ public class DomainPresenceInfo {
     if (serverName == null) return false;
     ServerKubernetesObjects sko = getSko(serverName);
     V1Pod deletedPod = sko.getPod().getAndAccumulate(event, this::getNewerCurrentOrNull);
-    if (deletedPod != null)
+    if (deletedPod != null) {
       sko.getLastKnownStatus().set(new LastKnownStatus(WebLogicConstants.SHUTDOWN_STATE));
+      sko.getPublishedStatus().set(null);
+    }
     return deletedPod != null;
   }
 
@@ -276,6 +279,39 @@ public class DomainPresenceInfo {
             });
   }
 
+  /**
+   * Records a server state published by the pod itself, such as in a readiness probe event, and
+   * updates the last known status to match. A state published before the one already recorded,
+   * as when an old event is delivered late or replayed, is ignored.
+   *
+   * @param serverName the name of the server
+   * @param status the published state
+   * @param publishedTime when the pod published the state
+   */
+  public void updatePublishedServerStatus(
+      String serverName, String status, DateTime publishedTime) {
+    LastKnownStatus update = status == null ? null : new LastKnownStatus(status, 0, publishedTime);
+    AtomicReference<LastKnownStatus> publishedStatus = getSko(serverName).getPublishedStatus();
+    if (publishedStatus.updateAndGet(current -> isLater(current, update) ? current : update)
+        == update) {
+      updateLastKnownServerStatus(serverName, status);
+    }
+  }
+
+  private boolean isLater(LastKnownStatus first, LastKnownStatus second) {
+    return first != null && second != null && first.getTime().isAfter(second.getTime());
+  }
+
+  /**
+   * Returns the state most recently published by the pod for the specified server.
+   *
+   * @param serverName the name of the server
+   * @return the published status, or null if none has been published
+   */
+  public LastKnownStatus getPublishedServerStatus(String serverName) {
+    return getSko(serverName).getPublishedStatus().get();
+  }
+
   /**
    * Applies an add or modify event for a server service. If the current service is newer than the
    * one associated with the event, ignores the event.
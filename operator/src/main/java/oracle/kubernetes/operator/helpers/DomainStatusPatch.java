@@ -64,6 +64,22 @@ public class DomainStatusPatch extends Step {
     new DomainStatusPatch(domain, reason, message).update();
   }
 
+  /**
+   * Creates a step to apply a JSON patch to the status of a domain. The patch is sent to the status
+   * subresource if the domain CRD defines one, and otherwise to the domain itself.
+   * @param name the name of the domain
+   * @param namespace the namespace containing the domain
+   * @param patchBody a JSON patch whose paths start with "/status"
+   * @param responseStep the step to receive the patched domain
+   */
+  public static Step createStatusPatchStep(
+      String name, String namespace, V1Patch patchBody, ResponseStep<Domain> responseStep) {
+    CallBuilder callBuilder = new CallBuilder();
+    return CrdHelper.isStatusSubresourceEnabled()
+        ? callBuilder.patchDomainStatusAsync(name, namespace, patchBody, responseStep)
+        : callBuilder.patchDomainAsync(name, namespace, patchBody, responseStep);
+  }
+
   private DomainStatusPatch(Domain domain, String reason, String message) {
     name = domain.getMetadata().getName();
     namespace = domain.getMetadata().getNamespace();
@@ -72,7 +88,7 @@ public class DomainStatusPatch extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    Step step = new CallBuilder().patchDomainAsync(name, namespace, getPatchBody(), createResponseStep());
+    Step step = createStatusPatchStep(name, namespace, getPatchBody(), createResponseStep());
     return doNext(step, packet);
   }
 
@@ -102,7 +118,11 @@ public class DomainStatusPatch extends Step {
 
   private void update() {
     try {
-      new CallBuilder().patchDomain(name, namespace, getPatchBody());
+      if (CrdHelper.isStatusSubresourceEnabled()) {
+        new CallBuilder().patchDomainStatus(name, namespace, getPatchBody());
+      } else {
+        new CallBuilder().patchDomain(name, namespace, getPatchBody());
+      }
     } catch (ApiException ignored) {
       /* extraneous comment to fool checkstyle into thinking that this is not an empty catch block. */
     }
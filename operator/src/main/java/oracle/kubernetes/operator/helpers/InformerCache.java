@@ -0,0 +1,333 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Service;
+
+/**
+ * A shared, watch-driven store of the operator-created pods and services in each target namespace,
+ * indexed by namespace, domain UID and server (or service) name. The store is seeded by the list
+ * calls made when a namespace is started and is then kept current by the pod and service watchers,
+ * so that a domain's presence can be populated without further list calls against the API server.
+ */
+public class InformerCache {
+  // Map from namespace to the resources cached for that namespace
+  private static final Map<String, NamespaceResources> NAMESPACES = new ConcurrentHashMap<>();
+
+  private InformerCache() {
+  }
+
+  private static NamespaceResources getResources(String ns) {
+    return NAMESPACES.computeIfAbsent(ns, k -> new NamespaceResources());
+  }
+
+  /**
+   * Replaces the pods cached for the specified namespace with the result of a list call, and marks
+   * the namespace pods as synchronized.
+   *
+   * @param ns the namespace
+   * @param pods the pods returned by the list call
+   */
+  public static void replacePods(String ns, Collection<V1Pod> pods) {
+    getResources(ns).replacePods(pods);
+  }
+
+  /**
+   * Replaces the services cached for the specified namespace with the result of a list call, and
+   * marks the namespace services as synchronized.
+   *
+   * @param ns the namespace
+   * @param services the services returned by the list call
+   */
+  public static void replaceServices(String ns, Collection<V1Service> services) {
+    getResources(ns).replaceServices(services);
+  }
+
+  /**
+   * Applies a pod watch event to the cache.
+   *
+   * @param watchType the type of the watch event
+   * @param pod the pod associated with the event
+   */
+  public static void onPodEvent(String watchType, V1Pod pod) {
+    String ns = getNamespace(pod);
+    if (ns != null) {
+      getResources(ns).pods.onEvent(watchType, pod);
+    }
+  }
+
+  /**
+   * Applies a service watch event to the cache.
+   *
+   * @param watchType the type of the watch event
+   * @param service the service associated with the event
+   */
+  public static void onServiceEvent(String watchType, V1Service service) {
+    String ns = getNamespace(service);
+    if (ns != null) {
+      getResources(ns).services.onEvent(watchType, service);
+    }
+  }
+
+  /**
+   * Returns true if both pods and services for the namespace have been listed, so that the cache
+   * is a complete view of them.
+   *
+   * @param ns the namespace
+   * @return true if the cache may be used in place of list calls
+   */
+  public static boolean isSynchronized(String ns) {
+    return Optional.ofNullable(NAMESPACES.get(ns))
+        .map(NamespaceResources::isSynchronized)
+        .orElse(false);
+  }
+
+  /**
+   * Returns the cached pod for the specified server.
+   *
+   * @param ns the namespace
+   * @param domainUid the domain UID
+   * @param serverName the name of the server
+   * @return the pod, or null if none is cached
+   */
+  public static V1Pod getServerPod(String ns, String domainUid, String serverName) {
+    return Optional.ofNullable(NAMESPACES.get(ns))
+        .map(r -> r.pods.get(domainUid, serverName))
+        .orElse(null);
+  }
+
+  /**
+   * Returns the cached pod with the specified name.
+   *
+   * @param ns the namespace
+   * @param name the name of the pod
+   * @return the pod, or null if none is cached
+   */
+  public static V1Pod getPod(String ns, String name) {
+    return Optional.ofNullable(NAMESPACES.get(ns)).map(r -> r.pods.findByName(name)).orElse(null);
+  }
+
+  /**
+   * Returns the cached service with the specified name.
+   *
+   * @param ns the namespace
+   * @param name the name of the service
+   * @return the service, or null if none is cached
+   */
+  public static V1Service getService(String ns, String name) {
+    return Optional.ofNullable(NAMESPACES.get(ns))
+        .map(r -> r.services.findByName(name))
+        .orElse(null);
+  }
+
+  /**
+   * Returns the cached server pods for the specified domain.
+   *
+   * @param ns the namespace
+   * @param domainUid the domain UID
+   * @return a map of server name to pod
+   */
+  public static Map<String, V1Pod> getServerPods(String ns, String domainUid) {
+    return Optional.ofNullable(NAMESPACES.get(ns))
+        .map(r -> r.pods.getAll(domainUid))
+        .orElse(Collections.emptyMap());
+  }
+
+  /**
+   * Returns the cached services for the specified domain.
+   *
+   * @param ns the namespace
+   * @param domainUid the domain UID
+   * @return a map of service name to service
+   */
+  public static Map<String, V1Service> getServices(String ns, String domainUid) {
+    return Optional.ofNullable(NAMESPACES.get(ns))
+        .map(r -> r.services.getAll(domainUid))
+        .orElse(Collections.emptyMap());
+  }
+
+  /**
+   * Populates the specified domain presence from the cache, if the namespace has been synchronized.
+   *
+   * @param info the domain presence to populate
+   * @return true if the presence was populated; false if list calls are still required
+   */
+  public static boolean populate(DomainPresenceInfo info) {
+    if (!isSynchronized(info.getNamespace())) {
+      return false;
+    }
+
+    getServerPods(info.getNamespace(), info.getDomainUid()).forEach(info::setServerPod);
+    getServices(info.getNamespace(), info.getDomainUid())
+        .values()
+        .forEach(service -> ServiceHelper.addToPresence(info, service));
+    return true;
+  }
+
+  /**
+   * Discards everything cached for the specified namespace.
+   *
+   * @param ns the namespace
+   */
+  public static void removeNamespace(String ns) {
+    NAMESPACES.remove(ns);
+  }
+
+  private static String getNamespace(V1Pod pod) {
+    return Optional.ofNullable(pod)
+        .map(V1Pod::getMetadata)
+        .map(V1ObjectMeta::getNamespace)
+        .orElse(null);
+  }
+
+  private static String getNamespace(V1Service service) {
+    return Optional.ofNullable(service)
+        .map(V1Service::getMetadata)
+        .map(V1ObjectMeta::getNamespace)
+        .orElse(null);
+  }
+
+  private static class NamespaceResources {
+    private final ResourceIndex<V1Pod> pods =
+        new ResourceIndex<>(
+            PodHelper::getPodDomainUid, PodHelper::getPodServerName, V1Pod::getMetadata);
+    private final ResourceIndex<V1Service> services =
+        new ResourceIndex<>(
+            ServiceHelper::getServiceDomainUid,
+            s -> s.getMetadata().getName(),
+            V1Service::getMetadata);
+    private volatile boolean podsListed;
+    private volatile boolean servicesListed;
+
+    void replacePods(Collection<V1Pod> items) {
+      pods.replaceAll(items);
+      podsListed = true;
+    }
+
+    void replaceServices(Collection<V1Service> items) {
+      services.replaceAll(items);
+      servicesListed = true;
+    }
+
+    boolean isSynchronized() {
+      return podsListed && servicesListed;
+    }
+  }
+
+  /**
+   * Resources of a single type within a namespace, indexed by domain UID and then by a per-domain
+   * key. Watch events only replace an entry when they are not older than the cached resource.
+   * Updates are serialized, so that a relist can neither lose a concurrent watch event nor have
+   * one restore an object it removed; readers see the contents from before or after a relist,
+   * never a partially repopulated index.
+   *
+   * @param <T> the resource type
+   */
+  private static class ResourceIndex<T> {
+    private volatile ConcurrentMap<String, ConcurrentMap<String, T>> byDomain =
+        new ConcurrentHashMap<>();
+    private final Function<T, String> domainUidFunction;
+    private final Function<T, String> keyFunction;
+    private final Function<T, V1ObjectMeta> metadataFunction;
+
+    ResourceIndex(
+        Function<T, String> domainUidFunction,
+        Function<T, String> keyFunction,
+        Function<T, V1ObjectMeta> metadataFunction) {
+      this.domainUidFunction = domainUidFunction;
+      this.keyFunction = keyFunction;
+      this.metadataFunction = metadataFunction;
+    }
+
+    synchronized void replaceAll(Collection<T> items) {
+      ConcurrentMap<String, ConcurrentMap<String, T>> replacement = new ConcurrentHashMap<>();
+      if (items != null) {
+        for (T item : items) {
+          String domainUid = domainUidFunction.apply(item);
+          String key = keyFunction.apply(item);
+          if (domainUid != null && key != null) {
+            getDomainMap(replacement, domainUid).put(key, newerOf(get(domainUid, key), item));
+          }
+        }
+      }
+      byDomain = replacement;
+    }
+
+    synchronized void onEvent(String watchType, T item) {
+      String domainUid = domainUidFunction.apply(item);
+      String key = keyFunction.apply(item);
+      if (domainUid == null || key == null) {
+        return;
+      }
+
+      switch (watchType) {
+        case "ADDED":
+        case "MODIFIED":
+          getDomainMap(byDomain, domainUid)
+              .compute(key, (k, current) -> isNewer(current, item) ? current : item);
+          break;
+        case "DELETED":
+          getDomainMap(byDomain, domainUid)
+              .computeIfPresent(key, (k, current) -> isNewer(current, item) ? current : null);
+          break;
+        case "ERROR":
+        default:
+      }
+    }
+
+    T get(String domainUid, String key) {
+      return Optional.ofNullable(byDomain.get(domainUid)).map(m -> m.get(key)).orElse(null);
+    }
+
+    T findByName(String name) {
+      return byDomain.values().stream()
+          .flatMap(m -> m.values().stream())
+          .filter(item -> name.equals(metadataFunction.apply(item).getName()))
+          .findFirst()
+          .orElse(null);
+    }
+
+    Map<String, T> getAll(String domainUid) {
+      return Optional.ofNullable(byDomain.get(domainUid))
+          .<Map<String, T>>map(Collections::unmodifiableMap)
+          .orElse(Collections.emptyMap());
+    }
+
+    private ConcurrentMap<String, T> getDomainMap(
+        ConcurrentMap<String, ConcurrentMap<String, T>> map, String domainUid) {
+      return map.computeIfAbsent(domainUid, k -> new ConcurrentHashMap<>());
+    }
+
+    // A list response may be older than watch events already applied; keep what they recorded
+    private T newerOf(T current, T listed) {
+      return isNewer(current, listed) ? current : listed;
+    }
+
+    // Returns true if the cached resource is strictly newer than the one from the event. Resources
+    // without a creation timestamp and resource version cannot be ordered; the event then wins.
+    private boolean isNewer(T current, T event) {
+      V1ObjectMeta currentMeta = current == null ? null : metadataFunction.apply(current);
+      V1ObjectMeta eventMeta = metadataFunction.apply(event);
+      return isOrderable(currentMeta)
+          && isOrderable(eventMeta)
+          && KubernetesUtils.isFirstNewer(currentMeta, eventMeta);
+    }
+
+    private boolean isOrderable(V1ObjectMeta meta) {
+      return meta != null
+          && meta.getCreationTimestamp() != null
+          && meta.getResourceVersion() != null;
+    }
+  }
+}
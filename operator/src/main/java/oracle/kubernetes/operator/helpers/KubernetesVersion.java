@@ -121,8 +121,8 @@ public class KubernetesVersion {
   // Even though subresources are supported at version 1.10, we've determined that the
   // 'status' subresource and the pattern of using "/status" doesn't actually work
   // until 1.13.  This is validated against the published recent changes doc.
-  // *NOTE*: To use this, update CrdHelper to include the status subresource and also
-  // update DomainStatusUpdater to use replaceDomainStatusAsync
+  // CrdHelper only includes the status subresource from this version on; DomainStatusUpdater
+  // patches the status subresource when the CRD in effect defines it.
   boolean isCrdSubresourcesStatusPatternSupported() {
     return this.major > 1 || (this.major == 1 && this.minor >= 13);
   }
@@ -18,9 +18,20 @@ public class LastKnownStatus {
   }
 
   public LastKnownStatus(String status, int unchangedCount) {
+    this(status, unchangedCount, new DateTime());
+  }
+
+  /**
+   * Creates a status observed at the specified time.
+   *
+   * @param status the status
+   * @param unchangedCount the number of times the status has been read without change
+   * @param time when the status was observed
+   */
+  public LastKnownStatus(String status, int unchangedCount, DateTime time) {
     this.status = status;
     this.unchangedCount = unchangedCount;
-    this.time = new DateTime();
+    this.time = time;
   }
 
   public String getStatus() {
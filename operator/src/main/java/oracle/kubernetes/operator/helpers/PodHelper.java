@@ -177,8 +177,6 @@ public class PodHelper {
 
     AdminPodStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet);
-
-      init();
     }
 
     @Override
@@ -289,8 +287,15 @@ public class PodHelper {
       super(conflictStep, packet);
       this.packet = packet;
       clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
+    }
 
-      init();
+    @Override
+    List<Object> getRecipeInputs() {
+      List<Object> inputs = super.getRecipeInputs();
+      if (inputs != null) {
+        inputs.add(packet.get(ProcessingConstants.ENVVARS));
+      }
+      return inputs;
     }
 
     @Override
@@ -434,6 +439,7 @@ public class PodHelper {
 
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       V1Pod oldPod = info.getServerPod(serverName);
+      RecipeHashCache.PODS.remove(info, LegalNames.toPodName(info.getDomainUid(), serverName));
 
       long gracePeriodSeconds = Shutdown.DEFAULT_TIMEOUT;
       String clusterName = null;
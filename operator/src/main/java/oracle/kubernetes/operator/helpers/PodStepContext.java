@@ -7,6 +7,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -82,14 +83,40 @@ public abstract class PodStepContext extends BasePodStepContext {
     return !entry.getKey().startsWith("weblogic.");
   }
 
-  void init() {
-    podModel = createPodModel();
-  }
-
   V1Pod getPodModel() {
+    if (podModel == null) {
+      podModel = createPodModel();
+    }
     return podModel;
   }
 
+  // The hash of the pod recipe, which is built only if its inputs have changed since it was last
+  // hashed
+  private String getRecipeHash() {
+    return RecipeHashCache.PODS.getHash(
+        info, getPodName(), getRecipeInputs(), () -> AnnotationHelper.getHash(getPodModel()));
+  }
+
+  /**
+   * Returns the values, other than the domain spec, from which the pod recipe is built.
+   *
+   * @return a list of recipe inputs, or null if they cannot be determined
+   */
+  List<Object> getRecipeInputs() {
+    return RecipeHashCache.createInputs(
+        getDomain(),
+        getServerName(),
+        getClusterName(),
+        getDomainName(),
+        getAsName(),
+        domainTopology.getServerConfig(getAsName()),
+        scan,
+        Optional.ofNullable(TuningParameters.getInstance())
+            .map(TuningParameters::getPodTuning)
+            .orElse(null),
+        mockWls());
+  }
+
   private Step getConflictStep() {
     return new ConflictStep();
   }
@@ -311,7 +338,7 @@ public abstract class PodStepContext extends BasePodStepContext {
         patchBuilder,
         "/metadata/annotations/",
         currentPod.getMetadata().getAnnotations(),
-        getPodAnnotations());
+        getPatchableAnnotations());
 
     return new CallBuilder()
         .patchPodAsync(getPodName(), getNamespace(),
@@ -349,12 +376,20 @@ public abstract class PodStepContext extends BasePodStepContext {
   private boolean mustPatchPod(V1Pod currentPod) {
     return KubernetesUtils.isMissingValues(currentPod.getMetadata().getLabels(), getPodLabels())
         || KubernetesUtils.isMissingValues(
-            currentPod.getMetadata().getAnnotations(), getPodAnnotations());
+            currentPod.getMetadata().getAnnotations(), getPatchableAnnotations());
+  }
+
+  // The customer annotations, plus the recipe hash, which a pod created by an earlier operator
+  // version may lack even though its legacy hash matches the current recipe.
+  private Map<String, String> getPatchableAnnotations() {
+    Map<String, String> annotations = new HashMap<>(getPodAnnotations());
+    annotations.put(AnnotationHelper.HASH_ANNOTATION, getRecipeHash());
+    return annotations;
   }
 
   private boolean canUseCurrentPod(V1Pod currentPod) {
     boolean useCurrent =
-        AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+        AnnotationHelper.hasMatchingHash(getRecipeHash(), currentPod, this::createPodRecipe);
     if (!useCurrent && AnnotationHelper.getDebugString(currentPod).length() > 0)
       LOGGER.info(
           MessageKeys.POD_DUMP,
@@ -0,0 +1,146 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * Remembers the hash of the recipe last built for each pod or service, along with the inputs from
+ * which it was built. While those inputs are unchanged, a make-right can compare an existing
+ * resource with the remembered hash, rather than building and hashing its recipe again.
+ *
+ * <p>The inputs of a recipe always include the generation of the domain resource, which changes
+ * whenever its spec does; the caller adds the topology, tuning and any other values which the
+ * recipe uses. A domain without a generation has no inputs, and its recipes are always rebuilt.
+ */
+public class RecipeHashCache {
+  static final RecipeHashCache PODS = new RecipeHashCache();
+  static final RecipeHashCache SERVICES = new RecipeHashCache();
+
+  private final Map<String, Map<String, Recipe>> domainRecipes = new ConcurrentHashMap<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * Forgets the recipes of the pods and services of a domain.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public static void forgetDomain(String namespace, String domainUid) {
+    PODS.removeDomain(namespace, domainUid);
+    SERVICES.removeDomain(namespace, domainUid);
+  }
+
+  /**
+   * Returns the inputs of a recipe, or null if the domain has no generation.
+   *
+   * @param domain the domain for which the recipe is built
+   * @param inputs the values, other than the domain spec, from which the recipe is built
+   * @return a list of inputs, which may be extended by the caller
+   */
+  static List<Object> createInputs(Domain domain, Object... inputs) {
+    Optional<V1ObjectMeta> metadata = Optional.ofNullable(domain).map(Domain::getMetadata);
+    Long generation = metadata.map(V1ObjectMeta::getGeneration).orElse(null);
+    if (generation == null) {
+      return null;
+    }
+
+    List<Object> result = new ArrayList<>();
+    result.add(metadata.map(V1ObjectMeta::getUid).orElse(null));
+    result.add(generation);
+    result.addAll(Arrays.asList(inputs));
+    return result;
+  }
+
+  private static String getDomainKey(String namespace, String domainUid) {
+    return namespace + "/" + domainUid;
+  }
+
+  /**
+   * Returns the hash of the recipe for a resource, computing it only if the inputs have changed
+   * since it was last computed.
+   *
+   * @param info the domain presence
+   * @param name the name of the resource
+   * @param inputs the inputs of the recipe; if null, the hash is always computed
+   * @param hashSupplier computes the hash of the recipe
+   * @return the recipe hash
+   */
+  String getHash(
+      DomainPresenceInfo info, String name, List<Object> inputs, Supplier<String> hashSupplier) {
+    if (inputs == null) {
+      return hashSupplier.get();
+    }
+
+    Map<String, Recipe> recipes =
+        domainRecipes.computeIfAbsent(
+            getDomainKey(info.getNamespace(), info.getDomainUid()),
+            k -> new ConcurrentHashMap<>());
+    Recipe recipe = recipes.get(name);
+    if (recipe != null && recipe.inputs.equals(inputs)) {
+      hitCount.incrementAndGet();
+      return recipe.hash;
+    }
+
+    missCount.incrementAndGet();
+    String hash = hashSupplier.get();
+    recipes.put(name, new Recipe(inputs, hash));
+    return hash;
+  }
+
+  /**
+   * Forgets the recipe for a resource which is being deleted.
+   *
+   * @param info the domain presence
+   * @param name the name of the resource
+   */
+  void remove(DomainPresenceInfo info, String name) {
+    Optional.ofNullable(domainRecipes.get(getDomainKey(info.getNamespace(), info.getDomainUid())))
+        .ifPresent(recipes -> recipes.remove(name));
+  }
+
+  private void removeDomain(String namespace, String domainUid) {
+    domainRecipes.remove(getDomainKey(namespace, domainUid));
+  }
+
+  /**
+   * Returns the number of times a remembered hash was used.
+   *
+   * @return a hit count
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of times a hash was computed because no hash was remembered for the inputs.
+   *
+   * @return a miss count
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private static class Recipe {
+    private final List<Object> inputs;
+    private final String hash;
+
+    Recipe(List<Object> inputs, String hash) {
+      this.inputs = Objects.requireNonNull(inputs);
+      this.hash = hash;
+    }
+  }
+}
@@ -13,6 +13,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import io.kubernetes.client.models.V1Pod;
+import oracle.kubernetes.operator.DomainPresence;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -156,7 +157,11 @@ public class RollingHelper {
 
     @Override
     public NextAction apply(Packet packet) {
-      return doForkJoin(getNext(), packet, serversThatCanRestartNow);
+      return doForkJoin(
+          getNext(),
+          packet,
+          serversThatCanRestartNow,
+          DomainPresence.getFanOutMaxParallelism());
     }
   }
 
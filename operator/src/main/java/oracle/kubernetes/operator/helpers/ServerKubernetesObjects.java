@@ -14,6 +14,7 @@ class ServerKubernetesObjects {
   private final AtomicReference<V1Pod> pod = new AtomicReference<>(null);
   private final AtomicBoolean isPodBeingDeleted = new AtomicBoolean(false);
   private final AtomicReference<LastKnownStatus> lastKnownStatus = new AtomicReference<>(null);
+  private final AtomicReference<LastKnownStatus> publishedStatus = new AtomicReference<>(null);
   private final AtomicReference<V1Service> service = new AtomicReference<>(null);
   private final AtomicReference<V1Service> externalService = new AtomicReference<>();
 
@@ -47,6 +48,16 @@ class ServerKubernetesObjects {
     return lastKnownStatus;
   }
 
+  /**
+   * Server status most recently published from the pod without an exec, such as by a readiness
+   * probe event.
+   *
+   * @return Status
+   */
+  AtomicReference<LastKnownStatus> getPublishedStatus() {
+    return publishedStatus;
+  }
+
   /**
    * The Service.
    *
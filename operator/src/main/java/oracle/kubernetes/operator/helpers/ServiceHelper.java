@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.models.V1DeleteOptions;
@@ -161,8 +162,9 @@ public class ServiceHelper {
     return new ClusterStepContext(null, packet).createModel();
   }
 
-  private static boolean canUseCurrentService(V1Service model, V1Service current) {
-    return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
+  private static boolean canUseCurrentService(
+      String modelHash, V1Service current, Supplier<V1Service> recipe) {
+    return AnnotationHelper.hasMatchingHash(modelHash, current, recipe);
   }
 
   /**
@@ -242,6 +244,18 @@ public class ServiceHelper {
       return version != null && version.isPublishNotReadyAddressesSupported();
     }
 
+    @Override
+    List<Object> getRecipeInputs() {
+      return RecipeHashCache.createInputs(
+          getDomain(),
+          getDomainName(),
+          getServerName(),
+          getClusterName(),
+          scan,
+          isPreserveServices,
+          isPublishNotReadyAddressesSupported());
+    }
+
     @Override
     protected V1ObjectMeta createMetadata() {
       V1ObjectMeta metadata =
@@ -388,6 +402,23 @@ public class ServiceHelper {
       return AnnotationHelper.withSha256Hash(createRecipe());
     }
 
+    // The hash of the service recipe, which is built only if its inputs have changed since it was
+    // last hashed
+    private String getRecipeHash() {
+      return RecipeHashCache.SERVICES.getHash(
+          info,
+          createServiceName(),
+          getRecipeInputs(),
+          () -> AnnotationHelper.getHash(createModel()));
+    }
+
+    /**
+     * Returns the values, other than the domain spec, from which the service recipe is built.
+     *
+     * @return a list of recipe inputs, or null if they cannot be determined
+     */
+    abstract List<Object> getRecipeInputs();
+
     V1Service createRecipe() {
       return serviceType.withTypeLabel(
           new V1Service().spec(createServiceSpec()).metadata(createMetadata()));
@@ -496,7 +527,7 @@ public class ServiceHelper {
       V1Service service = getServiceFromRecord();
       if (service == null) {
         return createNewService(next);
-      } else if (canUseCurrentService(createModel(), service)) {
+      } else if (canUseCurrentService(getRecipeHash(), service, this::createRecipe)) {
         logServiceExists();
         return next;
       } else {
@@ -643,6 +674,7 @@ public class ServiceHelper {
       V1Service oldService = info.removeServerService(serverName);
 
       if (oldService != null) {
+        RecipeHashCache.SERVICES.remove(info, oldService.getMetadata().getName());
         return doNext(
             deleteService(oldService.getMetadata().getName(), info.getNamespace()), packet);
       }
@@ -683,6 +715,12 @@ public class ServiceHelper {
           .putSelectorItem(LabelConstants.CLUSTERNAME_LABEL, clusterName);
     }
 
+    @Override
+    List<Object> getRecipeInputs() {
+      return RecipeHashCache.createInputs(
+          getDomain(), getDomainName(), clusterName, config.getClusterConfig(clusterName));
+    }
+
     protected List<V1ServicePort> createServicePorts() {
       for (WlsServerConfig server : getServerConfigs(config.getClusterConfig(clusterName)))
         addServicePorts(server);
@@ -806,6 +844,15 @@ public class ServiceHelper {
       return NODE_PORT_TYPE;
     }
 
+    @Override
+    List<Object> getRecipeInputs() {
+      return RecipeHashCache.createInputs(
+          getDomain(),
+          getDomainName(),
+          adminServerName,
+          domainTopology.getServerConfig(domainTopology.getAdminServerName()));
+    }
+
     @Override
     protected V1Service getServiceFromRecord() {
       return info.getExternalService(adminServerName);
@@ -47,7 +47,7 @@ public abstract class StepContextBase implements StepContextConstants {
 
   protected V1PodSpec createPodSpec(TuningParameters tuningParameters) {
     return new V1PodSpec()
-        .containers(getContainers())
+        .containers(new ArrayList<>(getContainers()))
         .addContainersItem(createContainer(tuningParameters))
         .affinity(getServerSpec().getAffinity())
         .nodeSelector(getServerSpec().getNodeSelectors())
@@ -5,10 +5,18 @@ package oracle.kubernetes.operator.http;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 
@@ -16,6 +24,7 @@ import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1ServicePort;
 import io.kubernetes.client.models.V1ServiceSpec;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -31,8 +40,17 @@ public class HttpClient {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String HTTP_PROTOCOL = "http://";
   private static final String HTTPS_PROTOCOL = "https://";
+
+  // Maximum number of asynchronous requests which may be in progress at once, across all clients
+  private static final int MAX_CONCURRENT_REQUESTS = 10;
+  private static final ExecutorService ASYNC_EXECUTOR =
+      Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS, new DaemonThreadFactory());
+  private static final int DEFAULT_TIMEOUT_SECONDS = 10;
+
   private Client httpClient;
   private String encodedCredentials;
+  private int requestsInProgress;
+  private boolean closeRequested;
 
   // Please use one of the factory methods to get an instance of HttpClient.
   // Constructor is package access for unit testing
@@ -42,8 +60,9 @@ public class HttpClient {
   }
 
   /**
-   * Asynchronous {@link Step} for creating an authenticated HTTP client targeted at a server
-   * instance.
+   * Asynchronous {@link Step} for obtaining an authenticated HTTP client targeted at a server
+   * instance. A client previously created for the same credentials secret is reused; otherwise, the
+   * secret is read and the new client is cached.
    *
    * @param namespace Namespace
    * @param adminSecretName Admin secret name
@@ -52,8 +71,43 @@ public class HttpClient {
    */
   public static Step createAuthenticatedClientForServer(
       String namespace, String adminSecretName, Step next) {
-    return new AuthenticatedClientForServerStep(
-        namespace, adminSecretName, new WithSecretDataStep(next));
+    return new AuthenticatedClientForServerStep(namespace, adminSecretName, next);
+  }
+
+  /**
+   * Closes the underlying client, releasing its pooled connections. If requests are in progress
+   * through this client, it is closed once the last of them completes.
+   */
+  synchronized void close() {
+    closeRequested = true;
+    if (requestsInProgress == 0) {
+      closeClient();
+    }
+  }
+
+  private synchronized void beginRequest() {
+    requestsInProgress++;
+  }
+
+  private synchronized void endRequest() {
+    if (--requestsInProgress == 0 && closeRequested) {
+      closeClient();
+    }
+  }
+
+  private void closeClient() {
+    if (httpClient != null) {
+      httpClient.close();
+    }
+  }
+
+  // Requests time out as Kubernetes API calls do, so that neither synchronous nor asynchronous
+  // requests can wait forever for an unresponsive server.
+  private static int getTimeoutSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getCallBuilderTuning)
+        .map(tuning -> tuning.callTimeoutSeconds)
+        .orElse(DEFAULT_TIMEOUT_SECONDS);
   }
 
   /**
@@ -73,8 +127,14 @@ public class HttpClient {
    */
   private static HttpClient createAuthenticatedClient(
       final byte[] username, final byte[] password) {
-    // build client with authentication information.
-    Client client = ClientBuilder.newClient();
+    // build client with authentication information. Asynchronous requests from all clients share a
+    // bounded executor, and since clients are reused, so are their keep-alive connections.
+    Client client =
+        ClientBuilder.newBuilder()
+            .executorService(ASYNC_EXECUTOR)
+            .connectTimeout(getTimeoutSeconds(), TimeUnit.SECONDS)
+            .readTimeout(getTimeoutSeconds(), TimeUnit.SECONDS)
+            .build();
     String encodedCredentials = null;
     if (username != null && password != null) {
       byte[] usernameAndPassword = new byte[username.length + password.length + 1];
@@ -177,30 +237,93 @@ public class HttpClient {
       String requestUrl, String serviceUrl, String payload, boolean throwOnFailure)
       throws HttpException {
     String url = serviceUrl + requestUrl;
+    beginRequest();
+    try {
+      return createResult(url, createRequest(url).post(Entity.json(payload)), throwOnFailure);
+    } finally {
+      endRequest();
+    }
+  }
+
+  /**
+   * Constructs a URL using the provided service URL and request URL, and use the resulting URL and
+   * the payload provided to issue a HTTP POST request without waiting for the response. The
+   * returned future completes with the result once the response is received, whether or not the
+   * status code indicates success; it completes exceptionally only if no response was received.
+   *
+   * @param requestUrl The request URL containing the request of the REST call
+   * @param serviceUrl The service URL containing the host and port of the server where the HTTP
+   *     request is to be sent to
+   * @param payload The payload to be used in the HTTP POST request
+   * @return A future for the Result object containing the response from the REST call
+   */
+  public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+      String requestUrl, String serviceUrl, String payload) {
+    String url = serviceUrl + requestUrl;
+    CompletableFuture<Result> future = new CompletableFuture<>();
+    beginRequest();
+    try {
+      createRequest(url)
+          .async()
+          .post(
+              Entity.json(payload),
+              new InvocationCallback<Response>() {
+                @Override
+                public void completed(Response response) {
+                  try {
+                    future.complete(createResult(url, response, false));
+                  } catch (HttpException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                  } finally {
+                    endRequest();
+                  }
+                }
+
+                @Override
+                public void failed(Throwable throwable) {
+                  endRequest();
+                  future.completeExceptionally(throwable);
+                }
+              });
+    } catch (RuntimeException e) {
+      endRequest();
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  private Invocation.Builder createRequest(String url) {
     WebTarget target = httpClient.target(url);
-    Invocation.Builder invocationBuilder =
-        target
-            .request()
-            .accept("application/json")
-            .header("Authorization", "Basic " + encodedCredentials)
-            .header("X-Requested-By", "Weblogic Operator");
-    Response response = invocationBuilder.post(Entity.json(payload));
-    LOGGER.finer("Response is  " + response.getStatusInfo());
-    String responseString = null;
-    int status = response.getStatus();
-    boolean successful = false;
-    if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-      successful = true;
-      if (response.hasEntity()) {
-        responseString = String.valueOf(response.readEntity(String.class));
-      }
-    } else {
-      LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, response.getStatus());
-      if (throwOnFailure) {
-        throw new HttpException(status);
+    return target
+        .request()
+        .accept("application/json")
+        .header("Authorization", "Basic " + encodedCredentials)
+        .header("X-Requested-By", "Weblogic Operator");
+  }
+
+  private Result createResult(String url, Response response, boolean throwOnFailure)
+      throws HttpException {
+    try {
+      LOGGER.finer("Response is  " + response.getStatusInfo());
+      String responseString = null;
+      int status = response.getStatus();
+      boolean successful = false;
+      if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+        successful = true;
+        if (response.hasEntity()) {
+          responseString = String.valueOf(response.readEntity(String.class));
+        }
+      } else {
+        LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, response.getStatus());
+        if (throwOnFailure) {
+          throw new HttpException(status);
+        }
       }
+      return new Result(responseString, status, successful);
+    } finally {
+      // release the connection so that it may be kept alive and reused
+      response.close();
     }
-    return new Result(responseString, status, successful);
   }
 
   private static class AuthenticatedClientForServerStep extends Step {
@@ -215,17 +338,36 @@ public class HttpClient {
 
     @Override
     public NextAction apply(Packet packet) {
+      HttpClient cachedClient = HttpClientCache.lookup(namespace, adminSecretName);
+      if (cachedClient != null) {
+        packet.put(KEY, cachedClient);
+        return doNext(packet);
+      }
+
       Step readSecret =
           SecretHelper.getSecretData(
-              SecretHelper.SecretType.AdminCredentials, adminSecretName, namespace, getNext());
+              SecretHelper.SecretType.AdminCredentials,
+              adminSecretName,
+              namespace,
+              new WithSecretDataStep(
+                  namespace,
+                  adminSecretName,
+                  HttpClientCache.getGeneration(namespace, adminSecretName),
+                  getNext()));
       return doNext(readSecret, packet);
     }
   }
 
   private static class WithSecretDataStep extends Step {
+    private final String namespace;
+    private final String adminSecretName;
+    private final long readGeneration;
 
-    WithSecretDataStep(Step next) {
+    WithSecretDataStep(String namespace, String adminSecretName, long readGeneration, Step next) {
       super(next);
+      this.namespace = namespace;
+      this.adminSecretName = adminSecretName;
+      this.readGeneration = readGeneration;
     }
 
     @Override
@@ -236,7 +378,9 @@ public class HttpClient {
       if (secretData != null) {
         byte[] username = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME);
         byte[] password = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD);
-        packet.put(KEY, createAuthenticatedClient(username, password));
+        HttpClient client = createAuthenticatedClient(username, password);
+        packet.put(KEY, client);
+        HttpClientCache.put(namespace, adminSecretName, client, readGeneration);
 
         clearCredential(username);
         clearCredential(password);
@@ -244,4 +388,15 @@ public class HttpClient {
       return doNext(packet);
     }
   }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, "weblogic-rest-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
 }
@@ -0,0 +1,122 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Secret;
+
+/**
+ * A cache of authenticated HTTP clients, keyed by namespace and credentials secret name. A client
+ * is created the first time a domain's credentials are read, and is then reused for every request
+ * to that domain's servers until the secret changes, so that the secret is not read and a new
+ * client built for each request. A client is closed when it is discarded, releasing its
+ * connections; if requests are in progress through it, it is closed once they complete.
+ */
+public class HttpClientCache {
+  // Map from namespace to a map of credentials secret name to client
+  private static final Map<String, Map<String, HttpClient>> CLIENTS = new ConcurrentHashMap<>();
+
+  // Map from namespace to a map of credentials secret name to the number of times it has changed.
+  // Only secrets which have been read as credentials are tracked.
+  private static final Map<String, Map<String, Long>> GENERATIONS = new HashMap<>();
+
+  private HttpClientCache() {
+  }
+
+  /**
+   * Returns the cached client for the specified credentials secret.
+   *
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   * @return the cached client, or null if there is none
+   */
+  public static HttpClient lookup(String namespace, String secretName) {
+    if (namespace == null || secretName == null) {
+      return null;
+    }
+    return Optional.ofNullable(CLIENTS.get(namespace)).map(m -> m.get(secretName)).orElse(null);
+  }
+
+  /**
+   * Returns a token which must be passed to {@link #put(String, String, HttpClient, long)} when
+   * caching a client created from credentials read after this call. Any change to the secret, or
+   * removal of its namespace, in the meantime causes the put to be ignored, so that stale
+   * credentials are never cached.
+   *
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   * @return the current generation of the secret
+   */
+  static synchronized long getGeneration(String namespace, String secretName) {
+    return GENERATIONS
+        .computeIfAbsent(namespace, k -> new HashMap<>())
+        .computeIfAbsent(secretName, k -> 0L);
+  }
+
+  /**
+   * Caches a client for the specified credentials secret, unless the secret has changed since the
+   * credentials were read.
+   *
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   * @param client the client to cache
+   * @param readGeneration the generation at which the credentials were read
+   */
+  static synchronized void put(
+      String namespace, String secretName, HttpClient client, long readGeneration) {
+    if (isCurrent(namespace, secretName, readGeneration)) {
+      Map<String, HttpClient> clients =
+          CLIENTS.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>());
+      Optional.ofNullable(clients.put(secretName, client))
+          .filter(replaced -> replaced != client)
+          .ifPresent(HttpClient::close);
+    }
+  }
+
+  private static boolean isCurrent(String namespace, String secretName, long readGeneration) {
+    return Optional.ofNullable(GENERATIONS.get(namespace))
+        .map(m -> m.get(secretName))
+        .filter(generation -> generation == readGeneration)
+        .isPresent();
+  }
+
+  /**
+   * Applies a secret watch event to the cache. Any change to a secret discards the client created
+   * from it.
+   *
+   * @param watchType the type of the watch event
+   * @param secret the secret associated with the event
+   */
+  public static void onSecretEvent(String watchType, V1Secret secret) {
+    if (!"ERROR".equals(watchType)) {
+      Optional.ofNullable(secret)
+          .map(V1Secret::getMetadata)
+          .ifPresent(HttpClientCache::invalidate);
+    }
+  }
+
+  private static synchronized void invalidate(V1ObjectMeta metadata) {
+    Optional.ofNullable(GENERATIONS.get(metadata.getNamespace()))
+        .ifPresent(m -> m.computeIfPresent(metadata.getName(), (k, generation) -> generation + 1));
+    Optional.ofNullable(CLIENTS.get(metadata.getNamespace()))
+        .map(m -> m.remove(metadata.getName()))
+        .ifPresent(HttpClient::close);
+  }
+
+  /**
+   * Discards, and closes, all clients cached for the specified namespace.
+   *
+   * @param namespace the namespace
+   */
+  public static synchronized void removeNamespace(String namespace) {
+    GENERATIONS.remove(namespace);
+    Optional.ofNullable(CLIENTS.remove(namespace))
+        .ifPresent(m -> m.values().forEach(HttpClient::close));
+  }
+}
@@ -0,0 +1,222 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler which writes to standard error without making the logging thread wait for the
+ * write. Records are formatted on the logging thread, since the formatter reports the current fiber,
+ * and are then placed in a bounded buffer. A dedicated writer thread drains the buffer and writes
+ * the records in batches, flushing once per batch.
+ *
+ * <p>When the buffer is full, records at or above the block level wait for space; other records
+ * are dropped and counted. The following {@link LogManager} properties, prefixed by the name of
+ * this class, configure the handler:
+ *
+ * <ul>
+ *   <li>level - the lowest level of record published (default the level configured for {@link
+ *       java.util.logging.ConsoleHandler}, which this handler replaces, or INFO)
+ *   <li>capacity - the maximum number of records waiting to be written (default 8192)
+ *   <li>batchSize - the maximum number of records written per flush (default 256)
+ *   <li>blockLevel - the lowest level for which a full buffer blocks (default WARNING)
+ * </ul>
+ */
+public class AsyncLogHandler extends Handler {
+  private static final int DEFAULT_CAPACITY = 8192;
+  private static final int DEFAULT_BATCH_SIZE = 256;
+  private static final Level DEFAULT_BLOCK_LEVEL = Level.WARNING;
+  private static final long POLL_MILLIS = 100;
+  private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+  private static final String CONSOLE_LEVEL_PROPERTY = "java.util.logging.ConsoleHandler.level";
+
+  private final BlockingQueue<String> buffer;
+  private final Writer writer;
+  private final int batchSize;
+  private final Level blockLevel;
+  private final Map<Level, AtomicLong> droppedCounts = new ConcurrentHashMap<>();
+  private final Thread writerThread;
+  private volatile boolean closed;
+
+  /** Creates a handler which writes to standard error, configured from the log manager. */
+  public AsyncLogHandler() {
+    this(
+        new OutputStreamWriter(System.err, Charset.defaultCharset()),
+        getIntProperty("capacity", DEFAULT_CAPACITY),
+        getIntProperty("batchSize", DEFAULT_BATCH_SIZE),
+        getLevelProperty("blockLevel", DEFAULT_BLOCK_LEVEL));
+    setLevel(getConfiguredLevel());
+  }
+
+  AsyncLogHandler(Writer writer, int capacity, int batchSize, Level blockLevel) {
+    this.writer = writer;
+    this.buffer = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.blockLevel = blockLevel;
+
+    writerThread = new Thread(this::writeRecords, "operator-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  private static String getProperty(String name) {
+    return LogManager.getLogManager().getProperty(AsyncLogHandler.class.getName() + "." + name);
+  }
+
+  private static Level getConfiguredLevel() {
+    return getLevelProperty("level", getConsoleHandlerLevel());
+  }
+
+  private static Level getConsoleHandlerLevel() {
+    return parseLevel(LogManager.getLogManager().getProperty(CONSOLE_LEVEL_PROPERTY), Level.INFO);
+  }
+
+  private static int getIntProperty(String name, int defaultValue) {
+    try {
+      return Optional.ofNullable(getProperty(name))
+          .map(String::trim)
+          .map(Integer::parseInt)
+          .orElse(defaultValue);
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static Level getLevelProperty(String name, Level defaultValue) {
+    return parseLevel(getProperty(name), defaultValue);
+  }
+
+  private static Level parseLevel(String value, Level defaultValue) {
+    try {
+      return Optional.ofNullable(value)
+          .map(String::trim)
+          .map(Level::parse)
+          .orElse(defaultValue);
+    } catch (IllegalArgumentException e) {
+      return defaultValue;
+    }
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (closed || !isLoggable(record)) {
+      return;
+    }
+
+    String message;
+    try {
+      message = getFormatter().format(record);
+    } catch (Exception e) {
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+      return;
+    }
+
+    if (record.getLevel().intValue() >= blockLevel.intValue()) {
+      try {
+        buffer.put(message);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        recordDropped(record.getLevel());
+      }
+    } else if (!buffer.offer(message)) {
+      recordDropped(record.getLevel());
+    }
+  }
+
+  private void recordDropped(Level level) {
+    droppedCounts.computeIfAbsent(level, l -> new AtomicLong()).incrementAndGet();
+  }
+
+  /**
+   * Returns the number of records at the specified level which were dropped because the buffer
+   * was full.
+   *
+   * @param level a log level
+   * @return the number of dropped records
+   */
+  public long getDroppedCount(Level level) {
+    return Optional.ofNullable(droppedCounts.get(level)).map(AtomicLong::get).orElse(0L);
+  }
+
+  /**
+   * Returns the number of dropped records, by level.
+   *
+   * @return a map of level to dropped record count
+   */
+  public Map<Level, Long> getDroppedCounts() {
+    Map<Level, Long> result = new ConcurrentHashMap<>();
+    droppedCounts.forEach((level, count) -> result.put(level, count.get()));
+    return Collections.unmodifiableMap(result);
+  }
+
+  private void writeRecords() {
+    List<String> batch = new ArrayList<>(batchSize);
+    while (!closed) {
+      try {
+        String first = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          buffer.drainTo(batch, batchSize - 1);
+          writeBatch(batch);
+          batch.clear();
+        }
+      } catch (InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private void writeBatch(List<String> batch) {
+    synchronized (writer) {
+      try {
+        for (String message : batch) {
+          writer.write(message);
+        }
+        writer.flush();
+      } catch (IOException e) {
+        reportError(null, e, ErrorManager.WRITE_FAILURE);
+      }
+    }
+  }
+
+  /** Writes any buffered records on the calling thread. */
+  @Override
+  public void flush() {
+    List<String> batch = new ArrayList<>(batchSize);
+    while (buffer.drainTo(batch, batchSize) > 0) {
+      writeBatch(batch);
+      batch.clear();
+    }
+  }
+
+  /** Stops the writer thread and writes any remaining buffered records. */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      writerThread.join(CLOSE_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+}
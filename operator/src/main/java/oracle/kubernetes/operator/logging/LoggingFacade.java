@@ -5,6 +5,8 @@ package oracle.kubernetes.operator.logging;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -16,6 +18,7 @@ public class LoggingFacade {
   public static final String TRACE = "OWLS-KO-TRACE: ";
   protected static final String CLASS = LoggingFacade.class.getName();
   private final Logger logger;
+  private final AsyncLogHandler logHandler;
 
   public LoggingFacade(Logger logger) {
     this.logger = logger;
@@ -28,9 +31,21 @@ public class LoggingFacade {
       }
     }
 
-    ConsoleHandler handler = new ConsoleHandler();
-    handler.setFormatter(new LoggingFormatter());
-    logger.addHandler(handler);
+    logHandler = new AsyncLogHandler();
+    logHandler.setFormatter(new LoggingFormatter());
+    logger.addHandler(logHandler);
+  }
+
+  /**
+   * Returns the number of records dropped by this facade's log handler because its buffer was full,
+   * by level.
+   *
+   * @return a map of level name to dropped record count
+   */
+  public Map<String, Number> getDroppedCounts() {
+    Map<String, Number> counts = new HashMap<>();
+    logHandler.getDroppedCounts().forEach((level, count) -> counts.put(level.getName(), count));
+    return counts;
   }
 
   /**
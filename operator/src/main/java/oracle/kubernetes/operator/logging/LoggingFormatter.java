@@ -3,19 +3,21 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.JSON;
 import io.swagger.annotations.ApiModel;
@@ -23,10 +25,12 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 
-/** Custom log formatter to format log messages in JSON format. */
+/**
+ * Custom log formatter to format log messages in JSON format. Records are streamed to a JSON
+ * generator which, along with its buffer, is reused by each thread, so that formatting allocates
+ * little beyond the resulting string.
+ */
 public class LoggingFormatter extends Formatter {
-  private static final Map<String, List<String>> PLACEHOLDER = new HashMap<String, List<String>>();
-
   private static final String LOG_LEVEL = "level";
   private static final String TIMESTAMP = "timestamp";
   private static final String THREAD = "thread";
@@ -37,14 +41,18 @@ public class LoggingFormatter extends Formatter {
   private static final String TIME_IN_MILLIS = "timeInMillis";
   private static final String MESSAGE = "message";
   private static final String EXCEPTION = "exception";
-  private static final String DATE_FORMAT = "MM-dd-yyyy'T'HH:mm:ss.SSSZZ";
+  private static final String DATE_FORMAT = "MM-dd-yyyy'T'HH:mm:ss.SSSZ";
 
   // For ApiException
   private static final String RESPONSE_CODE = "code";
   private static final String RESPONSE_HEADERS = "headers";
   private static final String RESPONSE_BODY = "body";
 
-  private final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final DateTimeFormatter DATE_FORMATTER =
+      DateTimeFormatter.ofPattern(DATE_FORMAT).withZone(ZoneId.systemDefault());
+
+  private final ThreadLocal<RecordWriter> recordWriter = ThreadLocal.withInitial(RecordWriter::new);
 
   @Override
   public String format(LogRecord record) {
@@ -59,28 +67,11 @@ public class LoggingFormatter extends Formatter {
       sourceClassName = record.getLoggerName();
     }
 
-    // the toString() format for the model classes is inappropriate for our logs
-    // so, replace with the JSON serialization
-    JSON j = LoggingFactory.getJson();
-    if (j != null) {
-      Object[] parameters = record.getParameters();
-      if (parameters != null) {
-        for (int i = 0; i < parameters.length; i++) {
-          Object pi = parameters[i];
-          if (pi != null) {
-            if (pi.getClass().getAnnotation(ApiModel.class) != null
-                || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
-              // this is a model object
-              parameters[i] = j.serialize(pi);
-            }
-          }
-        }
-      }
-    }
+    serializeModelParameters(record);
 
     final String message = formatMessage(record);
     String code = "";
-    Map<String, List<String>> headers = PLACEHOLDER;
+    Map<String, List<String>> headers = Collections.emptyMap();
     String body = "";
     String throwable = "";
     if (record.getThrown() != null) {
@@ -103,33 +94,31 @@ public class LoggingFormatter extends Formatter {
       }
     }
     String level = record.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
     long rawTime = record.getMillis();
-    final String dateString = dateFormat.format(new Date(rawTime));
-    long thread = Thread.currentThread().getId();
+    final String dateString = DATE_FORMATTER.format(Instant.ofEpochMilli(rawTime));
     Fiber fiber = Fiber.getCurrentIfSet();
 
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, fiber != null ? fiber.toString() : "");
-    map.put(DOMAIN_UID, getDomainUid(fiber));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replaceAll("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replaceAll("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
-    String json = "";
+    RecordWriter writer = recordWriter.get();
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
+      JsonGenerator generator = writer.start();
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      generator.writeNumberField(THREAD, Thread.currentThread().getId());
+      generator.writeStringField(FIBER, fiber != null ? fiber.toString() : "");
+      generator.writeStringField(DOMAIN_UID, getDomainUid(fiber));
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      generator.writeStringField(MESSAGE, message != null ? message : "");
+      generator.writeStringField(EXCEPTION, throwable);
+      generator.writeStringField(RESPONSE_CODE, code);
+      writeHeaders(generator, headers);
+      generator.writeStringField(RESPONSE_BODY, body);
+      generator.writeEndObject();
+      return writer.finish();
+    } catch (IOException e) {
+      recordWriter.remove();
       String tmp =
           "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
               + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
@@ -141,7 +130,45 @@ public class LoggingFormatter extends Formatter {
           rawTime,
           e.getLocalizedMessage());
     }
-    return json + "\n";
+  }
+
+  // the toString() format for the model classes is inappropriate for our logs
+  // so, replace with the JSON serialization
+  private void serializeModelParameters(LogRecord record) {
+    JSON j = LoggingFactory.getJson();
+    Object[] parameters = record.getParameters();
+    if (j == null || parameters == null) {
+      return;
+    }
+
+    for (int i = 0; i < parameters.length; i++) {
+      Object pi = parameters[i];
+      if (pi != null) {
+        if (pi.getClass().getAnnotation(ApiModel.class) != null
+            || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
+          // this is a model object
+          parameters[i] = j.serialize(pi);
+        }
+      }
+    }
+  }
+
+  private void writeHeaders(JsonGenerator generator, Map<String, List<String>> headers)
+      throws IOException {
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      generator.writeFieldName(header.getKey());
+      if (header.getValue() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeStartArray();
+        for (String value : header.getValue()) {
+          generator.writeString(value);
+        }
+        generator.writeEndArray();
+      }
+    }
+    generator.writeEndObject();
   }
 
   /**
@@ -160,4 +187,29 @@ public class LoggingFormatter extends Formatter {
       return "";
     }
   }
+
+  /** A per-thread JSON generator and the buffer to which it writes, reused for each record. */
+  private static class RecordWriter {
+    private final StringWriter buffer = new StringWriter();
+    private final JsonGenerator generator;
+
+    RecordWriter() {
+      try {
+        generator = JSON_FACTORY.createGenerator(buffer);
+        generator.setRootValueSeparator(null);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    JsonGenerator start() {
+      buffer.getBuffer().setLength(0);
+      return generator;
+    }
+
+    String finish() throws IOException {
+      generator.flush();
+      return buffer.append('\n').toString();
+    }
+  }
 }
@@ -155,6 +155,9 @@ public class MessageKeys {
   public static final String WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT = "WLSKO-0153";
   public static final String JOB_DEADLINE_EXCEEDED_MESSAGE = "WLSKO-0154";
   public static final String JOB_LOG_PARSE_FAILURE = "WLSKO-0155";
+  public static final String VIRTUAL_THREADS_UNAVAILABLE = "WLSKO-0156";
+  public static final String INVALID_CALL_RATE_BUDGET = "WLSKO-0157";
+  public static final String CALLS_THROTTLED = "WLSKO-0158";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
@@ -0,0 +1,84 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts durations in a fixed set of buckets, from half a millisecond to five minutes. Recording a
+ * duration takes no lock, so that it may be done on every step a fiber runs; the buckets are only
+ * summed when the histogram is read.
+ */
+public class LatencyHistogram {
+  /** The upper bounds of the buckets, in seconds. Longer durations fall in a final bucket. */
+  static final double[] BUCKET_BOUNDS = {
+    0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 300
+  };
+
+  private static final long[] BUCKET_BOUND_NANOS =
+      Arrays.stream(BUCKET_BOUNDS).mapToLong(LatencyHistogram::toNanos).toArray();
+
+  private final LongAdder[] bucketCounts = new LongAdder[BUCKET_BOUNDS.length + 1];
+  private final LongAdder totalNanos = new LongAdder();
+
+  LatencyHistogram() {
+    Arrays.setAll(bucketCounts, i -> new LongAdder());
+  }
+
+  private static long toNanos(double seconds) {
+    return (long) (seconds * TimeUnit.SECONDS.toNanos(1));
+  }
+
+  /**
+   * Adds a duration to the histogram.
+   *
+   * @param nanos the duration, in nanoseconds
+   */
+  public void record(long nanos) {
+    long duration = Math.max(nanos, 0);
+    int index = Arrays.binarySearch(BUCKET_BOUND_NANOS, duration);
+    bucketCounts[index < 0 ? -index - 1 : index].increment();
+    totalNanos.add(duration);
+  }
+
+  /**
+   * Returns the number of durations recorded.
+   *
+   * @return a count
+   */
+  public long getCount() {
+    long count = 0;
+    for (LongAdder bucketCount : bucketCounts) {
+      count += bucketCount.sum();
+    }
+    return count;
+  }
+
+  /**
+   * Returns the sum of the durations recorded, in seconds.
+   *
+   * @return a total duration
+   */
+  public double getSumSeconds() {
+    return (double) totalNanos.sum() / TimeUnit.SECONDS.toNanos(1);
+  }
+
+  /**
+   * Returns, for each bucket bound, the number of durations recorded which did not exceed it.
+   * The last element, for which there is no bound, is the total count.
+   *
+   * @return cumulative counts, one more than there are bucket bounds
+   */
+  long[] getCumulativeCounts() {
+    long[] counts = new long[bucketCounts.length];
+    long count = 0;
+    for (int i = 0; i < counts.length; i++) {
+      count += bucketCounts[i].sum();
+      counts[i] = count;
+    }
+    return counts;
+  }
+}
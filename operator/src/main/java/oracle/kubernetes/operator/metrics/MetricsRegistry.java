@@ -0,0 +1,242 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * The operator's metrics, by name. Histograms are recorded as events occur; gauges and counters
+ * are read from their suppliers only when the metrics are scraped. All are written in the
+ * Prometheus text exposition format.
+ */
+public class MetricsRegistry {
+  /** The media type of the Prometheus text exposition format. */
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+  private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+  MetricsRegistry() {
+  }
+
+  /**
+   * Returns the registry of the operator's metrics.
+   *
+   * @return the single instance
+   */
+  public static MetricsRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the family of histograms with the specified name, creating it if necessary.
+   *
+   * @param name the metric name, which should end in "_seconds"
+   * @param help a description of the metric
+   * @param labelName the name of the label which distinguishes the histograms in the family
+   * @return a histogram family
+   */
+  public HistogramFamily histogram(String name, String help, String labelName) {
+    Metric metric = metrics.computeIfAbsent(name, n -> new HistogramFamily(n, help, labelName));
+    if (!(metric instanceof HistogramFamily)) {
+      throw new IllegalArgumentException(name + " is already registered as a " + metric.type);
+    }
+    return (HistogramFamily) metric;
+  }
+
+  /**
+   * Registers a gauge, replacing any metric already registered with its name.
+   *
+   * @param name the metric name
+   * @param help a description of the metric
+   * @param value supplies the current value of the gauge
+   */
+  public void gauge(String name, String help, Supplier<? extends Number> value) {
+    metrics.put(name, new SampleFamily(name, help, "gauge", null, () -> unlabeled(value)));
+  }
+
+  /**
+   * Registers a family of gauges, replacing any metric already registered with its name.
+   *
+   * @param name the metric name
+   * @param help a description of the metric
+   * @param labelName the name of the label which distinguishes the gauges in the family
+   * @param values supplies the current value of each gauge, keyed by label value
+   */
+  public void gauge(
+      String name, String help, String labelName, Supplier<Map<String, Number>> values) {
+    metrics.put(name, new SampleFamily(name, help, "gauge", labelName, values));
+  }
+
+  /**
+   * Registers a counter, replacing any metric already registered with its name.
+   *
+   * @param name the metric name, which should end in "_total"
+   * @param help a description of the metric
+   * @param value supplies the current value of the counter
+   */
+  public void counter(String name, String help, Supplier<? extends Number> value) {
+    metrics.put(name, new SampleFamily(name, help, "counter", null, () -> unlabeled(value)));
+  }
+
+  /**
+   * Registers a family of counters, replacing any metric already registered with its name.
+   *
+   * @param name the metric name, which should end in "_total"
+   * @param help a description of the metric
+   * @param labelName the name of the label which distinguishes the counters in the family
+   * @param values supplies the current value of each counter, keyed by label value
+   */
+  public void counter(
+      String name, String help, String labelName, Supplier<Map<String, Number>> values) {
+    metrics.put(name, new SampleFamily(name, help, "counter", labelName, values));
+  }
+
+  private static Map<String, Number> unlabeled(Supplier<? extends Number> value) {
+    return Collections.singletonMap(null, value.get());
+  }
+
+  /**
+   * Returns the current values of all metrics, in the Prometheus text exposition format.
+   *
+   * @return the text of a scrape
+   */
+  public String scrape() {
+    StringBuilder sb = new StringBuilder();
+    for (Metric metric : metrics.values()) {
+      metric.writeTo(sb);
+    }
+    return sb.toString();
+  }
+
+  private static String escapeHelp(String help) {
+    return help.replace("\\", "\\\\").replace("\n", "\\n");
+  }
+
+  private static String escapeLabelValue(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static String formatNumber(Number number) {
+    if (number instanceof Double || number instanceof Float) {
+      return Double.toString(number.doubleValue());
+    }
+    return Long.toString(number.longValue());
+  }
+
+  private abstract static class Metric {
+    final String name;
+    final String help;
+    final String type;
+
+    Metric(String name, String help, String type) {
+      this.name = name;
+      this.help = help;
+      this.type = type;
+    }
+
+    void writeTo(StringBuilder sb) {
+      sb.append("# HELP ").append(name).append(' ').append(escapeHelp(help)).append('\n');
+      sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+      writeSamples(sb);
+    }
+
+    abstract void writeSamples(StringBuilder sb);
+
+    void writeSample(StringBuilder sb, String suffix, String labels, String value) {
+      sb.append(name).append(suffix);
+      if (!labels.isEmpty()) {
+        sb.append('{').append(labels).append('}');
+      }
+      sb.append(' ').append(value).append('\n');
+    }
+
+    String label(String labelName, String labelValue) {
+      return labelName + "=\"" + escapeLabelValue(labelValue) + '"';
+    }
+  }
+
+  /** A set of histograms with the same name, distinguished by the value of one label. */
+  public static class HistogramFamily extends Metric {
+    private static final String[] BUCKET_LABELS = new String[LatencyHistogram.BUCKET_BOUNDS.length];
+
+    static {
+      for (int i = 0; i < BUCKET_LABELS.length; i++) {
+        BUCKET_LABELS[i] = BigDecimal.valueOf(LatencyHistogram.BUCKET_BOUNDS[i]).toPlainString();
+      }
+    }
+
+    private final String labelName;
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    HistogramFamily(String name, String help, String labelName) {
+      super(name, help, "histogram");
+      this.labelName = labelName;
+    }
+
+    /**
+     * Returns the histogram with the specified label value, creating it if necessary.
+     *
+     * @param labelValue the value of the family's label
+     * @return a histogram
+     */
+    public LatencyHistogram get(String labelValue) {
+      LatencyHistogram histogram = histograms.get(labelValue);
+      return histogram != null
+          ? histogram
+          : histograms.computeIfAbsent(labelValue, v -> new LatencyHistogram());
+    }
+
+    @Override
+    void writeSamples(StringBuilder sb) {
+      for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+        String labels = label(labelName, entry.getKey());
+        LatencyHistogram histogram = entry.getValue();
+        long[] counts = histogram.getCumulativeCounts();
+        for (int i = 0; i < counts.length; i++) {
+          String bound = i < BUCKET_LABELS.length ? BUCKET_LABELS[i] : "+Inf";
+          writeSample(
+              sb, "_bucket", labels + "," + label("le", bound), Long.toString(counts[i]));
+        }
+        writeSample(sb, "_sum", labels, Double.toString(histogram.getSumSeconds()));
+        writeSample(sb, "_count", labels, Long.toString(counts[counts.length - 1]));
+      }
+    }
+  }
+
+  private static class SampleFamily extends Metric {
+    private final String labelName;
+    private final Supplier<Map<String, Number>> values;
+
+    SampleFamily(
+        String name,
+        String help,
+        String type,
+        String labelName,
+        Supplier<Map<String, Number>> values) {
+      super(name, help, type);
+      this.labelName = labelName;
+      this.values = values;
+    }
+
+    @Override
+    void writeSamples(StringBuilder sb) {
+      Map<String, Number> current = values.get();
+      if (labelName == null) {
+        writeSample(sb, "", "", formatNumber(current.get(null)));
+      } else {
+        for (Map.Entry<String, Number> entry : new TreeMap<>(current).entrySet()) {
+          writeSample(sb, "", label(labelName, entry.getKey()), formatNumber(entry.getValue()));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,5 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+/** Runtime metrics of the Operator, and their export in the Prometheus text format. */
+package oracle.kubernetes.operator.metrics;
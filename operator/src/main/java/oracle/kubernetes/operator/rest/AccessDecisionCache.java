@@ -0,0 +1,199 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.kubernetes.client.models.V1TokenReviewStatus;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A time- and size-bounded cache of the TokenReview and SubjectAccessReview decisions made for
+ * REST requests, so that a burst of requests from the same client does not cost two API server
+ * round trips per request. Tokens are only held as hashes. Only successful authentications are
+ * cached; authorization decisions are cached whether they allow or deny access.
+ */
+class AccessDecisionCache {
+  private static final int DEFAULT_EXPIRY_SECONDS = 30;
+  private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private final Cache<String, V1TokenReviewStatus> authentications;
+  private final Cache<AuthorizationKey, Boolean> authorizations;
+
+  AccessDecisionCache(int expirySeconds, int maximumSize) {
+    authentications = createCache(expirySeconds, maximumSize);
+    authorizations = createCache(expirySeconds, maximumSize);
+  }
+
+  /**
+   * Creates a cache sized and timed according to the operator tuning parameters.
+   *
+   * @return a new cache
+   */
+  static AccessDecisionCache create() {
+    Optional<TuningParameters.MainTuning> tuning =
+        Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getMainTuning);
+    return new AccessDecisionCache(
+        tuning.map(t -> t.restAccessDecisionCacheSeconds).orElse(DEFAULT_EXPIRY_SECONDS),
+        tuning.map(t -> t.restAccessDecisionCacheSize).orElse(DEFAULT_MAXIMUM_SIZE));
+  }
+
+  private static <K, V> Cache<K, V> createCache(int expirySeconds, int maximumSize) {
+    return CacheBuilder.newBuilder()
+        .expireAfterWrite(expirySeconds, TimeUnit.SECONDS)
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the cached result of reviewing the specified token, or performs the review and caches
+   * the result if the token was authenticated.
+   *
+   * @param principal the principal performing the review
+   * @param token the access token
+   * @param review performs the token review
+   * @return the token review status, which may be null
+   */
+  V1TokenReviewStatus getAuthentication(
+      String principal, String token, Supplier<V1TokenReviewStatus> review) {
+    String key = DigestUtils.sha256Hex(principal + '\n' + token);
+    V1TokenReviewStatus status = authentications.getIfPresent(key);
+    if (status == null) {
+      status = review.get();
+      if (isAuthenticated(status)) {
+        authentications.put(key, status);
+      }
+    }
+    return status;
+  }
+
+  private boolean isAuthenticated(V1TokenReviewStatus status) {
+    return status != null
+        && status.getError() == null
+        && Boolean.TRUE.equals(status.isAuthenticated())
+        && status.getUser() != null;
+  }
+
+  /**
+   * Returns the cached authorization decision for the specified request, or makes the decision and
+   * caches it.
+   *
+   * @param user the authenticated user
+   * @param groups the groups of the user
+   * @param operation the operation to be authorized
+   * @param resource the kind of resource on which the operation is to be authorized
+   * @param resourceName the name of the resource instance
+   * @param scope the scope of the operation
+   * @param namespace the namespace, if the scope is namespace
+   * @param check makes the authorization decision
+   * @return true if the operation is allowed
+   */
+  boolean getAuthorization(
+      String user,
+      List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespace,
+      BooleanSupplier check) {
+    AuthorizationKey key =
+        new AuthorizationKey(user, groups, operation, resource, resourceName, scope, namespace);
+    Boolean allowed = authorizations.getIfPresent(key);
+    if (allowed == null) {
+      allowed = check.getAsBoolean();
+      authorizations.put(key, allowed);
+    }
+    return allowed;
+  }
+
+  /**
+   * Returns the hit and miss statistics for the authentication cache.
+   *
+   * @return statistics
+   */
+  CacheStats getAuthenticationStats() {
+    return authentications.stats();
+  }
+
+  /**
+   * Returns the hit and miss statistics for the authorization cache.
+   *
+   * @return statistics
+   */
+  CacheStats getAuthorizationStats() {
+    return authorizations.stats();
+  }
+
+  private static class AuthorizationKey {
+    private final String user;
+    private final List<String> groups;
+    private final Operation operation;
+    private final Resource resource;
+    private final String resourceName;
+    private final Scope scope;
+    private final String namespace;
+
+    AuthorizationKey(
+        String user,
+        List<String> groups,
+        Operation operation,
+        Resource resource,
+        String resourceName,
+        Scope scope,
+        String namespace) {
+      this.user = user;
+      this.groups = groups == null ? Collections.emptyList() : sorted(groups);
+      this.operation = operation;
+      this.resource = resource;
+      this.resourceName = resourceName;
+      this.scope = scope;
+      this.namespace = namespace;
+    }
+
+    private static List<String> sorted(List<String> groups) {
+      List<String> result = new ArrayList<>(groups);
+      Collections.sort(result);
+      return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof AuthorizationKey)) {
+        return false;
+      }
+      AuthorizationKey that = (AuthorizationKey) o;
+      return Objects.equals(user, that.user)
+          && groups.equals(that.groups)
+          && operation == that.operation
+          && resource == that.resource
+          && Objects.equals(resourceName, that.resourceName)
+          && scope == that.scope
+          && Objects.equals(namespace, that.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(user, groups, operation, resource, resourceName, scope, namespace);
+    }
+  }
+}
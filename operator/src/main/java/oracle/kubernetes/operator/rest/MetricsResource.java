@@ -0,0 +1,37 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
+/**
+ * MetricsResource is a jaxrs resource that implements the /metrics path, which returns the
+ * operator's metrics in the Prometheus text format. It is registered only with the internal https
+ * port, so that it is not scanned along with the resources in the resource package.
+ */
+@Path("metrics")
+public class MetricsResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Get the current values of the operator's metrics.
+   *
+   * @return the metrics, in the Prometheus text exposition format
+   */
+  @GET
+  @Produces(MetricsRegistry.CONTENT_TYPE)
+  public String get() {
+    LOGGER.entering();
+    String result = MetricsRegistry.getInstance().scrape();
+    LOGGER.exiting();
+    return result;
+  }
+}
@@ -4,13 +4,15 @@
 package oracle.kubernetes.operator.rest;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.ToLongFunction;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import javax.json.Json;
@@ -20,10 +22,12 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
 
+import com.google.common.cache.CacheStats;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.models.V1TokenReviewStatus;
 import io.kubernetes.client.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
@@ -33,11 +37,11 @@ import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
-import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 /**
  * RestBackendImpl implements the backend of the WebLogic operator REST api by making calls to
@@ -47,6 +51,7 @@ import oracle.kubernetes.weblogic.domain.model.DomainList;
 public class RestBackendImpl implements RestBackend {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int MAX_PATCH_ATTEMPTS = 3;
   private static final String NEW_CLUSTER =
       "{'clusterName':'%s','replicas':%d}".replaceAll("'", "\"");
   private static final TopologyRetriever INSTANCE =
@@ -57,11 +62,14 @@ public class RestBackendImpl implements RestBackend {
         }
         return null;
       };
+  private static DomainRetriever DOMAIN_RETRIEVER = DomainProcessorImpl::getDomains;
+  private static AccessDecisionCache DECISIONS = AccessDecisionCache.create();
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private final AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Collection<String> targetNamespaces;
   private V1UserInfo userInfo;
+  private List<Domain> domains;
 
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
@@ -81,29 +89,39 @@ public class RestBackendImpl implements RestBackend {
     LOGGER.exiting();
   }
 
+  /**
+   * Registers counts of the REST authentication and authorization decisions served from the cache
+   * and made against the API server.
+   *
+   * @param registry the registry in which to record the metrics
+   */
+  public static void registerMetrics(MetricsRegistry registry) {
+    registry.counter(
+        "weblogic_operator_rest_access_cache_hits_total",
+        "Number of REST access decisions served from the cache, by review",
+        "review",
+        () -> getAccessDecisionCounts(CacheStats::hitCount));
+    registry.counter(
+        "weblogic_operator_rest_access_cache_misses_total",
+        "Number of REST access decisions not found in the cache, by review",
+        "review",
+        () -> getAccessDecisionCounts(CacheStats::missCount));
+  }
+
+  private static Map<String, Number> getAccessDecisionCounts(ToLongFunction<CacheStats> count) {
+    Map<String, Number> counts = new HashMap<>();
+    counts.put("authentication", count.applyAsLong(DECISIONS.getAuthenticationStats()));
+    counts.put("authorization", count.applyAsLong(DECISIONS.getAuthorizationStats()));
+    return counts;
+  }
+
   private void authorize(String domainUid, Operation operation) {
     LOGGER.entering(domainUid, operation);
     boolean authorized;
     if (domainUid == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.cluster,
-              null);
+      authorized = check(operation, null, Scope.cluster, null);
     } else {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              domainUid,
-              Scope.namespace,
-              getNamespace(domainUid));
+      authorized = check(operation, domainUid, Scope.namespace, getNamespace(domainUid));
     }
     if (authorized) {
       LOGGER.exiting();
@@ -115,6 +133,26 @@ public class RestBackendImpl implements RestBackend {
     throw e;
   }
 
+  private boolean check(Operation operation, String domainUid, Scope scope, String namespace) {
+    return DECISIONS.getAuthorization(
+        userInfo.getUsername(),
+        userInfo.getGroups(),
+        operation,
+        Resource.DOMAINS,
+        domainUid,
+        scope,
+        namespace,
+        () ->
+            atz.check(
+                userInfo.getUsername(),
+                userInfo.getGroups(),
+                operation,
+                Resource.DOMAINS,
+                domainUid,
+                scope,
+                namespace));
+  }
+
   private String getNamespace(String domainUid) {
     if (domainUid == null) {
       throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
@@ -133,7 +171,9 @@ public class RestBackendImpl implements RestBackend {
 
   private V1UserInfo authenticate(String accessToken) {
     LOGGER.entering();
-    V1TokenReviewStatus status = atn.check(principal, accessToken);
+    V1TokenReviewStatus status =
+        DECISIONS.getAuthentication(
+            principal, accessToken, () -> atn.check(principal, accessToken));
     if (status == null) {
       throw new AssertionError(formatMessage(MessageKeys.NULL_TOKEN_REVIEW_STATUS));
     }
@@ -170,20 +210,17 @@ public class RestBackendImpl implements RestBackend {
     return result;
   }
 
+  // Returns the domains in the target namespaces, as known to the operator. The list is captured
+  // once per request, so that all lookups made while handling a request see the same domains.
   private List<Domain> getDomainsList() {
-    Collection<List<Domain>> c = new ArrayList<>();
-    try {
-      for (String ns : targetNamespaces) {
-        DomainList dl = new CallBuilder().listDomain(ns);
-
-        if (dl != null) {
-          c.add(dl.getItems());
-        }
-      }
-      return c.stream().flatMap(Collection::stream).collect(Collectors.toList());
-    } catch (ApiException e) {
-      throw handleApiException(e);
+    if (domains == null) {
+      domains =
+          targetNamespaces.stream()
+              .map(DOMAIN_RETRIEVER::getDomains)
+              .flatMap(Collection::stream)
+              .collect(Collectors.toList());
     }
+    return domains;
   }
 
   @Override
@@ -240,25 +277,45 @@ public class RestBackendImpl implements RestBackend {
     LOGGER.exiting();
   }
 
+  // The in-memory domain may be stale, so the patch tests that the cluster it updates is still
+  // at the same index. If the domain changed, the patch is rejected, and is rebuilt from the
+  // current domain.
   private void patchDomain(Domain domain, String cluster, int replicas) {
-    if (replicas == domain.getReplicaCount(cluster)) return;
-
     try {
-      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
-      int index = getClusterIndex(domain, cluster);
-      if (index < 0)
-        patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER, cluster, replicas));
-      else patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
-
-      new CallBuilder()
-          .patchDomain(
-              domain.getDomainUid(), domain.getMetadata().getNamespace(),
-              new V1Patch(patchBuilder.build().toString()));
+      for (int attempt = 1; replicas != domain.getReplicaCount(cluster); attempt++) {
+        try {
+          new CallBuilder()
+              .patchDomain(
+                  domain.getDomainUid(), domain.getMetadata().getNamespace(),
+                  createScalePatch(domain, cluster, replicas));
+          return;
+        } catch (ApiException e) {
+          if (e.getCode() != CallBuilder.UNPROCESSABLE_ENTITY || attempt >= MAX_PATCH_ATTEMPTS)
+            throw e;
+          domain =
+              new CallBuilder()
+                  .readDomain(domain.getDomainUid(), domain.getMetadata().getNamespace());
+        }
+      }
     } catch (ApiException e) {
       throw handleApiException(e);
     }
   }
 
+  private V1Patch createScalePatch(Domain domain, String cluster, int replicas) {
+    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+    int index = getClusterIndex(domain, cluster);
+    if (index < 0) {
+      Optional.ofNullable(domain.getMetadata().getResourceVersion())
+          .ifPresent(rv -> patchBuilder.test("/metadata/resourceVersion", rv));
+      patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER, cluster, replicas));
+    } else {
+      patchBuilder.test("/spec/clusters/" + index + "/clusterName", cluster);
+      patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
+    }
+    return new V1Patch(patchBuilder.build().toString());
+  }
+
   private int getClusterIndex(Domain domain, String cluster) {
     for (int i = 0; i < domain.getSpec().getClusters().size(); i++)
       if (cluster.equals(domain.getSpec().getClusters().get(i).getClusterName())) return i;
@@ -367,4 +424,8 @@ public class RestBackendImpl implements RestBackend {
   interface TopologyRetriever {
     WlsDomainConfig getWlsDomainConfig(String ns, String domainUid);
   }
+
+  interface DomainRetriever {
+    List<Domain> getDomains(String ns);
+  }
 }
@@ -153,6 +153,17 @@ public class RestServer {
     return rc;
   }
 
+  /**
+   * Defines the resource configuration of the internal https port, which adds the metrics
+   * resource to those of the other ports.
+   *
+   * @param restConfig the operator REST configuration
+   * @return a resource configuration
+   */
+  static ResourceConfig createInternalResourceConfig(RestConfig restConfig) {
+    return createResourceConfig(restConfig).register(MetricsResource.class);
+  }
+
   private static byte[] readFromDataOrFile(String data, String file) throws IOException {
     if (data != null && data.length() > 0) {
       return Base64.decodeBase64(data);
@@ -261,7 +272,8 @@ public class RestServer {
                     config.getOperatorExternalCertificateFile(),
                     config.getOperatorExternalKeyData(),
                     config.getOperatorExternalKeyFile())),
-            getExternalHttpsUri());
+            getExternalHttpsUri(),
+            createResourceConfig());
     LOGGER.exiting();
     return result;
   }
@@ -277,17 +289,19 @@ public class RestServer {
                     config.getOperatorInternalCertificateFile(),
                     config.getOperatorInternalKeyData(),
                     config.getOperatorInternalKeyFile())),
-            getInternalHttpsUri());
+            getInternalHttpsUri(),
+            createInternalResourceConfig(config));
     LOGGER.exiting();
     return result;
   }
 
-  private HttpServer createHttpsServer(Container container, SSLContext ssl, String uri)
+  private HttpServer createHttpsServer(
+      Container container, SSLContext ssl, String uri, ResourceConfig resourceConfig)
       throws Exception {
     HttpServer h =
         GrizzlyHttpServerFactory.createHttpServer(
             URI.create(uri),
-            createResourceConfig(),
+            resourceConfig,
             true, // used for call
             // org.glassfish.jersey.grizzly2.httpserver.NetworkListener#setSecure(boolean)}.
             new SSLEngineConfigurator(ssl)
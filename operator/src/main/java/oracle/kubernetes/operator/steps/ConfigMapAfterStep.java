@@ -4,13 +4,13 @@
 package oracle.kubernetes.operator.steps;
 
 import java.util.Map;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.models.V1ConfigMap;
 import oracle.kubernetes.operator.ConfigMapWatcher;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.WatchRuntime;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.NextAction;
@@ -50,10 +50,10 @@ public class ConfigMapAfterStep extends Step {
   }
 
   private ConfigMapWatcher createConfigMapWatcher(String namespace, String initialResourceVersion) {
-    ThreadFactory factory =
-        ContainerResolver.getInstance().getContainer().getSpi(ThreadFactory.class);
+    WatchRuntime runtime =
+        ContainerResolver.getInstance().getContainer().getSpi(WatchRuntime.class);
 
     return ConfigMapWatcher.create(
-        factory, namespace, initialResourceVersion, tuning, listener, stopping);
+        runtime, namespace, initialResourceVersion, tuning, listener, stopping);
   }
 }
@@ -5,10 +5,16 @@ package oracle.kubernetes.operator.steps;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
+import io.kubernetes.client.models.V1Pod;
+import oracle.kubernetes.operator.DomainPresence;
+import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
@@ -21,6 +27,11 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
+/**
+ * Starts or validates the specified managed servers. Unless the domain limits how many servers may
+ * start at one time, all of the servers are processed in parallel. Otherwise, they are processed in
+ * waves, each of which completes before the next begins.
+ */
 public class ManagedServerUpIteratorStep extends Step {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
@@ -52,13 +63,108 @@ public class ManagedServerUpIteratorStep extends Step {
     return String.join(",", serversToStart);
   }
 
+  /**
+   * Divides the servers to start into waves, according to the startup limits of the domain.
+   *
+   * @param servers the servers to start, in the order in which they should be started
+   * @param domain the domain to which the servers belong
+   * @return a list of the waves, each of which is a list of servers to start in parallel
+   */
+  static List<List<ServerStartupInfo>> createWaves(
+      Collection<ServerStartupInfo> servers, Domain domain) {
+    List<List<ServerStartupInfo>> waves = new ArrayList<>();
+    List<ServerStartupInfo> remaining = new ArrayList<>(servers);
+    for (int waveSize = 1; !remaining.isEmpty(); waveSize = Math.min(waveSize * 2, 1 << 30)) {
+      waves.add(selectWave(remaining, domain, domain.isStartupRampUp() ? waveSize : 0));
+    }
+    return waves;
+  }
+
+  // Removes and returns the servers to start in the next wave. A limit of 0 means no limit.
+  private static List<ServerStartupInfo> selectWave(
+      List<ServerStartupInfo> remaining, Domain domain, int rampLimit) {
+    int domainLimit = combineLimits(domain.getMaxConcurrentStartup(), rampLimit);
+    Map<String, Integer> clusterCounts = new HashMap<>();
+    List<ServerStartupInfo> wave = new ArrayList<>();
+
+    for (Iterator<ServerStartupInfo> it = remaining.iterator(); it.hasNext(); ) {
+      if (domainLimit > 0 && wave.size() >= domainLimit) {
+        break;
+      }
+
+      ServerStartupInfo ssi = it.next();
+      if (hasRoomInCluster(ssi.getClusterName(), domain, rampLimit, clusterCounts)) {
+        wave.add(ssi);
+        it.remove();
+      }
+    }
+    return wave;
+  }
+
+  private static boolean hasRoomInCluster(
+      String clusterName, Domain domain, int rampLimit, Map<String, Integer> clusterCounts) {
+    if (clusterName == null) {
+      return true;
+    }
+
+    int limit = combineLimits(domain.getMaxConcurrentStartup(clusterName), rampLimit);
+    int count = clusterCounts.getOrDefault(clusterName, 0);
+    if (limit > 0 && count >= limit) {
+      return false;
+    }
+    clusterCounts.put(clusterName, count + 1);
+    return true;
+  }
+
+  private static int combineLimits(int limit1, int limit2) {
+    if (limit1 <= 0) {
+      return Math.max(limit2, 0);
+    } else if (limit2 <= 0) {
+      return limit1;
+    } else {
+      return Math.min(limit1, limit2);
+    }
+  }
+
   @Override
   public NextAction apply(Packet packet) {
-    Collection<StepAndPacket> startDetails = new ArrayList<>();
     Map<String, StepAndPacket> rolling = new ConcurrentHashMap<>();
     packet.put(ProcessingConstants.SERVERS_TO_ROLL, rolling);
 
-    for (ServerStartupInfo ssi : cols) {
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    Domain dom = info.getDomain();
+
+    if (LOGGER.isFineEnabled()) {
+      Collection<String> serverList = new ArrayList<>();
+      for (ServerStartupInfo ssi : cols) {
+        serverList.add(ssi.serverConfig.getName());
+      }
+      LOGGER.fine(
+          "Starting or validating servers for domain with UID: "
+              + dom.getDomainUid()
+              + ", server list: "
+              + serverList);
+    }
+
+    if (cols.isEmpty()) {
+      return doNext(packet);
+    }
+    return doNext(createWaveSteps(createWaves(cols, dom), dom.isStartupWaitForReady()), packet);
+  }
+
+  private Step createWaveSteps(List<List<ServerStartupInfo>> waves, boolean waitForReady) {
+    Step step = new ManagedServerUpAfterStep(getNext());
+    for (int i = waves.size() - 1; i >= 0; i--) {
+      boolean isLastWave = i == waves.size() - 1;
+      step = new StartWaveStep(waves.get(i), waitForReady && !isLastWave, step);
+    }
+    return step;
+  }
+
+  private static Collection<StepAndPacket> createStartDetails(
+      List<ServerStartupInfo> wave, Packet packet) {
+    Collection<StepAndPacket> startDetails = new ArrayList<>();
+    for (ServerStartupInfo ssi : wave) {
       Packet p = packet.clone();
       p.put(ProcessingConstants.SERVER_SCAN, ssi.serverConfig);
       p.put(ProcessingConstants.CLUSTER_NAME, ssi.getClusterName());
@@ -68,26 +174,60 @@ public class ManagedServerUpIteratorStep extends Step {
 
       startDetails.add(new StepAndPacket(bringManagedServerUp(ssi, null), p));
     }
+    return startDetails;
+  }
 
-    if (LOGGER.isFineEnabled()) {
-      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+  /** Starts or validates the servers in a single wave, in parallel. */
+  private static class StartWaveStep extends Step {
+    private final List<ServerStartupInfo> wave;
+    private final boolean waitForReady;
 
-      Domain dom = info.getDomain();
+    StartWaveStep(List<ServerStartupInfo> wave, boolean waitForReady, Step next) {
+      super(next);
+      this.wave = wave;
+      this.waitForReady = waitForReady;
+    }
 
-      Collection<String> serverList = new ArrayList<>();
-      for (ServerStartupInfo ssi : cols) {
-        serverList.add(ssi.serverConfig.getName());
+    @Override
+    public NextAction apply(Packet packet) {
+      Step next = waitForReady ? new WaitForWaveReadyStep(wave, getNext()) : getNext();
+      return doForkJoin(
+          next,
+          packet,
+          createStartDetails(wave, packet),
+          DomainPresence.getFanOutMaxParallelism());
+    }
+  }
+
+  /** Waits for the pods of the servers in a wave to become ready. */
+  private static class WaitForWaveReadyStep extends Step {
+    private final List<ServerStartupInfo> wave;
+
+    WaitForWaveReadyStep(List<ServerStartupInfo> wave, Step next) {
+      super(next);
+      this.wave = wave;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      PodAwaiterStepFactory podAwaiter = packet.getSpi(PodAwaiterStepFactory.class);
+      if (podAwaiter == null) {
+        return doNext(packet);
       }
-      LOGGER.fine(
-          "Starting or validating servers for domain with UID: "
-              + dom.getDomainUid()
-              + ", server list: "
-              + serverList);
+
+      Collection<StepAndPacket> waits = new ArrayList<>();
+      for (ServerStartupInfo ssi : wave) {
+        Optional.ofNullable(info.getServerPod(ssi.getServerName()))
+            .filter(pod -> !ssi.isServiceOnly() && !PodHelper.isReady(pod))
+            .ifPresent(pod -> waits.add(createWait(podAwaiter, pod, packet)));
+      }
+
+      return waits.isEmpty() ? doNext(packet) : doForkJoin(getNext(), packet, waits);
     }
 
-    if (startDetails.isEmpty()) {
-      return doNext(packet);
+    private StepAndPacket createWait(PodAwaiterStepFactory podAwaiter, V1Pod pod, Packet packet) {
+      return new StepAndPacket(podAwaiter.waitForReady(pod, null), packet.clone());
     }
-    return doForkJoin(new ManagedServerUpAfterStep(getNext()), packet, startDetails);
   }
 }
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -145,47 +146,72 @@ public class ReadHealthStep extends Step {
                   serverConfig.getAdminProtocolChannelName(),
                   serverConfig.getListenPort());
           if (serviceUrl != null) {
-            Result result =
-                httpClient.executePostUrlOnServiceClusterIP(
-                    getRetrieveHealthSearchUrl(),
-                    serviceUrl,
-                    getRetrieveHealthSearchPayload(),
-                    false);
-
-            Pair<String, ServerHealth> pair = createServerHealthFromResult(result);
-
-            String state = pair.getLeft();
-            if (state != null && !state.isEmpty()) {
-              ConcurrentMap<String, String> serverStateMap =
-                  (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
-              info.updateLastKnownServerStatus(serverName, state);
-              serverStateMap.put(serverName, state);
+            CompletableFuture<Result> futureResult =
+                httpClient.executePostUrlOnServiceClusterIPAsync(
+                    getRetrieveHealthSearchUrl(), serviceUrl, getRetrieveHealthSearchPayload());
+
+            if (futureResult.isDone()) {
+              recordServerHealth(packet, info, serverName, futureResult.join());
+            } else {
+              // resume the fiber once the response arrives, rather than holding this thread
+              return doSuspend(
+                  fiber ->
+                      futureResult.whenComplete(
+                          (result, throwable) -> {
+                            try {
+                              if (throwable != null) {
+                                logReadFailed(packet, throwable);
+                              } else {
+                                recordServerHealth(packet, info, serverName, result);
+                              }
+                            } catch (Throwable t) {
+                              logReadFailed(packet, t);
+                            }
+                            fiber.resume(packet);
+                          }));
             }
-
-            @SuppressWarnings("unchecked")
-            ConcurrentMap<String, ServerHealth> serverHealthMap =
-                (ConcurrentMap<String, ServerHealth>)
-                    packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
-
-            serverHealthMap.put(
-                (String) packet.get(ProcessingConstants.SERVER_NAME), pair.getRight());
-            AtomicInteger remainingServersHealthToRead =
-                packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-            remainingServersHealthToRead.getAndDecrement();
           }
         }
         return doNext(packet);
       } catch (Throwable t) {
-        // do not retry for health check
-        LOGGER.info(
-            (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
-            MessageKeys.WLS_HEALTH_READ_FAILED,
-            packet.get(ProcessingConstants.SERVER_NAME),
-            t);
+        logReadFailed(packet, t);
         return doNext(packet);
       }
     }
 
+    private void recordServerHealth(
+        Packet packet, DomainPresenceInfo info, String serverName, Result result)
+        throws IOException {
+      Pair<String, ServerHealth> pair = createServerHealthFromResult(result);
+
+      String state = pair.getLeft();
+      if (state != null && !state.isEmpty()) {
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<String, String> serverStateMap =
+            (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+        info.updateLastKnownServerStatus(serverName, state);
+        serverStateMap.put(serverName, state);
+      }
+
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, ServerHealth> serverHealthMap =
+          (ConcurrentMap<String, ServerHealth>) packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
+
+      serverHealthMap.put((String) packet.get(ProcessingConstants.SERVER_NAME), pair.getRight());
+      AtomicInteger remainingServersHealthToRead =
+          packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+      remainingServersHealthToRead.getAndDecrement();
+    }
+
+    private void logReadFailed(Packet packet, Throwable t) {
+      // do not retry for health check
+      LOGGER.info(
+          (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
+          MessageKeys.WLS_HEALTH_READ_FAILED,
+          packet.get(ProcessingConstants.SERVER_NAME),
+          t);
+    }
+
     private Pair<String, ServerHealth> createServerHealthFromResult(Result restResult)
         throws IOException {
       if (restResult.isSuccessful()) {
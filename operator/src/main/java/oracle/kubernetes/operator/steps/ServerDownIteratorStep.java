@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import oracle.kubernetes.operator.DomainPresence;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -40,7 +41,8 @@ public class ServerDownIteratorStep extends Step {
     if (startDetails.isEmpty()) {
       return doNext(packet);
     } else {
-      return doForkJoin(getNext(), packet, startDetails);
+      return doForkJoin(
+          getNext(), packet, startDetails, DomainPresence.getFanOutMaxParallelism());
     }
   }
 }
@@ -0,0 +1,69 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The components registered with a {@link ComponentRegistry}, keyed by name. Remembers the result
+ * of each SPI lookup until the registered components change, so that a repeated lookup of the same
+ * SPI does not search them again. This relies on each component always returning the same
+ * implementation of an SPI, as those created by {@link Component#createFor(Object...)} do.
+ */
+class ComponentMap extends CopyOnWriteMap<Component> {
+  private static final Object NOT_FOUND = new Object();
+
+  private volatile SpiIndex spiIndex;
+
+  ComponentMap() {
+  }
+
+  /**
+   * Creates a copy of a component map, sharing its entries until either map is modified.
+   *
+   * @param source the map to copy
+   */
+  ComponentMap(ComponentMap source) {
+    super(source);
+    spiIndex = source.spiIndex;
+  }
+
+  /**
+   * Returns the first implementation of the specified SPI provided by the components in this map.
+   *
+   * @param spiType the SPI class
+   * @param <S> the SPI type
+   * @return an implementation of the SPI, or null if no component provides one
+   */
+  <S> S getSpi(Class<S> spiType) {
+    long version = getVersion();
+    SpiIndex index = spiIndex;
+    if (index == null || index.version != version) {
+      spiIndex = index = new SpiIndex(version);
+    }
+
+    Object spi = index.spis.computeIfAbsent(spiType, this::findSpi);
+    return spi == NOT_FOUND ? null : spiType.cast(spi);
+  }
+
+  private Object findSpi(Class<?> spiType) {
+    for (Component c : values()) {
+      Object spi = c.getSpi(spiType);
+      if (spi != null) {
+        return spi;
+      }
+    }
+    return NOT_FOUND;
+  }
+
+  private static class SpiIndex {
+    private final long version;
+    private final Map<Class<?>, Object> spis = new ConcurrentHashMap<>();
+
+    SpiIndex(long version) {
+      this.version = version;
+    }
+  }
+}
@@ -5,7 +5,6 @@ package oracle.kubernetes.operator.work;
 
 import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /** Root of the SPI implemented by the container. */
 public class Container implements ComponentRegistry, ComponentEx {
@@ -14,17 +13,11 @@ public class Container implements ComponentRegistry, ComponentEx {
    * #getSpi(Class)}.
    */
   public static final Container NONE = new NoneContainer();
-  private final Map<String, Component> components = new ConcurrentHashMap<String, Component>();
+  private final ComponentMap components = new ComponentMap();
 
   @Override
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
-      if (s != null) {
-        return s;
-      }
-    }
-    return null;
+    return components.getSpi(spiType);
   }
 
   @Override
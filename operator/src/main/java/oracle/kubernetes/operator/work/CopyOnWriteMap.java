@@ -0,0 +1,179 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A map which may be copied in constant time. A copy shares its entries with the map from which
+ * it was made until either of them is modified; the first modification of each then copies the
+ * entries. Reads never lock; modifications lock the map being modified.
+ *
+ * @param <V> the type of the values in the map
+ */
+class CopyOnWriteMap<V> extends AbstractMap<String, V> {
+  private volatile ConcurrentMap<String, V> map;
+  private volatile long version;
+  private boolean shared;
+
+  CopyOnWriteMap() {
+    map = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Creates a copy of a map, sharing its entries until either map is modified.
+   *
+   * @param source the map to copy
+   */
+  CopyOnWriteMap(CopyOnWriteMap<V> source) {
+    synchronized (source) {
+      source.shared = true;
+      map = source.map;
+      version = source.version;
+      shared = true;
+    }
+  }
+
+  /**
+   * Returns a number which changes whenever this map is modified.
+   *
+   * @return the modification version
+   */
+  long getVersion() {
+    return version;
+  }
+
+  // must be called while holding the lock on this map
+  private ConcurrentMap<String, V> getWritableMap() {
+    if (shared) {
+      map = new ConcurrentHashMap<>(map);
+      shared = false;
+    }
+    return map;
+  }
+
+  @Override
+  public V get(Object key) {
+    return key == null ? null : map.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key != null && map.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @Override
+  public synchronized V put(String key, V value) {
+    try {
+      return getWritableMap().put(key, value);
+    } finally {
+      version++;
+    }
+  }
+
+  @Override
+  public synchronized V remove(Object key) {
+    if (!containsKey(key)) {
+      return null;
+    }
+
+    try {
+      return getWritableMap().remove(key);
+    } finally {
+      version++;
+    }
+  }
+
+  @Override
+  public synchronized void putAll(Map<? extends String, ? extends V> m) {
+    try {
+      getWritableMap().putAll(m);
+    } finally {
+      version++;
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    map = new ConcurrentHashMap<>();
+    shared = false;
+    version++;
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, V>> {
+    @Override
+    public Iterator<Entry<String, V>> iterator() {
+      return new EntryIterator(map.entrySet().iterator());
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+  }
+
+  // Iterates over the entries of this map, writing any changes through it
+  private class EntryIterator implements Iterator<Entry<String, V>> {
+    private final Iterator<Entry<String, V>> iterator;
+    private Entry<String, V> last;
+
+    EntryIterator(Iterator<Entry<String, V>> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public Entry<String, V> next() {
+      Entry<String, V> entry = iterator.next();
+      last = new WriteThroughEntry(entry.getKey(), entry.getValue());
+      return last;
+    }
+
+    @Override
+    public void remove() {
+      if (last == null) {
+        throw new IllegalStateException();
+      }
+      CopyOnWriteMap.this.remove(last.getKey());
+      last = null;
+    }
+  }
+
+  private class WriteThroughEntry extends SimpleEntry<String, V> {
+    WriteThroughEntry(String key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+}
@@ -0,0 +1,271 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A scheduled executor service which runs tasks on one executor and keeps time on another. Tasks
+ * submitted for immediate execution go straight to the worker executor. Delayed and periodic tasks
+ * wait on a single timer thread, which hands each one to the worker executor when it is due, so
+ * that a timer never runs a task itself and a busy worker executor never delays a timer.
+ *
+ * <p>As with {@link ScheduledThreadPoolExecutor}, runs of a periodic task never overlap, and a
+ * periodic task which throws an exception is not run again.
+ */
+class DispatchingExecutorService extends AbstractExecutorService
+    implements ScheduledExecutorService {
+  private final Executor workers;
+  private final ScheduledThreadPoolExecutor timer;
+  private final AtomicBoolean shutdown = new AtomicBoolean(false);
+
+  /**
+   * Creates an executor service.
+   *
+   * @param workers the executor which runs tasks
+   * @param timerThreadFactory the factory for the timer thread
+   */
+  DispatchingExecutorService(Executor workers, ThreadFactory timerThreadFactory) {
+    this.workers = workers;
+    this.timer = new ScheduledThreadPoolExecutor(1, timerThreadFactory);
+    this.timer.setRemoveOnCancelPolicy(true);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (shutdown.get()) {
+      throw new RejectedExecutionException("Executor is shut down");
+    }
+    workers.execute(command);
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return schedule(Executors.callable(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    FutureTask<V> task = new FutureTask<>(callable);
+    return new DelayedTask<>(task, timer.schedule(() -> dispatch(task), delay, unit));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      Runnable command, long initialDelay, long period, TimeUnit unit) {
+    return new PeriodicTask(command, unit.toNanos(period), true).start(unit.toNanos(initialDelay));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    return new PeriodicTask(command, unit.toNanos(delay), false).start(unit.toNanos(initialDelay));
+  }
+
+  private void dispatch(Runnable task) {
+    if (!shutdown.get()) {
+      workers.execute(task);
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown.set(true);
+    timer.shutdown();
+    if (workers instanceof ExecutorService) {
+      ((ExecutorService) workers).shutdown();
+    }
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown.set(true);
+    List<Runnable> pending = new ArrayList<>(timer.shutdownNow());
+    if (workers instanceof ExecutorService) {
+      pending.addAll(((ExecutorService) workers).shutdownNow());
+    }
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown.get();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return timer.isTerminated()
+        && (!(workers instanceof ExecutorService) || ((ExecutorService) workers).isTerminated());
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    if (!timer.awaitTermination(timeout, unit)) {
+      return false;
+    } else if (workers instanceof ExecutorService) {
+      long remaining = deadline - System.nanoTime();
+      return ((ExecutorService) workers).awaitTermination(remaining, TimeUnit.NANOSECONDS);
+    }
+    return true;
+  }
+
+  private static int compareDelays(Delayed first, Delayed second) {
+    return Long.compare(
+        first.getDelay(TimeUnit.NANOSECONDS), second.getDelay(TimeUnit.NANOSECONDS));
+  }
+
+  // A one-shot task which is handed to the workers when its timer fires
+  private static class DelayedTask<V> implements ScheduledFuture<V> {
+    private final FutureTask<V> task;
+    private final ScheduledFuture<?> timerFuture;
+
+    DelayedTask(FutureTask<V> task, ScheduledFuture<?> timerFuture) {
+      this.task = task;
+      this.timerFuture = timerFuture;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return timerFuture.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+      return compareDelays(this, o);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      timerFuture.cancel(false);
+      return task.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return task.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return task.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+      return task.get();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      return task.get(timeout, unit);
+    }
+  }
+
+  // A task which reschedules itself on the timer after each run completes on the workers
+  private class PeriodicTask implements Runnable, ScheduledFuture<Object> {
+    private final Runnable command;
+    private final long periodNanos;
+    private final boolean fixedRate;
+    private final CompletableFuture<Object> completion = new CompletableFuture<>();
+    private volatile ScheduledFuture<?> timerFuture;
+    private long nextRunTime;
+
+    PeriodicTask(Runnable command, long periodNanos, boolean fixedRate) {
+      this.command = command;
+      this.periodNanos = periodNanos;
+      this.fixedRate = fixedRate;
+    }
+
+    PeriodicTask start(long initialDelayNanos) {
+      nextRunTime = System.nanoTime() + initialDelayNanos;
+      scheduleNextRun(initialDelayNanos);
+      return this;
+    }
+
+    private void scheduleNextRun(long delayNanos) {
+      if (!completion.isDone() && !shutdown.get()) {
+        timerFuture = timer.schedule(() -> dispatch(this), delayNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    @Override
+    public void run() {
+      if (completion.isDone()) {
+        return;
+      }
+
+      try {
+        command.run();
+      } catch (Throwable t) {
+        completion.completeExceptionally(t);
+        return;
+      }
+
+      if (fixedRate) {
+        nextRunTime += periodNanos;
+        scheduleNextRun(Math.max(0, nextRunTime - System.nanoTime()));
+      } else {
+        scheduleNextRun(periodNanos);
+      }
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return timerFuture.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+      return compareDelays(this, o);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = completion.cancel(mayInterruptIfRunning);
+      timerFuture.cancel(false);
+      return cancelled;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return completion.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return completion.isDone();
+    }
+
+    @Override
+    public Object get() throws InterruptedException, ExecutionException {
+      return completion.get();
+    }
+
+    @Override
+    public Object get(long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      return completion.get(timeout, unit);
+    }
+  }
+}
@@ -5,17 +5,22 @@ package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
+ *
+ * <p>Fibers ready to run wait in a queue per {@link FiberPriority}, rather than in the order they
+ * became ready. Each submission to the executor runs whichever waiting fiber is then most urgent,
+ * so that urgent fibers overtake a backlog of less urgent ones.
  */
 public class Engine {
-  private static final int DEFAULT_THREAD_COUNT = 10;
+  static final int DEFAULT_BREAD_CRUMB_LIMIT = 64;
+
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private final PrioritizedFiberQueue readyFibers;
+  private volatile int breadCrumbLimit = DEFAULT_BREAD_CRUMB_LIMIT;
+  private volatile FiberTracer tracer;
 
   /**
    * Creates engine with the specified executor.
@@ -23,7 +28,12 @@ public class Engine {
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
+    this(threadPool, new PrioritizedFiberQueue());
+  }
+
+  Engine(ScheduledExecutorService threadPool, PrioritizedFiberQueue readyFibers) {
     this.threadPool.set(threadPool);
+    this.readyFibers = readyFibers;
   }
 
   /**
@@ -36,10 +46,21 @@ public class Engine {
   }
 
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
-    ScheduledThreadPoolExecutor threadPool =
-        new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
-    threadPool.setRemoveOnCancelPolicy(true);
-    return wrap(container, threadPool);
+    return wrappedExecutorService(id, container, ExecutorStrategy.SCHEDULED_POOL);
+  }
+
+  /**
+   * Creates an executor which runs fibers according to the specified strategy, with each task run
+   * in the specified container.
+   *
+   * @param id an identifier used in the names of the executor's threads
+   * @param container the container in which tasks run
+   * @param strategy the strategy which creates the executor
+   * @return a scheduled executor service
+   */
+  public static ScheduledExecutorService wrappedExecutorService(
+      String id, Container container, ExecutorStrategy strategy) {
+    return wrap(container, strategy.createExecutor(id));
   }
 
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
@@ -56,7 +77,49 @@ public class Engine {
   }
 
   void addRunnable(Fiber fiber) {
-    getExecutor().execute(fiber);
+    readyFibers.add(fiber);
+    getExecutor().execute(this::runNextFiber);
+  }
+
+  // Every fiber added is matched by one call to this method, so the queue is never left holding
+  // a fiber with no task to run it
+  private void runNextFiber() {
+    Fiber fiber = readyFibers.poll();
+    if (fiber != null) {
+      fiber.run();
+    }
+  }
+
+  /**
+   * Returns the number of fibers of the specified priority which are ready to run, but waiting
+   * for a thread.
+   *
+   * @param priority a fiber priority
+   * @return a fiber count
+   */
+  public int getQueueDepth(FiberPriority priority) {
+    return readyFibers.getQueueDepth(priority);
+  }
+
+  /**
+   * Returns the number of times a fiber of the specified priority has been taken from the queue to
+   * run.
+   *
+   * @param priority a fiber priority
+   * @return a dispatch count
+   */
+  public long getDispatchedCount(FiberPriority priority) {
+    return readyFibers.getDispatchedCount(priority);
+  }
+
+  /**
+   * Returns the number of times a fiber has been run ahead of more urgent ones because it had
+   * waited too long.
+   *
+   * @return a promotion count
+   */
+  public long getPromotedCount() {
+    return readyFibers.getPromotedCount();
   }
 
   /**
@@ -68,31 +131,62 @@ public class Engine {
    * @return new Fiber
    */
   public Fiber createFiber() {
-    return new Fiber(this);
+    return createFiber(FiberPriority.RECONCILE);
   }
 
-  Fiber createChildFiber(Fiber parent) {
-    return new Fiber(this, parent);
+  /**
+   * Returns the number of most recent steps for which each fiber keeps bread crumbs, when fine
+   * logging is enabled.
+   *
+   * @return a step count
+   */
+  public int getBreadCrumbLimit() {
+    return breadCrumbLimit;
   }
 
-  private static class DaemonThreadFactory implements ThreadFactory {
-    final AtomicInteger threadNumber = new AtomicInteger(1);
-    final String namePrefix;
-
-    DaemonThreadFactory(String id) {
-      namePrefix = "engine-" + id + "-thread-";
+  /**
+   * Sets the number of most recent steps for which each fiber started from now on keeps bread
+   * crumbs, when fine logging is enabled.
+   *
+   * @param breadCrumbLimit a positive step count
+   */
+  public void setBreadCrumbLimit(int breadCrumbLimit) {
+    if (breadCrumbLimit < 1) {
+      throw new IllegalArgumentException("bread crumb limit must be positive: " + breadCrumbLimit);
     }
+    this.breadCrumbLimit = breadCrumbLimit;
+  }
 
-    public Thread newThread(Runnable r) {
-      Thread t = new Thread(r);
-      t.setName(namePrefix + threadNumber.getAndIncrement());
-      if (!t.isDaemon()) {
-        t.setDaemon(true);
-      }
-      if (t.getPriority() != Thread.NORM_PRIORITY) {
-        t.setPriority(Thread.NORM_PRIORITY);
-      }
-      return t;
-    }
+  /**
+   * Returns the tracer which records the step times of sampled fibers, if any.
+   *
+   * @return a tracer, or null if fibers are not traced
+   */
+  public FiberTracer getTracer() {
+    return tracer;
+  }
+
+  /**
+   * Sets the tracer which is to record the step times of a sample of the fibers started from now
+   * on.
+   *
+   * @param tracer a tracer, or null to stop tracing
+   */
+  public void setTracer(FiberTracer tracer) {
+    this.tracer = tracer;
+  }
+
+  /**
+   * Creates a new fiber with the specified priority in a suspended state.
+   *
+   * @param priority the priority of the fiber, inherited by its children
+   * @return new Fiber
+   */
+  public Fiber createFiber(FiberPriority priority) {
+    return new Fiber(this, null, priority);
+  }
+
+  Fiber createChildFiber(Fiber parent) {
+    return new Fiber(this, parent, parent.getPriority());
   }
 }
@@ -0,0 +1,136 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * The ways in which an {@link Engine} may run its fibers. Each strategy creates a scheduled
+ * executor service; the strategies other than {@link #SCHEDULED_POOL} keep timers on a thread of
+ * their own, so that fibers which block cannot delay timeouts and retries.
+ */
+public enum ExecutorStrategy {
+  /** A fixed pool of platform threads which runs both fibers and timers. */
+  SCHEDULED_POOL("scheduled") {
+    @Override
+    ScheduledExecutorService createExecutor(String id) {
+      ScheduledThreadPoolExecutor threadPool =
+          new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id, ""));
+      threadPool.setRemoveOnCancelPolicy(true);
+      return threadPool;
+    }
+  },
+  /**
+   * A work-stealing pool with one thread per processor, suited to steps which compute rather than
+   * block.
+   */
+  FORK_JOIN("forkjoin") {
+    @Override
+    ScheduledExecutorService createExecutor(String id) {
+      return new DispatchingExecutorService(createForkJoinPool(id), createTimerFactory(id));
+    }
+  },
+  /**
+   * A new virtual thread for each task, suited to steps which block. Requires a Java runtime with
+   * virtual threads; on earlier runtimes, {@link #FORK_JOIN} is used instead.
+   */
+  VIRTUAL_THREADS("virtual") {
+    @Override
+    ScheduledExecutorService createExecutor(String id) {
+      Optional<ThreadFactory> factory =
+          ThreadFactorySingleton.getVirtualThreadFactory("engine-" + id + "-virtual-");
+      if (!factory.isPresent()) {
+        LOGGER.warning(MessageKeys.VIRTUAL_THREADS_UNAVAILABLE, FORK_JOIN.getName());
+        return FORK_JOIN.createExecutor(id);
+      }
+
+      Executor workers = command -> factory.get().newThread(command).start();
+      return new DispatchingExecutorService(workers, createTimerFactory(id));
+    }
+  };
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_THREAD_COUNT = 10;
+
+  private final String name;
+
+  ExecutorStrategy(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns the strategy with the specified name, or the scheduled pool if there is none.
+   *
+   * @param name a strategy name: "scheduled", "forkjoin" or "virtual"
+   * @return the selected strategy
+   */
+  public static ExecutorStrategy fromName(String name) {
+    return Arrays.stream(values())
+        .filter(strategy -> strategy.name.equalsIgnoreCase(name))
+        .findFirst()
+        .orElse(SCHEDULED_POOL);
+  }
+
+  private static ForkJoinPool createForkJoinPool(String id) {
+    AtomicInteger threadNumber = new AtomicInteger(1);
+    return new ForkJoinPool(
+        Runtime.getRuntime().availableProcessors(),
+        pool -> {
+          ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+          t.setName("engine-" + id + "-worker-" + threadNumber.getAndIncrement());
+          t.setDaemon(true);
+          return t;
+        },
+        (t, e) -> LOGGER.severe(MessageKeys.EXCEPTION, e),
+        true);
+  }
+
+  private static ThreadFactory createTimerFactory(String id) {
+    return new DaemonThreadFactory(id, "timer-");
+  }
+
+  /**
+   * Returns the name by which this strategy is selected.
+   *
+   * @return a strategy name
+   */
+  public String getName() {
+    return name;
+  }
+
+  abstract ScheduledExecutorService createExecutor(String id);
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+    final AtomicInteger threadNumber = new AtomicInteger(1);
+    final String namePrefix;
+
+    DaemonThreadFactory(String id, String role) {
+      namePrefix = "engine-" + id + "-" + role + "thread-";
+    }
+
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r);
+      t.setName(namePrefix + threadNumber.getAndIncrement());
+      if (!t.isDaemon()) {
+        t.setDaemon(true);
+      }
+      if (t.getPriority() != Thread.NORM_PRIORITY) {
+        t.setPriority(Thread.NORM_PRIORITY);
+      }
+      return t;
+    }
+  }
+}
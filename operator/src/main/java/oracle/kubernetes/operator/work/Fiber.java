@@ -5,14 +5,12 @@ package oracle.kubernetes.operator.work;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
@@ -21,6 +19,9 @@ import java.util.function.Consumer;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.LatencyHistogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.HistogramFamily;
 import oracle.kubernetes.operator.work.NextAction.Kind;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
@@ -59,8 +60,22 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private static final ThreadLocal<Fiber> CURRENT_FIBER = new ThreadLocal<>();
   /** Used to allocate unique number for each fiber. */
   private static final AtomicInteger iotaGen = new AtomicInteger();
+  private static final HistogramFamily STEP_DURATION_FAMILY =
+      MetricsRegistry.getInstance()
+          .histogram(
+              "weblogic_operator_fiber_step_duration_seconds",
+              "Time taken by each run of a step, by step class; time suspended is excluded",
+              "step");
+  private static final ClassValue<LatencyHistogram> STEP_DURATIONS =
+      new ClassValue<LatencyHistogram>() {
+        @Override
+        protected LatencyHistogram computeValue(Class<?> type) {
+          return STEP_DURATION_FAMILY.get(FiberTracer.getStepName(type));
+        }
+      };
   public final Engine owner;
   private final Fiber parent;
+  private final FiberPriority priority;
   private final int id;
   /**
    * Replace uses of synchronized(this) with this lock so that we can control unlocking for resume
@@ -69,25 +84,25 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private final ReentrantLock lock = new ReentrantLock();
   private final Condition condition = lock.newCondition();
   private final AtomicInteger status = new AtomicInteger(NOT_COMPLETE);
-  private final Map<String, Component> components = new ConcurrentHashMap<>();
+  private final ComponentMap components = new ComponentMap();
   /** The next action for this Fiber. */
   private NextAction na;
   private ClassLoader contextClassLoader;
-  private CompletionCallback completionCallback;
+  private volatile CompletionCallback completionCallback;
+  private final AtomicBoolean cancellationReported = new AtomicBoolean();
   /** The thread on which this Fiber is currently executing, if applicable. */
   private volatile Thread currentThread;
   private ExitCallback exitCallback;
   private Collection<Fiber> children = null;
   // Will only be populated if log level is at least FINE
-  private List<BreadCrumb> breadCrumbs = null;
-
-  Fiber(Engine engine) {
-    this(engine, null);
-  }
+  private BreadCrumbRing breadCrumbs = null;
+  // Will only be set if this fiber is sampled for tracing
+  private FiberTracer tracer;
 
-  Fiber(Engine engine, Fiber parent) {
+  Fiber(Engine engine, Fiber parent, FiberPriority priority) {
     this.owner = engine;
     this.parent = parent;
+    this.priority = priority;
     id = iotaGen.incrementAndGet();
 
     // if this is run from another fiber, then we naturally inherit its context
@@ -132,17 +147,38 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     this.na = new NextAction();
     this.na.invoke(stepline, packet);
     this.completionCallback = completionCallback;
+    this.tracer = parent != null ? parent.tracer : selectTracer();
 
     if (status.get() == NOT_COMPLETE) {
       if (LOGGER.isFineEnabled()) {
-        breadCrumbs = new ArrayList<>();
+        breadCrumbs = new BreadCrumbRing(owner.getBreadCrumbLimit());
         LOGGER.fine("{0} started", getName());
       }
 
       owner.addRunnable(this);
+    } else if (isCancelled()) {
+      reportCancellation();
     }
   }
 
+  // Tells the completion callback, once, that this fiber was cancelled. Both cancelling a fiber and
+  // starting one already cancelled report it, so that it is reported even if the two race.
+  private void reportCancellation() {
+    CompletionCallback callback = completionCallback;
+    if (callback != null && cancellationReported.compareAndSet(false, true)) {
+      try {
+        callback.onCancellation();
+      } catch (Throwable t) {
+        LOGGER.warning(MessageKeys.EXCEPTION, t);
+      }
+    }
+  }
+
+  private FiberTracer selectTracer() {
+    FiberTracer engineTracer = owner.getTracer();
+    return engineTracer != null && engineTracer.shouldSample() ? engineTracer : null;
+  }
+
   /**
    * Wakes up a suspended fiber. If a fiber was suspended without specifying the next {@link Step},
    * then the execution will be resumed, by calling the {@link Step#apply(Packet)} method on the
@@ -259,7 +295,17 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   }
 
   /**
-   * Marks this Fiber as cancelled. A cancelled Fiber will never invoke its completion callback
+   * Returns the priority with which the engine schedules this fiber.
+   *
+   * @return fiber priority
+   */
+  public FiberPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Marks this Fiber as cancelled. A cancelled Fiber will never invoke its completion callback,
+   * other than to report the cancellation.
    *
    * @param mayInterrupt if cancel should use {@link Thread#interrupt()}
    * @see java.util.concurrent.Future#cancel(boolean)
@@ -288,9 +334,10 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         }
       }
 
-      recordBreadCrumb();
+      recordBreadCrumb(true);
     }
 
+    reportCancellation();
     return true;
   }
 
@@ -466,7 +513,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
           LOGGER.fine("{0} completed", getName());
         }
 
-        recordBreadCrumb();
+        recordBreadCrumb(s == CANCELLED || na.throwable != null);
         try {
           if (s == NOT_COMPLETE && completionCallback != null) {
             if (na.throwable != null) {
@@ -555,6 +602,14 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
+  // Every step run is counted in its class's histogram; only sampled fibers are also traced
+  private void recordStepDuration(Step step, long nanos) {
+    STEP_DURATIONS.get(step.getClass()).record(nanos);
+    if (tracer != null) {
+      tracer.record(step, nanos);
+    }
+  }
+
   private boolean doRunInternal(Holder<Boolean> isRequireUnlock) {
     assert (lock.isHeldByCurrentThread());
 
@@ -583,8 +638,10 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
       addBreadCrumb(na);
 
       NextAction result;
+      Step step = na.next;
+      long startNanos = System.nanoTime();
       try {
-        result = na.next.apply(na.packet);
+        result = step.apply(na.packet);
       } catch (Throwable t) {
         Packet p = na.packet;
         na = new NextAction();
@@ -592,6 +649,8 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
 
         addBreadCrumb(na);
         return false;
+      } finally {
+        recordStepDuration(step, System.nanoTime() - startNanos);
       }
 
       if (LOGGER.isFinerEnabled()) {
@@ -696,7 +755,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
    */
   boolean cancelAndExitCallback(boolean mayInterrupt, ExitCallback exitCallback) {
     // Mark fiber as cancelled, if not already done
-    status.compareAndSet(NOT_COMPLETE, CANCELLED);
+    if (status.compareAndSet(NOT_COMPLETE, CANCELLED)) {
+      reportCancellation();
+    }
 
     if (LOGGER.isFineEnabled()) {
       LOGGER.fine("{0} cancelled", getName());
@@ -743,7 +804,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
 
   private synchronized void addBreadCrumb(NextAction na) {
     if (breadCrumbs != null) {
-      breadCrumbs.add(new NextActionBreadCrumb(na));
+      breadCrumbs.add(NextActionBreadCrumb.create(na));
     }
   }
 
@@ -759,48 +820,40 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
-  private synchronized void recordBreadCrumb() {
+  // Logs the bread crumbs of a root fiber which has failed or been cancelled, and discards them
+  private synchronized void recordBreadCrumb(boolean failed) {
     if (breadCrumbs != null) {
       if (parent == null) {
-        StringBuilder sb = new StringBuilder();
-        writeBreadCrumb(sb);
-
-        if (LOGGER.isFineEnabled()) {
-          LOGGER.fine("{0} bread crumb: {1}", getName(), sb.toString());
+        if (failed && LOGGER.isFineEnabled()) {
+          LOGGER.fine("{0} bread crumb: {1}", getName(), getBreadCrumbs());
         }
         breadCrumbs = null;
       }
     }
   }
 
+  /**
+   * Describes the most recent steps run by this fiber and its children. Bread crumbs are kept only
+   * while fine logging is enabled, and only for a limited number of steps; see {@link
+   * Engine#getBreadCrumbLimit()}.
+   *
+   * @return a description of recent steps, or an empty string if none are kept
+   */
+  public synchronized String getBreadCrumbs() {
+    StringBuilder sb = new StringBuilder();
+    writeBreadCrumb(sb);
+    return sb.toString();
+  }
+
   private synchronized void writeBreadCrumb(StringBuilder sb) {
     if (breadCrumbs != null) {
-      sb.append('[');
-      Iterator<BreadCrumb> it = breadCrumbs.iterator();
-      BreadCrumb previous = null;
-      while (it.hasNext()) {
-        BreadCrumb bc = it.next();
-        if (!bc.isMarker()) {
-          if (previous != null) {
-            sb.append(previous.isMarker() ? "][" : ",");
-          }
-          bc.writeTo(sb);
-        }
-        previous = bc;
-      }
-      sb.append(']');
+      breadCrumbs.writeTo(sb);
     }
   }
 
   @Override
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S spi = c.getSpi(spiType);
-      if (spi != null) {
-        return spi;
-      }
-    }
-    return null;
+    return components.getSpi(spiType);
   }
 
   @Override
@@ -830,6 +883,13 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
      * @param throwable The throwable
      */
     void onThrowable(Packet packet, Throwable throwable);
+
+    /**
+     * Indicates that the fiber was cancelled, and so will invoke neither of the other methods. The
+     * fiber may still be running a step when this method is invoked.
+     */
+    default void onCancellation() {
+    }
   }
 
   /** Callback invoked when a Thread exits processing this fiber. */
@@ -860,33 +920,39 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
+  // Keeps only the step or exception class named by a next action, so as not to retain its packet
   private static class NextActionBreadCrumb implements BreadCrumb {
-    private final NextAction na;
+    private final Step step;
+    private final Class<?> throwableClass;
 
-    NextActionBreadCrumb(NextAction na) {
-      this.na = na;
+    private NextActionBreadCrumb(Step step, Class<?> throwableClass) {
+      this.step = step;
+      this.throwableClass = throwableClass;
     }
 
-    @Override
-    public void writeTo(StringBuilder sb) {
+    static NextActionBreadCrumb create(NextAction na) {
       switch (na.kind) {
         case INVOKE:
         case SUSPEND:
-          if (na.next != null) {
-            sb.append(na.next.getName());
-          }
-          break;
+          return new NextActionBreadCrumb(na.next, null);
         case THROW:
-          if (na.throwable != null) {
-            sb.append('(');
-            sb.append(na.throwable.getClass().getSimpleName());
-            sb.append(')');
-          }
-          break;
+          return new NextActionBreadCrumb(
+              null, na.throwable != null ? na.throwable.getClass() : null);
         default:
           throw new AssertionError();
       }
     }
+
+    @Override
+    public void writeTo(StringBuilder sb) {
+      if (step != null) {
+        sb.append(step.getName());
+      } else if (throwableClass != null) {
+        sb.append('(');
+        sb.append(throwableClass.getSimpleName());
+        sb.append(')');
+      }
+    }
   }
 
   private static class ChildFiberBreadCrumb implements BreadCrumb {
@@ -923,6 +989,43 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
+  /**
+   * The most recent bread crumbs of a fiber. Once full, each bread crumb added replaces the oldest;
+   * the description then begins with an ellipsis.
+   */
+  private static class BreadCrumbRing {
+    private final BreadCrumb[] crumbs;
+    private long count;
+
+    BreadCrumbRing(int capacity) {
+      crumbs = new BreadCrumb[capacity];
+    }
+
+    void add(BreadCrumb bc) {
+      crumbs[(int) (count++ % crumbs.length)] = bc;
+    }
+
+    void writeTo(StringBuilder sb) {
+      sb.append('[');
+      long first = Math.max(0, count - crumbs.length);
+      if (first > 0) {
+        sb.append("...,");
+      }
+      BreadCrumb previous = null;
+      for (long i = first; i < count; i++) {
+        BreadCrumb bc = crumbs[(int) (i % crumbs.length)];
+        if (!bc.isMarker()) {
+          if (previous != null) {
+            sb.append(previous.isMarker() ? "][" : ",");
+          }
+          bc.writeTo(sb);
+        }
+        previous = bc;
+      }
+      sb.append(']');
+    }
+  }
+
   private static final class Holder<T> {
     T value;
 
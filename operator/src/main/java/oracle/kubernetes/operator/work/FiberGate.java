@@ -9,6 +9,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.metrics.LatencyHistogram;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.Fiber.ExitCallback;
 
@@ -23,6 +24,7 @@ public class FiberGate {
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<String, Fiber>();
 
   private final Fiber placeholder;
+  private volatile LatencyHistogram durations;
 
   /**
    * Constructor taking Engine for running Fibers.
@@ -38,6 +40,27 @@ public class FiberGate {
     return engine.getExecutor();
   }
 
+  /**
+   * Causes the time from the start to the end of each Fiber started from now on to be recorded in
+   * the specified histogram. Fibers which are cancelled before they end are not recorded.
+   *
+   * @param durations Histogram of Fiber durations
+   * @return this gate
+   */
+  public FiberGate recordDurationsIn(LatencyHistogram durations) {
+    this.durations = durations;
+    return this;
+  }
+
+  /**
+   * Returns the number of keys for which this gate holds a running Fiber.
+   *
+   * @return Fiber count
+   */
+  public int getCurrentFiberCount() {
+    return gateMap.size();
+  }
+
   /**
    * Starts Fiber that cancels any earlier running Fibers with the same key. Fiber map is not
    * updated if no Fiber is started.
@@ -49,7 +72,27 @@ public class FiberGate {
    * @return started Fiber
    */
   public Fiber startFiber(String key, Step strategy, Packet packet, CompletionCallback callback) {
-    return startFiberIfLastFiberMatches(key, null, strategy, packet, callback);
+    return startFiber(key, FiberPriority.RECONCILE, strategy, packet, callback);
+  }
+
+  /**
+   * Starts Fiber with the specified priority that cancels any earlier running Fibers with the same
+   * key. Fiber map is not updated if no Fiber is started.
+   *
+   * @param key Key
+   * @param priority Priority of the Fiber
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   * @return started Fiber
+   */
+  public Fiber startFiber(
+      String key,
+      FiberPriority priority,
+      Step strategy,
+      Packet packet,
+      CompletionCallback callback) {
+    return startFiberIfLastFiberMatches(key, null, priority, strategy, packet, callback);
   }
 
   /**
@@ -64,7 +107,27 @@ public class FiberGate {
    */
   public Fiber startFiberIfNoCurrentFiber(
       String key, Step strategy, Packet packet, CompletionCallback callback) {
-    return startFiberIfLastFiberMatches(key, placeholder, strategy, packet, callback);
+    return startFiberIfNoCurrentFiber(key, FiberPriority.RECONCILE, strategy, packet, callback);
+  }
+
+  /**
+   * Starts Fiber with the specified priority only if there is no running Fiber with the same key.
+   * Fiber map is not updated if no Fiber is started.
+   *
+   * @param key Key
+   * @param priority Priority of the Fiber
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   * @return started Fiber
+   */
+  public Fiber startFiberIfNoCurrentFiber(
+      String key,
+      FiberPriority priority,
+      Step strategy,
+      Packet packet,
+      CompletionCallback callback) {
+    return startFiberIfLastFiberMatches(key, placeholder, priority, strategy, packet, callback);
   }
 
   /**
@@ -77,9 +140,32 @@ public class FiberGate {
    * @param callback Completion callback
    * @return started Fiber, or null, if no Fiber started
    */
-  public synchronized Fiber startFiberIfLastFiberMatches(
+  public Fiber startFiberIfLastFiberMatches(
       String key, Fiber old, Step strategy, Packet packet, CompletionCallback callback) {
-    Fiber f = engine.createFiber();
+    return startFiberIfLastFiberMatches(
+        key, old, FiberPriority.RECONCILE, strategy, packet, callback);
+  }
+
+  /**
+   * Starts Fiber with the specified priority only if the last started Fiber matches the given old
+   * Fiber.
+   *
+   * @param key Key
+   * @param old Expected last Fiber
+   * @param priority Priority of the Fiber
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   * @return started Fiber, or null, if no Fiber started
+   */
+  public synchronized Fiber startFiberIfLastFiberMatches(
+      String key,
+      Fiber old,
+      FiberPriority priority,
+      Step strategy,
+      Packet packet,
+      CompletionCallback callback) {
+    Fiber f = engine.createFiber(priority);
     WaitForOldFiberStep wfofs;
     if (old != null) {
       if (old == placeholder) {
@@ -94,6 +180,8 @@ public class FiberGate {
     }
     wfofs = new WaitForOldFiberStep(old, strategy);
     f.getComponents().put(ProcessingConstants.FIBER_COMPONENT_NAME, Component.createFor(wfofs));
+    LatencyHistogram histogram = durations;
+    long startNanos = System.nanoTime();
     f.start(
         wfofs,
         packet,
@@ -101,18 +189,26 @@ public class FiberGate {
           @Override
           public void onCompletion(Packet packet) {
             gateMap.remove(key, f);
+            recordDuration(histogram, startNanos);
             callback.onCompletion(packet);
           }
 
           @Override
           public void onThrowable(Packet packet, Throwable throwable) {
             gateMap.remove(key, f);
+            recordDuration(histogram, startNanos);
             callback.onThrowable(packet, throwable);
           }
         });
     return f;
   }
 
+  private static void recordDuration(LatencyHistogram histogram, long startNanos) {
+    if (histogram != null) {
+      histogram.record(System.nanoTime() - startNanos);
+    }
+  }
+
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
     private final AtomicReference<WaitForOldFiberStep> current;
@@ -0,0 +1,17 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * The classes of work which an {@link Engine} distinguishes when deciding which fiber to run next.
+ * Classes are listed from most to least urgent.
+ */
+public enum FiberPriority {
+  /** Work a user is waiting on, such as applying a domain change or a scaling request. */
+  INTERACTIVE,
+  /** Work to bring domains into line with their specifications after other events. */
+  RECONCILE,
+  /** Periodic work which may be delayed without harm, such as reading server status. */
+  BACKGROUND
+}
@@ -0,0 +1,183 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+
+/**
+ * A counting semaphore for fibers. A fiber which needs a permit when none is available is suspended
+ * rather than blocking its thread, and is resumed on its engine's executor, in the order in which
+ * fibers asked, once another fiber releases one. A fiber cancelled while it waits gives up its
+ * place.
+ *
+ * <p>Permits are held by child fibers, and released however those fibers end: normally, with a
+ * throwable, or by being cancelled. Beware of sharing a semaphore between a fiber and the fibers it
+ * forks: if every permit is held by a fiber waiting for its own children, none will proceed.
+ */
+public class FiberSemaphore {
+  private final Deque<Waiter> waiters = new ArrayDeque<>();
+  private int availablePermits;
+
+  /**
+   * Creates a semaphore.
+   *
+   * @param permits the number of permits; must be positive
+   */
+  public FiberSemaphore(int permits) {
+    if (permits < 1) {
+      throw new IllegalArgumentException("permits must be positive: " + permits);
+    }
+    this.availablePermits = permits;
+  }
+
+  /**
+   * Returns a step which waits for a permit, runs the specified steps in a child fiber while
+   * holding it, and then continues with the next step.
+   *
+   * @param steps the steps to run while holding a permit
+   * @param next the step to run once they are done
+   * @return a step
+   */
+  public Step withPermit(Step steps, Step next) {
+    return new WithPermitStep(steps, next);
+  }
+
+  /**
+   * Runs the specified action once a permit is available: at once, on this thread, if one is
+   * available now, or later on the fiber's executor, if the fiber has not been cancelled by then.
+   *
+   * @param fiber the fiber on whose behalf the permit is needed
+   * @param onAcquired the action to run holding the permit
+   */
+  void acquire(Fiber fiber, Runnable onAcquired) {
+    synchronized (this) {
+      if (availablePermits == 0) {
+        waiters.add(new Waiter(fiber, onAcquired));
+        return;
+      }
+      availablePermits--;
+    }
+    onAcquired.run();
+  }
+
+  /** Releases a permit, passing it to the longest waiting fiber which has not been cancelled. */
+  void release() {
+    Waiter next;
+    synchronized (this) {
+      do {
+        next = waiters.poll();
+      } while (next != null && next.fiber.isCancelled());
+
+      if (next == null) {
+        availablePermits++;
+        return;
+      }
+    }
+    next.fiber.owner.getExecutor().execute(next.onAcquired);
+  }
+
+  /**
+   * Starts a child of the specified fiber once a permit is available, releasing the permit when the
+   * child ends.
+   *
+   * @param parent the fiber whose child is to be started
+   * @param stepAndPacket the step and packet with which to start the child
+   * @param callback the callback to be invoked when the child ends, other than by cancellation
+   */
+  void startChildWithPermit(
+      Fiber parent, StepAndPacket stepAndPacket, CompletionCallback callback) {
+    acquire(
+        parent,
+        () ->
+            parent
+                .createChildFiber()
+                .start(stepAndPacket.step, stepAndPacket.packet, new ReleasingCallback(callback)));
+  }
+
+  /**
+   * Returns the number of permits not held by any fiber.
+   *
+   * @return a permit count
+   */
+  public synchronized int getAvailablePermits() {
+    return availablePermits;
+  }
+
+  /**
+   * Returns the number of fibers waiting for a permit.
+   *
+   * @return a fiber count
+   */
+  public synchronized int getQueueLength() {
+    return waiters.size();
+  }
+
+  private static class Waiter {
+    private final Fiber fiber;
+    private final Runnable onAcquired;
+
+    Waiter(Fiber fiber, Runnable onAcquired) {
+      this.fiber = fiber;
+      this.onAcquired = onAcquired;
+    }
+  }
+
+  // Releases the permit held by a child fiber exactly once, however the fiber ends
+  private class ReleasingCallback implements CompletionCallback {
+    private final CompletionCallback callback;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    ReleasingCallback(CompletionCallback callback) {
+      this.callback = callback;
+    }
+
+    private void releasePermit() {
+      if (released.compareAndSet(false, true)) {
+        release();
+      }
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      releasePermit();
+      callback.onCompletion(packet);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      releasePermit();
+      callback.onThrowable(packet, throwable);
+    }
+
+    @Override
+    public void onCancellation() {
+      releasePermit();
+      callback.onCancellation();
+    }
+  }
+
+  private class WithPermitStep extends Step {
+    private final Step steps;
+
+    WithPermitStep(Step steps, Step next) {
+      super(next);
+      this.steps = steps;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(
+          getNext(),
+          packet,
+          Collections.singletonList(new StepAndPacket(steps, packet)),
+          FiberSemaphore.this);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long the steps of a sample of fibers take to run, for later export. One fiber in
+ * every {@code sampleInterval} started is traced, along with all of its children; the time each
+ * of their steps spends in {@link Step#apply(Packet)} is added to the statistics for the step's
+ * class. Time during which a fiber is suspended is not included.
+ */
+public class FiberTracer {
+  private static final ClassValue<String> STEP_NAMES =
+      new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+          String name = type.getName();
+          name = name.substring(name.lastIndexOf('.') + 1);
+          return name.endsWith("Step") ? name.substring(0, name.length() - 4) : name;
+        }
+      };
+
+  private final int sampleInterval;
+  private final AtomicLong fiberCount = new AtomicLong();
+  private final Map<String, StepStatistics> statistics = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a tracer.
+   *
+   * @param sampleInterval the number of fibers started for each one traced; must be positive
+   */
+  public FiberTracer(int sampleInterval) {
+    if (sampleInterval < 1) {
+      throw new IllegalArgumentException("sample interval must be positive: " + sampleInterval);
+    }
+    this.sampleInterval = sampleInterval;
+  }
+
+  /**
+   * Returns true if the next fiber started should be traced.
+   *
+   * @return true to trace a fiber
+   */
+  boolean shouldSample() {
+    return fiberCount.getAndIncrement() % sampleInterval == 0;
+  }
+
+  /**
+   * Adds a run of a step to the statistics for its class.
+   *
+   * @param step the step which ran
+   * @param nanos the time it took, in nanoseconds
+   */
+  void record(Step step, long nanos) {
+    statistics.computeIfAbsent(getStepName(step.getClass()), n -> new StepStatistics())
+        .record(nanos);
+  }
+
+  /**
+   * Returns the name under which the runs of steps of the specified class are recorded: the
+   * simple name of the class, qualified by any enclosing classes, without a "Step" suffix.
+   *
+   * @param stepClass a step class
+   * @return a step name
+   */
+  static String getStepName(Class<?> stepClass) {
+    return STEP_NAMES.get(stepClass);
+  }
+
+  /**
+   * Returns the statistics recorded so far, keyed by step name.
+   *
+   * @return an unmodifiable sorted map of step names to statistics
+   */
+  public Map<String, StepStatistics> getStepStatistics() {
+    return Collections.unmodifiableMap(new TreeMap<>(statistics));
+  }
+
+  /** The number of times a step has run in traced fibers, and how long it took. */
+  public static class StepStatistics {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    void record(long nanos) {
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of runs recorded.
+     *
+     * @return a run count
+     */
+    public long getCount() {
+      return count.sum();
+    }
+
+    /**
+     * Returns the total time of the runs recorded, in nanoseconds.
+     *
+     * @return a duration
+     */
+    public long getTotalNanos() {
+      return totalNanos.sum();
+    }
+
+    /**
+     * Returns the time of the longest run recorded, in nanoseconds.
+     *
+     * @return a duration
+     */
+    public long getMaxNanos() {
+      return maxNanos.get();
+    }
+  }
+}
@@ -7,21 +7,25 @@ import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components.
+ *
+ * <p>Cloning a packet takes constant time: the clone shares the values and components of the
+ * original until either packet is modified.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<String, Component>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<String, Object>();
+  private final ComponentMap components;
+  private final CopyOnWriteMap<Object> delegate;
 
   public Packet() {
+    components = new ComponentMap();
+    delegate = new CopyOnWriteMap<>();
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    components = new ComponentMap(that.components);
+    delegate = new CopyOnWriteMap<>(that.delegate);
   }
 
   /**
@@ -34,13 +38,7 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
   }
 
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
-      if (s != null) {
-        return s;
-      }
-    }
-    return null;
+    return components.getSpi(spiType);
   }
 
   @Override
@@ -62,11 +60,36 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return delegate.entrySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return delegate.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
   @Override
   public Object put(String key, Object value) {
     return value != null ? delegate.put(key, value) : delegate.remove(key);
   }
 
+  @Override
+  public Object remove(Object key) {
+    return delegate.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
@@ -0,0 +1,120 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.metrics.LatencyHistogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.metrics.MetricsRegistry.HistogramFamily;
+
+/**
+ * Holds the fibers waiting to run, one first-in first-out queue per {@link FiberPriority}. The next
+ * fiber comes from the most urgent class with a waiting fiber. To keep less urgent work from
+ * starving, a waiting fiber is treated as one class more urgent for each aging interval it has
+ * waited; between classes of equal effective urgency, the originally more urgent one wins. The time
+ * each fiber waits is recorded in a histogram for its priority.
+ */
+class PrioritizedFiberQueue {
+  static final long DEFAULT_AGING_MILLIS = 1000;
+
+  private static final HistogramFamily WAIT_TIME_FAMILY =
+      MetricsRegistry.getInstance()
+          .histogram(
+              "weblogic_operator_fiber_queue_wait_seconds",
+              "Time fibers wait to run after becoming ready, by fiber priority",
+              "priority");
+
+  private final LongSupplier nanoClock;
+  private final long agingNanos;
+  private final Map<FiberPriority, Deque<QueuedFiber>> queues = new EnumMap<>(FiberPriority.class);
+  private final Map<FiberPriority, Long> dispatched = new EnumMap<>(FiberPriority.class);
+  private final Map<FiberPriority, LatencyHistogram> waitTimes =
+      new EnumMap<>(FiberPriority.class);
+  private long promotedCount;
+
+  PrioritizedFiberQueue() {
+    this(System::nanoTime, DEFAULT_AGING_MILLIS);
+  }
+
+  PrioritizedFiberQueue(LongSupplier nanoClock, long agingMillis) {
+    this.nanoClock = nanoClock;
+    this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMillis);
+    for (FiberPriority priority : FiberPriority.values()) {
+      queues.put(priority, new ArrayDeque<>());
+      dispatched.put(priority, 0L);
+      waitTimes.put(priority, WAIT_TIME_FAMILY.get(priority.name()));
+    }
+  }
+
+  synchronized void add(Fiber fiber) {
+    queues.get(fiber.getPriority()).add(new QueuedFiber(fiber, nanoClock.getAsLong()));
+  }
+
+  /**
+   * Removes and returns the next fiber to run.
+   *
+   * @return a fiber, or null if none is waiting
+   */
+  synchronized Fiber poll() {
+    long now = nanoClock.getAsLong();
+    FiberPriority mostUrgent = null;
+    FiberPriority selected = null;
+    long selectedRank = Long.MAX_VALUE;
+    for (FiberPriority priority : FiberPriority.values()) {
+      QueuedFiber head = queues.get(priority).peek();
+      if (head != null) {
+        if (mostUrgent == null) {
+          mostUrgent = priority;
+        }
+        long rank = priority.ordinal() - getAgingSteps(head, now);
+        if (rank < selectedRank) {
+          selected = priority;
+          selectedRank = rank;
+        }
+      }
+    }
+
+    if (selected == null) {
+      return null;
+    } else if (selected != mostUrgent) {
+      promotedCount++;
+    }
+    dispatched.merge(selected, 1L, Long::sum);
+    QueuedFiber queued = queues.get(selected).poll();
+    waitTimes.get(selected).record(now - queued.enqueueTime);
+    return queued.fiber;
+  }
+
+  private long getAgingSteps(QueuedFiber queued, long now) {
+    return agingNanos > 0 ? (now - queued.enqueueTime) / agingNanos : 0;
+  }
+
+  synchronized int getQueueDepth(FiberPriority priority) {
+    return queues.get(priority).size();
+  }
+
+  synchronized long getDispatchedCount(FiberPriority priority) {
+    return dispatched.get(priority);
+  }
+
+  synchronized long getPromotedCount() {
+    return promotedCount;
+  }
+
+  private static class QueuedFiber {
+    private final Fiber fiber;
+    private final long enqueueTime;
+
+    QueuedFiber(Fiber fiber, long enqueueTime) {
+      this.fiber = fiber;
+      this.enqueueTime = enqueueTime;
+    }
+  }
+}
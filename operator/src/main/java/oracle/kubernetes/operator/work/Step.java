@@ -244,21 +244,7 @@ public abstract class Step {
         step,
         (fiber) -> {
           CompletionCallback callback =
-              new JoinCompletionCallback(fiber, packet, startDetails.size()) {
-                @Override
-                public void onCompletion(Packet p) {
-                  if (count.decrementAndGet() == 0) {
-                    // no need to synchronize throwables as all fibers are done
-                    if (throwables.isEmpty()) {
-                      fiber.resume(packet);
-                    } else if (throwables.size() == 1) {
-                      fiber.terminate(throwables.get(0), packet);
-                    } else {
-                      fiber.terminate(new MultiThrowable(throwables), packet);
-                    }
-                  }
-                }
-              };
+              new ForkJoinCompletionCallback(fiber, packet, startDetails.size());
           // start forked fibers
           for (StepAndPacket sp : startDetails) {
             fiber.createChildFiber().start(sp.step, sp.packet, callback);
@@ -266,6 +252,54 @@ public abstract class Step {
         });
   }
 
+  /**
+   * Create a {@link NextAction} that suspends the current {@link Fiber} and that starts child
+   * fibers for each step and packet pair, no more than the specified number at a time. Each child
+   * fiber after the first few starts when an earlier one ends. When all of the created child fibers
+   * complete, then this fiber is resumed with the indicated step and packet.
+   *
+   * @param step Step to invoke next when resumed after child fibers complete
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting child fibers
+   * @param maxParallelism Maximum number of child fibers to run at once, or zero for no limit
+   * @return Next action
+   */
+  protected NextAction doForkJoin(
+      Step step, Packet packet, Collection<StepAndPacket> startDetails, int maxParallelism) {
+    if (maxParallelism < 1 || maxParallelism >= startDetails.size()) {
+      return doForkJoin(step, packet, startDetails);
+    }
+    return doForkJoin(step, packet, startDetails, new FiberSemaphore(maxParallelism));
+  }
+
+  /**
+   * Create a {@link NextAction} that suspends the current {@link Fiber} and that starts child
+   * fibers for each step and packet pair, each once it obtains a permit from the specified
+   * semaphore. Each child fiber holds its permit until it ends. When all of the created child
+   * fibers complete, then this fiber is resumed with the indicated step and packet.
+   *
+   * @param step Step to invoke next when resumed after child fibers complete
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting child fibers
+   * @param semaphore Semaphore limiting the number of child fibers run at once
+   * @return Next action
+   */
+  protected NextAction doForkJoin(
+      Step step,
+      Packet packet,
+      Collection<StepAndPacket> startDetails,
+      FiberSemaphore semaphore) {
+    return doSuspend(
+        step,
+        (fiber) -> {
+          CompletionCallback callback =
+              new ForkJoinCompletionCallback(fiber, packet, startDetails.size());
+          for (StepAndPacket sp : startDetails) {
+            semaphore.startChildWithPermit(fiber, sp, callback);
+          }
+        });
+  }
+
   /**
    * Create a {@link NextAction} that suspends the current {@link Fiber} and that starts child
    * fibers for each step and packet pair. When at least one of the created child fibers completes,
@@ -351,6 +385,26 @@ public abstract class Step {
     }
   }
 
+  private static class ForkJoinCompletionCallback extends JoinCompletionCallback {
+    ForkJoinCompletionCallback(Fiber fiber, Packet packet, int initialCount) {
+      super(fiber, packet, initialCount);
+    }
+
+    @Override
+    public void onCompletion(Packet p) {
+      if (count.decrementAndGet() == 0) {
+        // no need to synchronize throwables as all fibers are done
+        if (throwables.isEmpty()) {
+          fiber.resume(packet);
+        } else if (throwables.size() == 1) {
+          fiber.terminate(throwables.get(0), packet);
+        } else {
+          fiber.terminate(new MultiThrowable(throwables), packet);
+        }
+      }
+    }
+  }
+
   public static class StepAndPacket {
     public final Step step;
     public final Packet packet;
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 
@@ -21,4 +23,23 @@ public class ThreadFactorySingleton {
   public static ThreadFactory getInstance() {
     return INSTANCE;
   }
+
+  /**
+   * Returns a factory for virtual threads, if the running JVM supports them. The operator is built
+   * for an earlier Java release, so the factory is obtained reflectively.
+   *
+   * @param prefix the prefix for the names of the created threads
+   * @return a virtual thread factory, or empty if virtual threads are not available
+   */
+  public static Optional<ThreadFactory> getVirtualThreadFactory(String prefix) {
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Method name = builderClass.getMethod("name", String.class, long.class);
+      Method factory = builderClass.getMethod("factory");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return Optional.of((ThreadFactory) factory.invoke(name.invoke(builder, prefix, 0L)));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
 }
@@ -0,0 +1,108 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket rate limiter. Tokens accrue continuously at a fixed rate, up to the capacity of
+ * the bucket; an action which costs more tokens than the bucket can hold is charged the full
+ * capacity, so that it can still run once the bucket is full.
+ *
+ * <p>An action which cannot wait its turn by retrying may instead reserve its tokens, leaving the
+ * bucket in debt; later actions must then wait for the debt to be repaid, so that the reserving
+ * action is not starved by cheaper ones which keep taking the tokens as they accrue.
+ */
+public class TokenBucket {
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final double tokensPerSecond;
+  private final double capacity;
+  private final LongSupplier nanoClock;
+  private double tokens;
+  private long lastRefillTime;
+
+  /**
+   * Creates a full bucket which refills at the specified rate and holds one second's worth of
+   * tokens.
+   *
+   * @param tokensPerSecond the rate at which tokens accrue
+   */
+  public TokenBucket(double tokensPerSecond) {
+    this(tokensPerSecond, tokensPerSecond, System::nanoTime);
+  }
+
+  /**
+   * Creates a full bucket.
+   *
+   * @param tokensPerSecond the rate at which tokens accrue
+   * @param capacity the most tokens the bucket can hold
+   * @param nanoClock the source of the current time, in nanoseconds
+   */
+  public TokenBucket(double tokensPerSecond, double capacity, LongSupplier nanoClock) {
+    this.tokensPerSecond = tokensPerSecond;
+    this.capacity = capacity;
+    this.nanoClock = nanoClock;
+    this.tokens = capacity;
+    this.lastRefillTime = nanoClock.getAsLong();
+  }
+
+  /**
+   * Removes the specified number of tokens from the bucket, if it holds them.
+   *
+   * @param cost the number of tokens needed
+   * @return true if the tokens were removed
+   */
+  public synchronized boolean tryAcquire(double cost) {
+    refill();
+    double charge = Math.min(cost, capacity);
+    if (tokens < charge) {
+      return false;
+    }
+
+    tokens -= charge;
+    return true;
+  }
+
+  /**
+   * Removes the specified number of tokens from the bucket, whether or not it holds them, and
+   * returns the time until the bucket will have accrued them. The caller may act once that time
+   * has passed, without acquiring the tokens again.
+   *
+   * @param cost the number of tokens needed
+   * @param unit the unit of the returned time
+   * @return the time to wait, rounded up; zero if the tokens were already available
+   */
+  public synchronized long reserve(double cost, TimeUnit unit) {
+    refill();
+    tokens -= Math.min(cost, capacity);
+    return tokens >= 0 ? 0 : toWaitTime(-tokens, unit);
+  }
+
+  /**
+   * Returns the time until the bucket will hold the specified number of tokens.
+   *
+   * @param cost the number of tokens needed
+   * @param unit the unit of the returned time
+   * @return the time to wait, rounded up; zero if the tokens are already available
+   */
+  public synchronized long getWaitTime(double cost, TimeUnit unit) {
+    refill();
+    double shortfall = Math.min(cost, capacity) - tokens;
+    return shortfall <= 0 ? 0 : toWaitTime(shortfall, unit);
+  }
+
+  private long toWaitTime(double shortfall, TimeUnit unit) {
+    long waitNanos = (long) Math.ceil(shortfall * NANOS_PER_SECOND / tokensPerSecond);
+    return Math.max(1, unit.convert(waitNanos + unit.toNanos(1) - 1, TimeUnit.NANOSECONDS));
+  }
+
+  private void refill() {
+    long now = nanoClock.getAsLong();
+    double accrued = (now - lastRefillTime) * tokensPerSecond / NANOS_PER_SECOND;
+    tokens = Math.min(capacity, tokens + accrued);
+    lastRefillTime = now;
+  }
+}
@@ -69,6 +69,23 @@ public abstract class DomainConfigurator {
     getDomainSpec().setReplicas(replicas);
   }
 
+  /**
+   * Sets the limits on concurrent startup of managed servers.
+   *
+   * @param maxConcurrentStartup the maximum number of servers to start at once, or 0 for no limit
+   * @param rampUp true if the startup waves should start with one server and double in size
+   * @param waitForReady true if each startup wave should wait for its servers to become ready
+   * @return this object
+   */
+  public DomainConfigurator withStartupWaves(
+      int maxConcurrentStartup, boolean rampUp, boolean waitForReady) {
+    getDomainSpec()
+        .withMaxConcurrentStartup(maxConcurrentStartup)
+        .withStartupRampUp(rampUp)
+        .withStartupWaitForReady(waitForReady);
+    return this;
+  }
+
   /**
    * Sets the default image for the domain.
    *
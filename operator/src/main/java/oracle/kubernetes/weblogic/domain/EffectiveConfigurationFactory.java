@@ -27,6 +27,14 @@ public interface EffectiveConfigurationFactory {
 
   int getMaxUnavailable(String clusterName);
 
+  int getMaxConcurrentStartup();
+
+  int getMaxConcurrentStartup(String clusterName);
+
+  boolean isStartupRampUp();
+
+  boolean isStartupWaitForReady();
+
   boolean isShuttingDown();
 
   List<String> getAdminServerChannelNames();
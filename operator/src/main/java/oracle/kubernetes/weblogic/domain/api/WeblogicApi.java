@@ -1053,6 +1053,111 @@ public class WeblogicApi {
     return call;
   }
 
+  /**
+   * Build call for listDomainForAllNamespaces.
+   *
+   * @param ctue The continue option should be set when retrieving more results from the server.
+   *     (optional)
+   * @param fieldSelector A selector to restrict the list of returned objects by their fields.
+   *     Defaults to everything. (optional)
+   * @param labelSelector A selector to restrict the list of returned objects by their labels.
+   *     Defaults to everything. (optional)
+   * @param limit limit is a maximum number of responses to return for a list call. (optional)
+   * @param pretty If &#39;true&#39;, then the output is pretty printed. (optional)
+   * @param resourceVersion When specified with a watch call, shows changes that occur after that
+   *     particular version of a resource. Defaults to changes from the beginning of history.
+   *     (optional)
+   * @param timeoutSeconds Timeout for the list/watch call. This limits the duration of the call,
+   *     regardless of any activity or inactivity. (optional)
+   * @param watch Watch for changes to the described resources and return them as a stream of add,
+   *     update, and remove notifications. Specify resourceVersion. (optional)
+   * @param progressListener Progress listener
+   * @param progressRequestListener Progress request listener
+   * @return Call to execute
+   * @throws ApiException If fail to serialize the request body object
+   */
+  public com.squareup.okhttp.Call listDomainForAllNamespacesCall(
+      String ctue,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String pretty,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      final ProgressResponseBody.ProgressListener progressListener,
+      final ProgressRequestBody.ProgressRequestListener progressRequestListener)
+      throws ApiException {
+    final Object localVarPostBody = null;
+
+    // create path and map variables
+    final String localVarPath =
+        "/apis/" + DOMAIN_GROUP + "/" + DOMAIN_VERSION + "/" + DOMAIN_PLURAL;
+
+    final List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    final List<Pair> localVarCollectionQueryParams = new ArrayList<Pair>();
+    if (ctue != null) localVarQueryParams.addAll(apiClient.parameterToPair("continue", ctue));
+    if (fieldSelector != null)
+      localVarQueryParams.addAll(apiClient.parameterToPair("fieldSelector", fieldSelector));
+    if (labelSelector != null)
+      localVarQueryParams.addAll(apiClient.parameterToPair("labelSelector", labelSelector));
+    if (limit != null) localVarQueryParams.addAll(apiClient.parameterToPair("limit", limit));
+    if (pretty != null) localVarQueryParams.addAll(apiClient.parameterToPair("pretty", pretty));
+    if (resourceVersion != null)
+      localVarQueryParams.addAll(apiClient.parameterToPair("resourceVersion", resourceVersion));
+    if (timeoutSeconds != null)
+      localVarQueryParams.addAll(apiClient.parameterToPair("timeoutSeconds", timeoutSeconds));
+    if (watch != null) localVarQueryParams.addAll(apiClient.parameterToPair("watch", watch));
+
+    final Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+
+    final Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+    final String[] localVarAccepts = {
+      "application/json",
+      "application/yaml",
+      "application/vnd.kubernetes.protobuf",
+      "application/json;stream=watch",
+      "application/vnd.kubernetes.protobuf;stream=watch"
+    };
+    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+    if (localVarAccept != null) localVarHeaderParams.put("Accept", localVarAccept);
+
+    final String[] localVarContentTypes = {"*/*"};
+    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    localVarHeaderParams.put("Content-Type", localVarContentType);
+
+    if (progressListener != null) {
+      apiClient
+          .getHttpClient()
+          .networkInterceptors()
+          .add(
+              new com.squareup.okhttp.Interceptor() {
+                @Override
+                public com.squareup.okhttp.Response intercept(
+                    com.squareup.okhttp.Interceptor.Chain chain) throws IOException {
+                  com.squareup.okhttp.Response originalResponse = chain.proceed(chain.request());
+                  return originalResponse
+                      .newBuilder()
+                      .body(new ProgressResponseBody(originalResponse.body(), progressListener))
+                      .build();
+                }
+              });
+    }
+
+    String[] localVarAuthNames = new String[] {"BearerToken"};
+    return apiClient.buildCall(
+        localVarPath,
+        "GET",
+        localVarQueryParams,
+        localVarCollectionQueryParams,
+        localVarPostBody,
+        localVarHeaderParams,
+        localVarFormParams,
+        localVarAuthNames,
+        progressRequestListener);
+  }
+
   /**
    * Build call for listNamespacedDomain.
    *
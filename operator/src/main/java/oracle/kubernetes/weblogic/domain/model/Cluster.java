@@ -52,6 +52,17 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
   @Range(minimum = 1)
   private Integer maxUnavailable;
 
+  /**
+   * The maximum number of cluster members to start at one time.
+   *
+   * @since 2.4
+   */
+  @Description(
+      "The maximum number of cluster members which the operator will start at one time. "
+          + "Defaults to 0, meaning no limit other than any set for the domain.")
+  @Range(minimum = 0)
+  private Integer maxConcurrentStartup;
+
   @Description("Customization affecting ClusterIP Kubernetes services for the WebLogic cluster.")
   @SerializedName("clusterService")
   @Expose
@@ -128,6 +139,14 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
     this.maxUnavailable = maxUnavailable;
   }
 
+  Integer getMaxConcurrentStartup() {
+    return maxConcurrentStartup;
+  }
+
+  void setMaxConcurrentStartup(Integer maxConcurrentStartup) {
+    this.maxConcurrentStartup = maxConcurrentStartup;
+  }
+
   void fillInFrom(Cluster other) {
     if (other == null) {
       return;
@@ -145,6 +164,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append("serverStartPolicy", serverStartPolicy)
         .append("clusterService", clusterService)
         .append("maxUnavailable", maxUnavailable)
+        .append("maxConcurrentStartup", maxConcurrentStartup)
         .toString();
   }
 
@@ -167,6 +187,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append(serverStartPolicy, cluster.serverStartPolicy)
         .append(clusterService, cluster.clusterService)
         .append(maxUnavailable, cluster.maxUnavailable)
+        .append(maxConcurrentStartup, cluster.maxConcurrentStartup)
         .isEquals();
   }
 
@@ -179,6 +200,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append(serverStartPolicy)
         .append(clusterService)
         .append(maxUnavailable)
+        .append(maxConcurrentStartup)
         .toHashCode();
   }
 
@@ -93,6 +93,9 @@ public class Domain {
   @Description("The current status of the domain. Updated by the operator.")
   private DomainStatus status;
 
+  // Effective configurations for the current generation of the spec; not part of the resource
+  private transient volatile MemoizedConfigurationFactory memoizedConfiguration;
+
   @SuppressWarnings({"rawtypes"})
   static List sortOrNull(List list) {
     return sortOrNull(list, null);
@@ -215,7 +218,16 @@ public class Domain {
   }
 
   private EffectiveConfigurationFactory getEffectiveConfigurationFactory() {
-    return spec.getEffectiveConfigurationFactory(apiVersion, getResourceVersion());
+    Long generation = metadata.getGeneration();
+    if (generation == null) {
+      return spec.getEffectiveConfigurationFactory(apiVersion, getResourceVersion());
+    }
+
+    MemoizedConfigurationFactory factory = memoizedConfiguration;
+    if (factory == null || !factory.isFor(spec, generation)) {
+      memoizedConfiguration = factory = new MemoizedConfigurationFactory(spec, generation);
+    }
+    return factory;
   }
 
   private String getResourceVersion() {
@@ -271,6 +283,43 @@ public class Domain {
     return getEffectiveConfigurationFactory().getMaxUnavailable(clusterName);
   }
 
+  /**
+   * Returns the maximum number of managed servers to start at one time.
+   *
+   * @return a positive number, or 0 if there is no limit
+   */
+  public int getMaxConcurrentStartup() {
+    return getEffectiveConfigurationFactory().getMaxConcurrentStartup();
+  }
+
+  /**
+   * Returns the maximum number of members of the specified cluster to start at one time.
+   *
+   * @param clusterName the name of the cluster
+   * @return a positive number, or 0 if there is no limit
+   */
+  public int getMaxConcurrentStartup(String clusterName) {
+    return getEffectiveConfigurationFactory().getMaxConcurrentStartup(clusterName);
+  }
+
+  /**
+   * Returns true if server startup waves should start with a single server and double in size.
+   *
+   * @return true or false
+   */
+  public boolean isStartupRampUp() {
+    return getEffectiveConfigurationFactory().isStartupRampUp();
+  }
+
+  /**
+   * Returns true if each server startup wave should wait for its servers to become ready.
+   *
+   * @return true or false
+   */
+  public boolean isStartupWaitForReady() {
+    return getEffectiveConfigurationFactory().isStartupWaitForReady();
+  }
+
   /**
    * Returns the minimum number of replicas for the specified cluster.
    *
@@ -494,6 +494,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
       return this;
     }
 
+    @Override
+    public ClusterConfigurator withMaxConcurrentStartup(int maxConcurrentStartup) {
+      cluster.setMaxConcurrentStartup(maxConcurrentStartup);
+      return this;
+    }
+
     @Override
     public ClusterConfigurator withDesiredState(String state) {
       cluster.setServerStartState(state);
@@ -6,7 +6,9 @@ package oracle.kubernetes.weblogic.domain.model;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import javax.validation.Valid;
@@ -156,6 +158,38 @@ public class DomainSpec extends BaseConfiguration {
   @Range(minimum = 0)
   private Integer replicas;
 
+  /**
+   * The maximum number of managed servers to start at one time.
+   *
+   * @since 2.4
+   */
+  @Description(
+      "The maximum number of Managed Servers which the operator will start at one time. "
+          + "Additional servers are started in later waves. Defaults to 0, meaning no limit.")
+  @Range(minimum = 0)
+  private Integer maxConcurrentStartup;
+
+  /**
+   * Whether the size of the server startup waves should ramp up.
+   *
+   * @since 2.4
+   */
+  @Description(
+      "If true, the first wave of Managed Server startup contains one server, and each "
+          + "following wave is twice the size of the one before, up to maxConcurrentStartup. "
+          + "Defaults to false.")
+  private Boolean startupRampUp;
+
+  /**
+   * Whether each wave of server startup should wait for its servers to become ready.
+   *
+   * @since 2.4
+   */
+  @Description(
+      "If true, each wave of Managed Server startup waits for its server pods to become ready "
+          + "before the next wave begins. Defaults to false.")
+  private Boolean startupWaitForReady;
+
   /**
    * Whether the domain home is part of the image.
    *
@@ -239,6 +273,16 @@ public class DomainSpec extends BaseConfiguration {
     return new CommonEffectiveConfigurationFactory();
   }
 
+  /**
+   * Returns a factory which finds managed servers and clusters by name without searching for them.
+   * The factory must be discarded if the configured servers or clusters change.
+   *
+   * @return an effective configuration factory
+   */
+  EffectiveConfigurationFactory getIndexedEffectiveConfigurationFactory() {
+    return new IndexedEffectiveConfigurationFactory();
+  }
+
   /**
    * Domain unique identifier. Must be unique across the Kubernetes cluster. Not required. Defaults
    * to the value of metadata.name.
@@ -507,6 +551,51 @@ public class DomainSpec extends BaseConfiguration {
     return this;
   }
 
+  /**
+   * Returns the maximum number of managed servers to start at one time.
+   *
+   * @return a positive number, or 0 if there is no limit
+   * @since 2.4
+   */
+  int getMaxConcurrentStartup() {
+    return Optional.ofNullable(maxConcurrentStartup).orElse(0);
+  }
+
+  public DomainSpec withMaxConcurrentStartup(Integer maxConcurrentStartup) {
+    this.maxConcurrentStartup = maxConcurrentStartup;
+    return this;
+  }
+
+  /**
+   * Returns true if server startup waves should start small and double in size.
+   *
+   * @return true or false
+   * @since 2.4
+   */
+  boolean isStartupRampUp() {
+    return Optional.ofNullable(startupRampUp).orElse(false);
+  }
+
+  public DomainSpec withStartupRampUp(boolean startupRampUp) {
+    this.startupRampUp = startupRampUp;
+    return this;
+  }
+
+  /**
+   * Returns true if each server startup wave should wait for its servers to become ready.
+   *
+   * @return true or false
+   * @since 2.4
+   */
+  boolean isStartupWaitForReady() {
+    return Optional.ofNullable(startupWaitForReady).orElse(false);
+  }
+
+  public DomainSpec withStartupWaitForReady(boolean startupWaitForReady) {
+    this.startupWaitForReady = startupWaitForReady;
+    return this;
+  }
+
   @Nullable
   String getConfigOverrides() {
     return configOverrides;
@@ -579,6 +668,9 @@ public class DomainSpec extends BaseConfiguration {
             .append("managedServers", managedServers)
             .append("clusters", clusters)
             .append("replicas", replicas)
+            .append("maxConcurrentStartup", maxConcurrentStartup)
+            .append("startupRampUp", startupRampUp)
+            .append("startupWaitForReady", startupWaitForReady)
             .append("logHome", logHome)
             .append("logHomeEnabled", logHomeEnabled)
             .append("includeServerOutInPodLog", includeServerOutInPodLog)
@@ -606,6 +698,9 @@ public class DomainSpec extends BaseConfiguration {
             .append(managedServers)
             .append(clusters)
             .append(replicas)
+            .append(maxConcurrentStartup)
+            .append(startupRampUp)
+            .append(startupWaitForReady)
             .append(logHome)
             .append(logHomeEnabled)
             .append(includeServerOutInPodLog)
@@ -641,6 +736,9 @@ public class DomainSpec extends BaseConfiguration {
             .append(managedServers, rhs.managedServers)
             .append(clusters, rhs.clusters)
             .append(replicas, rhs.replicas)
+            .append(maxConcurrentStartup, rhs.maxConcurrentStartup)
+            .append(startupRampUp, rhs.startupRampUp)
+            .append(startupWaitForReady, rhs.startupWaitForReady)
             .append(logHome, rhs.logHome)
             .append(logHomeEnabled, rhs.logHomeEnabled)
             .append(includeServerOutInPodLog, rhs.includeServerOutInPodLog)
@@ -691,6 +789,12 @@ public class DomainSpec extends BaseConfiguration {
     return cluster != null && cluster.getMaxUnavailable() != null;
   }
 
+  private int getMaxConcurrentStartupFor(Cluster cluster) {
+    return Optional.ofNullable(cluster)
+        .map(Cluster::getMaxConcurrentStartup)
+        .orElse(0);
+  }
+
   public AdminServer getAdminServer() {
     return adminServer;
   }
@@ -717,14 +821,22 @@ public class DomainSpec extends BaseConfiguration {
     public ServerSpec getServerSpec(String serverName, String clusterName) {
       return new ManagedServerSpecCommonImpl(
           DomainSpec.this,
-          getManagedServer(serverName),
-          getCluster(clusterName),
+          findManagedServer(serverName),
+          findCluster(clusterName),
           getClusterLimit(clusterName));
     }
 
     @Override
     public ClusterSpec getClusterSpec(String clusterName) {
-      return new ClusterSpecCommonImpl(DomainSpec.this, getCluster(clusterName));
+      return new ClusterSpecCommonImpl(DomainSpec.this, findCluster(clusterName));
+    }
+
+    ManagedServer findManagedServer(String serverName) {
+      return getManagedServer(serverName);
+    }
+
+    Cluster findCluster(String clusterName) {
+      return getCluster(clusterName);
     }
 
     private Integer getClusterLimit(String clusterName) {
@@ -738,7 +850,7 @@ public class DomainSpec extends BaseConfiguration {
 
     @Override
     public int getReplicaCount(String clusterName) {
-      return getReplicaCountFor(getCluster(clusterName));
+      return getReplicaCountFor(findCluster(clusterName));
     }
 
     @Override
@@ -748,7 +860,27 @@ public class DomainSpec extends BaseConfiguration {
 
     @Override
     public int getMaxUnavailable(String clusterName) {
-      return getMaxUnavailableFor(getCluster(clusterName));
+      return getMaxUnavailableFor(findCluster(clusterName));
+    }
+
+    @Override
+    public int getMaxConcurrentStartup() {
+      return DomainSpec.this.getMaxConcurrentStartup();
+    }
+
+    @Override
+    public int getMaxConcurrentStartup(String clusterName) {
+      return getMaxConcurrentStartupFor(findCluster(clusterName));
+    }
+
+    @Override
+    public boolean isStartupRampUp() {
+      return DomainSpec.this.isStartupRampUp();
+    }
+
+    @Override
+    public boolean isStartupWaitForReady() {
+      return DomainSpec.this.isStartupWaitForReady();
     }
 
     @Override
@@ -757,7 +889,7 @@ public class DomainSpec extends BaseConfiguration {
     }
 
     private Cluster getOrCreateCluster(String clusterName) {
-      Cluster cluster = getCluster(clusterName);
+      Cluster cluster = findCluster(clusterName);
       if (cluster != null) {
         return cluster;
       }
@@ -765,10 +897,42 @@ public class DomainSpec extends BaseConfiguration {
       return createClusterWithName(clusterName);
     }
 
-    private Cluster createClusterWithName(String clusterName) {
+    Cluster createClusterWithName(String clusterName) {
       Cluster cluster = new Cluster().withClusterName(clusterName);
       clusters.add(cluster);
       return cluster;
     }
   }
+
+  /**
+   * A factory which finds managed servers and clusters by name using maps built when it is
+   * created, rather than by searching the lists of them. It must not be used after those lists
+   * are changed other than by the factory itself.
+   */
+  class IndexedEffectiveConfigurationFactory extends CommonEffectiveConfigurationFactory {
+    private final Map<String, ManagedServer> serverIndex = new HashMap<>();
+    private final Map<String, Cluster> clusterIndex = new HashMap<>();
+
+    IndexedEffectiveConfigurationFactory() {
+      managedServers.forEach(s -> serverIndex.putIfAbsent(s.getServerName(), s));
+      clusters.forEach(c -> clusterIndex.putIfAbsent(c.getClusterName(), c));
+    }
+
+    @Override
+    ManagedServer findManagedServer(String serverName) {
+      return serverName == null ? null : serverIndex.get(serverName);
+    }
+
+    @Override
+    Cluster findCluster(String clusterName) {
+      return clusterName == null ? null : clusterIndex.get(clusterName);
+    }
+
+    @Override
+    Cluster createClusterWithName(String clusterName) {
+      Cluster cluster = super.createClusterWithName(clusterName);
+      clusterIndex.putIfAbsent(clusterName, cluster);
+      return cluster;
+    }
+  }
 }
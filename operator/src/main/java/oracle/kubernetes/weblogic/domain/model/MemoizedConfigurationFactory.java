@@ -0,0 +1,112 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.weblogic.domain.EffectiveConfigurationFactory;
+
+/**
+ * Remembers the effective configurations computed for one generation of a domain spec, so that
+ * each is computed only once for that generation. The configurations returned are shared by all
+ * callers, which must not modify them or the collections they return.
+ */
+class MemoizedConfigurationFactory implements EffectiveConfigurationFactory {
+  private final DomainSpec spec;
+  private final long generation;
+  private final EffectiveConfigurationFactory delegate;
+  private final Map<List<String>, ServerSpec> serverSpecs = new ConcurrentHashMap<>();
+  private final Map<List<String>, ClusterSpec> clusterSpecs = new ConcurrentHashMap<>();
+  private volatile AdminServerSpec adminServerSpec;
+
+  MemoizedConfigurationFactory(DomainSpec spec, long generation) {
+    this.spec = spec;
+    this.generation = generation;
+    this.delegate = spec.getIndexedEffectiveConfigurationFactory();
+  }
+
+  /**
+   * Returns true if this factory was created for the specified generation of the specified spec.
+   *
+   * @param spec a domain spec
+   * @param generation the generation of the domain
+   * @return true if the configurations remembered by this factory apply
+   */
+  boolean isFor(DomainSpec spec, long generation) {
+    return this.spec == spec && this.generation == generation;
+  }
+
+  @Override
+  public AdminServerSpec getAdminServerSpec() {
+    AdminServerSpec result = adminServerSpec;
+    if (result == null) {
+      adminServerSpec = result = delegate.getAdminServerSpec();
+    }
+    return result;
+  }
+
+  @Override
+  public ServerSpec getServerSpec(String serverName, String clusterName) {
+    return serverSpecs.computeIfAbsent(
+        Arrays.asList(serverName, clusterName),
+        k -> delegate.getServerSpec(serverName, clusterName));
+  }
+
+  @Override
+  public ClusterSpec getClusterSpec(String clusterName) {
+    return clusterSpecs.computeIfAbsent(
+        Collections.singletonList(clusterName), k -> delegate.getClusterSpec(clusterName));
+  }
+
+  @Override
+  public int getReplicaCount(String clusterName) {
+    return delegate.getReplicaCount(clusterName);
+  }
+
+  @Override
+  public void setReplicaCount(String clusterName, int replicaCount) {
+    delegate.setReplicaCount(clusterName, replicaCount);
+    serverSpecs.clear();
+    clusterSpecs.clear();
+  }
+
+  @Override
+  public int getMaxUnavailable(String clusterName) {
+    return delegate.getMaxUnavailable(clusterName);
+  }
+
+  @Override
+  public int getMaxConcurrentStartup() {
+    return delegate.getMaxConcurrentStartup();
+  }
+
+  @Override
+  public int getMaxConcurrentStartup(String clusterName) {
+    return delegate.getMaxConcurrentStartup(clusterName);
+  }
+
+  @Override
+  public boolean isStartupRampUp() {
+    return delegate.isStartupRampUp();
+  }
+
+  @Override
+  public boolean isStartupWaitForReady() {
+    return delegate.isStartupWaitForReady();
+  }
+
+  @Override
+  public boolean isShuttingDown() {
+    return getAdminServerSpec().isShuttingDown();
+  }
+
+  @Override
+  public List<String> getAdminServerChannelNames() {
+    return delegate.getAdminServerChannelNames();
+  }
+}
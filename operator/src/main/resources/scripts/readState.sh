@@ -19,10 +19,17 @@ DH=${DOMAIN_HOME?}
 
 STATEFILE=/${DH}/servers/${SN}/data/nodemanager/${SN}.state
 
-# Adjust PATH if necessary before calling jps
-adjustPath
-
-if [ `jps -v | grep -c " -Dweblogic.Name=${SERVER_NAME} "` -eq 0 ]; then
+# Looks for the server JVM by scanning process command lines, rather than by
+# running jps, which would start a JVM of its own on every call
+function serverProcessRunning() {
+  local cmdline
+  for cmdline in /proc/[0-9]*/cmdline; do
+    tr '\0' ' ' < ${cmdline} 2>/dev/null | grep -q -- " -Dweblogic.Name=${SERVER_NAME} " && return 0
+  done
+  return 1
+}
+
+if ! serverProcessRunning; then
   trace "WebLogic server process not found"
   exit 1
 fi
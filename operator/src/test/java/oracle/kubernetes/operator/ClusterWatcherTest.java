@@ -0,0 +1,171 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+/** Tests the dispatching of events from a watch of all namespaces. */
+public class ClusterWatcherTest extends ThreadFactoryTestBase
+    implements AllWatchesClosedListener {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String INITIAL_RESOURCE_VERSION = "123";
+
+  private final WatchTuning tuning = new WatchTuning(30, 0);
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private final List<Watch.Response<V1Pod>> ns1Responses = new ArrayList<>();
+  private final List<Watch.Response<V1Pod>> ns2Responses = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+  private ClusterWatcher<V1Pod> clusterWatcher;
+  private int resourceVersion = 200;
+
+  @Override
+  public void allWatchesClosed() {
+    stopping.set(true);
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    StubWatchFactory.setListener(this);
+    clusterWatcher =
+        PodWatcher.createClusterWatcher(WatchRuntime.withDedicatedThreads(this), tuning, stopping);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    shutDownThreads();
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  private V1Pod createPod(String namespace) {
+    return new V1Pod()
+        .metadata(
+            new V1ObjectMeta()
+                .name("pod")
+                .namespace(namespace)
+                .resourceVersion(Integer.toString(resourceVersion++)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void scheduleAddResponse(V1Pod pod) {
+    StubWatchFactory.addCallResponses(WatchEvent.createAddedEvent((Object) pod).toWatchResponse());
+  }
+
+  private void addNamespace(String namespace, List<Watch.Response<V1Pod>> responses) {
+    addNamespace(namespace, INITIAL_RESOURCE_VERSION, responses, new AtomicBoolean(false));
+  }
+
+  private void addNamespace(
+      String namespace,
+      String listResourceVersion,
+      List<Watch.Response<V1Pod>> responses,
+      AtomicBoolean isStopping) {
+    PodWatcher.create(
+        clusterWatcher, namespace, listResourceVersion, tuning, responses::add, isStopping);
+  }
+
+  @Test
+  public void whenFirstNamespaceAdded_watchAllNamespacesFromItsResourceVersion() {
+    scheduleAddResponse(createPod(NS1));
+
+    addNamespace(NS1, ns1Responses);
+    clusterWatcher.waitForExit();
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(0),
+        both(hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION))
+            .and(hasEntry("labelSelector", DOMAINUID_LABEL + "," + CREATEDBYOPERATOR_LABEL)));
+  }
+
+  @Test
+  public void receivedEvents_areSentToListenerForTheirNamespace() {
+    V1Pod pod1 = createPod(NS1);
+    V1Pod pod2 = createPod(NS2);
+
+    addNamespace(NS2, ns2Responses);
+    addNamespace(NS1, ns1Responses);
+    clusterWatcher.receivedResponse(WatchEvent.createAddedEvent(pod1).toWatchResponse());
+    clusterWatcher.receivedResponse(WatchEvent.createAddedEvent(pod2).toWatchResponse());
+
+    assertThat(ns1Responses, contains(addEvent(pod1)));
+    assertThat(ns2Responses, contains(addEvent(pod2)));
+  }
+
+  @Test
+  public void receivedEventsInUnmanagedNamespaces_areDiscarded() {
+    addNamespace(NS1, ns1Responses);
+    clusterWatcher.receivedResponse(WatchEvent.createAddedEvent(createPod(NS2)).toWatchResponse());
+
+    assertThat(ns1Responses, empty());
+  }
+
+  @Test
+  public void afterNamespaceRemoved_itsEventsAreDiscarded() {
+    addNamespace(NS1, ns1Responses);
+    clusterWatcher.removeNamespace(NS1);
+    clusterWatcher.receivedResponse(WatchEvent.createAddedEvent(createPod(NS1)).toWatchResponse());
+
+    assertThat(ns1Responses, empty());
+  }
+
+  @Test
+  public void whenEventArrivesBetweenListAndRegistration_replayItToListener() {
+    V1Pod pod = createPod(NS2);
+
+    addNamespace(NS1, ns1Responses);
+    clusterWatcher.expectNamespace(NS2);
+    clusterWatcher.receivedResponse(WatchEvent.createAddedEvent(pod).toWatchResponse());
+    addNamespace(NS2, ns2Responses);
+
+    assertThat(ns2Responses, contains(addEvent(pod)));
+  }
+
+  @Test
+  public void whenHeldEventIsNotNewerThanList_doNotReplayIt() {
+    resourceVersion = Integer.parseInt(INITIAL_RESOURCE_VERSION);
+    V1Pod pod = createPod(NS2);
+
+    addNamespace(NS1, ns1Responses);
+    clusterWatcher.expectNamespace(NS2);
+    clusterWatcher.receivedResponse(WatchEvent.createAddedEvent(pod).toWatchResponse());
+    addNamespace(NS2, ns2Responses);
+
+    assertThat(ns2Responses, empty());
+  }
+
+  @Test
+  public void whenNamespaceListedBeforeWatchStarted_doNotRegisterIt() {
+    addNamespace(NS1, ns1Responses);
+    addNamespace(NS2, "100", ns2Responses, new AtomicBoolean(true));
+
+    assertThat(clusterWatcher.getNamespaceCount(), equalTo(1));
+  }
+}
@@ -0,0 +1,172 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainEventCoalescerTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid";
+  private static final long WINDOW = 500;
+  private static final DateTime CREATION_TIME = DateTime.now();
+
+  private final List<Runnable> scheduledCommands = new ArrayList<>();
+  private final List<String> makeRights = new ArrayList<>();
+  private final List<DomainPresenceInfo> makeRightInfos = new ArrayList<>();
+  private long window = WINDOW;
+  private final DomainEventCoalescer coalescer =
+      new DomainEventCoalescer(this::schedule, () -> window, this::recordMakeRight);
+
+  private ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    scheduledCommands.add(command);
+    return createStub(ScheduledFuture.class);
+  }
+
+  private void recordMakeRight(
+      DomainPresenceInfo info,
+      boolean explicitRecheck,
+      boolean isDeleting,
+      boolean isWillInterrupt) {
+    makeRights.add(
+        String.format(
+            "%s recheck=%s deleting=%s", info.getDomainUid(), explicitRecheck, isDeleting));
+    makeRightInfos.add(info);
+  }
+
+  private void closeWindows() {
+    List<Runnable> commands = new ArrayList<>(scheduledCommands);
+    scheduledCommands.clear();
+    commands.forEach(Runnable::run);
+  }
+
+  private DomainPresenceInfo createInfo(String uid) {
+    return new DomainPresenceInfo(NS, uid);
+  }
+
+  private DomainPresenceInfo createInfo(int resourceVersion) {
+    return new DomainPresenceInfo(
+        new Domain()
+            .withMetadata(
+                new V1ObjectMeta()
+                    .namespace(NS)
+                    .name(UID)
+                    .creationTimestamp(CREATION_TIME)
+                    .resourceVersion(Integer.toString(resourceVersion)))
+            .withSpec(new DomainSpec().withDomainUid(UID)));
+  }
+
+  @Test
+  public void whenWindowIsZero_runRequestsAtOnce() {
+    window = 0;
+
+    coalescer.submit(createInfo(UID), false, false, true);
+    coalescer.submit(createInfo(UID), true, false, true);
+
+    assertThat(
+        makeRights,
+        contains("uid recheck=false deleting=false", "uid recheck=true deleting=false"));
+  }
+
+  @Test
+  public void requestsWithinWindow_areNotRunUntilWindowCloses() {
+    coalescer.submit(createInfo(UID), false, false, true);
+
+    assertThat(makeRights, empty());
+    assertThat(coalescer.getPendingCount(), equalTo(1));
+  }
+
+  @Test
+  public void requestsWithinWindow_areMergedIntoOneRequest() {
+    coalescer.submit(createInfo(UID), false, false, true);
+    coalescer.submit(createInfo(UID), true, false, true);
+    coalescer.submit(createInfo(UID), false, false, true);
+
+    closeWindows();
+
+    assertThat(makeRights, contains("uid recheck=true deleting=false"));
+  }
+
+  @Test
+  public void requestsForDifferentDomains_areNotMerged() {
+    coalescer.submit(createInfo("uid1"), false, false, true);
+    coalescer.submit(createInfo("uid2"), false, false, true);
+
+    closeWindows();
+
+    assertThat(
+        makeRights,
+        contains("uid1 recheck=false deleting=false", "uid2 recheck=false deleting=false"));
+  }
+
+  @Test
+  public void whenMergedRequestsHaveDifferentDomainVersions_useNewestDomain() {
+    DomainPresenceInfo newer = createInfo(20);
+    coalescer.submit(newer, false, false, true);
+    coalescer.submit(createInfo(10), true, false, true);
+
+    closeWindows();
+
+    assertThat(makeRightInfos, contains(sameInstance(newer)));
+  }
+
+  @Test
+  public void deleteRequest_runsAtOnce() {
+    coalescer.submit(createInfo(UID), true, true, true);
+
+    assertThat(makeRights, contains("uid recheck=true deleting=true"));
+  }
+
+  @Test
+  public void deleteRequest_cancelsPendingRequest() {
+    coalescer.submit(createInfo(UID), false, false, true);
+    coalescer.submit(createInfo(UID), true, true, true);
+
+    closeWindows();
+
+    assertThat(makeRights, contains("uid recheck=true deleting=true"));
+  }
+
+  @Test
+  public void requestAfterDelete_runsAfterDelete() {
+    coalescer.submit(createInfo(UID), true, true, true);
+    coalescer.submit(createInfo(UID), true, false, true);
+
+    closeWindows();
+
+    assertThat(
+        makeRights, contains("uid recheck=true deleting=true", "uid recheck=true deleting=false"));
+  }
+
+  @Test
+  public void metrics_countEventsRequestsAndReconciles() {
+    for (int i = 0; i < 5; i++) {
+      coalescer.recordEvent();
+    }
+    coalescer.submit(createInfo(UID), false, false, true);
+    coalescer.submit(createInfo(UID), true, false, true);
+
+    closeWindows();
+
+    assertThat(coalescer.getEventsReceived(), equalTo(5L));
+    assertThat(coalescer.getRequestsReceived(), equalTo(2L));
+    assertThat(coalescer.getReconcilesRun(), equalTo(1L));
+  }
+}
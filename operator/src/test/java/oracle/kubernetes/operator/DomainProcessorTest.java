@@ -28,6 +28,7 @@ import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -51,6 +52,7 @@ import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static oracle.kubernetes.operator.VersionConstants.DEFAULT_DOMAIN_VERSION;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
@@ -271,6 +273,17 @@ public class DomainProcessorTest {
     assertThat(serverName + " pod", info.getServerPod(serverName), notNullValue());
   }
 
+  @Test
+  public void registeredMetrics_countDomainEventsReceived() {
+    processor.getEventCoalescer().recordEvent();
+
+    MetricsRegistry registry = MetricsRegistry.getInstance();
+    processor.registerMetrics(registry);
+
+    assertThat(
+        registry.scrape(), containsString("weblogic_operator_domain_events_received_total 1\n"));
+  }
+
   @Test
   public void whenDomainIsNotValid_dontBringUpServers() {
     defineDuplicateServerNames();
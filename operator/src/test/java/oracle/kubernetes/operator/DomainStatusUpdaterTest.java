@@ -3,22 +3,36 @@
 
 package oracle.kubernetes.operator;
 
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.JSON;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodSpec;
 import io.kubernetes.client.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.AsyncCallTestSupport;
 import oracle.kubernetes.operator.helpers.BodyMatcher;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.CrdHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -46,9 +60,12 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Availa
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Progressing;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class DomainStatusUpdaterTest {
@@ -63,6 +80,10 @@ public class DomainStatusUpdaterTest {
           .withMetadata(new V1ObjectMeta().namespace(NS).name(NAME))
           .withSpec(new DomainSpec());
   private DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final JSON json = new JSON();
+  private JsonObject originalDomain;
+  private JsonObject storedDomain;
+  private JsonArray recordedPatch;
   private Domain recordedDomain;
   private RandomStringGenerator generator = new RandomStringGenerator();
   private final String message = generator.getUniqueString();
@@ -73,6 +94,7 @@ public class DomainStatusUpdaterTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.installRequestStepFactory());
+    mementos.add(StaticStubSupport.install(CrdHelper.class, "statusSubresourceEnabled", true));
 
     domain.setStatus(new DomainStatus());
 
@@ -80,7 +102,7 @@ public class DomainStatusUpdaterTest {
     defineServerPod("server2");
     testSupport.addDomainPresenceInfo(info);
     testSupport
-        .createCannedResponse("replaceDomain")
+        .createCannedResponse("patchDomainStatus")
         .withNamespace(NS)
         .withName(NAME)
         .withBody(new RecordBody())
@@ -89,11 +111,49 @@ public class DomainStatusUpdaterTest {
     testSupport.addToPacket(SERVER_HEALTH_MAP, Collections.emptyMap());
   }
 
-  private boolean recordBody(Object domain) {
-    if (!(domain instanceof Domain)) return false;
+  // Records the patch, and the domain which results from applying it to the stored domain: by
+  // default, the domain as it was before the steps were run. A patch which cannot be applied,
+  // such as one whose test operation fails, is not recorded.
+  private boolean recordBody(Object body) {
+    if (!(body instanceof V1Patch)) return false;
+
+    JsonArray patch = toJsonArray((V1Patch) body);
+    try {
+      JsonObject patched = Json.createPatch(patch).apply(getStoredDomain());
+      recordedPatch = patch;
+      recordedDomain = json.deserialize(patched.toString(), Domain.class);
+      return true;
+    } catch (JsonException e) {
+      return false;
+    }
+  }
+
+  private boolean isRejected(Object body) {
+    if (!(body instanceof V1Patch)) return false;
+
+    try {
+      Json.createPatch(toJsonArray((V1Patch) body)).apply(getStoredDomain());
+      return false;
+    } catch (JsonException e) {
+      return true;
+    }
+  }
 
-    this.recordedDomain = (Domain) domain;
-    return true;
+  private JsonArray toJsonArray(V1Patch patch) {
+    return Json.createReader(new StringReader(patch.getValue())).readArray();
+  }
+
+  private JsonObject getStoredDomain() {
+    return Optional.ofNullable(storedDomain).orElse(originalDomain);
+  }
+
+  private JsonObject toJsonObject(Domain domain) {
+    return Json.createReader(new StringReader(json.serialize(domain))).readObject();
+  }
+
+  private void runSteps(Step step) {
+    originalDomain = toJsonObject(domain);
+    testSupport.runSteps(step);
   }
 
   private V1ObjectMeta createPodMetadata(String serverName) {
@@ -124,7 +184,7 @@ public class DomainStatusUpdaterTest {
     configSupport.addWlsCluster("clusterB", "server2");
     testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(
         getServerStatus(recordedDomain, "server1"),
@@ -177,7 +237,7 @@ public class DomainStatusUpdaterTest {
     configSupport.addWlsCluster("clusterC", "server3", "server4");
     testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(
         getServerStatus(recordedDomain, "server3"),
@@ -208,7 +268,7 @@ public class DomainStatusUpdaterTest {
     testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
     setClusterAndNodeName(getPod("server2"), "clusterB", "node2");
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(
         getServerStatus(recordedDomain, "server2"),
@@ -234,7 +294,7 @@ public class DomainStatusUpdaterTest {
     configSupport.addWlsCluster("clusterA", "server1");
     testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(
         getServerStatus(recordedDomain, "server1"),
@@ -272,14 +332,14 @@ public class DomainStatusUpdaterTest {
         SERVER_HEALTH_MAP, ImmutableMap.of("server1", overallHealth("health1")));
     setClusterAndNodeName(getPod("server1"), "clusterA", "node1");
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, nullValue());
   }
 
   @Test
   public void whenDomainHasNoClusters_statusLacksReplicaCount() {
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain.getStatus().getReplicas(), nullValue());
   }
@@ -295,7 +355,7 @@ public class DomainStatusUpdaterTest {
     configSupport.addWlsCluster("cluster1", "server1", "server2", "server3");
     testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain.getStatus().getReplicas(), equalTo(3));
   }
@@ -321,7 +381,7 @@ public class DomainStatusUpdaterTest {
     configSupport.addWlsCluster("cluster3", "server8", "server9");
     testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain.getStatus().getReplicas(), nullValue());
   }
@@ -330,7 +390,7 @@ public class DomainStatusUpdaterTest {
   public void whenAllDesiredServersRunning_establishAvailableCondition() {
     setAllDesiredServersRunning();
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(
         recordedDomain,
@@ -360,7 +420,7 @@ public class DomainStatusUpdaterTest {
     configSupport.addWlsCluster("clusterB", "server2");
     testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(
         recordedDomain,
@@ -372,7 +432,7 @@ public class DomainStatusUpdaterTest {
     domain.getStatus().addCondition(new DomainCondition(Available).withStatus("True"));
     setAllDesiredServersRunning();
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(
         recordedDomain,
@@ -386,7 +446,7 @@ public class DomainStatusUpdaterTest {
         .addCondition(new DomainCondition(Available).withReason(SERVERS_READY_REASON));
     setAllDesiredServersRunning();
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(
         recordedDomain,
@@ -398,7 +458,7 @@ public class DomainStatusUpdaterTest {
     domain.getStatus().addCondition(new DomainCondition(Progressing));
     setAllDesiredServersRunning();
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, not(hasCondition(Progressing)));
   }
@@ -407,7 +467,7 @@ public class DomainStatusUpdaterTest {
   public void whenNotAllDesiredServersRunning_dontEstablishAvailableCondition() {
     setDesiredServerNotRunning();
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, not(hasCondition(Available)));
   }
@@ -431,7 +491,7 @@ public class DomainStatusUpdaterTest {
     configSupport.addWlsCluster("clusterA", "server1", "server2");
     testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, hasCondition(Progressing));
   }
@@ -442,14 +502,14 @@ public class DomainStatusUpdaterTest {
     setDesiredServerNotRunning();
     failPod("server1");
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, not(hasCondition(Progressing)));
   }
 
   @Test
   public void whenNoPodsFailed_dontEstablishFailedCondition() {
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, not(hasCondition(Failed)));
   }
@@ -458,7 +518,7 @@ public class DomainStatusUpdaterTest {
   public void whenNoPodsFailedAndFailedConditionFound_removeIt() {
     domain.getStatus().addCondition(new DomainCondition(Failed));
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, not(hasCondition(Failed)));
   }
@@ -467,7 +527,7 @@ public class DomainStatusUpdaterTest {
   public void whenAtLeastOnePodFailed_establishFailedCondition() {
     failPod("server1");
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, hasCondition(Failed));
   }
@@ -477,7 +537,7 @@ public class DomainStatusUpdaterTest {
     domain.getStatus().addCondition(new DomainCondition(Failed).withStatus("True"));
     failPod("server2");
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, hasCondition(Failed).withStatus("True"));
   }
@@ -487,7 +547,7 @@ public class DomainStatusUpdaterTest {
     domain.getStatus().addCondition(new DomainCondition(Failed).withStatus("False "));
     failPod("server2");
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, hasCondition(Failed).withStatus("True"));
   }
@@ -497,7 +557,7 @@ public class DomainStatusUpdaterTest {
     domain.getStatus().addCondition(new DomainCondition(Failed).withStatus("False "));
     failPod("server2");
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, not(hasCondition(Available)));
   }
@@ -507,7 +567,7 @@ public class DomainStatusUpdaterTest {
     domain.getStatus().addCondition(new DomainCondition(Available));
     failPod("server2");
 
-    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, not(hasCondition(Available)));
   }
@@ -564,7 +624,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasNoStatus_progressingStepUpdatesItWithProgressingTrueAndReason() {
     domain.setStatus(null);
 
-    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
 
     assertThat(recordedDomain, hasCondition(Progressing).withStatus("True").withReason(reason));
   }
@@ -572,7 +632,7 @@ public class DomainStatusUpdaterTest {
   @Test
   public void
       whenDomainHasNoProgressingCondition_progressingStepUpdatesItWithProgressingTrueAndReason() {
-    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
 
     assertThat(recordedDomain, hasCondition(Progressing).withStatus("True").withReason(reason));
   }
@@ -582,7 +642,7 @@ public class DomainStatusUpdaterTest {
       whenDomainHasProgressingNonTrueCondition_progressingStepUpdatesItWithProgressingTrueAndReason() {
     domain.getStatus().addCondition(new DomainCondition(Progressing).withStatus("?"));
 
-    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
 
     assertThat(recordedDomain, hasCondition(Progressing).withStatus("True").withReason(reason));
     assertThat(recordedDomain.getStatus().getConditions(), hasSize(1));
@@ -598,7 +658,7 @@ public class DomainStatusUpdaterTest {
                 .withStatus("True")
                 .withReason(generator.getUniqueString()));
 
-    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
 
     assertThat(recordedDomain, hasCondition(Progressing).withStatus("True").withReason(reason));
     assertThat(recordedDomain.getStatus().getConditions(), hasSize(1));
@@ -610,7 +670,7 @@ public class DomainStatusUpdaterTest {
         .getStatus()
         .addCondition(new DomainCondition(Progressing).withStatus("True").withReason(reason));
 
-    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
 
     assertThat(recordedDomain, nullValue());
   }
@@ -619,7 +679,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasFailedCondition_progressingStepRemovesIt() {
     domain.getStatus().addCondition(new DomainCondition(Failed));
 
-    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
 
     assertThat(recordedDomain, not(hasCondition(Failed)));
   }
@@ -628,7 +688,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasAvailableCondition_progressingStepRemovesIt() {
     domain.getStatus().addCondition(new DomainCondition(Available));
 
-    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
 
     assertThat(recordedDomain, not(hasCondition(Available)));
   }
@@ -637,14 +697,14 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasAvailableCondition_progressingStepWithPreserveAvailableIgnoresIt() {
     domain.getStatus().addCondition(new DomainCondition(Available));
 
-    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, true, endStep));
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, true, endStep));
 
     assertThat(recordedDomain, hasCondition(Available));
   }
 
   @Test
   public void whenDomainHasNoConditions_endProgressingStepDoesNothing() {
-    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
+    runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
 
     assertThat(recordedDomain, nullValue());
   }
@@ -653,7 +713,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasProgressingTrueCondition_endProgressingStepRemovesIt() {
     domain.getStatus().addCondition(new DomainCondition(Progressing).withStatus("True"));
 
-    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
+    runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
 
     assertThat(recordedDomain, not(hasCondition(Progressing)));
   }
@@ -662,7 +722,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasProgressingNotTrueCondition_endProgressingStepIgnoresIt() {
     domain.getStatus().addCondition(new DomainCondition(Progressing).withStatus("?"));
 
-    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
+    runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
 
     assertThat(recordedDomain, nullValue());
   }
@@ -671,7 +731,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasAvailableCondition_endProgressingStepIgnoresIt() {
     domain.getStatus().addCondition(new DomainCondition(Available));
 
-    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
+    runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
 
     assertThat(recordedDomain, nullValue());
   }
@@ -680,7 +740,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasFailedCondition_endProgressingStepIgnoresIt() {
     domain.getStatus().addCondition(new DomainCondition(Failed));
 
-    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
+    runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
 
     assertThat(recordedDomain, nullValue());
   }
@@ -689,7 +749,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainLacksStatus_availableStepUpdatesDomainWithAvailableTrueAndReason() {
     domain.setStatus(null);
 
-    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+    runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
 
     assertThat(recordedDomain, hasCondition(Available).withStatus("True").withReason(reason));
   }
@@ -697,7 +757,7 @@ public class DomainStatusUpdaterTest {
   @Test
   public void
       whenDomainLacksAvailableCondition_availableStepUpdatesDomainWithAvailableTrueAndReason() {
-    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+    runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
 
     assertThat(recordedDomain, hasCondition(Available).withStatus("True").withReason(reason));
   }
@@ -706,7 +766,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasAvailableFalseCondition_availableStepUpdatesItWithTrueAndReason() {
     domain.getStatus().addCondition(new DomainCondition(Available).withStatus("False"));
 
-    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+    runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
 
     assertThat(recordedDomain, hasCondition(Available).withStatus("True").withReason(reason));
     assertThat(recordedDomain.getStatus().getConditions(), hasSize(1));
@@ -716,7 +776,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasProgressingCondition_availableStepIgnoresIt() {
     domain.getStatus().addCondition(new DomainCondition(Progressing));
 
-    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+    runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
 
     assertThat(recordedDomain, hasCondition(Available).withStatus("True").withReason(reason));
     assertThat(recordedDomain, hasCondition(Progressing));
@@ -726,7 +786,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasFailedCondition_availableStepRemovesIt() {
     domain.getStatus().addCondition(new DomainCondition(Failed));
 
-    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+    runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
 
     assertThat(recordedDomain, not(hasCondition(Failed)));
   }
@@ -735,7 +795,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainLacksStatus_failedStepUpdatesDomainWithFailedTrueAndException() {
     domain.setStatus(null);
 
-    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+    runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
 
     assertThat(
         recordedDomain,
@@ -746,7 +806,7 @@ public class DomainStatusUpdaterTest {
 
   @Test
   public void whenDomainLacksFailedCondition_failedStepUpdatesDomainWithFailedTrueAndException() {
-    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+    runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
 
     assertThat(
         recordedDomain,
@@ -757,7 +817,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasFailedFalseCondition_failedStepUpdatesItWithTrueAndException() {
     domain.getStatus().addCondition(new DomainCondition(Failed).withStatus("False"));
 
-    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+    runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
 
     assertThat(
         recordedDomain,
@@ -769,7 +829,7 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasProgressingTrueCondition_failedStepUpdatesItToFalse() {
     domain.getStatus().addCondition(new DomainCondition(Progressing).withStatus("True"));
 
-    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+    runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
 
     assertThat(recordedDomain, hasCondition(Progressing).withStatus("False"));
   }
@@ -778,11 +838,150 @@ public class DomainStatusUpdaterTest {
   public void whenDomainHasAvailableCondition_failedStepIgnoresIt() {
     domain.getStatus().addCondition(new DomainCondition(Available));
 
-    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+    runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
 
     assertThat(recordedDomain, hasCondition(Available));
   }
 
+  @Test
+  public void whenStatusChanged_patchOnlyChangesStatus() {
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(getPatchPathsOutsideStatus(), empty());
+  }
+
+  @Test
+  public void whenOneServerStatusChanged_patchOnlyThatServer() {
+    domain.setStatus(
+        new DomainStatus()
+            .withServers(
+                List.of(
+                    new ServerStatus().withServerName("server1").withState(RUNNING_STATE),
+                    new ServerStatus().withServerName("server2").withState(RUNNING_STATE))));
+    testSupport.addToPacket(
+        SERVER_STATE_MAP, ImmutableMap.of("server1", RUNNING_STATE, "server2", SHUTDOWN_STATE));
+    configSupport.addWlsServer("server1");
+    configSupport.addWlsServer("server2");
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+
+    assertThat(getPatchPaths(), not(hasItem(startsWith("/status/servers/0"))));
+    assertThat(getServerStatus(recordedDomain, "server2").getState(), equalTo(SHUTDOWN_STATE));
+  }
+
+  @Test
+  public void whenDomainHasResourceVersion_patchTestsIt() {
+    domain.getMetadata().setResourceVersion("7");
+
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    JsonObject firstOperation = recordedPatch.getJsonObject(0);
+    assertThat(firstOperation.getString("op"), equalTo("test"));
+    assertThat(firstOperation.getString("path"), equalTo("/metadata/resourceVersion"));
+    assertThat(firstOperation.getString("value"), equalTo("7"));
+  }
+
+  @Test
+  public void whenStoredStatusHasDiverged_recomputePatchFromStoredDomain() {
+    domain.getMetadata().setResourceVersion("1");
+    domain.setStatus(
+        new DomainStatus()
+            .withServers(
+                List.of(
+                    new ServerStatus().withServerName("server1").withState(RUNNING_STATE),
+                    new ServerStatus().withServerName("server2").withState(RUNNING_STATE))));
+    Domain stored = createStoredDomain("2");
+    stored.setStatus(
+        new DomainStatus()
+            .withServers(
+                List.of(
+                    new ServerStatus().withServerName("server0").withState(RUNNING_STATE),
+                    new ServerStatus().withServerName("server1").withState(RUNNING_STATE),
+                    new ServerStatus().withServerName("server2").withState(RUNNING_STATE))));
+    storedDomain = toJsonObject(stored);
+    expectStalePatchRejected();
+    testSupport
+        .createCannedResponse("readDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .returning(stored);
+    testSupport.addToPacket(
+        SERVER_STATE_MAP, ImmutableMap.of("server1", RUNNING_STATE, "server2", SHUTDOWN_STATE));
+    configSupport.addWlsServer("server1");
+    configSupport.addWlsServer("server2");
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+
+    runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+
+    assertThat(getServerStatus(recordedDomain, "server1").getState(), equalTo(RUNNING_STATE));
+    assertThat(getServerStatus(recordedDomain, "server2").getState(), equalTo(SHUTDOWN_STATE));
+  }
+
+  @Test
+  public void whenPatchRejectedButDomainUnchanged_terminateFiber() {
+    domain.getMetadata().setResourceVersion("1");
+    storedDomain = toJsonObject(createStoredDomain("2"));
+    expectStalePatchRejected();
+    testSupport
+        .createCannedResponse("readDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .returning(createStoredDomain("1"));
+
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+  }
+
+  private Domain createStoredDomain(String resourceVersion) {
+    Domain stored =
+        new Domain()
+            .withMetadata(
+                new V1ObjectMeta().namespace(NS).name(NAME).resourceVersion(resourceVersion))
+            .withSpec(new DomainSpec());
+    stored.setStatus(new DomainStatus());
+    return stored;
+  }
+
+  private void expectStalePatchRejected() {
+    testSupport
+        .createCannedResponse("patchDomainStatus")
+        .withNamespace(NS)
+        .withName(NAME)
+        .withBody((BodyMatcher) this::isRejected)
+        .failingWithStatus(CallBuilder.UNPROCESSABLE_ENTITY);
+  }
+
+  @Test
+  public void whenStatusSubresourceNotEnabled_patchDomain() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(CrdHelper.class, "statusSubresourceEnabled", false));
+    testSupport
+        .createCannedResponse("patchDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .withBody(new RecordBody())
+        .returning(domain);
+
+    runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(recordedDomain, hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  private List<String> getPatchPaths() {
+    List<String> paths = new ArrayList<>();
+    for (JsonValue operation : recordedPatch) {
+      paths.add(operation.asJsonObject().getString("path"));
+    }
+    return paths;
+  }
+
+  private List<String> getPatchPathsOutsideStatus() {
+    List<String> paths = getPatchPaths();
+    paths.removeIf(path -> path.startsWith("/status"));
+    return paths;
+  }
+
   class RecordBody implements BodyMatcher {
     @Override
     public boolean matches(Object actualBody) {
@@ -3,11 +3,15 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
@@ -53,8 +57,30 @@ public class DomainWatcherTest extends WatcherTestBase implements WatchListener<
     return (T) new Domain().withMetadata(metaData);
   }
 
+  @Override
+  protected boolean isRelistSupported() {
+    return true;
+  }
+
+  @Override
+  protected void cacheLastKnownState(Object object) {
+    Domain domain = ((Domain) object).withSpec(new DomainSpec().withDomainUid(UID));
+    Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
+    domains.computeIfAbsent(getNamespace(domain), k -> new ConcurrentHashMap<>())
+        .put(UID, new DomainPresenceInfo(domain));
+    try {
+      addMemento(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", domains));
+    } catch (NoSuchFieldException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private String getNamespace(Domain domain) {
+    return domain.getMetadata().getNamespace();
+  }
+
   @Override
   protected DomainWatcher createWatcher(String ns, AtomicBoolean stopping, int rv) {
-    return DomainWatcher.create(this, ns, Integer.toString(rv), tuning, this, stopping);
+    return DomainWatcher.create(runtime, ns, Integer.toString(rv), tuning, this, stopping);
   }
 }
@@ -13,7 +13,6 @@ import io.kubernetes.client.models.V1JobStatus;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
-import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
@@ -42,15 +41,8 @@ public class JobWatcherTest extends WatcherTestBase implements WatchListener<V1J
   private V1Job cachedJob = createJob();
   private long clock;
 
-  private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final TerminalStep terminalStep = new TerminalStep();
 
-  @Override
-  public void setUp() throws Exception {
-    super.setUp();
-    addMemento(testSupport.install());
-  }
-
   @Override
   @After
   public void tearDown() throws Exception {
@@ -94,11 +86,11 @@ public class JobWatcherTest extends WatcherTestBase implements WatchListener<V1J
 
   @Override
   protected JobWatcher createWatcher(String ns, AtomicBoolean stopping, int rv) {
-    return JobWatcher.create(this, ns, Integer.toString(rv), tuning, stopping);
+    return JobWatcher.create(runtime, ns, Integer.toString(rv), tuning, stopping);
   }
 
   private JobWatcher createWatcher(AtomicBoolean stopping) {
-    return JobWatcher.create(this, "ns", Integer.toString(INITIAL_RESOURCE_VERSION), tuning, stopping);
+    return JobWatcher.create(runtime, "ns", Integer.toString(INITIAL_RESOURCE_VERSION), tuning, stopping);
   }
 
   @Test
@@ -352,7 +344,7 @@ public class JobWatcherTest extends WatcherTestBase implements WatchListener<V1J
   @Test
   public void afterFactoryDefined_createWatcherForDomain() {
     AtomicBoolean stopping = new AtomicBoolean(true);
-    JobWatcher.defineFactory(this, tuning, s -> stopping);
+    JobWatcher.defineFactory(runtime, tuning, s -> stopping);
     Domain domain = new Domain().withMetadata(new V1ObjectMeta().namespace(NS).resourceVersion(VERSION));
 
     assertThat(JobWatcher.getOrCreateFor(domain), notNullValue());
@@ -361,7 +353,7 @@ public class JobWatcherTest extends WatcherTestBase implements WatchListener<V1J
   @Test
   public void afterWatcherCreated_itIsCached() {
     AtomicBoolean stopping = new AtomicBoolean(true);
-    JobWatcher.defineFactory(this, tuning, ns -> stopping);
+    JobWatcher.defineFactory(runtime, tuning, ns -> stopping);
     Domain domain =
         new Domain().withMetadata(new V1ObjectMeta().namespace(NS).resourceVersion(VERSION));
     JobWatcher firstWatcher = JobWatcher.getOrCreateFor(domain);
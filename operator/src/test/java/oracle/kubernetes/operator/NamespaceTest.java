@@ -46,7 +46,8 @@ public class NamespaceTest {
     mementos.add(StaticStubSupport.install(Main.class, "getHelmVariable", getTestHelmValue));
 
     AtomicBoolean stopping = new AtomicBoolean(true);
-    JobWatcher.defineFactory(r -> createDaemonThread(), tuning, ns -> stopping);
+    JobWatcher.defineFactory(
+        WatchRuntime.withDedicatedThreads(r -> createDaemonThread()), tuning, ns -> stopping);
   }
 
   private Thread createDaemonThread() {
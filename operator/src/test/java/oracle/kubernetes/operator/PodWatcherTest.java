@@ -3,9 +3,12 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodCondition;
@@ -13,16 +16,16 @@ import io.kubernetes.client.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
-import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.InformerCache;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import org.hamcrest.Matchers;
-import org.junit.Before;
 import org.junit.Test;
 
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
@@ -34,16 +37,8 @@ public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1P
   private static final int INITIAL_RESOURCE_VERSION = 234;
   private static final String NS = "ns";
   private static final String NAME = "test";
-  private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final TerminalStep terminalStep = new TerminalStep();
 
-  @Override
-  @Before
-  public void setUp() throws Exception {
-    super.setUp();
-    addMemento(testSupport.install());
-  }
-
   @Override
   public void receivedResponse(Watch.Response<V1Pod> response) {
     recordCallBack(response);
@@ -69,13 +64,35 @@ public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1P
     return (T) new V1Pod().metadata(metaData);
   }
 
+  @Override
+  protected boolean isRelistSupported() {
+    return true;
+  }
+
+  @Override
+  protected void cacheLastKnownState(Object object) {
+    V1Pod pod = (V1Pod) object;
+    pod.getMetadata().putLabelsItem(DOMAINUID_LABEL, "uid").putLabelsItem(SERVERNAME_LABEL, NAME);
+    addMemento(installInformerCache());
+    InformerCache.onPodEvent("ADDED", pod);
+  }
+
+  private Memento installInformerCache() {
+    try {
+      return StaticStubSupport.install(
+          InformerCache.class, "NAMESPACES", new ConcurrentHashMap<>());
+    } catch (NoSuchFieldException e) {
+      throw new AssertionError(e);
+    }
+  }
+
   @Override
   protected PodWatcher createWatcher(String ns, AtomicBoolean stopping, int rv) {
-    return PodWatcher.create(this, ns, Integer.toString(rv), tuning, this, stopping);
+    return PodWatcher.create(runtime, ns, Integer.toString(rv), tuning, this, stopping);
   }
 
   private PodWatcher createWatcher(AtomicBoolean stopping) {
-    return PodWatcher.create(this, NS, Integer.toString(INITIAL_RESOURCE_VERSION), tuning, this, stopping);
+    return PodWatcher.create(runtime, NS, Integer.toString(INITIAL_RESOURCE_VERSION), tuning, this, stopping);
   }
 
   @Test
@@ -0,0 +1,51 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Secret;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+/** This test class verifies the behavior of the SecretWatcher. */
+public class SecretWatcherTest extends WatcherTestBase implements WatchListener<V1Secret> {
+
+  private static final int INITIAL_RESOURCE_VERSION = 234;
+
+  @Override
+  public void receivedResponse(Watch.Response<V1Secret> response) {
+    recordCallBack(response);
+  }
+
+  @Test
+  public void initialRequest_specifiesStartingResourceVersionAndNoLabelSelector() {
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(0),
+        both(hasEntry("resourceVersion", Integer.toString(INITIAL_RESOURCE_VERSION)))
+            .and(not(hasKey("labelSelector"))));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  protected <T> T createObjectWithMetaData(V1ObjectMeta metaData) {
+    return (T) new V1Secret().metadata(metaData);
+  }
+
+  @Override
+  protected SecretWatcher createWatcher(String ns, AtomicBoolean stopping, int rv) {
+    return SecretWatcher.create(runtime, ns, Integer.toString(rv), tuning, this, stopping);
+  }
+}
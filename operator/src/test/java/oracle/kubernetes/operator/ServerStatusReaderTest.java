@@ -18,6 +18,9 @@ import com.meterware.pseudoserver.HttpUserAgentTest;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.ApiClient;
+import io.kubernetes.client.models.V1ContainerState;
+import io.kubernetes.client.models.V1ContainerStateWaiting;
+import io.kubernetes.client.models.V1ContainerStatus;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodCondition;
@@ -36,6 +39,7 @@ import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.hamcrest.Matchers;
+import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -152,6 +156,55 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(serverStates, hasEntry("server1", "still not ready yet"));
   }
 
+  @Test
+  public void whenServerContainerIsWaiting_recordStartingWithoutExec() {
+    info.setServerPod("server1", createPod("server1"));
+    setWaitingStatus(info.getServerPod("server1"));
+
+    execFactory.defineResponse("server1", "RUNNING");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.STARTING_STATE));
+  }
+
+  @Test
+  public void whenPodNotReadyAndHasRecentPublishedState_recordItWithoutExec() {
+    info.setServerPod("server1", createPod("server1"));
+    info.updatePublishedServerStatus("server1", "ADMIN", DateTime.now());
+
+    execFactory.defineResponse("server1", "still not ready yet");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "ADMIN"));
+  }
+
+  @Test
+  public void whenPodNotReadyAndPublishedStateIsOld_execIntoPod() {
+    info.setServerPod("server1", createPod("server1"));
+    info.updatePublishedServerStatus("server1", "ADMIN", DateTime.now().minusMinutes(10));
+
+    execFactory.defineResponse("server1", "still not ready yet");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "still not ready yet"));
+  }
+
+  private void setWaitingStatus(V1Pod pod) {
+    pod.setStatus(
+        new V1PodStatus()
+            .phase("Pending")
+            .addContainerStatusesItem(
+                new V1ContainerStatus()
+                    .name(KubernetesConstants.CONTAINER_NAME)
+                    .state(new V1ContainerState().waiting(new V1ContainerStateWaiting()))));
+  }
+
   private void setReadyStatus(V1Pod pod) {
     pod.setStatus(
         new V1PodStatus()
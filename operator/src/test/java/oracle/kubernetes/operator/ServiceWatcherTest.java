@@ -3,12 +3,16 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.InformerCache;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import org.junit.Test;
 
@@ -48,8 +52,30 @@ public class ServiceWatcherTest extends WatcherTestBase implements WatchListener
     return (T) new V1Service().metadata(metaData);
   }
 
+  @Override
+  protected boolean isRelistSupported() {
+    return true;
+  }
+
+  @Override
+  protected void cacheLastKnownState(Object object) {
+    V1Service service = (V1Service) object;
+    service.getMetadata().putLabelsItem(DOMAINUID_LABEL, "uid");
+    addMemento(installInformerCache());
+    InformerCache.onServiceEvent("ADDED", service);
+  }
+
+  private Memento installInformerCache() {
+    try {
+      return StaticStubSupport.install(
+          InformerCache.class, "NAMESPACES", new ConcurrentHashMap<>());
+    } catch (NoSuchFieldException e) {
+      throw new AssertionError(e);
+    }
+  }
+
   @Override
   protected ServiceWatcher createWatcher(String ns, AtomicBoolean stopping, int rv) {
-    return ServiceWatcher.create(this, ns, Integer.toString(rv), tuning, this, stopping);
+    return ServiceWatcher.create(runtime, ns, Integer.toString(rv), tuning, this, stopping);
   }
 }
@@ -0,0 +1,234 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.models.V1Pod;
+import oracle.kubernetes.operator.StatusPollScheduler.PollListener;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StatusPollSchedulerTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid";
+  private static final long MIN_INTERVAL = 1000;
+  private static final long MAX_INTERVAL = 5000;
+
+  private final List<Runnable> scheduledCommands = new ArrayList<>();
+  private final List<Long> scheduledDelays = new ArrayList<>();
+  private final List<PollListener> polls = new ArrayList<>();
+  private final List<String> polledDomains = new ArrayList<>();
+  private int maxReadsPerSecond;
+  private boolean pollInProgress;
+  private final StatusPollScheduler scheduler =
+      new StatusPollScheduler(
+          this::schedule, () -> MIN_INTERVAL, () -> MAX_INTERVAL, () -> maxReadsPerSecond);
+
+  private ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    scheduledCommands.add(command);
+    scheduledDelays.add(unit.toMillis(delay));
+    return createStub(ScheduledFuture.class);
+  }
+
+  private boolean poll(PollListener listener) {
+    polls.add(listener);
+    return !pollInProgress;
+  }
+
+  private void startPolling(String uid) {
+    startPolling(uid, 0);
+  }
+
+  private void startPolling(String uid, int numServerPods) {
+    DomainPresenceInfo info = new DomainPresenceInfo(NS, uid);
+    for (int i = 1; i <= numServerPods; i++) {
+      info.setServerPod("server" + i, new V1Pod());
+    }
+    scheduler.start(
+        info,
+        listener -> {
+          polledDomains.add(uid);
+          return poll(listener);
+        });
+  }
+
+  private void runScheduledCommands() {
+    List<Runnable> commands = new ArrayList<>(scheduledCommands);
+    scheduledCommands.clear();
+    scheduledDelays.clear();
+    commands.forEach(Runnable::run);
+  }
+
+  private void pollAndComplete(Object status) {
+    runScheduledCommands();
+    polls.get(polls.size() - 1).pollCompleted(status);
+  }
+
+  @Test
+  public void whenPollingStarts_scheduleFirstPollAtMinimumInterval() {
+    startPolling(UID);
+
+    assertThat(scheduledDelays, contains(MIN_INTERVAL));
+  }
+
+  @Test
+  public void whenScheduledTimeArrives_pollDomain() {
+    startPolling(UID);
+
+    runScheduledCommands();
+
+    assertThat(polls.size(), equalTo(1));
+    assertThat(scheduler.getPollsRun(), equalTo(1L));
+  }
+
+  @Test
+  public void whilePollInProgress_doNotScheduleNextPoll() {
+    startPolling(UID);
+
+    runScheduledCommands();
+
+    assertThat(scheduledCommands, empty());
+  }
+
+  @Test
+  public void whenStatusUnchanged_doubleIntervalUpToMaximum() {
+    startPolling(UID);
+
+    pollAndComplete("status");
+    assertThat(scheduledDelays, contains(MIN_INTERVAL));
+    pollAndComplete("status");
+    assertThat(scheduledDelays, contains(2 * MIN_INTERVAL));
+    pollAndComplete("status");
+    assertThat(scheduledDelays, contains(4 * MIN_INTERVAL));
+    pollAndComplete("status");
+    assertThat(scheduledDelays, contains(MAX_INTERVAL));
+  }
+
+  @Test
+  public void whenStatusChanges_returnToMinimumInterval() {
+    startPolling(UID);
+    pollAndComplete("status");
+    pollAndComplete("status");
+
+    pollAndComplete("new status");
+
+    assertThat(scheduledDelays, contains(MIN_INTERVAL));
+  }
+
+  @Test
+  public void whenPollFails_returnToMinimumInterval() {
+    startPolling(UID);
+    pollAndComplete("status");
+    pollAndComplete("status");
+    runScheduledCommands();
+
+    polls.get(polls.size() - 1).pollFailed();
+
+    assertThat(scheduledDelays, contains(MIN_INTERVAL));
+  }
+
+  @Test
+  public void whenActivityRecordedWhileBackedOff_rescheduleAtMinimumInterval() {
+    startPolling(UID);
+    pollAndComplete("status");
+    pollAndComplete("status");
+
+    scheduler.onActivity(NS, UID);
+
+    assertThat(scheduledDelays, contains(2 * MIN_INTERVAL, MIN_INTERVAL));
+    assertThat(scheduler.getIntervalMillis(NS, UID), equalTo(MIN_INTERVAL));
+  }
+
+  @Test
+  public void afterActivityReschedulesPoll_replacedTimerDoesNotPoll() {
+    startPolling(UID);
+    pollAndComplete("status");
+    pollAndComplete("status");
+    scheduler.onActivity(NS, UID);
+
+    runScheduledCommands();
+
+    assertThat(polls.size(), equalTo(3));
+  }
+
+  @Test
+  public void whenActivityRecordedDuringPoll_nextPollUsesMinimumInterval() {
+    startPolling(UID);
+    pollAndComplete("status");
+    runScheduledCommands();
+
+    scheduler.onActivity(NS, UID);
+    polls.get(polls.size() - 1).pollCompleted("status");
+
+    assertThat(scheduledDelays, contains(MIN_INTERVAL));
+  }
+
+  @Test
+  public void whenEarlierReadStillInProgress_tryAgainAfterCurrentInterval() {
+    startPolling(UID);
+    pollInProgress = true;
+
+    runScheduledCommands();
+
+    assertThat(scheduledDelays, contains(MIN_INTERVAL));
+  }
+
+  @Test
+  public void afterPollingStops_scheduledTimerDoesNotPoll() {
+    startPolling(UID);
+
+    scheduler.stop(NS, UID);
+    runScheduledCommands();
+
+    assertThat(polls, empty());
+    assertThat(scheduler.getDomainCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenReadBudgetExhausted_deferPoll() {
+    maxReadsPerSecond = 1;
+    startPolling("uid1");
+    startPolling("uid2");
+
+    runScheduledCommands();
+
+    assertThat(polls.size(), equalTo(1));
+    assertThat(scheduler.getPollsDeferred(), equalTo(1L));
+    assertThat(scheduledCommands.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenReadBudgetNotSet_pollAllDomains() {
+    startPolling("uid1");
+    startPolling("uid2");
+
+    runScheduledCommands();
+
+    assertThat(polls.size(), equalTo(2));
+  }
+
+  @Test
+  public void whenLargeDomainDeferred_pollItBeforeLaterSmallDomains() {
+    maxReadsPerSecond = 5;
+    startPolling("small1");
+    startPolling("large", 5);
+    startPolling("small2");
+    startPolling("small3");
+
+    runScheduledCommands();
+    runScheduledCommands();
+
+    assertThat(polledDomains, contains("small1", "large", "small2", "small3"));
+  }
+}
@@ -0,0 +1,192 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class WatchRuntimeTest {
+  private static final int LIFETIME = 300;
+  private static final int CONTENDED_LIFETIME = 30;
+
+  private final List<String> watches = Collections.synchronizedList(new ArrayList<>());
+  private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+  private final CountDownLatch threadsReleased = new CountDownLatch(1);
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  // Creates threads which do not start to run watches until released, so that tests may first
+  // add all of their streams.
+  private final ThreadFactory threadFactory =
+      r -> {
+        Thread thread = new Thread(() -> runWhenReleased(r));
+        thread.setDaemon(true);
+        threads.add(thread);
+        return thread;
+      };
+
+  private void runWhenReleased(Runnable runnable) {
+    try {
+      threadsReleased.await(5, TimeUnit.SECONDS);
+      runnable.run();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  private WatchRuntime createRuntime(int maxThreads) {
+    return new WatchRuntime(threadFactory, scheduler, maxThreads, CONTENDED_LIFETIME, false);
+  }
+
+  private void runStreams(WatchRuntime runtime, TestWatcher... watchers)
+      throws InterruptedException {
+    for (TestWatcher watcher : watchers) {
+      runtime.addStream(watcher);
+    }
+    threadsReleased.countDown();
+    for (Thread thread : new ArrayList<>(threads)) {
+      thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+  }
+
+  @Test
+  public void whenStreamsOutnumberThreads_streamsTakeTurns() throws InterruptedException {
+    runStreams(createRuntime(1), new TestWatcher("a", 3), new TestWatcher("b", 3));
+
+    assertThat(watches, contains("a", "b", "a", "b", "a", "b"));
+  }
+
+  @Test
+  public void whenStreamsOutnumberThreads_limitWatchLifetime() throws InterruptedException {
+    TestWatcher watcher = new TestWatcher("a", 1);
+
+    runStreams(createRuntime(1), watcher, new TestWatcher("b", 1));
+
+    assertThat(watcher.lifetimes, contains(CONTENDED_LIFETIME));
+  }
+
+  @Test
+  public void whenThreadsNotContended_useConfiguredWatchLifetime() throws InterruptedException {
+    TestWatcher watcher = new TestWatcher("a", 1);
+
+    runStreams(createRuntime(2), watcher, new TestWatcher("b", 1));
+
+    assertThat(watcher.lifetimes, contains(LIFETIME));
+  }
+
+  @Test
+  public void whenThreadsUnlimited_createThreadPerStream() throws InterruptedException {
+    runStreams(
+        createRuntime(WatchRuntime.UNLIMITED),
+        new TestWatcher("a", 1),
+        new TestWatcher("b", 1),
+        new TestWatcher("c", 1));
+
+    assertThat(threads, hasSize(3));
+  }
+
+  @Test
+  public void afterAllStreamsStop_noThreadsOrStreamsRemain() throws InterruptedException {
+    WatchRuntime runtime = createRuntime(1);
+
+    runStreams(runtime, new TestWatcher("a", 2), new TestWatcher("b", 1));
+
+    assertThat(runtime.getStreamCount(), equalTo(0));
+    assertThat(runtime.getThreadCount(), equalTo(0));
+    assertThat(runtime.getWaitingStreamCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenWatchThrowsException_retryStreamAfterDelay() throws InterruptedException {
+    WatchRuntime runtime = createRuntime(1);
+    FailingWatcher watcher = new FailingWatcher("a", 2);
+
+    runStreams(runtime, watcher);
+
+    assertThat(watcher.finished.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(watches, contains("a", "a"));
+    assertThat(
+        watcher.retryInterval,
+        greaterThanOrEqualTo(WatchRuntime.FAILED_WATCH_DELAY_MILLIS));
+  }
+
+  class TestWatcher extends Watcher<Object> {
+    private final String name;
+    private final List<Integer> lifetimes = new ArrayList<>();
+    private int numWatches;
+
+    TestWatcher(String name, int numWatches) {
+      super("0", new WatchTuning(LIFETIME, 0), new AtomicBoolean(false));
+      this.name = name;
+      this.numWatches = numWatches;
+    }
+
+    @Override
+    public WatchI<Object> initiateWatch(WatchBuilder watchBuilder) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    V1ObjectMeta getMetadata(Object object) {
+      return null;
+    }
+
+    @Override
+    boolean watchOnce(int lifetimeSeconds) {
+      watches.add(name);
+      lifetimes.add(lifetimeSeconds);
+      return --numWatches > 0;
+    }
+  }
+
+  // Fails on its first watch, then behaves as a test watcher
+  class FailingWatcher extends TestWatcher {
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private long firstWatchTime;
+    private long retryInterval;
+
+    FailingWatcher(String name, int numWatches) {
+      super(name, numWatches);
+    }
+
+    @Override
+    boolean watchOnce(int lifetimeSeconds) {
+      boolean keepWatching = super.watchOnce(lifetimeSeconds);
+      if (firstWatchTime == 0) {
+        firstWatchTime = System.currentTimeMillis();
+        throw new IllegalStateException("failure reported in test");
+      }
+      retryInterval = System.currentTimeMillis() - firstWatchTime;
+      if (!keepWatching) {
+        finished.countDown();
+      }
+      return keepWatching;
+    }
+  }
+}
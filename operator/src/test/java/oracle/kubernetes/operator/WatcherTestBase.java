@@ -13,17 +13,21 @@ import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
 import static java.net.HttpURLConnection.HTTP_GONE;
 import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.deleteEvent;
 import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
 import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 
@@ -35,10 +39,12 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   private static final String NAMESPACE = "testspace";
   private final RuntimeException hasNextException = new RuntimeException(Watcher.HAS_NEXT_EXCEPTION_MESSAGE);
   final WatchTuning tuning = new WatchTuning(30, 0);
+  final WatchRuntime runtime = WatchRuntime.withDedicatedThreads(this);
   private List<Memento> mementos = new ArrayList<>();
   private List<Watch.Response<?>> callBacks = new ArrayList<>();
   private int resourceVersion = INITIAL_RESOURCE_VERSION;
   private AtomicBoolean stopping = new AtomicBoolean(false);
+  final KubernetesTestSupport testSupport = new KubernetesTestSupport();
 
   private V1ObjectMeta createMetaData() {
     return createMetaData("test", NAMESPACE);
@@ -66,6 +72,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(hasNextException));
     mementos.add(StubWatchFactory.install());
     StubWatchFactory.setListener(this);
+    mementos.add(testSupport.install());
   }
 
   final void addMemento(Memento memento) {
@@ -90,6 +97,25 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
   protected abstract <T> T createObjectWithMetaData(V1ObjectMeta metaData);
 
+  /**
+   * Returns true if the watcher under test lists its resources after an HTTP Gone error, rather
+   * than resuming from the resource version reported with the error.
+   *
+   * @return true if the watcher relists
+   */
+  protected boolean isRelistSupported() {
+    return false;
+  }
+
+  /**
+   * Records the specified object where the watcher under test finds the last known state of an
+   * object whose deletion it replays after a relist.
+   *
+   * @param object a watched object
+   */
+  protected void cacheLastKnownState(Object object) {
+  }
+
   @Test
   public void afterInitialRequest_watchIsClosed() {
     sendInitialRequest(INITIAL_RESOURCE_VERSION);
@@ -109,6 +135,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return WatchEvent.createDeleteEvent(object).toWatchResponse();
   }
 
+  private <T> Watch.Response createBookmarkResponse(T object) {
+    return WatchEvent.createBookmarkEvent(object).toWatchResponse();
+  }
+
   private Watch.Response createHttpGoneErrorResponse(int nextResourceVersion) {
     return WatchEvent.createErrorEvent(HTTP_GONE, nextResourceVersion).toWatchResponse();
   }
@@ -148,8 +178,40 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
         hasEntry("resourceVersion", String.valueOf(resourceVersion - 2)));
   }
 
+  @Test
+  public void watchRequests_allowBookmarks() {
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(0), hasEntry("allowWatchBookmarks", "true"));
+  }
+
+  @Test
+  public void receivedBookmarks_areNotSentToListeners() {
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, empty());
+  }
+
+  @Test
+  public void afterBookmark_nextRequestSendsBookmarkResourceVersion() {
+    V1ObjectMeta bookmark =
+        new V1ObjectMeta().resourceVersion(Integer.toString(NEXT_RESOURCE_VERSION));
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData(bookmark)));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", Integer.Integer.toString(NEXT_RESOURCE_VERSION)));
+  }
+
   @Test
   public void afterHttpGoneError_nextRequestSendsIncludedResourceVersion() {
+    Assume.assumeFalse(isRelistSupported());
     StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
     scheduleDeleteResponse(createObjectWithMetaData());
 
@@ -160,6 +222,55 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
         hasEntry("resourceVersion", Integer.toString(NEXT_RESOURCE_VERSION)));
   }
 
+  @Test
+  public void whenRelistSupported_afterHttpGoneError_nextRequestSendsListResourceVersion() {
+    Assume.assumeTrue(isRelistSupported());
+    StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "1"));
+  }
+
+  @Test
+  public void whenRelistSupported_afterHttpGoneError_sendAddEventsForNewObjects() {
+    Assume.assumeTrue(isRelistSupported());
+    Object object = createObjectWithMetaData();
+    testSupport.defineResources(object);
+    StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object)));
+  }
+
+  @Test
+  public void whenRelistSupported_afterHttpGoneError_sendDeleteEventsForMissingObjects() {
+    Assume.assumeTrue(isRelistSupported());
+    Object object = createObjectWithMetaData();
+    cacheLastKnownState(object);
+    StubWatchFactory.addCallResponses(
+        createAddResponse(object), createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object), deleteEvent(object)));
+  }
+
+  @Test
+  public void whenRelistSupported_afterHttpGoneError_ignoreUnchangedObjects() {
+    Assume.assumeTrue(isRelistSupported());
+    Object object = createObjectWithMetaData();
+    testSupport.defineResources(object);
+    StubWatchFactory.addCallResponses(
+        createAddResponse(object), createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object)));
+  }
+
   @Test
   public void afterHttpGoneErrorWithoutResourceVersion_nextRequestSendsResourceVersionZero() {
     StubWatchFactory.addCallResponses(createHttpGoneErrorWithoutResourceVersionResponse());
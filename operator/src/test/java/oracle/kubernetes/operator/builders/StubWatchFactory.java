@@ -115,6 +115,8 @@ public class StubWatchFactory implements WatchBuilder.WatchFactory {
       result.put("resourceVersion", callParams.getResourceVersion());
     if (callParams.getLabelSelector() != null)
       result.put("labelSelector", callParams.getLabelSelector());
+    if (callParams.getAllowWatchBookmarks() != null)
+      result.put("allowWatchBookmarks", callParams.getAllowWatchBookmarks().toString());
 
     return result;
   }
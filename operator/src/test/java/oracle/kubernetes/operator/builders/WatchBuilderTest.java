@@ -63,6 +63,9 @@ public class WatchBuilderTest extends HttpUserAgentTest {
           + "/domains";
   private static final String SERVICE_RESOURCE = "/api/v1/namespaces/" + NAMESPACE + "/services";
   private static final String POD_RESOURCE = "/api/v1/namespaces/" + NAMESPACE + "/pods";
+  private static final String ALL_PODS_RESOURCE = "/api/v1/pods";
+  private static final String ALL_DOMAINS_RESOURCE =
+      "/apis/weblogic.oracle/" + KubernetesConstants.DOMAIN_VERSION + "/domains";
   private static final String EOL = "\n";
   private static final int INITIAL_RESOURCE_VERSION = 123;
   private static final JsonServletAction NO_RESPONSES = new JsonServletAction();
@@ -218,6 +221,42 @@ public class WatchBuilderTest extends HttpUserAgentTest {
     assertThat(podWatch.hasNext(), is(false));
   }
 
+  @Test
+  public void whenPodWatchForAllNamespacesSpecifiesParameters_verifyAndReturnResponse()
+      throws Exception {
+    V1Pod pod =
+        new V1Pod().apiVersion(API_VERSION).kind("Pod").metadata(createMetaData("pod5", NAMESPACE));
+    defineHttpResponse(
+        ALL_PODS_RESOURCE,
+        withResponses(createAddedResponse(pod))
+            .andValidations(
+                parameter("labelSelector")
+                    .withValue(DOMAINUID_LABEL + "," + CREATEDBYOPERATOR_LABEL),
+                parameter("watch").withValue("true")));
+
+    WatchI<V1Pod> podWatch =
+        new WatchBuilder()
+            .withLabelSelectors(DOMAINUID_LABEL, CREATEDBYOPERATOR_LABEL)
+            .createPodWatchForAllNamespaces();
+
+    assertThat(podWatch, contains(addEvent(pod)));
+  }
+
+  @Test
+  public void whenDomainWatchForAllNamespacesReceivesAddResponse_returnItFromIterator()
+      throws Exception {
+    Domain domain =
+        new Domain()
+            .withApiVersion(API_VERSION)
+            .withKind("Domain")
+            .withMetadata(createMetaData("domain2", NAMESPACE));
+    defineHttpResponse(ALL_DOMAINS_RESOURCE, withResponses(createAddedResponse(domain)));
+
+    WatchI<Domain> domainWatch = new WatchBuilder().createDomainWatchForAllNamespaces();
+
+    assertThat(domainWatch, contains(addEvent(domain)));
+  }
+
   private void defineHttpResponse(String resourceName, JsonServletAction... responses) {
     defineResource(resourceName, new JsonServlet(responses));
   }
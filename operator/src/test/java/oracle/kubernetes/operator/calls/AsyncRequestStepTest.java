@@ -15,6 +15,7 @@ import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.ApiException;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.metrics.LatencyHistogram;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -123,6 +124,25 @@ public class AsyncRequestStepTest {
     assertTrue(callFactory.invokedWith(requestParams));
   }
 
+  @Test
+  public void afterSuccessfulCallback_requestDurationRecordedForVerb() {
+    long count = getTestCallDurations().getCount();
+
+    callFactory.sendSuccessfulCallback(17);
+
+    assertThat(getTestCallDurations().getCount(), equalTo(count + 1));
+  }
+
+  private LatencyHistogram getTestCallDurations() {
+    return AsyncRequestStep.REQUEST_DURATIONS.get("testcall");
+  }
+
+  @Test
+  public void verbOfCall_isStartOfNameBeforeResourceKind() {
+    assertThat(AsyncRequestStep.getVerb("listPod"), equalTo("list"));
+    assertThat(AsyncRequestStep.getVerb("replaceDomainStatus"), equalTo("replace"));
+  }
+
   // todo tests
   // can new request clear timeout action?
   // what is accessContinue?
@@ -0,0 +1,146 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.ApiCallback;
+import io.kubernetes.client.ApiException;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class RequestCoalescerTest {
+  private static final String NS = "ns";
+  private static final String KEY = "readPod/ns/pod";
+  private static final Map<String, List<String>> NO_HEADERS = Collections.emptyMap();
+
+  private final RequestCoalescer coalescer = new RequestCoalescer(result -> "copy of " + result);
+  private final CallbackStub leader = new CallbackStub();
+  private final CallbackStub follower = new CallbackStub();
+
+  @Test
+  public void whenNoReadInProgress_startNewRead() {
+    assertThat(coalescer.joinOrStart(NS, KEY, leader), notNullValue());
+  }
+
+  @Test
+  public void whenIdenticalReadInProgress_joinIt() {
+    coalescer.joinOrStart(NS, KEY, leader);
+
+    assertThat(coalescer.joinOrStart(NS, KEY, follower), nullValue());
+    assertThat(coalescer.getCoalescedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenDifferentReadInProgress_startNewRead() {
+    coalescer.joinOrStart(NS, KEY, leader);
+
+    assertThat(coalescer.joinOrStart(NS, "readPod/ns/other", follower), notNullValue());
+  }
+
+  @Test
+  public void whenWriteCompletedSinceReadStarted_startNewRead() {
+    coalescer.joinOrStart(NS, KEY, leader);
+    coalescer.recordWrite(NS);
+
+    assertThat(coalescer.joinOrStart(NS, KEY, follower), notNullValue());
+    assertThat(coalescer.getCoalescedCount(), equalTo(0L));
+  }
+
+  @Test
+  public void whenWriteCompletedInOtherNamespace_joinReadInProgress() {
+    coalescer.joinOrStart(NS, KEY, leader);
+    coalescer.recordWrite("other");
+
+    assertThat(coalescer.joinOrStart(NS, KEY, follower), nullValue());
+  }
+
+  @Test
+  public void whenReadStartedBeforeWriteCompletes_laterReadersJoinNewRead() {
+    ApiCallback<String> staleFlight = coalescer.joinOrStart(NS, KEY, leader);
+    coalescer.recordWrite(NS);
+    ApiCallback<String> flight = coalescer.joinOrStart(NS, KEY, new CallbackStub());
+    staleFlight.onSuccess("old pod", 200, NO_HEADERS);
+
+    coalescer.joinOrStart(NS, KEY, follower);
+    flight.onSuccess("pod", 200, NO_HEADERS);
+
+    assertThat(follower.result, equalTo("copy of pod"));
+  }
+
+  @Test
+  public void whenReadSucceeds_passResultToAllReaders() {
+    ApiCallback<String> flight = coalescer.joinOrStart(NS, KEY, leader);
+    coalescer.joinOrStart(NS, KEY, follower);
+
+    flight.onSuccess("pod", 200, NO_HEADERS);
+
+    assertThat(leader.result, equalTo("pod"));
+    assertThat(follower.result, equalTo("copy of pod"));
+  }
+
+  @Test
+  public void whenReadFails_passFailureToAllReaders() {
+    ApiCallback<String> flight = coalescer.joinOrStart(NS, KEY, leader);
+    coalescer.joinOrStart(NS, KEY, follower);
+
+    flight.onFailure(new ApiException("not found"), 404, NO_HEADERS);
+
+    assertThat(leader.statusCode, equalTo(404));
+    assertThat(follower.statusCode, equalTo(404));
+  }
+
+  @Test
+  public void afterReadCompletes_nextReadStartsNewCall() {
+    ApiCallback<String> flight = coalescer.joinOrStart(NS, KEY, leader);
+    flight.onSuccess("pod", 200, NO_HEADERS);
+
+    assertThat(coalescer.joinOrStart(NS, KEY, follower), notNullValue());
+    assertThat(coalescer.getFlightCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenReadCompletesTwice_ignoreSecondResponse() {
+    ApiCallback<String> flight = coalescer.joinOrStart(NS, KEY, leader);
+
+    flight.onSuccess("pod", 200, NO_HEADERS);
+    flight.onFailure(new ApiException("cancelled"), 0, NO_HEADERS);
+
+    assertThat(leader.callCount, equalTo(1));
+  }
+
+  static class CallbackStub implements ApiCallback<String> {
+    private String result;
+    private int statusCode;
+    private int callCount;
+
+    @Override
+    public void onFailure(
+        ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      this.statusCode = statusCode;
+      callCount++;
+    }
+
+    @Override
+    public void onSuccess(String result, int statusCode, Map<String, List<String>> headers) {
+      this.result = result;
+      this.statusCode = statusCode;
+      callCount++;
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+    }
+  }
+}
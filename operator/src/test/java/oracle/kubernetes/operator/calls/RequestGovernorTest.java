@@ -0,0 +1,208 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.calls.RequestGovernor.ADMITTED;
+import static oracle.kubernetes.operator.calls.RequestGovernor.QUEUED;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class RequestGovernorTest {
+  private static final String CALL = "listPod";
+  private static final Runnable NO_LISTENER = () -> { };
+
+  private long nanoTime;
+  private CallBuilderTuning tuning = createTuning(10, 10, 0, "");
+  private final RequestGovernor governor = new RequestGovernor(() -> tuning, () -> nanoTime);
+  private final List<Memento> mementos = new ArrayList<>();
+  private int wakeUps;
+
+  private static CallBuilderTuning createTuning(
+      int rateLimit, int rateBurst, int maxInFlight, String budgets) {
+    return new CallBuilderTuning(10, 5, 30, rateLimit, rateBurst, maxInFlight, budgets);
+  }
+
+  private static Map<String, List<String>> retryAfter(String value) {
+    return Collections.singletonMap("retry-after", Collections.singletonList(value));
+  }
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void advanceMillis(long millis) {
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  private void admitCalls(String call, int count) {
+    for (int i = 0; i < count; i++) {
+      governor.tryAdmit(call, NO_LISTENER);
+    }
+  }
+
+  @Test
+  public void whenWithinRateLimit_admitCall() {
+    assertThat(governor.tryAdmit(CALL, NO_LISTENER), equalTo(ADMITTED));
+    assertThat(governor.getInFlight(), equalTo(1));
+  }
+
+  @Test
+  public void whenRateLimitExhausted_reportTimeToWait() {
+    admitCalls(CALL, 10);
+
+    assertThat(
+        governor.tryAdmit(CALL, NO_LISTENER), equalTo(TimeUnit.MILLISECONDS.toNanos(100)));
+    assertThat(governor.getDelayedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void afterWaiting_admitDelayedCall() {
+    admitCalls(CALL, 10);
+
+    advanceMillis(100);
+
+    assertThat(governor.tryAdmit(CALL, NO_LISTENER), equalTo(ADMITTED));
+  }
+
+  @Test
+  public void whenMaxInFlightReached_queueCall() {
+    tuning = createTuning(0, 0, 2, "");
+    admitCalls(CALL, 2);
+
+    assertThat(governor.tryAdmit(CALL, () -> wakeUps++), equalTo(QUEUED));
+    assertThat(governor.getQueueLength(), equalTo(1));
+  }
+
+  @Test
+  public void whenCallReleased_wakeQueuedCall() {
+    tuning = createTuning(0, 0, 2, "");
+    admitCalls(CALL, 2);
+    governor.tryAdmit(CALL, () -> wakeUps++);
+
+    governor.release();
+
+    assertThat(wakeUps, equalTo(1));
+    assertThat(governor.getQueueLength(), equalTo(0));
+    assertThat(governor.tryAdmit(CALL, NO_LISTENER), equalTo(ADMITTED));
+  }
+
+  @Test
+  public void whenQueuedCallWoken_recordQueueWait() {
+    tuning = createTuning(0, 0, 1, "");
+    admitCalls(CALL, 1);
+    governor.tryAdmit(CALL, () -> wakeUps++);
+
+    advanceMillis(250);
+    governor.release();
+
+    assertThat(governor.getTotalWaitTime(TimeUnit.MILLISECONDS), equalTo(250L));
+  }
+
+  @Test
+  public void whenVerbBudgetExhausted_delayOnlyCallsWithThatVerb() {
+    tuning = createTuning(0, 0, 0, "list=2");
+    admitCalls("listPod", 2);
+
+    assertThat(governor.tryAdmit("listService", NO_LISTENER), greaterThan(0L));
+    assertThat(governor.tryAdmit("readPod", NO_LISTENER), equalTo(ADMITTED));
+  }
+
+  @Test
+  public void whenResourceBudgetExhausted_delayOnlyCallsForThatResource() {
+    tuning = createTuning(0, 0, 0, "Pod=2");
+    admitCalls("listPod", 2);
+
+    assertThat(governor.tryAdmit("readPod", NO_LISTENER), greaterThan(0L));
+    assertThat(governor.tryAdmit("listService", NO_LISTENER), equalTo(ADMITTED));
+  }
+
+  @Test
+  public void whenCallBudgetExhausted_delayOnlyThatCall() {
+    tuning = createTuning(0, 0, 0, "listPod=1");
+    admitCalls("listPod", 1);
+
+    assertThat(governor.tryAdmit("listPod", NO_LISTENER), greaterThan(0L));
+    assertThat(governor.tryAdmit("readPod", NO_LISTENER), equalTo(ADMITTED));
+  }
+
+  @Test
+  public void ignoreInvalidBudgets() {
+    tuning = createTuning(0, 0, 0, "list, Pod=fast, =3, readPod=1");
+    admitCalls("readPod", 1);
+
+    assertThat(governor.tryAdmit("listPod", NO_LISTENER), equalTo(ADMITTED));
+    assertThat(governor.tryAdmit("readPod", NO_LISTENER), greaterThan(0L));
+  }
+
+  @Test
+  public void whenThrottledWithRetryAfter_pauseAllCalls() {
+    governor.recordFailure(CALL, 429, retryAfter("3"));
+
+    assertThat(
+        governor.tryAdmit("readService", NO_LISTENER), equalTo(TimeUnit.SECONDS.toNanos(3)));
+    assertThat(governor.getThrottledCount(), equalTo(1L));
+  }
+
+  @Test
+  public void afterRetryAfterPasses_admitCalls() {
+    governor.recordFailure(CALL, 503, retryAfter("3"));
+
+    advanceMillis(3000);
+
+    assertThat(governor.tryAdmit(CALL, NO_LISTENER), equalTo(ADMITTED));
+  }
+
+  @Test
+  public void whenRetryAfterIsDate_pauseBriefly() {
+    governor.recordFailure(CALL, 429, retryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+
+    assertThat(governor.tryAdmit(CALL, NO_LISTENER), equalTo(TimeUnit.SECONDS.toNanos(1)));
+  }
+
+  @Test
+  public void whenOtherFailure_doNotPause() {
+    governor.recordFailure(CALL, 500, retryAfter("3"));
+
+    assertThat(governor.tryAdmit(CALL, NO_LISTENER), equalTo(ADMITTED));
+    assertThat(governor.getThrottledCount(), equalTo(0L));
+  }
+
+  @Test
+  public void whenTuningNotAvailable_admitAllCalls() {
+    tuning = null;
+
+    admitCalls(CALL, 100);
+
+    assertThat(governor.getAdmittedCount(), equalTo(100L));
+  }
+
+  @Test
+  public void whenTuningChanges_applyNewLimits() {
+    admitCalls(CALL, 10);
+
+    tuning = createTuning(0, 0, 0, "");
+
+    assertThat(governor.tryAdmit(CALL, NO_LISTENER), equalTo(ADMITTED));
+  }
+}
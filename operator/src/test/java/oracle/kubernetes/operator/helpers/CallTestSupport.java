@@ -271,7 +271,7 @@ class CallTestSupport {
      *
      * @param status the failure status
      */
-    void failingWithStatus(int status) {
+    public void failingWithStatus(int status) {
       this.status = status;
     }
 
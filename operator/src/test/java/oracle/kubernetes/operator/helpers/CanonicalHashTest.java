@@ -0,0 +1,69 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1Container;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodSpec;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class CanonicalHashTest {
+
+  private V1Pod createPod() {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name("pod1").namespace("ns1"))
+        .spec(new V1PodSpec().addContainersItem(new V1Container().name("c1").image("image:1")));
+  }
+
+  @Test
+  public void hash_hasLengthOfSha256HexString() {
+    assertThat(CanonicalHash.sha256Hex(createPod()).length(), equalTo(64));
+  }
+
+  @Test
+  public void whenObjectsHaveSameContent_hashesAreEqual() {
+    assertThat(CanonicalHash.sha256Hex(createPod()), equalTo(CanonicalHash.sha256Hex(createPod())));
+  }
+
+  @Test
+  public void whenMapsHaveSameEntriesInDifferentOrder_hashesAreEqual() {
+    V1Pod pod1 = createPod();
+    pod1.getMetadata().putLabelsItem("a", "1").putLabelsItem("b", "2");
+    V1Pod pod2 = createPod();
+    pod2.getMetadata().putLabelsItem("b", "2").putLabelsItem("a", "1");
+
+    assertThat(CanonicalHash.sha256Hex(pod1), equalTo(CanonicalHash.sha256Hex(pod2)));
+  }
+
+  @Test
+  public void whenNestedValueDiffers_hashesDiffer() {
+    V1Pod pod = createPod();
+    pod.getSpec().getContainers().get(0).image("image:2");
+
+    assertThat(CanonicalHash.sha256Hex(pod), not(equalTo(CanonicalHash.sha256Hex(createPod()))));
+  }
+
+  @Test
+  public void whenListOrderDiffers_hashesDiffer() {
+    V1Pod pod1 = createPod();
+    pod1.getSpec().addContainersItem(new V1Container().name("c2"));
+    V1Pod pod2 = createPod();
+    pod2.getSpec().getContainers().add(0, new V1Container().name("c2"));
+
+    assertThat(CanonicalHash.sha256Hex(pod1), not(equalTo(CanonicalHash.sha256Hex(pod2))));
+  }
+
+  @Test
+  public void whenValueMovesBetweenFields_hashesDiffer() {
+    V1ObjectMeta meta1 = new V1ObjectMeta().name("x");
+    V1ObjectMeta meta2 = new V1ObjectMeta().namespace("x");
+
+    assertThat(CanonicalHash.sha256Hex(meta1), not(equalTo(CanonicalHash.sha256Hex(meta2))));
+  }
+}
@@ -12,6 +12,7 @@ import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1beta1CustomResourceDefinition;
@@ -32,6 +33,9 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.VersionConstants.OPERATOR_V1;
 import static oracle.kubernetes.operator.logging.MessageKeys.CREATING_CRD;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -83,6 +87,7 @@ public class CrdHelperTest {
             .collectLogMessages(logRecords, CREATING_CRD)
             .withLogLevel(Level.FINE));
     mementos.add(testSupport.installRequestStepFactory());
+    mementos.add(StaticStubSupport.preserve(CrdHelper.class, "statusSubresourceEnabled"));
   }
 
   @After
@@ -134,6 +139,40 @@ public class CrdHelperTest {
     testSupport.runSteps(CrdHelper.createDomainCrdStep(KUBERNETES_VERSION, null));
   }
 
+  @Test
+  public void whenMatchingCrdExists_recordWhetherStatusSubresourceEnabled() {
+    expectReadCrd().returning(defaultCrd);
+
+    testSupport.runSteps(CrdHelper.createDomainCrdStep(KUBERNETES_VERSION, null));
+
+    assertThat(CrdHelper.isStatusSubresourceEnabled(), equalTo(false));
+  }
+
+  @Test
+  public void whenStatusPatternNotSupported_crdHasNoStatusSubresource() {
+    assertThat(defaultCrd.getSpec().getSubresources().getStatus(), nullValue());
+  }
+
+  @Test
+  public void whenStatusPatternSupported_crdHasStatusSubresource() {
+    V1beta1CustomResourceDefinition crd =
+        CrdHelper.CrdContext.createModel(new KubernetesVersion(1, 13));
+
+    assertThat(crd.getSpec().getSubresources().getStatus(), notNullValue());
+  }
+
+  @Test
+  public void whenCrdWithStatusSubresourceCreated_statusSubresourceEnabled() {
+    KubernetesVersion version = new KubernetesVersion(1, 13);
+    V1beta1CustomResourceDefinition crd = CrdHelper.CrdContext.createModel(version);
+    expectReadCrd().failingWithStatus(HttpURLConnection.HTTP_NOT_FOUND);
+    expectSuccessfulCreateCrd(crd);
+
+    testSupport.runSteps(CrdHelper.createDomainCrdStep(version, null));
+
+    assertThat(CrdHelper.isStatusSubresourceEnabled(), equalTo(true));
+  }
+
   @Test
   public void whenExistingCrdHasOldVersion_replaceIt() {
     expectReadCrd().returning(defineCrd("v1", OPERATOR_V1));
@@ -176,6 +215,46 @@ public class CrdHelperTest {
     assertThat(logRecords, containsInfo(CREATING_CRD));
   }
 
+  @Test
+  public void whenExistingCrdLacksStatusSubresource_replaceIt() {
+    KubernetesVersion version = new KubernetesVersion(1, 13);
+    V1beta1CustomResourceDefinition crd = CrdHelper.CrdContext.createModel(version);
+    expectReadCrd().returning(defaultCrd);
+    expectSuccessfulReplaceCrd(crd);
+
+    testSupport.runSteps(CrdHelper.createDomainCrdStep(version, null));
+
+    assertThat(CrdHelper.isStatusSubresourceEnabled(), equalTo(true));
+  }
+
+  @Test
+  public void whenExistingCrdHasFutureVersionButNoStatusSubresource_addIt() {
+    KubernetesVersion version = new KubernetesVersion(1, 13);
+    expectReadCrd().returning(defineCrdWithCurrentVersion("v500", "operator-v500"));
+
+    V1beta1CustomResourceDefinition replacement =
+        defineCrdWithCurrentVersion("v500", "operator-v500");
+    replacement
+        .getSpec()
+        .setSubresources(CrdHelper.CrdContext.createModel(version).getSpec().getSubresources());
+    expectSuccessfulReplaceCrd(replacement);
+
+    testSupport.runSteps(CrdHelper.createDomainCrdStep(version, null));
+
+    assertThat(CrdHelper.isStatusSubresourceEnabled(), equalTo(true));
+  }
+
+  private V1beta1CustomResourceDefinition defineCrdWithCurrentVersion(
+      String version, String operatorVersion) {
+    V1beta1CustomResourceDefinition crd = defineCrd(version, operatorVersion);
+    crd.getSpec()
+        .addVersionsItem(
+            new V1beta1CustomResourceDefinitionVersion()
+                .served(true)
+                .name(KubernetesConstants.DOMAIN_VERSION));
+    return crd;
+  }
+
   @Test
   public void whenReplaceFails_scheduleRetry() {
     testSupport.addRetryStrategy(retryStrategy);
@@ -230,7 +309,18 @@ public class CrdHelperTest {
     }
 
     private boolean matches(V1beta1CustomResourceDefinition actualBody) {
-      return hasExpectedVersion(actualBody) && hasSchemaVerification(actualBody);
+      return hasExpectedVersion(actualBody)
+          && hasSchemaVerification(actualBody)
+          && hasExpectedStatusSubresource(actualBody);
+    }
+
+    private boolean hasExpectedStatusSubresource(V1beta1CustomResourceDefinition actualBody) {
+      return hasStatusSubresource(expected) == hasStatusSubresource(actualBody);
+    }
+
+    private boolean hasStatusSubresource(V1beta1CustomResourceDefinition crd) {
+      return crd.getSpec().getSubresources() != null
+          && crd.getSpec().getSubresources().getStatus() != null;
     }
 
     private boolean hasExpectedVersion(V1beta1CustomResourceDefinition actualBody) {
@@ -5,8 +5,10 @@ package oracle.kubernetes.operator.helpers;
 
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1Service;
+import org.joda.time.DateTime;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
@@ -65,4 +67,21 @@ public class DomainPresenceInfoTest {
 
     assertThat(info.getServerPod("myserver"), sameInstance(pod));
   }
+
+  @Test
+  public void afterServerStatusPublished_lastKnownStatusMatchesIt() {
+    info.updatePublishedServerStatus("myserver", "ADMIN", DateTime.now());
+
+    assertThat(info.getLastKnownServerStatus("myserver").getStatus(), equalTo("ADMIN"));
+  }
+
+  @Test
+  public void whenEarlierPublishedStatusArrivesLate_ignoreIt() {
+    DateTime now = DateTime.now();
+    info.updatePublishedServerStatus("myserver", "RUNNING", now);
+    info.updatePublishedServerStatus("myserver", "ADMIN", now.minusSeconds(30));
+
+    assertThat(info.getPublishedServerStatus("myserver").getStatus(), equalTo("RUNNING"));
+    assertThat(info.getLastKnownServerStatus("myserver").getStatus(), equalTo("RUNNING"));
+  }
 }
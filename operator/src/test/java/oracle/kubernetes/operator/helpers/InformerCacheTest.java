@@ -0,0 +1,158 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Service;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class InformerCacheTest {
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final DateTime CREATION_TIME = DateTime.now();
+
+  private Memento memento;
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    memento = StaticStubSupport.install(InformerCache.class, "NAMESPACES", new ConcurrentHashMap<>());
+  }
+
+  @After
+  public void tearDown() {
+    memento.revert();
+  }
+
+  @Test
+  public void whenNamespaceNotListed_populateReturnsFalse() {
+    assertThat(InformerCache.populate(new DomainPresenceInfo(NS, UID)), is(false));
+  }
+
+  @Test
+  public void whenOnlyPodsListed_namespaceIsNotSynchronized() {
+    InformerCache.replacePods(NS, Collections.singletonList(createPod("admin", "1")));
+
+    assertThat(InformerCache.isSynchronized(NS), is(false));
+  }
+
+  @Test
+  public void afterPodsAndServicesListed_populateDomainPresence() {
+    V1Pod pod = createPod("admin", "1");
+    V1Service service = createServerService("admin", "1");
+    InformerCache.replacePods(NS, Collections.singletonList(pod));
+    InformerCache.replaceServices(NS, Collections.singletonList(service));
+
+    DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+
+    assertThat(InformerCache.populate(info), is(true));
+    assertThat(info.getServerPod("admin"), sameInstance(pod));
+    assertThat(info.getServerService("admin"), sameInstance(service));
+  }
+
+  @Test
+  public void afterPodAddedEvent_podIsCached() {
+    V1Pod pod = createPod("ms1", "2");
+    InformerCache.onPodEvent("ADDED", pod);
+
+    assertThat(InformerCache.getServerPod(NS, UID, "ms1"), sameInstance(pod));
+  }
+
+  @Test
+  public void whenModifiedEventIsOlderThanCachedPod_ignoreIt() {
+    V1Pod current = createPod("ms1", "5");
+    InformerCache.onPodEvent("ADDED", current);
+    InformerCache.onPodEvent("MODIFIED", createPod("ms1", "3"));
+
+    assertThat(InformerCache.getServerPod(NS, UID, "ms1"), sameInstance(current));
+  }
+
+  @Test
+  public void afterPodDeletedEvent_podIsRemoved() {
+    InformerCache.onPodEvent("ADDED", createPod("ms1", "2"));
+    InformerCache.onPodEvent("DELETED", createPod("ms1", "3"));
+
+    assertThat(InformerCache.getServerPod(NS, UID, "ms1"), nullValue());
+  }
+
+  @Test
+  public void whenDeletedEventIsOlderThanCachedPod_keepPod() {
+    InformerCache.onPodEvent("ADDED", createPod("ms1", "4"));
+    InformerCache.onPodEvent("DELETED", createPod("ms1", "2"));
+
+    assertThat(InformerCache.getServerPod(NS, UID, "ms1"), notNullValue());
+  }
+
+  @Test
+  public void whenRelistedPodIsOlderThanCachedPod_keepCachedPod() {
+    V1Pod current = createPod("ms1", "5");
+    InformerCache.onPodEvent("MODIFIED", current);
+    InformerCache.replacePods(NS, Collections.singletonList(createPod("ms1", "3")));
+
+    assertThat(InformerCache.getServerPod(NS, UID, "ms1"), sameInstance(current));
+  }
+
+  @Test
+  public void whenRelistedPodIsNewerThanCachedPod_replaceCachedPod() {
+    InformerCache.onPodEvent("MODIFIED", createPod("ms1", "3"));
+    V1Pod listed = createPod("ms1", "5");
+    InformerCache.replacePods(NS, Collections.singletonList(listed));
+
+    assertThat(InformerCache.getServerPod(NS, UID, "ms1"), sameInstance(listed));
+  }
+
+  @Test
+  public void whenPodNotRelisted_removeCachedPod() {
+    InformerCache.onPodEvent("ADDED", createPod("ms1", "3"));
+    InformerCache.replacePods(NS, Collections.emptyList());
+
+    assertThat(InformerCache.getServerPod(NS, UID, "ms1"), nullValue());
+  }
+
+  @Test
+  public void afterNamespaceRemoved_namespaceIsNotSynchronized() {
+    InformerCache.replacePods(NS, Collections.emptyList());
+    InformerCache.replaceServices(NS, Collections.emptyList());
+
+    InformerCache.removeNamespace(NS);
+
+    assertThat(InformerCache.isSynchronized(NS), is(false));
+  }
+
+  private V1Pod createPod(String serverName, String resourceVersion) {
+    return new V1Pod().metadata(createMetadata(serverName, resourceVersion).name(UID + "-" + serverName));
+  }
+
+  private V1Service createServerService(String serverName, String resourceVersion) {
+    return new V1Service()
+        .metadata(createMetadata(serverName, resourceVersion).name(LegalNames.toServerServiceName(UID, serverName)));
+  }
+
+  private V1ObjectMeta createMetadata(String serverName, String resourceVersion) {
+    return new V1ObjectMeta()
+        .namespace(NS)
+        .creationTimestamp(CREATION_TIME)
+        .resourceVersion(resourceVersion)
+        .putLabelsItem(DOMAINUID_LABEL, UID)
+        .putLabelsItem(SERVERNAME_LABEL, serverName)
+        .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true");
+  }
+}
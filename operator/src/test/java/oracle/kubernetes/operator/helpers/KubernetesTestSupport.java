@@ -23,6 +23,7 @@ import javax.annotation.Nonnull;
 import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
 import javax.json.JsonPatch;
 import javax.json.JsonStructure;
 import javax.json.JsonValue;
@@ -592,13 +593,24 @@ public class KubernetesTestSupport extends FiberTestSupport {
       if (!data.containsKey(name)) throw new NotFoundException(getResourceName(), name, namespace);
 
       JsonPatch patch = Json.createPatch(fromV1Patch(body));
-      JsonStructure result = patch.apply(toJsonStructure(data.get(name)));
+      JsonStructure result = applyPatch(patch, data.get(name));
       T resource = fromJsonStructure(result);
       data.put(name, resource);
       onUpdateActions.forEach(a -> a.accept(resource));
       return resource;
     }
 
+    // A patch which cannot be applied, such as one whose test operation fails, is rejected
+    // as the API server would reject it.
+    private JsonStructure applyPatch(JsonPatch patch, T resource) {
+      try {
+        return patch.apply(toJsonStructure(resource));
+      } catch (JsonException e) {
+        throw new HttpErrorException(
+            new ApiException(CallBuilder.UNPROCESSABLE_ENTITY, e.getMessage()));
+      }
+    }
+
     @SuppressWarnings("unchecked")
     T fromJsonStructure(JsonStructure jsonStructure) {
       final GsonBuilder builder =
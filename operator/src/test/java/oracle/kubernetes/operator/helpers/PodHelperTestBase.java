@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -78,6 +79,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_CONFIG_MAP_N
 import static oracle.kubernetes.operator.KubernetesConstants.IFNOTPRESENT_IMAGEPULLPOLICY;
 import static oracle.kubernetes.operator.LabelConstants.RESOURCE_VERSION_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.HASH_ANNOTATION;
 import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
 import static oracle.kubernetes.operator.helpers.DomainStatusMatcher.hasStatus;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
@@ -194,6 +196,7 @@ public abstract class PodHelperTestBase {
     mementos.add(testSupport.install());
     mementos.add(TuningParametersStub.install());
     mementos.add(UnitTestHash.install());
+    mementos.add(UnitTestHash.installLegacy());
     mementos.add(InMemoryCertificates.install());
 
     WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(DOMAIN_NAME);
@@ -284,8 +287,8 @@ public abstract class PodHelperTestBase {
   }
 
   @Test
-  public void whenPodCreated_hasSha256HashAnnotationForRecipe() {
-    assertThat(getCreatedPod().getMetadata().getAnnotations(), hasKey(SHA256_ANNOTATION));
+  public void whenPodCreated_hasHashAnnotationForRecipe() {
+    assertThat(getCreatedPod().getMetadata().getAnnotations(), hasKey(HASH_ANNOTATION));
   }
 
   @Test
@@ -644,6 +647,34 @@ public abstract class PodHelperTestBase {
     verifyPodReplaced();
   }
 
+  @Test
+  public void whenPodHasMatchingLegacyHash_addCurrentHash() {
+    misconfigurePod(this::useLegacyHashAnnotation);
+
+    V1Pod patchedPod = getPatchedPod();
+
+    assertThat(
+        patchedPod.getMetadata().getAnnotations().get(HASH_ANNOTATION),
+        equalTo(AnnotationHelper.getHash(createPodModel())));
+  }
+
+  @Test
+  public void whenPodHasMismatchedLegacyHash_replacePod() {
+    misconfigurePod(
+        pod -> {
+          useLegacyHashAnnotation(pod);
+          pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, "nonmatching");
+        });
+
+    verifyPodReplaced();
+  }
+
+  // Makes the pod look like one created by an operator version which hashed the recipe's YAML
+  private void useLegacyHashAnnotation(V1Pod pod) {
+    Map<String, String> annotations = pod.getMetadata().getAnnotations();
+    annotations.put(SHA256_ANNOTATION, annotations.remove(HASH_ANNOTATION));
+  }
+
   void initializeExistingPod() {
     initializeExistingPod(createPodModel());
   }
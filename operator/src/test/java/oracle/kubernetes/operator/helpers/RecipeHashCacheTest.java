@@ -0,0 +1,116 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class RecipeHashCacheTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+  private static final String POD_NAME = "uid1-ms1";
+
+  private final RecipeHashCache cache = new RecipeHashCache();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+  private final AtomicInteger computeCount = new AtomicInteger();
+  private final Supplier<String> hashSupplier = () -> "hash" + computeCount.incrementAndGet();
+
+  @After
+  public void tearDown() {
+    RecipeHashCache.forgetDomain(NS, UID);
+  }
+
+  private Domain createDomain(String metadataUid, Long generation) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().namespace(NS).uid(metadataUid).generation(generation));
+  }
+
+  private List<Object> createInputs(Long generation, Object... inputs) {
+    return RecipeHashCache.createInputs(createDomain("abcd", generation), inputs);
+  }
+
+  private String getHash(List<Object> inputs) {
+    return cache.getHash(info, POD_NAME, inputs, hashSupplier);
+  }
+
+  @Test
+  public void whenDomainHasNoGeneration_inputsAreNull() {
+    assertThat(createInputs(null, "ms1"), nullValue());
+  }
+
+  @Test
+  public void whenDomainHasGeneration_inputsIncludeIt() {
+    assertThat(createInputs(3L, "ms1"), contains("abcd", 3L, "ms1"));
+  }
+
+  @Test
+  public void whenInputsAreNull_alwaysComputeHash() {
+    getHash(null);
+
+    assertThat(getHash(null), equalTo("hash2"));
+    assertThat(cache.getMissCount(), equalTo(0L));
+  }
+
+  @Test
+  public void whenInputsUnchanged_reuseHash() {
+    getHash(createInputs(1L, "ms1"));
+
+    assertThat(getHash(createInputs(1L, "ms1")), equalTo("hash1"));
+    assertThat(cache.getHitCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenGenerationChanges_recomputeHash() {
+    getHash(createInputs(1L, "ms1"));
+
+    assertThat(getHash(createInputs(2L, "ms1")), equalTo("hash2"));
+    assertThat(cache.getMissCount(), equalTo(2L));
+  }
+
+  @Test
+  public void whenOtherInputChanges_recomputeHash() {
+    getHash(createInputs(1L, "ms1"));
+
+    assertThat(getHash(createInputs(1L, "ms2")), equalTo("hash2"));
+  }
+
+  @Test
+  public void whenDomainRecreatedWithSameGeneration_recomputeHash() {
+    getHash(RecipeHashCache.createInputs(createDomain("abcd", 1L)));
+
+    assertThat(
+        getHash(RecipeHashCache.createInputs(createDomain("efgh", 1L))), equalTo("hash2"));
+  }
+
+  @Test
+  public void afterResourceRemoved_recomputeHash() {
+    getHash(createInputs(1L, "ms1"));
+
+    cache.remove(info, POD_NAME);
+
+    assertThat(getHash(createInputs(1L, "ms1")), equalTo("hash2"));
+  }
+
+  @Test
+  public void afterDomainForgotten_recomputeHash() {
+    RecipeHashCache.PODS.getHash(info, POD_NAME, createInputs(1L, "ms1"), hashSupplier);
+
+    RecipeHashCache.forgetDomain(NS, UID);
+
+    assertThat(
+        RecipeHashCache.PODS.getHash(info, POD_NAME, createInputs(1L, "ms1"), hashSupplier),
+        equalTo("hash2"));
+  }
+}
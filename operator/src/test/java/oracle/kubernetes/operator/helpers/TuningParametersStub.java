@@ -43,7 +43,7 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L);
+    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L, 2, 2, 0L, 0, 0, 0);
   }
 
   @Override
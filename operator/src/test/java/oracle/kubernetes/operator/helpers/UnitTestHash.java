@@ -13,6 +13,11 @@ public class UnitTestHash implements Function<Object, String> {
     return StaticStubSupport.install(AnnotationHelper.class, "HASH_FUNCTION", new UnitTestHash());
   }
 
+  public static Memento installLegacy() throws NoSuchFieldException {
+    return StaticStubSupport.install(
+        AnnotationHelper.class, "LEGACY_HASH_FUNCTION", new UnitTestHash());
+  }
+
   @Override
   public String apply(Object object) {
     return Integer.toString(object.hashCode());
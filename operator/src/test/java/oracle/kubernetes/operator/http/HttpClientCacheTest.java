@@ -0,0 +1,225 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.AsyncInvoker;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.client.WebTarget;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import com.meterware.simplestub.Stub;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Secret;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class HttpClientCacheTest {
+  private static final String NS = "namespace";
+  private static final String SECRET_NAME = "weblogic-credentials";
+
+  private final ClientStub clientStub = Stub.createStub(ClientStub.class);
+  private final HttpClient client = new HttpClient(clientStub, "");
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(
+        StaticStubSupport.install(HttpClientCache.class, "CLIENTS", new ConcurrentHashMap<>()));
+    mementos.add(
+        StaticStubSupport.install(HttpClientCache.class, "GENERATIONS", new HashMap<>()));
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void afterClientCached_lookupReturnsIt() {
+    HttpClientCache.put(NS, SECRET_NAME, client, HttpClientCache.getGeneration(NS, SECRET_NAME));
+
+    assertThat(HttpClientCache.lookup(NS, SECRET_NAME), sameInstance(client));
+  }
+
+  @Test
+  public void whenSecretModified_discardCachedClient() {
+    HttpClientCache.put(NS, SECRET_NAME, client, HttpClientCache.getGeneration(NS, SECRET_NAME));
+
+    HttpClientCache.onSecretEvent("MODIFIED", createSecret(SECRET_NAME));
+
+    assertThat(HttpClientCache.lookup(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  public void whenSecretModified_closeDiscardedClient() {
+    HttpClientCache.put(NS, SECRET_NAME, client, HttpClientCache.getGeneration(NS, SECRET_NAME));
+
+    HttpClientCache.onSecretEvent("MODIFIED", createSecret(SECRET_NAME));
+
+    assertThat(clientStub.closed, is(true));
+  }
+
+  @Test
+  public void whenOtherSecretModified_keepCachedClient() {
+    HttpClientCache.put(NS, SECRET_NAME, client, HttpClientCache.getGeneration(NS, SECRET_NAME));
+
+    HttpClientCache.onSecretEvent("MODIFIED", createSecret("other-secret"));
+
+    assertThat(HttpClientCache.lookup(NS, SECRET_NAME), sameInstance(client));
+  }
+
+  @Test
+  public void whenSecretChangedWhileBeingRead_doNotCacheClient() {
+    long readGeneration = HttpClientCache.getGeneration(NS, SECRET_NAME);
+    HttpClientCache.onSecretEvent("MODIFIED", createSecret(SECRET_NAME));
+
+    HttpClientCache.put(NS, SECRET_NAME, client, readGeneration);
+
+    assertThat(HttpClientCache.lookup(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  public void whenOtherSecretChangedWhileBeingRead_cacheClient() {
+    long readGeneration = HttpClientCache.getGeneration(NS, SECRET_NAME);
+    HttpClientCache.onSecretEvent("MODIFIED", createSecret("other-secret"));
+
+    HttpClientCache.put(NS, SECRET_NAME, client, readGeneration);
+
+    assertThat(HttpClientCache.lookup(NS, SECRET_NAME), sameInstance(client));
+  }
+
+  @Test
+  public void whenNamespaceRemovedWhileBeingRead_doNotCacheClient() {
+    long readGeneration = HttpClientCache.getGeneration(NS, SECRET_NAME);
+    HttpClientCache.removeNamespace(NS);
+
+    HttpClientCache.put(NS, SECRET_NAME, client, readGeneration);
+
+    assertThat(HttpClientCache.lookup(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  public void afterNamespaceRemoved_closeCachedClient() {
+    HttpClientCache.put(NS, SECRET_NAME, client, HttpClientCache.getGeneration(NS, SECRET_NAME));
+
+    HttpClientCache.removeNamespace(NS);
+
+    assertThat(clientStub.closed, is(true));
+  }
+
+  @Test
+  public void afterNamespaceRemoved_discardCachedClient() {
+    HttpClientCache.put(NS, SECRET_NAME, client, HttpClientCache.getGeneration(NS, SECRET_NAME));
+
+    HttpClientCache.removeNamespace(NS);
+
+    assertThat(HttpClientCache.lookup(NS, SECRET_NAME), nullValue());
+  }
+
+  @Test
+  public void whenRequestInProgress_deferClosingDiscardedClient() {
+    HttpClientCache.put(NS, SECRET_NAME, client, HttpClientCache.getGeneration(NS, SECRET_NAME));
+    client.executePostUrlOnServiceClusterIPAsync("/request", "http://server", "{}");
+
+    HttpClientCache.onSecretEvent("MODIFIED", createSecret(SECRET_NAME));
+
+    assertThat(clientStub.closed, is(false));
+  }
+
+  @Test
+  public void afterRequestInProgressCompletes_closeDiscardedClient() {
+    HttpClientCache.put(NS, SECRET_NAME, client, HttpClientCache.getGeneration(NS, SECRET_NAME));
+    CompletableFuture<Result> result =
+        client.executePostUrlOnServiceClusterIPAsync("/request", "http://server", "{}");
+    HttpClientCache.onSecretEvent("MODIFIED", createSecret(SECRET_NAME));
+
+    clientStub.invoker.callback.failed(new ProcessingException("read timed out"));
+
+    assertThat(result.isCompletedExceptionally(), is(true));
+    assertThat(clientStub.closed, is(true));
+  }
+
+  private V1Secret createSecret(String name) {
+    return new V1Secret().metadata(new V1ObjectMeta().namespace(NS).name(name));
+  }
+
+  abstract static class ClientStub implements Client {
+    private final AsyncInvokerStub invoker = Stub.createStub(AsyncInvokerStub.class);
+    private boolean closed;
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+
+    @Override
+    public WebTarget target(String uri) {
+      return Stub.createStub(WebTargetStub.class, invoker);
+    }
+  }
+
+  abstract static class WebTargetStub implements WebTarget {
+    private final AsyncInvokerStub invoker;
+
+    WebTargetStub(AsyncInvokerStub invoker) {
+      this.invoker = invoker;
+    }
+
+    @Override
+    public Invocation.Builder request() {
+      return Stub.createStub(BuilderStub.class, invoker);
+    }
+  }
+
+  abstract static class BuilderStub implements Invocation.Builder {
+    private final AsyncInvokerStub invoker;
+
+    BuilderStub(AsyncInvokerStub invoker) {
+      this.invoker = invoker;
+    }
+
+    @Override
+    public Invocation.Builder accept(String... mediaTypes) {
+      return this;
+    }
+
+    @Override
+    public Invocation.Builder header(String name, Object value) {
+      return this;
+    }
+
+    @Override
+    public AsyncInvoker async() {
+      return invoker;
+    }
+  }
+
+  // Holds the callback of the request in progress, so that the test can complete it
+  abstract static class AsyncInvokerStub implements AsyncInvoker {
+    private InvocationCallback<?> callback;
+
+    @Override
+    public <T> Future<T> post(Entity<?> entity, InvocationCallback<T> callback) {
+      this.callback = callback;
+      return null;
+    }
+  }
+}
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.http;
 
+import java.util.concurrent.CompletableFuture;
+
 public abstract class HttpClientStub extends HttpClient {
 
   String response = "{}";
@@ -20,6 +22,12 @@ public abstract class HttpClientStub extends HttpClient {
     return new Result(response, status, successful);
   }
 
+  @Override
+  public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+      String requestUrl, String serviceUrl, String payload) {
+    return CompletableFuture.completedFuture(new Result(response, status, successful));
+  }
+
   public HttpClientStub withResponse(String response) {
     this.response = response;
     return this;
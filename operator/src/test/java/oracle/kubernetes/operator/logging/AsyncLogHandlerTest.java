@@ -0,0 +1,182 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class AsyncLogHandlerTest {
+  private static final int CAPACITY = 2;
+  private static final String CONSOLE_LEVEL = "java.util.logging.ConsoleHandler.level";
+  private static final String HANDLER_LEVEL = AsyncLogHandler.class.getName() + ".level";
+
+  private final BlockingWriter writer = new BlockingWriter();
+  private final AsyncLogHandler handler = new AsyncLogHandler(writer, CAPACITY, 10, Level.WARNING);
+  private final Map<String, String> savedProperties = new HashMap<>();
+
+  /** Sets up the handler with a formatter which writes just the message. */
+  public AsyncLogHandlerTest() {
+    handler.setFormatter(
+        new Formatter() {
+          @Override
+          public String format(LogRecord record) {
+            return record.getMessage() + '\n';
+          }
+        });
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    writer.release();
+    handler.close();
+    for (Map.Entry<String, String> entry : savedProperties.entrySet()) {
+      updateLogManagerProperty(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Test
+  public void whenOnlyConsoleHandlerLevelConfigured_handlerUsesIt() throws IOException {
+    setLogManagerProperty(HANDLER_LEVEL, null);
+    setLogManagerProperty(CONSOLE_LEVEL, "FINER");
+
+    assertThat(getConfiguredHandlerLevel(), equalTo(Level.FINER));
+  }
+
+  @Test
+  public void whenHandlerLevelConfigured_itOverridesConsoleHandlerLevel() throws IOException {
+    setLogManagerProperty(HANDLER_LEVEL, "FINE");
+    setLogManagerProperty(CONSOLE_LEVEL, "WARNING");
+
+    assertThat(getConfiguredHandlerLevel(), equalTo(Level.FINE));
+  }
+
+  @Test
+  public void whenNoLevelConfigured_handlerUsesInfo() throws IOException {
+    setLogManagerProperty(HANDLER_LEVEL, null);
+    setLogManagerProperty(CONSOLE_LEVEL, null);
+
+    assertThat(getConfiguredHandlerLevel(), equalTo(Level.INFO));
+  }
+
+  private Level getConfiguredHandlerLevel() {
+    AsyncLogHandler configured = new AsyncLogHandler();
+    try {
+      return configured.getLevel();
+    } finally {
+      configured.close();
+    }
+  }
+
+  private void setLogManagerProperty(String name, String value) throws IOException {
+    savedProperties.putIfAbsent(name, LogManager.getLogManager().getProperty(name));
+    updateLogManagerProperty(name, value);
+  }
+
+  // Changes a single log manager property without resetting the configured loggers.
+  private void updateLogManagerProperty(String name, String value) throws IOException {
+    Properties properties = new Properties();
+    if (value != null) {
+      properties.setProperty(name, value);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    properties.store(out, null);
+
+    LogManager.getLogManager()
+        .updateConfiguration(
+            new ByteArrayInputStream(out.toByteArray()),
+            key -> (oldValue, newValue) -> key.equals(name) ? newValue : oldValue);
+  }
+
+  @Test
+  public void afterClose_allPublishedRecordsAreWritten() {
+    writer.release();
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    handler.publish(new LogRecord(Level.INFO, "second"));
+
+    handler.close();
+
+    assertThat(writer.toString(), equalTo("first\nsecond\n"));
+  }
+
+  @Test
+  public void whenBufferFull_dropAndCountLowLevelRecords() throws InterruptedException {
+    fillBuffer();
+
+    handler.publish(new LogRecord(Level.FINE, "dropped"));
+    handler.publish(new LogRecord(Level.INFO, "dropped"));
+    writer.release();
+    handler.close();
+
+    assertThat(writer.toString(), not(containsString("dropped")));
+    assertThat(handler.getDroppedCount(Level.FINE), equalTo(1L));
+    assertThat(handler.getDroppedCount(Level.INFO), equalTo(1L));
+    assertThat(handler.getDroppedCount(Level.WARNING), equalTo(0L));
+  }
+
+  @Test
+  public void whenBufferFull_blockLevelRecordsWaitForSpace() throws InterruptedException {
+    fillBuffer();
+
+    Thread publisher = new Thread(() -> handler.publish(new LogRecord(Level.SEVERE, "kept")));
+    publisher.start();
+    writer.release();
+    publisher.join(TimeUnit.SECONDS.toMillis(5));
+    handler.close();
+
+    assertThat(writer.toString(), containsString("kept"));
+    assertThat(handler.getDroppedCounts().isEmpty(), equalTo(true));
+  }
+
+  // Publishes a record which stalls the writer thread, and then enough records to fill the buffer.
+  private void fillBuffer() throws InterruptedException {
+    handler.publish(new LogRecord(Level.INFO, "stalled"));
+    writer.awaitWrite();
+    for (int i = 0; i < CAPACITY; i++) {
+      handler.publish(new LogRecord(Level.INFO, "queued"));
+    }
+  }
+
+  static class BlockingWriter extends StringWriter {
+    private final CountDownLatch writeStarted = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    void awaitWrite() throws InterruptedException {
+      writeStarted.await(5, TimeUnit.SECONDS);
+    }
+
+    void release() {
+      released.countDown();
+    }
+
+    @Override
+    public void write(String str) {
+      writeStarted.countDown();
+      try {
+        released.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      super.write(str);
+    }
+  }
+}
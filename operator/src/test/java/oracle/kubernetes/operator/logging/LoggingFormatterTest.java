@@ -0,0 +1,96 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.ApiException;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class LoggingFormatterTest {
+
+  private final LoggingFormatter formatter = new LoggingFormatter();
+
+  private LogRecord createRecord(String message) {
+    LogRecord record = new LogRecord(Level.INFO, message);
+    record.setSourceClassName("SourceClass");
+    record.setSourceMethodName("sourceMethod");
+    record.setMillis(1556759105378L);
+    return record;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> parse(String json) throws IOException {
+    return new ObjectMapper().readValue(json, Map.class);
+  }
+
+  @Test
+  public void formattedRecord_isSingleLineOfJson() {
+    String json = formatter.format(createRecord("first line\nsecond line"));
+
+    assertThat(json.indexOf('\n'), equalTo(json.length() - 1));
+  }
+
+  @Test
+  public void formattedRecord_containsRecordFields() throws IOException {
+    Map<String, Object> fields = parse(formatter.format(createRecord("first line\nsecond line")));
+
+    assertThat(fields, hasEntry("level", "INFO"));
+    assertThat(fields, hasEntry("class", "SourceClass"));
+    assertThat(fields, hasEntry("method", "sourceMethod"));
+    assertThat(fields, hasEntry("timeInMillis", 1556759105378L));
+    assertThat(fields, hasEntry("message", "first line\nsecond line"));
+  }
+
+  @Test
+  public void formattedRecord_containsMessageParameters() throws IOException {
+    LogRecord record = createRecord("value is {0}");
+    record.setParameters(new Object[] {"abc"});
+
+    assertThat(parse(formatter.format(record)), hasEntry("message", "value is abc"));
+  }
+
+  @Test
+  public void whenRecordHasApiException_formattedRecordContainsResponse() throws IOException {
+    LogRecord record = createRecord("failed");
+    record.setThrown(
+        new ApiException(
+            "failure",
+            404,
+            Collections.singletonMap("Content-Type", Collections.singletonList("text/plain")),
+            "not found"));
+
+    Map<String, Object> fields = parse(formatter.format(record));
+
+    assertThat(fields, hasEntry("code", "404"));
+    assertThat(fields, hasEntry("body", "not found"));
+    assertThat(
+        fields,
+        hasEntry(
+            "headers",
+            Collections.singletonMap("Content-Type", Collections.singletonList("text/plain"))));
+    assertThat((String) fields.get("exception"), containsString("ApiException"));
+  }
+
+  @Test
+  public void whenRecordsFormattedSuccessively_eachContainsOnlyItsOwnMessage() throws IOException {
+    formatter.format(createRecord("a much longer first message"));
+
+    String json = formatter.format(createRecord("second"));
+
+    assertThat(parse(json), hasEntry("message", "second"));
+    assertThat(json, endsWith("}\n"));
+  }
+}
@@ -0,0 +1,58 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class LatencyHistogramTest {
+  private static final int ONE_SECOND_BUCKET = 10;
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  public void whenNothingRecorded_countIsZero() {
+    assertThat(histogram.getCount(), equalTo(0L));
+  }
+
+  @Test
+  public void afterDurationsRecorded_countAndSumIncludeThem() {
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(250));
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(750));
+
+    assertThat(histogram.getCount(), equalTo(2L));
+    assertThat(histogram.getSumSeconds(), closeTo(1.0, 1e-9));
+  }
+
+  @Test
+  public void durationEqualToBound_isCountedInThatBucket() {
+    histogram.record(TimeUnit.SECONDS.toNanos(1));
+
+    long[] counts = histogram.getCumulativeCounts();
+    assertThat(counts[ONE_SECOND_BUCKET - 1], equalTo(0L));
+    assertThat(counts[ONE_SECOND_BUCKET], equalTo(1L));
+  }
+
+  @Test
+  public void durationOverLastBound_isCountedOnlyInFinalBucket() {
+    histogram.record(TimeUnit.MINUTES.toNanos(10));
+
+    long[] counts = histogram.getCumulativeCounts();
+    assertThat(counts[counts.length - 2], equalTo(0L));
+    assertThat(counts[counts.length - 1], equalTo(1L));
+  }
+
+  @Test
+  public void negativeDuration_isCountedAsZero() {
+    histogram.record(-5);
+
+    assertThat(histogram.getCumulativeCounts()[0], equalTo(1L));
+    assertThat(histogram.getSumSeconds(), equalTo(0.0));
+  }
+}
@@ -0,0 +1,107 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class MetricsRegistryTest {
+  private static final String HISTOGRAM = "test_duration_seconds";
+
+  private final MetricsRegistry registry = new MetricsRegistry();
+
+  private LatencyHistogram getHistogram(String labelValue) {
+    return registry.histogram(HISTOGRAM, "Test durations", "step").get(labelValue);
+  }
+
+  @Test
+  public void histogramWithSameLabel_isReused() {
+    assertThat(getHistogram("first"), sameInstance(getHistogram("first")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void whenNameRegisteredAsGauge_cannotRegisterHistogram() {
+    registry.gauge(HISTOGRAM, "A gauge", () -> 1);
+
+    getHistogram("first");
+  }
+
+  @Test
+  public void scrape_describesEachMetric() {
+    getHistogram("first");
+
+    String scrape = registry.scrape();
+    assertThat(scrape, containsString("# HELP test_duration_seconds Test durations\n"));
+    assertThat(scrape, containsString("# TYPE test_duration_seconds histogram\n"));
+  }
+
+  @Test
+  public void scrape_writesCumulativeBucketsSumAndCount() {
+    getHistogram("first").record(TimeUnit.MILLISECONDS.toNanos(3));
+    getHistogram("first").record(TimeUnit.SECONDS.toNanos(2));
+
+    String scrape = registry.scrape();
+    assertThat(scrape, containsString(bucketSample("0.001", 0)));
+    assertThat(scrape, containsString(bucketSample("0.005", 1)));
+    assertThat(scrape, containsString(bucketSample("+Inf", 2)));
+    assertThat(scrape, containsString("test_duration_seconds_sum{step=\"first\"} 2.003\n"));
+    assertThat(scrape, containsString("test_duration_seconds_count{step=\"first\"} 2\n"));
+  }
+
+  private String bucketSample(String bound, long count) {
+    return "test_duration_seconds_bucket{step=\"first\",le=\"" + bound + "\"} " + count + "\n";
+  }
+
+  @Test
+  public void scrape_writesHistogramsInLabelOrder() {
+    getHistogram("second");
+    getHistogram("first");
+
+    String scrape = registry.scrape();
+    assertThat(
+        scrape.indexOf("{step=\"first\""), lessThan(scrape.indexOf("{step=\"second\"")));
+  }
+
+  @Test
+  public void scrape_writesCurrentValueOfGauge() {
+    int[] value = {1};
+    registry.gauge("test_gauge", "A gauge", () -> value[0]);
+    value[0] = 7;
+
+    assertThat(registry.scrape(), containsString("# TYPE test_gauge gauge\ntest_gauge 7\n"));
+  }
+
+  @Test
+  public void scrape_writesLabeledCounters() {
+    registry.counter("test_total", "A counter", "priority", () -> Map.of("HIGH", 3L, "LOW", 4L));
+
+    String scrape = registry.scrape();
+    assertThat(scrape, containsString("# TYPE test_total counter\n"));
+    assertThat(scrape, containsString("test_total{priority=\"HIGH\"} 3\n"));
+    assertThat(scrape, containsString("test_total{priority=\"LOW\"} 4\n"));
+  }
+
+  @Test
+  public void whenGaugeReregistered_scrapeUsesNewValue() {
+    registry.gauge("test_gauge", "A gauge", () -> 1);
+    registry.gauge("test_gauge", "A gauge", () -> 2);
+
+    assertThat(registry.scrape(), not(containsString("test_gauge 1\n")));
+  }
+
+  @Test
+  public void scrape_escapesLabelValues() {
+    getHistogram("a\"b\\c");
+
+    assertThat(registry.scrape(), containsString("{step=\"a\\\"b\\\\c\"}"));
+  }
+}
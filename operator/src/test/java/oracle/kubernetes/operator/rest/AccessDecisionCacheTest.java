@@ -0,0 +1,107 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.kubernetes.client.models.V1TokenReviewStatus;
+import io.kubernetes.client.models.V1UserInfo;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class AccessDecisionCacheTest {
+  private static final String PRINCIPAL = "operator";
+  private static final String NS = "namespace";
+
+  private final AccessDecisionCache cache = new AccessDecisionCache(30, 10);
+  private final AtomicInteger numReviews = new AtomicInteger();
+
+  private V1TokenReviewStatus review(V1TokenReviewStatus status) {
+    numReviews.incrementAndGet();
+    return status;
+  }
+
+  private boolean check(boolean allowed) {
+    numReviews.incrementAndGet();
+    return allowed;
+  }
+
+  private V1TokenReviewStatus authenticated() {
+    return new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo().username("user"));
+  }
+
+  @Test
+  public void whenSameTokenReviewedTwice_reuseFirstResult() {
+    V1TokenReviewStatus status = authenticated();
+
+    cache.getAuthentication(PRINCIPAL, "token", () -> review(status));
+
+    assertThat(
+        cache.getAuthentication(PRINCIPAL, "token", () -> review(null)), sameInstance(status));
+    assertThat(numReviews.get(), is(1));
+  }
+
+  @Test
+  public void whenDifferentTokensReviewed_reviewEach() {
+    cache.getAuthentication(PRINCIPAL, "token1", () -> review(authenticated()));
+    cache.getAuthentication(PRINCIPAL, "token2", () -> review(authenticated()));
+
+    assertThat(numReviews.get(), is(2));
+  }
+
+  @Test
+  public void whenTokenNotAuthenticated_doNotCacheResult() {
+    cache.getAuthentication(
+        PRINCIPAL, "token", () -> review(new V1TokenReviewStatus().authenticated(false)));
+    cache.getAuthentication(PRINCIPAL, "token", () -> review(authenticated()));
+
+    assertThat(numReviews.get(), is(2));
+  }
+
+  @Test
+  public void whenSameAccessCheckedTwice_reuseFirstDecision() {
+    checkScaleAccess(NS, Arrays.asList("a", "b"), false);
+
+    assertThat(checkScaleAccess(NS, Arrays.asList("b", "a"), true), is(false));
+    assertThat(numReviews.get(), is(1));
+  }
+
+  @Test
+  public void whenAccessCheckedInDifferentNamespaces_checkEach() {
+    checkScaleAccess(NS, null, true);
+    checkScaleAccess("other", null, true);
+
+    assertThat(numReviews.get(), is(2));
+  }
+
+  @Test
+  public void afterRepeatedChecks_statisticsRecordHitsAndMisses() {
+    checkScaleAccess(NS, null, true);
+    checkScaleAccess(NS, null, true);
+    checkScaleAccess(NS, null, true);
+
+    assertThat(cache.getAuthorizationStats().hitCount(), is(2L));
+    assertThat(cache.getAuthorizationStats().missCount(), is(1L));
+  }
+
+  private boolean checkScaleAccess(String namespace, List<String> groups, boolean allowed) {
+    return cache.getAuthorization(
+        "user",
+        groups,
+        Operation.update,
+        Resource.DOMAINS,
+        "domain1",
+        Scope.namespace,
+        namespace,
+        () -> check(allowed));
+  }
+}
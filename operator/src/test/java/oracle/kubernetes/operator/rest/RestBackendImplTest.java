@@ -6,17 +6,25 @@ package oracle.kubernetes.operator.rest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.json.Json;
 import javax.ws.rs.WebApplicationException;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1SubjectAccessReview;
 import io.kubernetes.client.models.V1SubjectAccessReviewStatus;
 import io.kubernetes.client.models.V1TokenReview;
 import io.kubernetes.client.models.V1TokenReviewStatus;
 import io.kubernetes.client.models.V1UserInfo;
+import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.rest.RestBackendImpl.DomainRetriever;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
@@ -36,7 +44,10 @@ import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -71,6 +82,12 @@ public class RestBackendImplTest {
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(
+        StaticStubSupport.install(
+            RestBackendImpl.class, "DECISIONS", new AccessDecisionCache(30, 100)));
+    mementos.add(
+        StaticStubSupport.install(
+            RestBackendImpl.class, "DOMAIN_RETRIEVER", new DomainRetrieverStub()));
 
     testSupport.defineResources(domain, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
@@ -95,6 +112,33 @@ public class RestBackendImplTest {
     for (Memento memento : mementos) memento.revert();
   }
 
+  @Test
+  public void afterRepeatedAuthentication_metricsCountCacheHitsAndMisses() {
+    new RestBackendImpl("", "", Collections.singletonList(NS));
+
+    MetricsRegistry registry = MetricsRegistry.getInstance();
+    RestBackendImpl.registerMetrics(registry);
+    String scrape = registry.scrape();
+
+    assertThat(scrape, containsString(authenticationSample("hits", 1)));
+    assertThat(scrape, containsString(authenticationSample("misses", 1)));
+  }
+
+  private String authenticationSample(String outcome, long count) {
+    return "weblogic_operator_rest_access_cache_" + outcome + "_total{review=\"authentication\"} "
+        + count;
+  }
+
+  @Test
+  public void getDomainUids_returnsDomainsKnownToOperator() {
+    assertThat(restBackend.getDomainUids(), contains(NAME1, NAME2));
+  }
+
+  @Test
+  public void whenDomainNotKnownToOperator_isDomainUidReturnsFalse() {
+    assertThat(restBackend.isDomainUid("no-such-domain"), is(false));
+  }
+
   @Test(expected = WebApplicationException.class)
   public void whenNegativeScaleSpecified_throwException() {
     restBackend.scaleCluster(NAME1, "cluster1", -1);
@@ -126,6 +170,34 @@ public class RestBackendImplTest {
     assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
+  @Test
+  public void whenInMemoryClusterIndexStale_scaleClusterUpdatesCurrentSetting()
+      throws ApiException {
+    configureCluster("cluster1").withReplicas(1);
+    insertClusterInCurrentDomain("cluster0", 2);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster0"), equalTo(2));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  // Changes the domain held by the API server without changing the operator's in-memory copy
+  private void insertClusterInCurrentDomain(String clusterName, int replicas)
+      throws ApiException {
+    String patch =
+        Json.createPatchBuilder()
+            .add(
+                "/spec/clusters/0",
+                Json.createObjectBuilder()
+                    .add("clusterName", clusterName)
+                    .add("replicas", replicas)
+                    .build())
+            .build()
+            .toString();
+    new CallBuilder().patchDomain(NAME1, NS, new V1Patch(patch));
+  }
+
   @Test
   @Ignore
   public void whenNoPerClusterReplicaSetting_scaleClusterCreatesOne() {
@@ -184,6 +256,15 @@ public class RestBackendImplTest {
     config = configSupport.createDomainConfig();
   }
 
+  private class DomainRetrieverStub implements DomainRetriever {
+    @Override
+    public List<Domain> getDomains(String ns) {
+      return Stream.of(domain, domain2)
+          .filter(d -> ns.equals(d.getMetadata().getNamespace()))
+          .collect(Collectors.toList());
+    }
+  }
+
   private class TopologyRetrieverStub implements TopologyRetriever {
     @Override
     public WlsDomainConfig getWlsDomainConfig(String ns, String domainUid) {
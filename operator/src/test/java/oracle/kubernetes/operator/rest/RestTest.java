@@ -161,6 +161,11 @@ public class RestTest extends JerseyTest {
     assertThat(getResponseStatus(OPERATOR_HREF + "/v99"), equalTo(HTTP_NOT_FOUND));
   }
 
+  @Test
+  public void metricsEndPoint_isNotAvailableOnExternalPort() {
+    assertThat(getResponseStatus("/metrics"), equalTo(HTTP_NOT_FOUND));
+  }
+
   @Test
   public void swaggerEndPoint_returnsSwaggerFile() {
     Map result = getJsonResponse(SWAGGER_HREF);
@@ -0,0 +1,87 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ManagedServerUpIteratorStepTest {
+
+  private static final String CLUSTER1 = "cluster1";
+  private static final String CLUSTER2 = "cluster2";
+  private final Domain domain =
+      new Domain()
+          .withMetadata(new V1ObjectMeta().namespace("ns"))
+          .withSpec(new DomainSpec().withDomainUid("uid"));
+  private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
+  private final List<ServerStartupInfo> servers = new ArrayList<>();
+
+  private void addServers(String clusterName, String... serverNames) {
+    for (String serverName : serverNames) {
+      servers.add(
+          new ServerStartupInfo(new WlsServerConfig(serverName, "host", 8001), clusterName, null));
+    }
+  }
+
+  private List<List<String>> getWaves() {
+    return ManagedServerUpIteratorStep.createWaves(servers, domain).stream()
+        .map(w -> w.stream().map(ServerStartupInfo::getServerName).collect(Collectors.toList()))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  public void whenNoLimitsDefined_startAllServersInOneWave() {
+    addServers(CLUSTER1, "ms1", "ms2", "ms3");
+    addServers(null, "ms4");
+
+    assertThat(getWaves(), contains(List.of("ms1", "ms2", "ms3", "ms4")));
+  }
+
+  @Test
+  public void whenDomainLimitDefined_startServersInWavesOfThatSize() {
+    configurator.withStartupWaves(2, false, false);
+    addServers(CLUSTER1, "ms1", "ms2", "ms3");
+    addServers(null, "ms4", "ms5");
+
+    assertThat(
+        getWaves(), contains(List.of("ms1", "ms2"), List.of("ms3", "ms4"), List.of("ms5")));
+  }
+
+  @Test
+  public void whenClusterLimitDefined_limitOnlyThatCluster() {
+    configurator.configureCluster(CLUSTER1).withMaxConcurrentStartup(1);
+    addServers(CLUSTER1, "ms1", "ms2", "ms3");
+    addServers(CLUSTER2, "ms4", "ms5");
+
+    assertThat(
+        getWaves(), contains(List.of("ms1", "ms4", "ms5"), List.of("ms2"), List.of("ms3")));
+  }
+
+  @Test
+  public void whenRampUpRequested_doubleWaveSizeUpToLimit() {
+    configurator.withStartupWaves(3, true, false);
+    addServers(CLUSTER1, "ms1", "ms2", "ms3", "ms4", "ms5", "ms6", "ms7", "ms8", "ms9");
+
+    assertThat(
+        getWaves(),
+        contains(
+            List.of("ms1"),
+            List.of("ms2", "ms3"),
+            List.of("ms4", "ms5", "ms6"),
+            List.of("ms7", "ms8", "ms9")));
+  }
+}
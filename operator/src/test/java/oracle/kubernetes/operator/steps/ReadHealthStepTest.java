@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.steps;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
@@ -21,12 +22,15 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.http.HttpClientStub;
+import oracle.kubernetes.operator.http.Result;
 import oracle.kubernetes.operator.steps.ReadHealthStep.ReadHealthWithHttpClientStep;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.junit.After;
@@ -213,6 +217,43 @@ public class ReadHealthStepTest {
     assertThat(serverStateMap.get(MANAGED_SERVER1), is("UNKNOWN"));
   }
 
+  @Test
+  public void withHttpClientStep_whenResponseIsPending_recordHealthAfterItArrives() {
+    CompletableFuture<Result> pendingResult = new CompletableFuture<>();
+    HttpClient pendingClient =
+        new HttpClientStub() {
+          @Override
+          public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+              String requestUrl, String serviceUrl, String payload) {
+            return pendingResult;
+          }
+        };
+    FiberTestSupport testSupport =
+        new FiberTestSupport()
+            .addDomainPresenceInfo(new DomainPresenceInfo(NAMESPACE, DOMAIN_UID))
+            .addToPacket(ProcessingConstants.DOMAIN_TOPOLOGY, configSupport.createDomainConfig())
+            .addToPacket(HttpClient.KEY, pendingClient)
+            .addToPacket(ProcessingConstants.SERVER_NAME, MANAGED_SERVER1)
+            .addToPacket(
+                ProcessingConstants.SERVER_HEALTH_MAP,
+                new ConcurrentHashMap<String, ServerHealth>())
+            .addToPacket(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>())
+            .addToPacket(
+                ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(1));
+
+    Packet packet =
+        testSupport.runSteps(new ReadHealthWithHttpClientStep(service, null, new TerminalStep()));
+    AtomicInteger remainingServersHealthToRead =
+        packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+    assertThat(remainingServersHealthToRead.get(), is(1));
+
+    pendingResult.complete(new Result(OK_RESPONSE, 200, true));
+
+    Map<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP);
+    assertThat(serverStateMap.get(MANAGED_SERVER1), is("RUNNING"));
+    assertThat(remainingServersHealthToRead.get(), is(0));
+  }
+
   Packet createPacketForTest() {
     Packet packet =
         Stub.createStub(PacketStub.class)
@@ -0,0 +1,204 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutorStrategyTest {
+  private static final long TIMEOUT_SECONDS = 5;
+
+  private ScheduledExecutorService executor;
+  private Memento loggerMemento;
+
+  @Before
+  public void setUp() {
+    loggerMemento = TestUtils.silenceOperatorLogger();
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    loggerMemento.revert();
+    shutDownExecutor();
+  }
+
+  private void shutDownExecutor() throws InterruptedException {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor.awaitTermination(100, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private ScheduledExecutorService createExecutor(ExecutorStrategy strategy) {
+    executor =
+        Engine.wrappedExecutorService(
+            "test", ContainerResolver.getDefault().getContainer(), strategy);
+    return executor;
+  }
+
+  @Test
+  public void whenNameUnknown_selectScheduledPool() {
+    assertThat(ExecutorStrategy.fromName("unknown"), equalTo(ExecutorStrategy.SCHEDULED_POOL));
+    assertThat(ExecutorStrategy.fromName(null), equalTo(ExecutorStrategy.SCHEDULED_POOL));
+  }
+
+  @Test
+  public void selectStrategiesByName() {
+    assertThat(ExecutorStrategy.fromName("forkjoin"), equalTo(ExecutorStrategy.FORK_JOIN));
+    assertThat(ExecutorStrategy.fromName("Virtual"), equalTo(ExecutorStrategy.VIRTUAL_THREADS));
+  }
+
+  @Test
+  public void eachStrategy_runsFibersToCompletion() throws InterruptedException {
+    for (ExecutorStrategy strategy : ExecutorStrategy.values()) {
+      Engine engine = new Engine(createExecutor(strategy));
+      CountDownLatch completed = new CountDownLatch(100);
+      for (int i = 0; i < 100; i++) {
+        engine.createFiber().start(new CountingStep(), new Packet(), new LatchCallback(completed));
+      }
+
+      assertTrue(strategy.getName(), completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+      shutDownExecutor();
+    }
+  }
+
+  @Test
+  public void forkJoinStrategy_runsDelayedTasksOnWorkersRatherThanTimer()
+      throws InterruptedException, ExecutionException {
+    createExecutor(ExecutorStrategy.FORK_JOIN);
+
+    String threadName =
+        executor.schedule(() -> Thread.currentThread().getName(), 10, TimeUnit.MILLISECONDS).get();
+
+    assertThat(threadName, startsWith("engine-test-worker-"));
+  }
+
+  @Test
+  public void virtualThreadStrategy_whenManyTasksBlock_delayedTasksStillRun() throws Exception {
+    Assume.assumeTrue(ThreadFactorySingleton.getVirtualThreadFactory("test").isPresent());
+    createExecutor(ExecutorStrategy.VIRTUAL_THREADS);
+    Semaphore blocker = new Semaphore(0);
+    for (int i = 0; i < 100; i++) {
+      executor.execute(blocker::acquireUninterruptibly);
+    }
+
+    try {
+      ScheduledFuture<?> future = executor.schedule(() -> { }, 10, TimeUnit.MILLISECONDS);
+      future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } finally {
+      blocker.release(100);
+    }
+  }
+
+  @Test
+  public void forkJoinStrategy_repeatsTasksWithFixedDelayUntilCancelled() throws Exception {
+    createExecutor(ExecutorStrategy.FORK_JOIN);
+    CountDownLatch runs = new CountDownLatch(3);
+    AtomicInteger runCount = new AtomicInteger();
+
+    ScheduledFuture<?> future =
+        executor.scheduleWithFixedDelay(
+            () -> {
+              runCount.incrementAndGet();
+              runs.countDown();
+            },
+            0,
+            5,
+            TimeUnit.MILLISECONDS);
+
+    assertTrue(runs.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    future.cancel(false);
+    Thread.sleep(20);
+    int countAfterCancel = runCount.get();
+    Thread.sleep(50);
+
+    assertThat(runCount.get(), greaterThanOrEqualTo(3));
+    assertThat(runCount.get(), equalTo(countAfterCancel));
+  }
+
+  @Test
+  public void forkJoinStrategy_whenPeriodicTaskFails_doNotRunAgain() throws Exception {
+    createExecutor(ExecutorStrategy.FORK_JOIN);
+    AtomicInteger runCount = new AtomicInteger();
+
+    ScheduledFuture<?> future =
+        executor.scheduleAtFixedRate(
+            () -> {
+              runCount.incrementAndGet();
+              throw new IllegalStateException("failed");
+            },
+            0,
+            5,
+            TimeUnit.MILLISECONDS);
+
+    try {
+      future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause().getMessage(), equalTo("failed"));
+    }
+    Thread.sleep(50);
+
+    assertThat(runCount.get(), equalTo(1));
+  }
+
+  @Test
+  public void virtualThreadStrategy_runsTasksOnNonPoolThreads() throws Exception {
+    createExecutor(ExecutorStrategy.VIRTUAL_THREADS);
+    List<String> threadNames = new CopyOnWriteArrayList<>();
+
+    executor.submit(() -> threadNames.add(Thread.currentThread().getName())).get();
+
+    assertThat(threadNames.get(0), not(startsWith("engine-test-thread-")));
+  }
+
+  private static class CountingStep extends Step {
+    CountingStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class LatchCallback implements CompletionCallback {
+    private final CountDownLatch latch;
+
+    LatchCallback(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      latch.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+}
@@ -0,0 +1,225 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class FiberSemaphoreTest {
+  private static final String JOINED = "joined";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Fiber> heldFibers = new ArrayList<>();
+  private int startedCount;
+  private Fiber forkingFiber;
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void whenPermitsNotPositive_throwException() {
+    new FiberSemaphore(0);
+  }
+
+  @Test
+  public void whenParallelismLimited_startOnlyThatManyChildren() {
+    testSupport.runSteps(new ForkStep(5, 2));
+
+    assertThat(startedCount, equalTo(2));
+  }
+
+  @Test
+  public void whenChildEnds_startAnother() {
+    testSupport.runSteps(new ForkStep(5, 2));
+
+    endHeldFiber();
+
+    assertThat(startedCount, equalTo(3));
+  }
+
+  @Test
+  public void afterAllChildrenEnd_resumeParent() {
+    Packet packet = testSupport.runSteps(new ForkStep(5, 2));
+
+    while (!heldFibers.isEmpty()) {
+      endHeldFiber();
+    }
+
+    assertThat(startedCount, equalTo(5));
+    assertThat(packet.get(JOINED), equalTo(true));
+  }
+
+  @Test
+  public void whenParallelismNotLimited_startAllChildren() {
+    testSupport.runSteps(new ForkStep(5, 0));
+
+    assertThat(startedCount, equalTo(5));
+  }
+
+  @Test
+  public void whenChildThrows_startAnother() {
+    FiberSemaphore semaphore = new FiberSemaphore(1);
+    testSupport.runSteps(new ForkStep(semaphore, new ThrowStep(), new HoldStep()));
+
+    assertThat(startedCount, equalTo(2));
+    assertThat(semaphore.getAvailablePermits(), equalTo(0));
+
+    endHeldFiber();
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+  }
+
+  @Test
+  public void whenChildCancelled_startAnother() {
+    testSupport.runSteps(new ForkStep(3, 1));
+
+    heldFibers.remove(0).cancel(false);
+
+    assertThat(startedCount, equalTo(2));
+  }
+
+  @Test
+  public void whenParentCancelled_releaseAllPermitsWithoutStartingWaitingChildren() {
+    FiberSemaphore semaphore = new FiberSemaphore(2);
+    testSupport.runSteps(new ForkStep(semaphore, 5));
+
+    forkingFiber.cancel(false);
+
+    assertThat(startedCount, equalTo(2));
+    assertThat(semaphore.getAvailablePermits(), equalTo(2));
+    assertThat(semaphore.getQueueLength(), equalTo(0));
+  }
+
+  @Test
+  public void whenSemaphoreShared_fibersWaitForPermitInTurn() {
+    FiberSemaphore semaphore = new FiberSemaphore(1);
+    testSupport.runSteps(new ForkStep(semaphore, 2));
+    Packet packet = new Packet();
+    testSupport.getEngine().createFiber().start(new ForkStep(semaphore, 1), packet, null);
+
+    endHeldFiber();
+    endHeldFiber();
+
+    assertThat(startedCount, equalTo(3));
+    assertThat(packet.get(JOINED), nullValue());
+  }
+
+  @Test
+  public void withPermit_runStepsWhileHoldingPermitThenContinue() {
+    FiberSemaphore semaphore = new FiberSemaphore(1);
+    Packet packet = testSupport.runSteps(semaphore.withPermit(new HoldStep(), new JoinedStep()));
+
+    assertThat(semaphore.getAvailablePermits(), equalTo(0));
+
+    endHeldFiber();
+
+    assertThat(semaphore.getAvailablePermits(), equalTo(1));
+    assertThat(packet.get(JOINED), equalTo(true));
+  }
+
+  private void endHeldFiber() {
+    heldFibers.remove(0).resume(new Packet());
+  }
+
+  private class ForkStep extends Step {
+    private final FiberSemaphore semaphore;
+    private final int maxParallelism;
+    private final List<Step> childSteps;
+
+    ForkStep(int childCount, int maxParallelism) {
+      this(null, maxParallelism, createHoldSteps(childCount));
+    }
+
+    ForkStep(FiberSemaphore semaphore, int childCount) {
+      this(semaphore, 0, createHoldSteps(childCount));
+    }
+
+    ForkStep(FiberSemaphore semaphore, Step... childSteps) {
+      this(semaphore, 0, List.of(childSteps));
+    }
+
+    private ForkStep(FiberSemaphore semaphore, int maxParallelism, List<Step> childSteps) {
+      super(new JoinedStep());
+      this.semaphore = semaphore;
+      this.maxParallelism = maxParallelism;
+      this.childSteps = childSteps;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      forkingFiber = Fiber.current();
+      List<StepAndPacket> startDetails = new ArrayList<>();
+      for (Step childStep : childSteps) {
+        startDetails.add(new StepAndPacket(childStep, packet.clone()));
+      }
+
+      return semaphore != null
+          ? doForkJoin(getNext(), packet, startDetails, semaphore)
+          : doForkJoin(getNext(), packet, startDetails, maxParallelism);
+    }
+  }
+
+  private List<Step> createHoldSteps(int count) {
+    List<Step> steps = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      steps.add(new HoldStep());
+    }
+    return steps;
+  }
+
+  private class HoldStep extends Step {
+    HoldStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      startedCount++;
+      return doSuspend(heldFibers::add);
+    }
+  }
+
+  private class ThrowStep extends Step {
+    ThrowStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      startedCount++;
+      throw new IllegalStateException("child failed");
+    }
+  }
+
+  private static class JoinedStep extends Step {
+    JoinedStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(JOINED, true);
+      return doNext(packet);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class FiberTest {
+  private static final String BREAD_CRUMBS = "breadCrumbs";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger().withLogLevel(Level.FINE));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private Step createStepline() {
+    return new FirstStep(new SecondStep(new ThirdStep(new RecordBreadCrumbsStep())));
+  }
+
+  @Test
+  public void whenFewerStepsThanLimit_breadCrumbsDescribeAllSteps() {
+    Packet packet = testSupport.runSteps(createStepline());
+
+    assertThat((String) packet.get(BREAD_CRUMBS), startsWith("[FiberTest$First,"));
+  }
+
+  @Test
+  public void whenMoreStepsThanLimit_breadCrumbsDescribeOnlyMostRecentSteps() {
+    testSupport.getEngine().setBreadCrumbLimit(2);
+
+    Packet packet = testSupport.runSteps(createStepline());
+
+    assertThat((String) packet.get(BREAD_CRUMBS), startsWith("[...,FiberTest$Third,"));
+    assertThat((String) packet.get(BREAD_CRUMBS), not(containsString("First")));
+  }
+
+  @Test
+  public void whenFiberTraced_recordEachStep() {
+    FiberTracer tracer = new FiberTracer(1);
+    testSupport.getEngine().setTracer(tracer);
+
+    testSupport.runSteps(createStepline());
+
+    Map<String, FiberTracer.StepStatistics> statistics = tracer.getStepStatistics();
+    assertThat(statistics, hasKey("FiberTest$First"));
+    assertThat(statistics.get("FiberTest$Second").getCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenSampleIntervalIsTwo_traceEveryOtherFiber() {
+    FiberTracer tracer = new FiberTracer(2);
+    testSupport.getEngine().setTracer(tracer);
+
+    for (int i = 0; i < 3; i++) {
+      testSupport.runSteps(createStepline());
+    }
+
+    assertThat(tracer.getStepStatistics().get("FiberTest$First").getCount(), equalTo(2L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void whenSampleIntervalNotPositive_throwException() {
+    new FiberTracer(0);
+  }
+
+  static class FirstStep extends Step {
+    FirstStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class SecondStep extends FirstStep {
+    SecondStep(Step next) {
+      super(next);
+    }
+  }
+
+  static class ThirdStep extends FirstStep {
+    ThirdStep(Step next) {
+      super(next);
+    }
+  }
+
+  static class RecordBreadCrumbsStep extends Step {
+    RecordBreadCrumbsStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(BREAD_CRUMBS, Fiber.current().getBreadCrumbs());
+      return doNext(packet);
+    }
+  }
+}
@@ -74,6 +74,17 @@ public class FiberTestSupport {
     return schedule.scheduleWithFixedDelay(command, initialDelay, delay, unit);
   }
 
+  /**
+   * Schedules a runnable to run once at a time in the future. See {@link #schedule(Runnable)}.
+   *
+   * @param command a runnable to be executed by the scheduler.
+   * @param delay the number of time units in the future to run.
+   * @param unit the time unit used for the above parameters
+   */
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return schedule.schedule(command, delay, unit);
+  }
+
   /**
    * Returns true if an item is scheduled to run at the specified time.
    *
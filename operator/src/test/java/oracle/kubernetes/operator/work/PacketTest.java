@@ -0,0 +1,138 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class PacketTest {
+  private static final String KEY = "key";
+  private static final String COMPONENT_NAME = "component";
+
+  private final Packet packet = new Packet();
+
+  @Test
+  public void afterClone_cloneHasOriginalValues() {
+    packet.put(KEY, "value");
+
+    assertThat(packet.clone().get(KEY), equalTo("value"));
+  }
+
+  @Test
+  public void afterCloneModified_originalIsUnchanged() {
+    packet.put(KEY, "value");
+    Packet clone = packet.clone();
+
+    clone.put(KEY, "new value");
+    clone.put("other", "value");
+
+    assertThat(packet.get(KEY), equalTo("value"));
+    assertThat(packet.containsKey("other"), equalTo(false));
+  }
+
+  @Test
+  public void afterOriginalModified_cloneIsUnchanged() {
+    packet.put(KEY, "value");
+    Packet clone = packet.clone();
+
+    packet.remove(KEY);
+
+    assertThat(clone.get(KEY), equalTo("value"));
+  }
+
+  @Test
+  public void whenNullValuePut_removeKey() {
+    packet.put(KEY, "value");
+
+    packet.put(KEY, null);
+
+    assertThat(packet.containsKey(KEY), equalTo(false));
+  }
+
+  @Test
+  public void whenEntryRemovedByIterator_cloneIsUnchanged() {
+    packet.put(KEY, "value");
+    Packet clone = packet.clone();
+
+    Iterator<Map.Entry<String, Object>> iterator = packet.entrySet().iterator();
+    iterator.next();
+    iterator.remove();
+
+    assertThat(packet.isEmpty(), equalTo(true));
+    assertThat(clone.get(KEY), equalTo("value"));
+  }
+
+  @Test
+  public void whenEntryValueSet_cloneIsUnchanged() {
+    packet.put(KEY, "value");
+    Packet clone = packet.clone();
+
+    packet.entrySet().iterator().next().setValue("new value");
+
+    assertThat(packet.get(KEY), equalTo("new value"));
+    assertThat(clone.get(KEY), equalTo("value"));
+  }
+
+  @Test
+  public void whenComponentRegistered_findSpi() {
+    packet.getComponents().put(COMPONENT_NAME, Component.createFor(Integer.class, 5));
+
+    assertThat(packet.getSpi(Integer.class), equalTo(5));
+  }
+
+  @Test
+  public void whenNoComponentProvidesSpi_returnNull() {
+    packet.getComponents().put(COMPONENT_NAME, Component.createFor(Integer.class, 5));
+
+    assertThat(packet.getSpi(String.class), nullValue());
+  }
+
+  @Test
+  public void afterSpiNotFound_findItWhenComponentRegistered() {
+    packet.getSpi(Integer.class);
+
+    packet.getComponents().put(COMPONENT_NAME, Component.createFor(Integer.class, 5));
+
+    assertThat(packet.getSpi(Integer.class), equalTo(5));
+  }
+
+  @Test
+  public void afterComponentRemoved_spiIsNotFound() {
+    packet.getComponents().put(COMPONENT_NAME, Component.createFor(Integer.class, 5));
+    packet.getSpi(Integer.class);
+
+    packet.getComponents().remove(COMPONENT_NAME);
+
+    assertThat(packet.getSpi(Integer.class), nullValue());
+  }
+
+  @Test
+  public void afterCloneReplacesComponent_originalSpiIsUnchanged() {
+    packet.getComponents().put(COMPONENT_NAME, Component.createFor(Integer.class, 5));
+    Packet clone = packet.clone();
+    packet.getSpi(Integer.class);
+
+    clone.getComponents().put(COMPONENT_NAME, Component.createFor(Integer.class, 7));
+
+    assertThat(clone.getSpi(Integer.class), equalTo(7));
+    assertThat(packet.getSpi(Integer.class), equalTo(5));
+  }
+
+  @Test
+  public void afterClone_componentsAreEqualButNotSame() {
+    packet.getComponents().put(COMPONENT_NAME, Component.createFor(Integer.class, 5));
+    Packet clone = packet.clone();
+
+    assertThat(clone.getComponents(), equalTo(packet.getComponents()));
+    assertThat(clone.getComponents(), not(sameInstance(packet.getComponents())));
+  }
+}
@@ -0,0 +1,169 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.work.FiberPriority.BACKGROUND;
+import static oracle.kubernetes.operator.work.FiberPriority.INTERACTIVE;
+import static oracle.kubernetes.operator.work.FiberPriority.RECONCILE;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class PrioritizedFiberQueueTest {
+  private static final long AGING_MILLIS = 1000;
+
+  private long nanoTime;
+  private final PrioritizedFiberQueue queue =
+      new PrioritizedFiberQueue(() -> nanoTime, AGING_MILLIS);
+  private final TaskCollector executor = createStub(TaskCollector.class);
+  private final Engine engine = new Engine(executor, queue);
+
+  private Fiber addFiber(FiberPriority priority) {
+    Fiber fiber = engine.createFiber(priority);
+    queue.add(fiber);
+    return fiber;
+  }
+
+  private void advanceMillis(long millis) {
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  @Test
+  public void whenEmpty_pollReturnsNull() {
+    assertThat(queue.poll(), nullValue());
+  }
+
+  @Test
+  public void fibersOfSamePriority_areReturnedInOrderAdded() {
+    Fiber first = addFiber(RECONCILE);
+    Fiber second = addFiber(RECONCILE);
+
+    assertThat(queue.poll(), sameInstance(first));
+    assertThat(queue.poll(), sameInstance(second));
+  }
+
+  @Test
+  public void moreUrgentFibers_areReturnedFirst() {
+    Fiber background = addFiber(BACKGROUND);
+    Fiber reconcile = addFiber(RECONCILE);
+    Fiber interactive = addFiber(INTERACTIVE);
+
+    assertThat(queue.poll(), sameInstance(interactive));
+    assertThat(queue.poll(), sameInstance(reconcile));
+    assertThat(queue.poll(), sameInstance(background));
+  }
+
+  @Test
+  public void whenFiberWaitsLessThanAgingInterval_isNotPromoted() {
+    addFiber(BACKGROUND);
+    advanceMillis(AGING_MILLIS - 1);
+    Fiber reconcile = addFiber(RECONCILE);
+
+    assertThat(queue.poll(), sameInstance(reconcile));
+  }
+
+  @Test
+  public void whenFiberWaitsLongEnough_runsAheadOfMoreUrgentFibers() {
+    Fiber background = addFiber(BACKGROUND);
+    advanceMillis(2 * AGING_MILLIS + 1);
+    addFiber(RECONCILE);
+    advanceMillis(AGING_MILLIS);
+    addFiber(INTERACTIVE);
+
+    assertThat(queue.poll(), sameInstance(background));
+    assertThat(queue.getPromotedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenPromotedFiberTiesWithMoreUrgentClass_moreUrgentClassWins() {
+    addFiber(BACKGROUND);
+    advanceMillis(AGING_MILLIS);
+    Fiber reconcile = addFiber(RECONCILE);
+
+    assertThat(queue.poll(), sameInstance(reconcile));
+  }
+
+  @Test
+  public void reportQueueDepthsAndDispatchCountsPerPriority() {
+    addFiber(BACKGROUND);
+    addFiber(BACKGROUND);
+    addFiber(RECONCILE);
+    addFiber(INTERACTIVE);
+
+    queue.poll();
+    queue.poll();
+
+    assertThat(queue.getQueueDepth(INTERACTIVE), equalTo(0));
+    assertThat(queue.getQueueDepth(RECONCILE), equalTo(0));
+    assertThat(queue.getQueueDepth(BACKGROUND), equalTo(2));
+    assertThat(queue.getDispatchedCount(INTERACTIVE), equalTo(1L));
+    assertThat(queue.getDispatchedCount(BACKGROUND), equalTo(0L));
+  }
+
+  @Test
+  public void childFibers_inheritPriority() {
+    Fiber parent = engine.createFiber(BACKGROUND);
+
+    assertThat(parent.createChildFiber().getPriority(), equalTo(BACKGROUND));
+  }
+
+  @Test
+  public void whenFibersWaitForThreads_engineRunsMostUrgentFirst() {
+    List<FiberPriority> runOrder = new ArrayList<>();
+    for (FiberPriority priority : new FiberPriority[] {BACKGROUND, RECONCILE, INTERACTIVE}) {
+      engine
+          .createFiber(priority)
+          .start(new RecordPriorityStep(runOrder), new Packet(), createStub(CallbackStub.class));
+    }
+
+    assertThat(engine.getQueueDepth(BACKGROUND), equalTo(1));
+    executor.runTasks();
+
+    assertThat(runOrder, contains(INTERACTIVE, RECONCILE, BACKGROUND));
+  }
+
+  abstract static class TaskCollector implements ScheduledExecutorService {
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+      tasks.add(command);
+    }
+
+    void runTasks() {
+      while (!tasks.isEmpty()) {
+        tasks.remove(0).run();
+      }
+    }
+  }
+
+  abstract static class CallbackStub implements Fiber.CompletionCallback {
+  }
+
+  private static class RecordPriorityStep extends Step {
+    private final List<FiberPriority> runOrder;
+
+    RecordPriorityStep(List<FiberPriority> runOrder) {
+      super(null);
+      this.runOrder = runOrder;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      runOrder.add(Fiber.current().getPriority());
+      return doNext(packet);
+    }
+  }
+}
@@ -16,6 +16,7 @@ import java.util.logging.SimpleFormatter;
 
 import ch.qos.logback.classic.LoggerContext;
 import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.logging.AsyncLogHandler;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import org.slf4j.LoggerFactory;
 
@@ -31,7 +32,7 @@ public class TestUtils {
     Logger logger = LoggingFactory.getLogger("Operator", "Operator").getUnderlyingLogger();
     List<Handler> savedHandlers = new ArrayList<>();
     for (Handler handler : logger.getHandlers()) {
-      if (handler instanceof ConsoleHandler) {
+      if (isConsoleHandler(handler)) {
         savedHandlers.add(handler);
       }
     }
@@ -53,7 +54,7 @@ public class TestUtils {
   public static List<Handler> removeConsoleHandlers(Logger logger) {
     List<Handler> savedHandlers = new ArrayList<>();
     for (Handler handler : logger.getHandlers()) {
-      if (handler instanceof ConsoleHandler) {
+      if (isConsoleHandler(handler)) {
         savedHandlers.add(handler);
       }
     }
@@ -61,6 +62,10 @@ public class TestUtils {
     return savedHandlers;
   }
 
+  private static boolean isConsoleHandler(Handler handler) {
+    return handler instanceof ConsoleHandler || handler instanceof AsyncLogHandler;
+  }
+
   /**
    * Restores the silenced logger handlers.
    *
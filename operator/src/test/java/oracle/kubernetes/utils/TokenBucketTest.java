@@ -0,0 +1,85 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TokenBucketTest {
+  private long nanoTime;
+  private final TokenBucket bucket = new TokenBucket(10, 10, () -> nanoTime);
+
+  private void advanceMillis(long millis) {
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  @Test
+  public void newBucket_isFull() {
+    assertThat(bucket.tryAcquire(10), is(true));
+  }
+
+  @Test
+  public void whenTokensExhausted_cannotAcquire() {
+    bucket.tryAcquire(10);
+
+    assertThat(bucket.tryAcquire(1), is(false));
+  }
+
+  @Test
+  public void tokensAccrueOverTime() {
+    bucket.tryAcquire(10);
+
+    advanceMillis(300);
+
+    assertThat(bucket.tryAcquire(3), is(true));
+    assertThat(bucket.tryAcquire(1), is(false));
+  }
+
+  @Test
+  public void tokensDoNotAccrueBeyondCapacity() {
+    advanceMillis(5000);
+
+    assertThat(bucket.tryAcquire(10), is(true));
+    assertThat(bucket.tryAcquire(1), is(false));
+  }
+
+  @Test
+  public void whenCostExceedsCapacity_chargeFullBucket() {
+    assertThat(bucket.tryAcquire(25), is(true));
+    assertThat(bucket.tryAcquire(1), is(false));
+  }
+
+  @Test
+  public void reportTimeUntilTokensAvailable() {
+    bucket.tryAcquire(10);
+
+    assertThat(bucket.getWaitTime(2, TimeUnit.MILLISECONDS), equalTo(200L));
+  }
+
+  @Test
+  public void whenTokensReserved_laterAcquisitionsWaitForThem() {
+    bucket.tryAcquire(8);
+
+    assertThat(bucket.reserve(5, TimeUnit.MILLISECONDS), equalTo(300L));
+    advanceMillis(200);
+    assertThat(bucket.tryAcquire(1), is(false));
+    assertThat(bucket.getWaitTime(1, TimeUnit.MILLISECONDS), equalTo(200L));
+  }
+
+  @Test
+  public void whenTokensAvailable_reserveWithoutWaiting() {
+    assertThat(bucket.reserve(5, TimeUnit.MILLISECONDS), equalTo(0L));
+    assertThat(bucket.tryAcquire(6), is(false));
+  }
+
+  @Test
+  public void whenTokensAvailable_waitTimeIsZero() {
+    assertThat(bucket.getWaitTime(2, TimeUnit.MILLISECONDS), equalTo(0L));
+  }
+}
@@ -0,0 +1,157 @@
+// Copyright (c) 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class MemoizedConfigurationFactoryTest {
+  private static final int NUM_CLUSTERS = 10;
+  private static final int SERVERS_PER_CLUSTER = 50;
+  private static final int NUM_PASSES = 5;
+  private static final String CLUSTER_NAME = "cluster1";
+  private static final String SERVER_NAME = "cluster1-ms1";
+
+  private final Domain domain = new Domain().withMetadata(new V1ObjectMeta().generation(1L));
+  private final DomainConfigurator configurator = new DomainCommonConfigurator(domain);
+
+  private static String getClusterName(int i) {
+    return "cluster" + (i + 1);
+  }
+
+  private static String getServerName(String clusterName, int j) {
+    return clusterName + "-ms" + (j + 1);
+  }
+
+  @Before
+  public void setUp() {
+    for (int i = 0; i < NUM_CLUSTERS; i++) {
+      String clusterName = getClusterName(i);
+      configurator.configureCluster(clusterName).withReplicas(i);
+      for (int j = 0; j < SERVERS_PER_CLUSTER; j++) {
+        configurator
+            .configureServer(getServerName(clusterName, j))
+            .withEnvironmentVariable("SERVER_INDEX", Integer.toString(j));
+      }
+    }
+  }
+
+  @Test
+  public void whenDomainHasGeneration_reuseServerSpec() {
+    ServerSpec spec = domain.getServer(SERVER_NAME, CLUSTER_NAME);
+
+    assertThat(domain.getServer(SERVER_NAME, CLUSTER_NAME), sameInstance(spec));
+  }
+
+  @Test
+  public void whenDomainHasGeneration_reuseClusterSpec() {
+    ClusterSpec spec = domain.getCluster(CLUSTER_NAME);
+
+    assertThat(domain.getCluster(CLUSTER_NAME), sameInstance(spec));
+  }
+
+  @Test
+  public void whenDomainHasNoGeneration_recomputeServerSpec() {
+    domain.getMetadata().setGeneration(null);
+    ServerSpec spec = domain.getServer(SERVER_NAME, CLUSTER_NAME);
+
+    assertThat(domain.getServer(SERVER_NAME, CLUSTER_NAME), not(sameInstance(spec)));
+  }
+
+  @Test
+  public void whenGenerationChanges_recomputeServerSpec() {
+    ServerSpec spec = domain.getServer(SERVER_NAME, CLUSTER_NAME);
+
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(domain.getServer(SERVER_NAME, CLUSTER_NAME), not(sameInstance(spec)));
+  }
+
+  @Test
+  public void whenSpecReplaced_recomputeServerSpec() {
+    ServerSpec spec = domain.getServer(SERVER_NAME, CLUSTER_NAME);
+
+    domain.setSpec(new DomainSpec());
+
+    assertThat(domain.getServer(SERVER_NAME, CLUSTER_NAME), not(sameInstance(spec)));
+  }
+
+  @Test
+  public void afterReplicaCountChanged_serverSpecUsesNewCount() {
+    domain.getServer(SERVER_NAME, CLUSTER_NAME);
+
+    domain.setReplicaCount(CLUSTER_NAME, 7);
+
+    assertThat(domain.getServer(SERVER_NAME, CLUSTER_NAME).shouldStart(6), equalTo(true));
+  }
+
+  @Test
+  public void afterReplicaCountSetForNewCluster_clusterIsFound() {
+    domain.getReplicaCount("newCluster");
+
+    domain.setReplicaCount("newCluster", 3);
+
+    assertThat(domain.getReplicaCount("newCluster"), equalTo(3));
+  }
+
+  @Test
+  public void whenServerConfiguredTwice_useFirstConfiguration() {
+    domain.getSpec().getManagedServers().add(new ManagedServer().withServerName(SERVER_NAME));
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(
+        domain.getServer(SERVER_NAME, CLUSTER_NAME).getEnvironmentVariables(),
+        equalTo(computeServerSpec(SERVER_NAME, CLUSTER_NAME).getEnvironmentVariables()));
+  }
+
+  // Resolves every server in a 500-server domain several times, as successive make-right passes
+  // would, and checks that each pass returns the same specs as the first, and that these match
+  // the specs computed without memoization.
+  @Test
+  public void whenManyServersResolvedRepeatedly_returnSameSpecs() {
+    ServerSpec[][] firstPass = resolveAllServers();
+
+    for (int pass = 1; pass < NUM_PASSES; pass++) {
+      ServerSpec[][] nextPass = resolveAllServers();
+      for (int i = 0; i < NUM_CLUSTERS; i++) {
+        for (int j = 0; j < SERVERS_PER_CLUSTER; j++) {
+          assertThat(nextPass[i][j], sameInstance(firstPass[i][j]));
+        }
+      }
+    }
+
+    for (int i = 0; i < NUM_CLUSTERS; i++) {
+      for (int j = 0; j < SERVERS_PER_CLUSTER; j++) {
+        String clusterName = getClusterName(i);
+        String serverName = getServerName(clusterName, j);
+        assertThat(firstPass[i][j], equalTo(computeServerSpec(serverName, clusterName)));
+      }
+    }
+  }
+
+  private ServerSpec[][] resolveAllServers() {
+    ServerSpec[][] result = new ServerSpec[NUM_CLUSTERS][SERVERS_PER_CLUSTER];
+    for (int i = 0; i < NUM_CLUSTERS; i++) {
+      String clusterName = getClusterName(i);
+      for (int j = 0; j < SERVERS_PER_CLUSTER; j++) {
+        result[i][j] = domain.getServer(getServerName(clusterName, j), clusterName);
+      }
+    }
+    return result;
+  }
+
+  private ServerSpec computeServerSpec(String serverName, String clusterName) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta())
+        .withSpec(domain.getSpec())
+        .getServer(serverName, clusterName);
+  }
+}